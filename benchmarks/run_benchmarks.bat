@@ -0,0 +1,27 @@
+@echo off
+echo Running portal benchmarks...
+echo.
+
+cd /d "%~dp0"
+
+echo Building benchmark module...
+call mvn -q package
+
+if %errorlevel% neq 0 (
+    echo Build failed!
+    pause
+    exit /b 1
+)
+
+for %%S in (1k 10k 100k) do (
+    echo.
+    echo Generating %%S synthetic students...
+    java -cp target\benchmarks.jar SyntheticDataGenerator %%S ..\synthetic-%%S
+    pushd ..\synthetic-%%S
+    java -jar ..\benchmarks\target\benchmarks.jar -rf json -rff ..\bench-%%S.json
+    popd
+)
+
+echo.
+echo Results written to bench-1k.json, bench-10k.json and bench-100k.json
+pause
@@ -0,0 +1,165 @@
+import bench.ListTarget;
+import bench.PortalTarget;
+
+import java.util.Comparator;
+
+/**
+ * BenchmarkTargets - Default-package bridge between the JMH benchmarks and the portal classes
+ * Loaded reflectively by bench.Targets; every method forwards to one portal call.
+ */
+public class BenchmarkTargets implements PortalTarget {
+
+    private static final Comparator<Integer> ASCENDING = Integer::compare;
+
+    // ========== DataManager vs OptimizedDataManager ==========
+
+    @Override
+    public boolean authenticate(String studentID, String password) {
+        return DataManager.authenticateUser(studentID, password);
+    }
+
+    @Override
+    public Object getStudentInfo(String studentID) {
+        return DataManager.getStudentInfo(studentID);
+    }
+
+    @Override
+    public boolean optimizedAuthenticate(String studentID, String password) {
+        return OptimizedDataManager.authenticateUser(studentID, password);
+    }
+
+    @Override
+    public Object optimizedGetStudentInfo(String studentID) {
+        return OptimizedDataManager.getStudentInfo(studentID);
+    }
+
+    // ========== SharedDataManager ==========
+
+    @Override
+    public void initializeSharedData() {
+        SharedDataManager.initialize();
+    }
+
+    @Override
+    public boolean saveGradeRecord(String studentID, String subjectCode, String subjectName,
+                                   double prelimGrade, double midtermGrade, double finalGrade) {
+        return SharedDataManager.saveGradeRecord(studentID, subjectCode, subjectName, prelimGrade, midtermGrade, finalGrade);
+    }
+
+    @Override
+    public Object getStudentGrades(String studentID) {
+        return SharedDataManager.getStudentGrades(studentID);
+    }
+
+    @Override
+    public Object getSubjectGrades(String subjectCode) {
+        return SharedDataManager.getSubjectGrades(subjectCode);
+    }
+
+    @Override
+    public Object getClassStatistics(String subjectCode) {
+        return SharedDataManager.getClassStatistics(subjectCode);
+    }
+
+    // ========== Fees and payments ==========
+
+    @Override
+    public Object newAccountStatement(String studentID) {
+        AccountStatement statement = new AccountStatement(studentID, "FIRST SEMESTER", "2025-2026");
+        for (FeeBreakdown fee : FeeDatabase.getAllFeesForStudent(studentID)) {
+            statement.addFee(fee);
+        }
+        return statement;
+    }
+
+    @Override
+    public Object processPayment(Object statement, double amount, String channel, String reference) {
+        return ((AccountStatement) statement).processPayment(amount, channel, reference);
+    }
+
+    @Override
+    public Object getAllFeesForStudent(String studentID) {
+        return FeeDatabase.getAllFeesForStudent(studentID);
+    }
+
+    // ========== Collections ==========
+
+    @Override
+    public ListTarget newList(String backing) {
+        return new ListAdapter(MyListFactory.create(MyListFactory.Backing.valueOf(backing)));
+    }
+
+    private static class ListAdapter implements ListTarget {
+        private final MyList<Integer> list;
+
+        ListAdapter(MyList<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(Integer value) {
+            list.add(value);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public boolean contains(Integer value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public void sort() {
+            if (list instanceof MyArrayList) {
+                ((MyArrayList<Integer>) list).sort(ASCENDING);
+            } else if (list instanceof MyDoublyLinkedList) {
+                ((MyDoublyLinkedList<Integer>) list).sort(ASCENDING);
+            } else {
+                ((MySinglyLinkedList<Integer>) list).sort(ASCENDING);
+            }
+        }
+
+        @Override
+        public long sumByIndex() {
+            long sum = 0;
+            for (int i = 0; i < list.size(); i++) {
+                sum += list.get(i);
+            }
+            return sum;
+        }
+
+        @Override
+        public long sumByIterator() {
+            long sum = 0;
+            for (Integer value : list) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        @Override
+        public long sumByForEach() {
+            long[] sum = {0};
+            list.forEach(value -> sum[0] += value);
+            return sum[0];
+        }
+
+        @Override
+        public long sumByStream() {
+            return list.stream().mapToLong(Integer::longValue).sum();
+        }
+    }
+}
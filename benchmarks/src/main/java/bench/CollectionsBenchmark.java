@@ -0,0 +1,87 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CollectionsBenchmark - MyArrayList, MyDoublyLinkedList and MySinglyLinkedList operations
+ * Needs no data files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionsBenchmark {
+
+    @Param({"ARRAY", "DOUBLY_LINKED", "SINGLY_LINKED"})
+    public String backing;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private PortalTarget portal;
+    private ListTarget list;
+    private Integer[] values;
+    private Integer missing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        portal = Targets.portal();
+        Random random = new Random(42);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(size * 4);
+        }
+        missing = -1;
+
+        list = portal.newList(backing);
+        for (Integer value : values) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public ListTarget build() {
+        ListTarget built = portal.newList(backing);
+        for (Integer value : values) {
+            built.add(value);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(missing);
+    }
+
+    @Benchmark
+    public long iterate() {
+        return list.sumByIterator();
+    }
+
+    @Benchmark
+    public long forEach() {
+        return list.sumByForEach();
+    }
+
+    @Benchmark
+    public long stream() {
+        return list.sumByStream();
+    }
+
+    @Benchmark
+    public ListTarget buildAndSort() {
+        ListTarget sorted = build();
+        sorted.sort();
+        return sorted;
+    }
+}
@@ -0,0 +1,67 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataManagerBenchmark - Student lookups through DataManager (indexed Database.txt)
+ * and OptimizedDataManager (in-memory cache)
+ * Run from a SyntheticDataGenerator directory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataManagerBenchmark {
+
+    private static final String PASSWORD = "pass123"; // SyntheticDataGenerator.PASSWORD
+
+    private PortalTarget portal;
+    private int students;
+    private int optimizedStudents;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = 0;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        portal = Targets.portal();
+        students = Targets.syntheticStudentCount();
+        // OptimizedDataManager only accepts 225xxxx IDs
+        optimizedStudents = Math.min(students, 10000);
+
+        // Load the index and the cache outside of the measurement
+        portal.getStudentInfo(Targets.studentID(0));
+        portal.optimizedGetStudentInfo(Targets.studentID(0));
+    }
+
+    private String nextID(Cursor cursor, int bound) {
+        cursor.next = (cursor.next + 7919) % bound; // Stride through the whole data set
+        return Targets.studentID(cursor.next);
+    }
+
+    @Benchmark
+    public boolean dataManagerAuthenticate(Cursor cursor) {
+        return portal.authenticate(nextID(cursor, students), PASSWORD);
+    }
+
+    @Benchmark
+    public Object dataManagerGetStudentInfo(Cursor cursor) {
+        return portal.getStudentInfo(nextID(cursor, students));
+    }
+
+    @Benchmark
+    public boolean optimizedAuthenticate(Cursor cursor) {
+        return portal.optimizedAuthenticate(nextID(cursor, optimizedStudents), PASSWORD);
+    }
+
+    @Benchmark
+    public Object optimizedGetStudentInfo(Cursor cursor) {
+        return portal.optimizedGetStudentInfo(nextID(cursor, optimizedStudents));
+    }
+}
@@ -0,0 +1,30 @@
+package bench;
+
+/**
+ * ListTarget - One MyList instance as seen by the collection benchmarks
+ */
+public interface ListTarget {
+
+    void add(Integer value);
+
+    Integer get(int index);
+
+    boolean contains(Integer value);
+
+    int size();
+
+    void clear();
+
+    /**
+     * Sort ascending with the list's own sort
+     */
+    void sort();
+
+    long sumByIndex();
+
+    long sumByIterator();
+
+    long sumByForEach();
+
+    long sumByStream();
+}
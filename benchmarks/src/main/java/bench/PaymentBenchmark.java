@@ -0,0 +1,48 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaymentBenchmark - AccountStatement.processPayment and FeeDatabase.getAllFeesForStudent
+ * Run from a SyntheticDataGenerator directory; FeeDatabase creates its default fees there.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaymentBenchmark {
+
+    private PortalTarget portal;
+    private int students;
+    private Object statement;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        portal = Targets.portal();
+        students = Targets.syntheticStudentCount();
+    }
+
+    /**
+     * Fresh statement every iteration so the payment history does not grow without bound
+     */
+    @Setup(Level.Iteration)
+    public void newStatement() {
+        statement = portal.newAccountStatement(Targets.studentID(0));
+    }
+
+    @Benchmark
+    public Object processPayment() {
+        return portal.processPayment(statement, 500.0, "GCash", "FIRST SEMESTER 2025-2026 Enrollme.");
+    }
+
+    @Benchmark
+    public Object getAllFeesForStudent() {
+        next = (next + 7919) % students;
+        return portal.getAllFeesForStudent(Targets.studentID(next));
+    }
+}
@@ -0,0 +1,53 @@
+package bench;
+
+/**
+ * PortalTarget - The portal operations measured by the benchmarks
+ *
+ * The portal classes live in the default package, which cannot be imported from here
+ * and which JMH does not accept for benchmark classes. The default-package
+ * BenchmarkTargets class implements this interface and is loaded once per trial,
+ * so every measured call is a plain (monomorphic, inlinable) interface call.
+ */
+public interface PortalTarget {
+
+    // ========== DataManager vs OptimizedDataManager ==========
+
+    boolean authenticate(String studentID, String password);
+
+    Object getStudentInfo(String studentID);
+
+    boolean optimizedAuthenticate(String studentID, String password);
+
+    Object optimizedGetStudentInfo(String studentID);
+
+    // ========== SharedDataManager ==========
+
+    void initializeSharedData();
+
+    boolean saveGradeRecord(String studentID, String subjectCode, String subjectName,
+                            double prelimGrade, double midtermGrade, double finalGrade);
+
+    Object getStudentGrades(String studentID);
+
+    Object getSubjectGrades(String subjectCode);
+
+    Object getClassStatistics(String subjectCode);
+
+    // ========== Fees and payments ==========
+
+    /**
+     * New in-memory statement with the student's fees from FeeDatabase
+     */
+    Object newAccountStatement(String studentID);
+
+    Object processPayment(Object statement, double amount, String channel, String reference);
+
+    Object getAllFeesForStudent(String studentID);
+
+    // ========== Collections ==========
+
+    /**
+     * New empty list of the given MyListFactory backing (ARRAY, DOUBLY_LINKED, SINGLY_LINKED)
+     */
+    ListTarget newList(String backing);
+}
@@ -0,0 +1,70 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SharedDataBenchmark - SharedDataManager save and query paths
+ * Run from a SyntheticDataGenerator directory; saves go through the write-ahead journal there.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedDataBenchmark {
+
+    // Subset of SyntheticDataGenerator.SUBJECTS
+    private static final String[][] SUBJECTS = {
+        {"7024", "NSTP-CWTS 1"}, {"9454", "GSTS"}, {"9457", "IT 211"}, {"9458A", "IT 212"}
+    };
+
+    private PortalTarget portal;
+    private int students;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next = 0;
+        int subject = 0;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        portal = Targets.portal();
+        students = Targets.syntheticStudentCount();
+        portal.initializeSharedData();
+    }
+
+    private String nextID(Cursor cursor) {
+        cursor.next = (cursor.next + 7919) % students;
+        return Targets.studentID(cursor.next);
+    }
+
+    private String[] nextSubject(Cursor cursor) {
+        cursor.subject = (cursor.subject + 1) % SUBJECTS.length;
+        return SUBJECTS[cursor.subject];
+    }
+
+    @Benchmark
+    public boolean saveGradeRecord(Cursor cursor) {
+        String[] subject = nextSubject(cursor);
+        return portal.saveGradeRecord(nextID(cursor), subject[0], subject[1], 85.0, 88.0, 90.0);
+    }
+
+    @Benchmark
+    public Object getStudentGrades(Cursor cursor) {
+        return portal.getStudentGrades(nextID(cursor));
+    }
+
+    @Benchmark
+    public Object getSubjectGrades(Cursor cursor) {
+        return portal.getSubjectGrades(nextSubject(cursor)[0]);
+    }
+
+    @Benchmark
+    public Object getClassStatistics(Cursor cursor) {
+        return portal.getClassStatistics(nextSubject(cursor)[0]);
+    }
+}
@@ -0,0 +1,54 @@
+package bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Targets - Loads the portal bridge and guards the working directory
+ */
+public final class Targets {
+
+    private static final String MARKER_FILE = ".islu-synthetic"; // Written by SyntheticDataGenerator
+
+    private Targets() {
+    }
+
+    /**
+     * Load the default-package BenchmarkTargets bridge
+     */
+    public static PortalTarget portal() {
+        try {
+            return (PortalTarget) Class.forName("BenchmarkTargets").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("BenchmarkTargets not found on the classpath", e);
+        }
+    }
+
+    /**
+     * Number of students in the synthetic data set of the working directory.
+     * Benchmarks that touch data files refuse to run anywhere else, so they never modify real data.
+     */
+    public static int syntheticStudentCount() {
+        File marker = new File(MARKER_FILE);
+        if (!marker.exists()) {
+            throw new IllegalStateException("No synthetic data in " + new File("").getAbsolutePath() +
+                    "; run the benchmarks from a directory created by SyntheticDataGenerator");
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(marker))) {
+            String line = reader.readLine();
+            return Integer.parseInt(line.substring(line.indexOf('=') + 1).trim());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Unreadable " + MARKER_FILE + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Student ID of the n-th synthetic student, same numbering as SyntheticDataGenerator
+     */
+    public static String studentID(int index) {
+        return String.valueOf(2250000 + index);
+    }
+}
@@ -0,0 +1,20 @@
+@echo off
+echo Rebuilding Student Index...
+echo.
+
+cd /d "%~dp0"
+
+echo Compiling Java files...
+javac -cp "src" src/*.java
+
+if %errorlevel% neq 0 (
+    echo Compilation failed!
+    pause
+    exit /b 1
+)
+
+echo.
+java -cp "src" StudentIndex
+
+echo.
+pause
@@ -0,0 +1,263 @@
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AccountConcurrencyTest - Stress test for concurrent payments through AccountStatementManager
+ * - Hot accounts: every thread pays into the same few students at once, mixing cashier and
+ *   online channels, and no payment may be lost
+ * - Duplicate submissions: two threads submit the same idempotency key at the same moment and
+ *   exactly one of them is charged
+ * - Separate accounts: one student per thread, timed against a single thread to show that
+ *   payments for different students do not wait for each other
+ * - Every check is repeated after reloading from the payment ledger and balance snapshots
+ * - Payment statuses: backdated payments move to their next status once, at the due time,
+ *   and a reload takes the statuses from the status log without logging them again
+ *
+ * Statements, the ledger and the status log go to a temporary directory; paymentLogs.txt is
+ * not touched.
+ * Run with: java -cp src AccountConcurrencyTest [threads] [paymentsPerThread]
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class AccountConcurrencyTest {
+
+    private static final String[] CHANNELS = {"Cashier Payment", "GCash", "Online Banking", "Onsite Cashier"};
+
+    private static final Map<String, AtomicLong> expectedPaid = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> expectedCount = new ConcurrentHashMap<>();
+    private static int failures = 0;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0])
+                : Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        int perThread = args.length > 1 ? Integer.parseInt(args[1]) : 250;
+
+        // Must be set before AccountStatementManager is first used
+        File dir = Files.createTempDirectory("islu-accounts").toFile();
+        System.setProperty("islu.accounts.statementsFile", new File(dir, "accountStatements.txt").getPath());
+        System.setProperty("islu.accounts.ledgerFile", new File(dir, "paymentLedger.txt").getPath());
+        System.setProperty("islu.accounts.statusFile", new File(dir, "paymentStatus.txt").getPath());
+        System.setProperty("islu.accounts.paymentLogs", "false");
+
+        System.out.println("=== Account Concurrency Stress Test ===");
+        System.out.println("Threads: " + threads + ", payments per thread: " + perThread + ", data: " + dir + "\n");
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            // Test 1: many threads, few students
+            System.out.println("Test 1: Concurrent payments into the same accounts");
+            List<String> hot = Arrays.asList("9900001", "9900002");
+            run(pool, threads, perThread, t -> hot.get(ThreadLocalRandom.current().nextInt(hot.size())));
+            verify("hot accounts", hot);
+
+            // Test 2: the same idempotency key submitted twice at once
+            System.out.println("\nTest 2: Duplicate submissions with one idempotency key");
+            String student = "9900003";
+            int duplicates = Math.max(1, perThread / 5);
+            int charged = 0;
+            for (int i = 0; i < duplicates; i++) {
+                String key = "dup-" + i;
+                String reference = "DUP" + i;
+                CountDownLatch go = new CountDownLatch(1);
+                Callable<Boolean> submit = () -> {
+                    go.await();
+                    AccountStatement.PaymentResult result =
+                            AccountStatementManager.processPayment(student, 100.00, "GCash", reference, key);
+                    return result.success && !result.message.startsWith("Payment already recorded");
+                };
+                Future<Boolean> first = pool.submit(submit);
+                Future<Boolean> second = pool.submit(submit);
+                go.countDown();
+                int applied = (first.get() ? 1 : 0) + (second.get() ? 1 : 0);
+                charged += applied;
+                if (applied == 1) {
+                    expectedPaid.computeIfAbsent(student, k -> new AtomicLong()).addAndGet(Money.ofPesos(100.00));
+                    expectedCount.computeIfAbsent(student, k -> new AtomicInteger()).incrementAndGet();
+                }
+            }
+            check(charged == duplicates, "each key charged once (" + charged + " of " + duplicates + ")");
+            verify("duplicate keys", Collections.singletonList(student));
+
+            // Test 3: one student per thread, against a single thread
+            System.out.println("\nTest 3: Separate accounts (one student per thread)");
+            List<String> own = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                own.add(String.valueOf(9910000 + t));
+                AccountStatementManager.getStatement(own.get(t));
+            }
+            ExecutorService singleThread = Executors.newSingleThreadExecutor();
+            long single;
+            try {
+                single = run(singleThread, 1, perThread, t -> own.get(0));
+            } finally {
+                singleThread.shutdown();
+            }
+            long parallel = run(pool, threads, perThread, own::get);
+            System.out.println(String.format("  1 thread:  %,d payments in %,d ms (%,.0f payments/s)",
+                    perThread, single, perThread * 1000.0 / Math.max(1, single)));
+            System.out.println(String.format("  %d threads: %,d payments in %,d ms (%,.0f payments/s)",
+                    threads, threads * perThread, parallel, threads * perThread * 1000.0 / Math.max(1, parallel)));
+            verify("separate accounts", own);
+
+            // Test 4: everything survives a reload from ledger and snapshots
+            System.out.println("\nTest 4: Reload from payment ledger and balance snapshots");
+            AccountStatementManager.clearCache();
+            List<String> all = new ArrayList<>(expectedPaid.keySet());
+            Collections.sort(all);
+            verify("after reload", all);
+
+            // Test 5: scheduled status transitions
+            System.out.println("\nTest 5: Payment statuses move once at their due time");
+            testStatusSchedule(new File(dir, "statusScheduleTest.txt"));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        System.out.println(failures == 0 ? "\n=== ALL TESTS PASSED ===" : "\n=== " + failures + " CHECK(S) FAILED ===");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Each of the threads makes perThread payments into the student chosen for it
+     * @return Elapsed milliseconds
+     */
+    private static long run(ExecutorService pool, int threads, int perThread,
+                            java.util.function.IntFunction<String> studentFor) throws Exception {
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers.add(pool.submit(() -> {
+                go.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < perThread; i++) {
+                    String studentID = studentFor.apply(thread);
+                    long centavos = 100 + random.nextLong(500_000);
+                    AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
+                            studentID, Money.toPesos(centavos), CHANNELS[(thread + i) % CHANNELS.length],
+                            "T" + thread + "-" + i);
+                    if (result.success) {
+                        expectedPaid.computeIfAbsent(studentID, k -> new AtomicLong()).addAndGet(centavos);
+                        expectedCount.computeIfAbsent(studentID, k -> new AtomicInteger()).incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * Compare each statement with the payments that were acknowledged
+     */
+    private static void verify(String label, List<String> students) {
+        boolean ok = true;
+        for (String studentID : students) {
+            AccountStatement statement = AccountStatementManager.getStatement(studentID);
+            long paid = expectedPaid.getOrDefault(studentID, new AtomicLong()).get();
+            int count = expectedCount.getOrDefault(studentID, new AtomicInteger()).get();
+            long total = statement.getTotalAmountCentavos();
+
+            long feesPaid = 0;
+            for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+                feesPaid += fee.getAmountPaidCentavos();
+            }
+
+            boolean match = statement.getAmountPaidCentavos() == paid
+                    && statement.getPaymentHistory().size() == count
+                    && statement.getBalanceCentavos() == Math.max(0, total - paid)
+                    && statement.getOverpaymentCentavos() == Math.max(0, paid - total)
+                    && feesPaid == Math.min(paid, total);
+            if (!match) {
+                ok = false;
+                System.out.println("  " + studentID + ": expected " + Money.format(paid) + " in " + count
+                        + " payments, found " + Money.format(statement.getAmountPaidCentavos()) + " in "
+                        + statement.getPaymentHistory().size() + " (fees paid " + Money.format(feesPaid) + ")");
+            }
+        }
+        check(ok, label + ": no lost or duplicated payments across " + students.size() + " account(s)");
+    }
+
+    /**
+     * Backdated payments: one already posted, one already for posting, one that falls due in a second
+     */
+    private static void testStatusSchedule(File statusFile) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentEvent> events = Arrays.asList(
+                new PaymentEvent("status-1", "9920001", now.minusMinutes(6), 50_000, "Cashier Payment", "S1"),
+                new PaymentEvent("status-2", "9920001", now.minusMinutes(3), 50_000, "GCash", "S2"),
+                new PaymentEvent("status-3", "9920001", now.minusMinutes(2).plusSeconds(1), 50_000, "GCash", "S3"));
+
+        PaymentStatusScheduler scheduler = new PaymentStatusScheduler(statusFile);
+        AccountStatement statement = new AccountStatement("9920001", "FIRST SEMESTER", "2025-2026");
+        List<PaymentTransaction> payments = new ArrayList<>();
+        for (PaymentEvent event : events) {
+            PaymentTransaction payment = statement.processPayment(event).transaction;
+            scheduler.persist(scheduler.track(statement, payment));
+            payments.add(payment);
+        }
+
+        check(payments.get(0).getStatus() == PaymentStatus.POSTED
+                        && payments.get(1).getStatus() == PaymentStatus.FOR_POSTING
+                        && payments.get(2).getStatus() == PaymentStatus.PROCESSING,
+                "overdue statuses applied when tracked: " + statusesOf(payments));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (payments.get(2).getStatus() == PaymentStatus.PROCESSING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        statement.updatePaymentStatuses();
+        check(payments.get(2).getStatus() == PaymentStatus.FOR_POSTING,
+                "due payment moved by the scheduler: " + payments.get(2).getStatus());
+        check(statement.getExamEligibilityMessage(AccountStatement.ExamPeriod.PRELIM).startsWith("Payment processing"),
+                "payments awaiting posting keep eligibility pending");
+
+        int logged = Files.readAllLines(statusFile.toPath()).size();
+        check(logged == 3, "each transition logged once (" + logged + " lines)");
+
+        // Reload: statuses come from the log, nothing is logged again
+        PaymentStatusScheduler reloaded = new PaymentStatusScheduler(statusFile);
+        reloaded.load();
+        AccountStatement restored = new AccountStatement("9920001", "FIRST SEMESTER", "2025-2026");
+        List<PaymentTransaction> history = new ArrayList<>();
+        for (PaymentEvent event : events) {
+            history.add(new PaymentTransaction(event));
+        }
+        restored.restorePayments(history, 150_000);
+        reloaded.persist(reloaded.trackAll(restored, history));
+        check(statusesOf(history).equals(statusesOf(payments))
+                        && Files.readAllLines(statusFile.toPath()).size() == logged,
+                "reload keeps statuses without logging them again: " + statusesOf(history));
+    }
+
+    private static List<PaymentStatus> statusesOf(List<PaymentTransaction> payments) {
+        List<PaymentStatus> statuses = new ArrayList<>();
+        for (PaymentTransaction payment : payments) {
+            statuses.add(payment.getStatus());
+        }
+        return statuses;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (condition) {
+            System.out.println("✓ " + message);
+        } else {
+            failures++;
+            System.out.println("✗ " + message);
+        }
+    }
+}
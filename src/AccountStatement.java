@@ -2,27 +2,51 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Manages student account statement information including
  * balances, fees, payments, and transaction history
+ *
+ * Totals are running sums: adding or removing a fee and applying a payment adjust them by
+ * the change instead of walking every fee and payment again. Balance and overpayment follow
+ * from the totals and the amount paid.
+ *
+ * All amounts are kept in centavos (see Money), so sums are exact. The double getters and
+ * PaymentResult fields convert to pesos for the UI.
+ *
+ * Methods are synchronized on the statement, so a screen reading it while a payment is applied
+ * sees either the state before or after the payment. AccountStatementManager additionally holds
+ * the student's lock around work that spans the statement and the payment ledger.
+ *
+ * Payment statuses are pushed, not polled: PaymentStatusScheduler calls advancePaymentStatus
+ * when a payment's next status falls due, so reading a statement does not recheck every payment.
  */
 public class AccountStatement {
+    private static final DateTimeFormatter PAYMENT_DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
+
     private String studentID;
     private String semester;
     private String academicYear;
-    private double totalTuition;
-    private double totalFees;
-    private double totalAmount;
-    private double amountPaid;
-    private double balance;
-    private double overpayment;
+    private long totalTuition;
+    private long totalFees;
+    private long totalAmount;
+    private long amountPaid;
+    private long balance;
+    private long overpayment;
     private List<FeeBreakdown> feeBreakdowns;
     private List<PaymentTransaction> paymentHistory;
     private boolean isPrelimPaid;
     private boolean isMidtermPaid;
     private boolean isFinalsPaid;
     private LocalDate lastUpdateDate;
+    // Every fee before this index is paid (or is a discount), so payments start here
+    private int firstUnpaidFee;
+    // Payments in the history that are still pending, processing or awaiting posting
+    private int paymentsInProgress;
+    // Settled payments before paymentHistory, still in the ledger archive until the history is read
+    private int settledCount;
+    private Supplier<List<PaymentTransaction>> settledPayments;
 
     // Constructor for new account statement
     public AccountStatement(String studentID, String semester, String academicYear) {
@@ -32,12 +56,12 @@ public class AccountStatement {
         this.feeBreakdowns = new ArrayList<>();
         this.paymentHistory = new ArrayList<>();
         this.lastUpdateDate = LocalDate.now();
-        this.totalTuition = 0.0;
-        this.totalFees = 0.0;
-        this.totalAmount = 0.0;
-        this.amountPaid = 0.0;
-        this.balance = 0.0;
-        this.overpayment = 0.0;
+        this.totalTuition = Money.ZERO;
+        this.totalFees = Money.ZERO;
+        this.totalAmount = Money.ZERO;
+        this.amountPaid = Money.ZERO;
+        this.balance = Money.ZERO;
+        this.overpayment = Money.ZERO;
         this.isPrelimPaid = false;
         this.isMidtermPaid = false;
         this.isFinalsPaid = false;
@@ -46,115 +70,228 @@ public class AccountStatement {
     /**
      * Adds a fee item to the statement
      */
-    public void addFee(FeeBreakdown fee) {
+    public synchronized void addFee(FeeBreakdown fee) {
         feeBreakdowns.add(fee);
-        recalculateTotals();
+        adjustTotals(fee, 1);
     }
 
     /**
      * Removes a fee item from the statement
      */
-    public void removeFee(String feeCode) {
-        feeBreakdowns.removeIf(fee -> fee.getCode().equals(feeCode));
+    public synchronized void removeFee(String feeCode) {
+        removeFees(fee -> fee.getCode().equals(feeCode));
+    }
+
+    /**
+     * Replaces every fee (e.g. after a fee database refresh) and applies the amount
+     * already paid to the new fees
+     */
+    public synchronized void replaceFees(List<FeeBreakdown> fees) {
+        feeBreakdowns.clear();
+        feeBreakdowns.addAll(fees);
+        firstUnpaidFee = 0;
         recalculateTotals();
+        applyPaymentToFees(amountPaid, latestPaymentStatus());
+        syncFeeStatuses();
+    }
+
+    private void removeFees(java.util.function.Predicate<FeeBreakdown> filter) {
+        Iterator<FeeBreakdown> iterator = feeBreakdowns.iterator();
+        while (iterator.hasNext()) {
+            FeeBreakdown fee = iterator.next();
+            if (filter.test(fee)) {
+                iterator.remove();
+                adjustTotals(fee, -1);
+            }
+        }
+        firstUnpaidFee = 0;
     }
 
     /**
-     * Processes a payment and updates balances
+     * Adds (sign 1) or removes (sign -1) one fee from the running totals - O(1)
      */
-    public PaymentResult processPayment(double amount, String paymentChannel, String reference) {
-        PaymentResult result = new PaymentResult();
+    private void adjustTotals(FeeBreakdown fee, int sign) {
+        if (fee.getType() == FeeBreakdown.FeeType.TUITION) {
+            totalTuition += sign * fee.getAmountCentavos();
+        } else {
+            totalFees += sign * fee.getAmountCentavos();
+        }
+        updateBalance();
+    }
+
+    /**
+     * Balance, overpayment and exam status from the totals and the amount paid - O(1)
+     */
+    private void updateBalance() {
+        totalAmount = totalTuition + totalFees;
+        balance = Math.max(0, totalAmount - amountPaid);
+        overpayment = Math.max(0, amountPaid - totalAmount);
+        updateExamPaymentStatus();
+    }
 
+    /**
+     * Processes a payment and updates balances
+     */
+    public synchronized PaymentResult processPayment(double pesos, String paymentChannel, String reference) {
+        long amount = Money.ofPesos(pesos);
         if (amount <= 0) {
-            result.success = false;
-            result.message = "Payment amount must be greater than zero.";
-            return result;
+            return rejectedPayment();
         }
 
         // Create payment transaction with current date and time
-        String dateTime = java.time.LocalDateTime.now().format(
-                DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a"));
-        String formattedAmount = String.format("P %,.2f", amount);
+        String dateTime = java.time.LocalDateTime.now().format(PAYMENT_DATE_FORMAT);
 
         // Determine payment type and initial status
         PaymentStatus initialStatus = paymentChannel.toLowerCase().contains("cashier") ||
                 paymentChannel.toLowerCase().contains("onsite") ?
                 PaymentStatus.FOR_POSTING : PaymentStatus.PROCESSING;
 
-        PaymentTransaction transaction = new PaymentTransaction(dateTime, paymentChannel, reference, formattedAmount, initialStatus);
-        paymentHistory.add(transaction);
+        return applyPayment(amount, new PaymentTransaction(dateTime, paymentChannel, reference, amount, initialStatus));
+    }
 
-        // Apply payment to fees
-        applyPaymentToFees(amount, transaction);
+    /**
+     * Processes a payment recorded in the payment ledger, keeping its original time
+     */
+    public synchronized PaymentResult processPayment(PaymentEvent event) {
+        if (event.getAmountCentavos() <= 0) {
+            return rejectedPayment();
+        }
+        return applyPayment(event.getAmountCentavos(), new PaymentTransaction(event));
+    }
 
-        // Update amounts
-        amountPaid += amount;
+    private static PaymentResult rejectedPayment() {
+        PaymentResult result = new PaymentResult();
+        result.success = false;
+        result.message = "Payment amount must be greater than zero.";
+        return result;
+    }
 
-        // Calculate new balance
-        if (balance > 0) {
-            // Has outstanding balance
-            if (amount >= balance) {
-                // Payment exceeds balance - create overpayment
-                overpayment += (amount - balance);
-                balance = 0;
+    /**
+     * Adds a new transaction to the history and updates balances
+     */
+    private PaymentResult applyPayment(long amount, PaymentTransaction transaction) {
+        return Metrics.time("AccountStatement.processPayment", () -> {
+            PaymentResult result = new PaymentResult();
+            PaymentStatus initialStatus = transaction.getStatus();
+            paymentHistory.add(transaction);
+            if (initialStatus.isInProgress()) {
+                paymentsInProgress++;
+            }
 
-                // Mark all fees as paid or processing
-                for (FeeBreakdown fee : feeBreakdowns) {
-                    if (!fee.isPaid() && fee.getAmount() > 0) {
-                        fee.setPaymentStatus(initialStatus);
+            // Apply payment to fees
+            applyPaymentToFees(amount, initialStatus);
+
+            // Update amounts
+            long previousBalance = balance;
+            amountPaid += amount;
+            updateBalance();
+
+            if (previousBalance > 0) {
+                // Had outstanding balance
+                if (amount >= previousBalance) {
+                    // Payment covers the balance - the rest is overpayment
+                    // Mark all fees as paid or processing
+                    for (int i = firstUnpaidFee; i < feeBreakdowns.size(); i++) {
+                        FeeBreakdown fee = feeBreakdowns.get(i);
+                        if (!fee.isPaid() && fee.getAmount() > 0) {
+                            fee.setPaymentStatus(initialStatus);
+                        }
                     }
-                }
 
-                result.message = String.format("Payment %s! Amount: P %.2f\nBalance fully paid. Overpayment: P %.2f",
-                        initialStatus.isInProgress() ? "processing" : "successful",
-                        amount, overpayment);
+                    result.message = "Payment " + (initialStatus.isInProgress() ? "processing" : "successful") +
+                            "! Amount: " + Money.format(amount) + "\nBalance fully paid. Overpayment: " + Money.format(overpayment);
+                } else {
+                    // Partial payment
+                    result.message = "Payment " + (initialStatus.isInProgress() ? "processing" : "successful") +
+                            "! Amount: " + Money.format(amount) + "\nRemaining balance: " + Money.format(balance);
+                }
             } else {
-                // Partial payment
-                balance -= amount;
-                result.message = String.format("Payment %s! Amount: P %.2f\nRemaining balance: P %.2f",
-                        initialStatus.isInProgress() ? "processing" : "successful",
-                        amount, balance);
+                // No balance - add to overpayment
+                result.message = "Payment successful! Amount: " + Money.format(amount) +
+                        "\nAdded to overpayment. Total overpayment: " + Money.format(overpayment);
             }
-        } else {
-            // No balance - add to overpayment
-            overpayment += amount;
-            result.message = String.format("Payment successful! Amount: P %.2f\nAdded to overpayment. Total overpayment: P %.2f",
-                    amount, overpayment);
-        }
 
-        // Update exam payment status
-        updateExamPaymentStatus();
+            result.success = true;
+            result.transaction = transaction;
+            result.newBalance = Money.toPesos(balance);
+            result.newOverpayment = Money.toPesos(overpayment);
 
-        result.success = true;
-        result.transaction = transaction;
-        result.newBalance = balance;
-        result.newOverpayment = overpayment;
+            lastUpdateDate = LocalDate.now();
 
-        lastUpdateDate = LocalDate.now();
+            return result;
+        });
+    }
 
-        return result;
+    /**
+     * Restores payments recorded in the payment ledger without replaying them one by one
+     * Balances and fee payments only depend on the total paid, so the history is attached
+     * as-is and the total is applied to the fees once. Expects fees with nothing paid yet.
+     * @param history Every recorded payment, oldest first, with its original time
+     * @param totalPaid Amount paid in centavos (balance snapshot plus the payments recorded after it)
+     */
+    public synchronized void restorePayments(List<PaymentTransaction> history, long totalPaid) {
+        restorePayments(history, 0, null, totalPaid);
+    }
+
+    /**
+     * Restores payments, leaving the earliest settled ones unread until the history is needed
+     * @param history Recorded payments after the settled ones, oldest first
+     * @param settledCount Number of settled payments before the history (already in totalPaid)
+     * @param settled Reads the settled payments, oldest first; returns null if they cannot be read
+     * @param totalPaid Amount paid in centavos, settled payments included
+     */
+    public synchronized void restorePayments(List<PaymentTransaction> history, int settledCount,
+            Supplier<List<PaymentTransaction>> settled, long totalPaid) {
+        paymentHistory.clear();
+        paymentHistory.addAll(history);
+        this.settledCount = settled == null ? 0 : settledCount;
+        this.settledPayments = this.settledCount == 0 ? null : settled;
+        amountPaid = totalPaid;
+        overpayment = Money.ZERO;
+
+        paymentsInProgress = 0;
+        for (PaymentTransaction payment : history) {
+            if (payment.getStatus().isInProgress()) {
+                paymentsInProgress++;
+            }
+        }
+
+        applyPaymentToFees(totalPaid, latestPaymentStatus());
+        updateBalance();
+        syncFeeStatuses();
+    }
+
+    /**
+     * Moves a payment on to a later status (never back) and updates the fee statuses
+     * Called by PaymentStatusScheduler when the payment's next status falls due.
+     * @return Whether the status changed
+     */
+    public synchronized boolean advancePaymentStatus(PaymentTransaction payment, PaymentStatus next) {
+        PaymentStatus previous = payment.getStatus();
+        if (!previous.isInProgress() || next.getStage() <= previous.getStage()) {
+            return false;
+        }
+
+        payment.setStatus(next);
+        if (!next.isInProgress()) {
+            paymentsInProgress--;
+        }
+        // Fees show the status of the latest payment
+        if (!paymentHistory.isEmpty() && paymentHistory.get(paymentHistory.size() - 1) == payment) {
+            syncFeeStatuses();
+        }
+        return true;
     }
 
     /**
      * Updates exam payment status based on current balance
      */
     private void updateExamPaymentStatus() {
-        // Calculate required payments for each exam period (33.33% each)
-        double prelimRequirement = totalAmount * 0.3333;
-        double midtermRequirement = totalAmount * 0.6666;
-        double finalsRequirement = totalAmount;
-
-        double totalPaidIncludingOverpayment = amountPaid;
-
-        // Check if payments are posted (not just processing)
-        boolean hasPostedPayments = paymentHistory.stream()
-                .anyMatch(p -> p.getStatus() != null && p.getStatus().isSuccessful());
-
-        // Only mark as paid if payment is posted/completed
-        if (hasPostedPayments || amountPaid > 0) {
-            isPrelimPaid = totalPaidIncludingOverpayment >= prelimRequirement;
-            isMidtermPaid = totalPaidIncludingOverpayment >= midtermRequirement;
-            isFinalsPaid = totalPaidIncludingOverpayment >= finalsRequirement;
+        // Only mark as paid once something has been paid (every recorded payment is positive)
+        if (amountPaid > 0) {
+            isPrelimPaid = amountPaid >= examRequirement(ExamPeriod.PRELIM);
+            isMidtermPaid = amountPaid >= examRequirement(ExamPeriod.MIDTERM);
+            isFinalsPaid = amountPaid >= examRequirement(ExamPeriod.FINALS);
         } else {
             // If all payments are still processing, don't mark as paid yet
             isPrelimPaid = false;
@@ -163,106 +300,123 @@ public class AccountStatement {
         }
     }
 
+    /**
+     * Amount that must be paid in total before an exam, in centavos (33.33% per period)
+     * Rounded up, so paying exactly the amount shown as due always makes the student eligible.
+     */
+    private long examRequirement(ExamPeriod period) {
+        switch (period) {
+            case PRELIM:
+                return (long) Math.ceil(totalAmount * 0.3333);
+            case MIDTERM:
+                return (long) Math.ceil(totalAmount * 0.6666);
+            default:
+                return totalAmount;
+        }
+    }
+
     /**
      * Apply payment to individual fees
      */
-    private void applyPaymentToFees(double paymentAmount, PaymentTransaction transaction) {
-        double remainingPayment = paymentAmount;
+    private void applyPaymentToFees(long paymentAmount, PaymentStatus status) {
+        long remainingPayment = paymentAmount;
 
-        // Apply payment to unpaid fees in order
-        for (FeeBreakdown fee : feeBreakdowns) {
+        // Apply payment to unpaid fees in order, skipping the fees already known to be paid
+        for (; firstUnpaidFee < feeBreakdowns.size(); firstUnpaidFee++) {
             if (remainingPayment <= 0) break;
+            FeeBreakdown fee = feeBreakdowns.get(firstUnpaidFee);
 
             if (!fee.isPaid() && fee.getAmount() > 0) {
-                double feeBalance = fee.getBalance();
+                long feeBalance = fee.getBalanceCentavos();
                 if (feeBalance > 0) {
-                    double paymentForThisFee = Math.min(remainingPayment, feeBalance);
-                    fee.applyPayment(paymentForThisFee);
-                    fee.setPaymentStatus(transaction.getStatus());
+                    long paymentForThisFee = Math.min(remainingPayment, feeBalance);
+                    fee.applyPaymentCentavos(paymentForThisFee);
+                    fee.setPaymentStatus(status);
                     remainingPayment -= paymentForThisFee;
                 }
             }
+            if (!fee.isPaid() && fee.getAmount() > 0) break;
         }
     }
 
     /**
-     * Updates payment statuses (simulates processing time)
+     * Status of the latest payment in paymentHistory, or null if it is empty
+     * (settled payments still in the ledger archive need no status on the fees)
+     */
+    private PaymentStatus latestPaymentStatus() {
+        return paymentHistory.isEmpty() ? null : paymentHistory.get(paymentHistory.size() - 1).getStatus();
+    }
+
+    /**
+     * The whole payment history, reading the settled payments in the ledger archive on first use
      */
-    public void updatePaymentStatuses() {
-        for (PaymentTransaction payment : paymentHistory) {
-            payment.updateStatusBasedOnTime();
+    private List<PaymentTransaction> history() {
+        if (settledPayments != null) {
+            List<PaymentTransaction> settled = settledPayments.get();
+            if (settled != null) {
+                paymentHistory.addAll(0, settled);
+                settledPayments = null;
+                settledCount = 0;
+            }
         }
+        return paymentHistory;
+    }
+
+    /**
+     * Updates payment statuses - O(1)
+     * PaymentStatusScheduler already moves each payment when its status falls due, so this
+     * only refreshes the exam flags; screens can keep calling it before they read.
+     */
+    public synchronized void updatePaymentStatuses() {
+        updateExamPaymentStatus();
+    }
 
-        // Update fee payment statuses
+    /**
+     * Fee payment statuses follow the latest payment, and are cleared once it is posted
+     */
+    private void syncFeeStatuses() {
+        if (paymentHistory.isEmpty() && settledCount == 0) {
+            return;
+        }
+        PaymentStatus latestStatus = latestPaymentStatus();
         for (FeeBreakdown fee : feeBreakdowns) {
             if (fee.getPaymentStatus() != null) {
-                // Find the latest payment and use its status
-                if (!paymentHistory.isEmpty()) {
-                    PaymentTransaction latestPayment = paymentHistory.get(paymentHistory.size() - 1);
-                    if (latestPayment.getStatus().isSuccessful()) {
-                        fee.setPaymentStatus(null); // Clear status once posted
-                    } else {
-                        fee.setPaymentStatus(latestPayment.getStatus());
-                    }
-                }
+                fee.setPaymentStatus(latestStatus == null || latestStatus.isSuccessful() ? null : latestStatus);
             }
         }
-
-        updateExamPaymentStatus();
     }
 
     /**
-     * Recalculates all totals based on current fees
+     * Recalculates all totals from scratch based on current fees
+     * Not needed after addFee/removeFee, which keep the totals up to date.
      */
-    public void recalculateTotals() {
-        totalTuition = 0;
-        totalFees = 0;
+    public synchronized void recalculateTotals() {
+        totalTuition = Money.ZERO;
+        totalFees = Money.ZERO;
 
         for (FeeBreakdown fee : feeBreakdowns) {
             if (fee.getType() == FeeBreakdown.FeeType.TUITION) {
-                totalTuition += fee.getAmount();
+                totalTuition += fee.getAmountCentavos();
             } else {
-                totalFees += fee.getAmount();
+                totalFees += fee.getAmountCentavos();
             }
         }
 
-        totalAmount = totalTuition + totalFees;
-        balance = totalAmount - amountPaid;
-
-        if (balance < 0) {
-            overpayment = Math.abs(balance);
-            balance = 0;
-        }
-
-        updateExamPaymentStatus();
+        updateBalance();
     }
 
     /**
      * Gets the amount due for a specific exam period
      */
-    public double getExamPeriodDue(ExamPeriod period) {
-        double prelimRequirement = totalAmount * 0.3333;
-        double midtermRequirement = totalAmount * 0.6666;
-        double finalsRequirement = totalAmount;
-
-        switch (period) {
-            case PRELIM:
-                return Math.max(0, prelimRequirement - amountPaid);
-            case MIDTERM:
-                return Math.max(0, midtermRequirement - amountPaid);
-            case FINALS:
-                return Math.max(0, finalsRequirement - amountPaid);
-            default:
-                return balance;
-        }
+    public synchronized double getExamPeriodDue(ExamPeriod period) {
+        return Money.toPesos(Math.max(0, examRequirement(period) - amountPaid));
     }
 
     /**
      * Gets exam eligibility message
      */
-    public String getExamEligibilityMessage(ExamPeriod period) {
-        boolean hasProcessingPayments = paymentHistory.stream()
-                .anyMatch(p -> p.getStatus() != null && p.getStatus().isInProgress());
+    public synchronized String getExamEligibilityMessage(ExamPeriod period) {
+        boolean hasProcessingPayments = paymentsInProgress > 0;
 
         double amountDue = getExamPeriodDue(period);
 
@@ -273,25 +427,25 @@ public class AccountStatement {
                 return "✓ Eligible to take " + period.toString().toLowerCase() + " examination";
             }
         } else {
-            return "✗ Payment required (P " + String.format("%,.2f", amountDue) + ") to take " + period.toString().toLowerCase() + " examination";
+            return "✗ Payment required (" + Money.format(Money.ofPesos(amountDue)) + ") to take " + period.toString().toLowerCase() + " examination";
         }
     }
 
     /**
      * Applies a scholarship discount
      */
-    public void applyScholarship(double discountPercentage, String scholarshipName) {
+    public synchronized void applyScholarship(double discountPercentage, String scholarshipName) {
         // Remove existing scholarship if any
-        feeBreakdowns.removeIf(fee -> fee.getType() == FeeBreakdown.FeeType.DISCOUNT);
+        removeFees(fee -> fee.getType() == FeeBreakdown.FeeType.DISCOUNT);
 
         // Calculate discount amount
-        double discountAmount = totalTuition * (discountPercentage / 100.0);
+        long discountAmount = Money.percentOf(totalTuition, discountPercentage);
 
         // Add scholarship as negative fee
         FeeBreakdown scholarship = new FeeBreakdown(
                 "SCHOLARSHIP",
                 scholarshipName,
-                -discountAmount,
+                Money.toPesos(-discountAmount),
                 FeeBreakdown.FeeType.DISCOUNT,
                 LocalDate.now()
         );
@@ -302,23 +456,23 @@ public class AccountStatement {
     /**
      * Gets a summary of the account statement
      */
-    public Map<String, Object> getSummary() {
+    public synchronized Map<String, Object> getSummary() {
         Map<String, Object> summary = new HashMap<>();
         summary.put("studentID", studentID);
         summary.put("semester", semester);
         summary.put("academicYear", academicYear);
-        summary.put("totalTuition", totalTuition);
-        summary.put("totalFees", totalFees);
-        summary.put("totalAmount", totalAmount);
-        summary.put("amountPaid", amountPaid);
-        summary.put("balance", balance);
-        summary.put("overpayment", overpayment);
+        summary.put("totalTuition", Money.toPesos(totalTuition));
+        summary.put("totalFees", Money.toPesos(totalFees));
+        summary.put("totalAmount", Money.toPesos(totalAmount));
+        summary.put("amountPaid", Money.toPesos(amountPaid));
+        summary.put("balance", Money.toPesos(balance));
+        summary.put("overpayment", Money.toPesos(overpayment));
         summary.put("isPrelimPaid", isPrelimPaid);
         summary.put("isMidtermPaid", isMidtermPaid);
         summary.put("isFinalsPaid", isFinalsPaid);
         summary.put("lastUpdate", LocalDate.now().toString()); // Always use current date
         summary.put("feeCount", feeBreakdowns.size());
-        summary.put("paymentCount", paymentHistory.size());
+        summary.put("paymentCount", paymentHistory.size() + settledCount);
         summary.put("currentDate", LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy")));
         return summary;
     }
@@ -327,18 +481,24 @@ public class AccountStatement {
     public String getStudentID() { return studentID; }
     public String getSemester() { return semester; }
     public String getAcademicYear() { return academicYear; }
-    public double getTotalTuition() { return totalTuition; }
-    public double getTotalFees() { return totalFees; }
-    public double getTotalAmount() { return totalAmount; }
-    public double getAmountPaid() { return amountPaid; }
-    public double getBalance() { return balance; }
-    public double getOverpayment() { return overpayment; }
-    public List<FeeBreakdown> getFeeBreakdowns() { return new ArrayList<>(feeBreakdowns); }
-    public List<PaymentTransaction> getPaymentHistory() { return new ArrayList<>(paymentHistory); }
-    public boolean isPrelimPaid() { return isPrelimPaid; }
-    public boolean isMidtermPaid() { return isMidtermPaid; }
-    public boolean isFinalsPaid() { return isFinalsPaid; }
-    public LocalDate getLastUpdateDate() { return lastUpdateDate; }
+    public synchronized double getTotalTuition() { return Money.toPesos(totalTuition); }
+    public synchronized double getTotalFees() { return Money.toPesos(totalFees); }
+    public synchronized double getTotalAmount() { return Money.toPesos(totalAmount); }
+    public synchronized double getAmountPaid() { return Money.toPesos(amountPaid); }
+    public synchronized double getBalance() { return Money.toPesos(balance); }
+    public synchronized double getOverpayment() { return Money.toPesos(overpayment); }
+    public synchronized long getTotalTuitionCentavos() { return totalTuition; }
+    public synchronized long getTotalFeesCentavos() { return totalFees; }
+    public synchronized long getTotalAmountCentavos() { return totalAmount; }
+    public synchronized long getAmountPaidCentavos() { return amountPaid; }
+    public synchronized long getBalanceCentavos() { return balance; }
+    public synchronized long getOverpaymentCentavos() { return overpayment; }
+    public synchronized List<FeeBreakdown> getFeeBreakdowns() { return new ArrayList<>(feeBreakdowns); }
+    public synchronized List<PaymentTransaction> getPaymentHistory() { return new ArrayList<>(history()); }
+    public synchronized boolean isPrelimPaid() { return isPrelimPaid; }
+    public synchronized boolean isMidtermPaid() { return isMidtermPaid; }
+    public synchronized boolean isFinalsPaid() { return isFinalsPaid; }
+    public synchronized LocalDate getLastUpdateDate() { return lastUpdateDate; }
 
     // Enums
     public enum ExamPeriod {
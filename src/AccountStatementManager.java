@@ -1,36 +1,103 @@
 import java.io.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Manages account statements for all students
  * Handles loading, saving, and updating account data
+ *
+ * Payments are kept in an append-only payment ledger (PaymentLedger). The statements file
+ * holds fees plus a balance snapshot per student (SNAPSHOT:ledgerSequence,amountPaid), so
+ * loading applies the snapshot and the few ledger events recorded after it instead of
+ * replaying every payment. Settled events below the lowest snapshot are archived by the
+ * ledger and only read when a payment history is shown. Legacy PAYMENT lines are moved into
+ * the ledger on first load.
+ * Payment statuses are moved along by PaymentStatusScheduler and logged in the status file.
+ *
+ * Thread safety: every change to a student's statement runs under that student's lock, one
+ * of LOCK_STRIPES locks picked by student ID, so payments for different students proceed in
+ * parallel while two payments for the same student (e.g. cashier and online) never interleave.
+ * The statements file is rewritten by one thread at a time; saves requested while a write is
+ * running are folded into the next write.
  */
 public class AccountStatementManager {
-    private static final String STATEMENTS_FILE = "accountStatements.txt";
+    private static final String STATEMENTS_FILE = System.getProperty("islu.accounts.statementsFile", "accountStatements.txt");
     private static final String FEES_FILE = "feeSchedule.txt";
-    private static Map<String, AccountStatement> statements = new HashMap<>();
+    private static final String LEDGER_FILE = System.getProperty("islu.accounts.ledgerFile", "paymentLedger.txt");
+    // paymentLogs.txt is kept for the older payment history views; the ledger is the record
+    private static final boolean PAYMENT_LOGS = Boolean.parseBoolean(System.getProperty("islu.accounts.paymentLogs", "true"));
+    private static final String STATUS_FILE = System.getProperty("islu.accounts.statusFile", "paymentStatus.txt");
+    private static final DateTimeFormatter PAYMENT_DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
+    private static final Map<String, AccountStatement> statements = new ConcurrentHashMap<>();
+    private static final PaymentLedger ledger = new PaymentLedger(new File(LEDGER_FILE));
+    // Last ledger sequence applied to each statement; saved as the snapshot position
+    private static final Map<String, Long> ledgerPositions = new ConcurrentHashMap<>();
+    private static final PaymentStatusScheduler statusScheduler = new PaymentStatusScheduler(new File(STATUS_FILE));
+
+    // Lock striping: each student maps to one of LOCK_STRIPES locks by student ID
+    private static final int LOCK_STRIPES = 64; // Power of two
+    private static final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    // Coalesced saves: one writer at a time, later requests fold into a single rewrite
+    private static final ReentrantLock saveLock = new ReentrantLock();
+    private static final AtomicBoolean saveRequested = new AtomicBoolean();
 
     static {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
         loadStatements();
         initializeDefaultFees();
     }
 
+    /**
+     * The lock guarding a student's statement
+     */
+    private static ReentrantLock lockFor(String studentID) {
+        int hash = studentID.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
     /**
      * Gets or creates an account statement for a student
      */
     public static AccountStatement getStatement(String studentID) {
-        if (!statements.containsKey(studentID)) {
-            createNewStatement(studentID);
+        AccountStatement statement = statements.get(studentID);
+        if (statement != null) {
+            return statement;
+        }
+
+        boolean created = false;
+        List<String> statusLines = new ArrayList<>();
+        ReentrantLock lock = lockFor(studentID);
+        lock.lock();
+        try {
+            statement = statements.get(studentID);
+            if (statement == null) {
+                statement = createNewStatement(studentID, statusLines);
+                created = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (created) {
+            statusScheduler.persist(statusLines);
+            saveStatements();
         }
-        return statements.get(studentID);
+        return statement;
     }
 
     /**
      * Creates a new account statement with database fees
+     * @param statusLines Receives the payment status log lines to write once the lock is released
      */
-    private static AccountStatement createNewStatement(String studentID) {
+    private static AccountStatement createNewStatement(String studentID, List<String> statusLines) {
         AccountStatement statement = new AccountStatement(
                 studentID,
                 "FIRST SEMESTER",
@@ -40,9 +107,10 @@ public class AccountStatementManager {
         // Add fees from database
         addDatabaseFees(statement, studentID);
 
-        statements.put(studentID, statement);
-        saveStatements();
+        // Payments already in the ledger (e.g. recorded before the statement was first saved)
+        statusLines.addAll(restorePayments(statement, 0, Money.ZERO));
 
+        statements.put(studentID, statement);
         return statement;
     }
 
@@ -53,9 +121,9 @@ public class AccountStatementManager {
         // Get all fees for this student from database
         List<FeeBreakdown> fees = FeeDatabase.getAllFeesForStudent(studentID);
         
-        // Add each fee to the statement
+        // Add each fee to the statement (a copy: the database objects are shared by every student)
         for (FeeBreakdown fee : fees) {
-            statement.addFee(fee);
+            statement.addFee(fee.copy());
         }
     }
 
@@ -64,15 +132,100 @@ public class AccountStatementManager {
      */
     public static AccountStatement.PaymentResult processPayment(
             String studentID, double amount, String channel, String reference) {
+        return processPayment(studentID, amount, channel, reference, PaymentLedger.newKey());
+    }
+
+    /**
+     * Processes a payment for a student at most once per idempotency key
+     * Submitting the same key again returns the payment already recorded without charging twice.
+     */
+    public static AccountStatement.PaymentResult processPayment(
+            String studentID, double amount, String channel, String reference, String idempotencyKey) {
         AccountStatement statement = getStatement(studentID);
-        AccountStatement.PaymentResult result = statement.processPayment(amount, channel, reference);
+        AccountStatement.PaymentResult result = null;
+        List<String> statusLines = new ArrayList<>();
+
+        ReentrantLock lock = lockFor(studentID);
+        lock.lock();
+        try {
+            PaymentEvent event;
+            try {
+                PaymentEvent recorded = ledger.find(idempotencyKey);
+                if (recorded != null) {
+                    return duplicatePayment(statement, recorded);
+                }
+                if (amount <= 0) {
+                    return statement.processPayment(amount, channel, reference);
+                }
+
+                // Record the payment before applying it, so an acknowledged payment is never lost
+                event = ledger.append(new PaymentEvent(idempotencyKey, studentID, LocalDateTime.now(),
+                        Money.ofPesos(amount), channel, reference));
+            } catch (IOException e) {
+                result = new AccountStatement.PaymentResult();
+                result.success = false;
+                result.message = "Payment could not be recorded: " + e.getMessage();
+                return result;
+            }
+
+            long position = ledgerPositions.getOrDefault(studentID, 0L);
+            if (!event.getStudentID().equals(studentID) || event.getSequence() <= position) {
+                // The same key was used at the same moment, for another student or already applied
+                return duplicatePayment(statement, event);
+            }
+
+            // Payments another portal process recorded for this student are applied first, in order
+            for (PaymentEvent recorded : ledger.getEvents(studentID)) {
+                if (recorded.getSequence() <= position) continue;
+
+                AccountStatement.PaymentResult applied = statement.processPayment(recorded);
+                if (applied.success) {
+                    statusLines.addAll(statusScheduler.track(statement, applied.transaction));
+                }
+                if (recorded.getIdempotencyKey().equals(event.getIdempotencyKey())) {
+                    result = applied;
+                }
+                position = recorded.getSequence();
+            }
+            ledgerPositions.put(studentID, position);
+        } finally {
+            lock.unlock();
+        }
 
         if (result.success) {
+            statusScheduler.persist(statusLines);
             saveStatements();
             // Also save to payment logs
-            DataManager.logPaymentTransaction(channel, amount, studentID);
+            if (PAYMENT_LOGS) {
+                DataManager.logPaymentTransaction(channel, amount, studentID);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Result for a payment whose idempotency key is already in the ledger
+     */
+    private static AccountStatement.PaymentResult duplicatePayment(AccountStatement statement, PaymentEvent recorded) {
+        AccountStatement.PaymentResult result = new AccountStatement.PaymentResult();
+        if (!recorded.getStudentID().equals(statement.getStudentID())) {
+            result.success = false;
+            result.message = "Payment key was already used for another account.";
+            return result;
         }
 
+        for (PaymentTransaction transaction : statement.getPaymentHistory()) {
+            if (recorded.getIdempotencyKey().equals(transaction.getIdempotencyKey())) {
+                result.transaction = transaction;
+                break;
+            }
+        }
+        result.success = true;
+        result.message = String.format("Payment already recorded (reference %s). It was not charged again.",
+                recorded.getReference());
+        result.newBalance = statement.getBalance();
+        result.newOverpayment = statement.getOverpayment();
         return result;
     }
 
@@ -81,7 +234,13 @@ public class AccountStatementManager {
      */
     public static void applyScholarship(String studentID, double percentage, String scholarshipName) {
         AccountStatement statement = getStatement(studentID);
-        statement.applyScholarship(percentage, scholarshipName);
+        ReentrantLock lock = lockFor(studentID);
+        lock.lock();
+        try {
+            statement.applyScholarship(percentage, scholarshipName);
+        } finally {
+            lock.unlock();
+        }
         saveStatements();
     }
 
@@ -90,7 +249,13 @@ public class AccountStatementManager {
      */
     public static void addCustomFee(String studentID, FeeBreakdown fee) {
         AccountStatement statement = getStatement(studentID);
-        statement.addFee(fee);
+        ReentrantLock lock = lockFor(studentID);
+        lock.lock();
+        try {
+            statement.addFee(fee);
+        } finally {
+            lock.unlock();
+        }
         saveStatements();
     }
 
@@ -100,9 +265,15 @@ public class AccountStatementManager {
     public static Map<String, Boolean> getExamPaymentStatus(String studentID) {
         AccountStatement statement = getStatement(studentID);
         Map<String, Boolean> status = new HashMap<>();
-        status.put("prelim", statement.isPrelimPaid());
-        status.put("midterm", statement.isMidtermPaid());
-        status.put("finals", statement.isFinalsPaid());
+        ReentrantLock lock = lockFor(studentID);
+        lock.lock();
+        try {
+            status.put("prelim", statement.isPrelimPaid());
+            status.put("midterm", statement.isMidtermPaid());
+            status.put("finals", statement.isFinalsPaid());
+        } finally {
+            lock.unlock();
+        }
         return status;
     }
 
@@ -111,6 +282,16 @@ public class AccountStatementManager {
      */
     public static String generateStatementReport(String studentID) {
         AccountStatement statement = getStatement(studentID);
+        ReentrantLock lock = lockFor(studentID);
+        lock.lock();
+        try {
+            return generateStatementReport(statement);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String generateStatementReport(AccountStatement statement) {
         StringBuilder report = new StringBuilder();
 
         java.time.format.DateTimeFormatter dateFormatter = java.time.format.DateTimeFormatter.ofPattern("MMMM dd, yyyy");
@@ -130,14 +311,14 @@ public class AccountStatementManager {
         }
 
         report.append("\n-------------------------------------------\n");
-        report.append(String.format("Total Tuition: P %,.2f\n", statement.getTotalTuition()));
-        report.append(String.format("Total Fees: P %,.2f\n", statement.getTotalFees()));
-        report.append(String.format("TOTAL AMOUNT: P %,.2f\n", statement.getTotalAmount()));
-        report.append(String.format("Amount Paid: P %,.2f\n", statement.getAmountPaid()));
-        report.append(String.format("BALANCE: P %,.2f\n", statement.getBalance()));
-
-        if (statement.getOverpayment() > 0) {
-            report.append(String.format("Overpayment: P %,.2f\n", statement.getOverpayment()));
+        report.append("Total Tuition: ").append(Money.format(statement.getTotalTuitionCentavos())).append("\n");
+        report.append("Total Fees: ").append(Money.format(statement.getTotalFeesCentavos())).append("\n");
+        report.append("TOTAL AMOUNT: ").append(Money.format(statement.getTotalAmountCentavos())).append("\n");
+        report.append("Amount Paid: ").append(Money.format(statement.getAmountPaidCentavos())).append("\n");
+        report.append("BALANCE: ").append(Money.format(statement.getBalanceCentavos())).append("\n");
+
+        if (statement.getOverpaymentCentavos() > 0) {
+            report.append("Overpayment: ").append(Money.format(statement.getOverpaymentCentavos())).append("\n");
         }
 
         report.append("\nEXAM PAYMENT STATUS:\n");
@@ -161,77 +342,243 @@ public class AccountStatementManager {
 
     /**
      * Loads all statements from file
+     * Each statement gets its balance snapshot plus the ledger events recorded after it.
      */
     private static void loadStatements() {
+        try {
+            statusScheduler.load();
+        } catch (IOException e) {
+            System.err.println("Error loading payment statuses: " + e.getMessage());
+        }
+
         File file = new File(STATEMENTS_FILE);
         if (!file.exists()) {
+            loadLedger(0);
             return;
         }
 
+        Map<String, Long> snapshotPositions = new HashMap<>();
+        Map<String, Long> snapshotAmounts = new HashMap<>();
+        List<PaymentEvent> legacyPayments = new ArrayList<>();
+
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String line;
             AccountStatement currentStatement = null;
+            int legacyCount = 0;
 
             while ((line = reader.readLine()) != null) {
                 if (line.startsWith("STUDENT:")) {
                     String[] parts = line.substring(8).split(",");
                     if (parts.length >= 3) {
-                        currentStatement = new AccountStatement(
-                                parts[0].trim(), parts[1].trim(), parts[2].trim()
+                        currentStatement = new AccountStatement(SymbolTable.intern(parts[0].trim()),
+                                SymbolTable.intern(parts[1].trim()), SymbolTable.intern(parts[2].trim())
                         );
                         statements.put(parts[0].trim(), currentStatement);
+                        legacyCount = 0;
                     }
                 } else if (line.startsWith("FEE:") && currentStatement != null) {
                     FeeBreakdown fee = FeeBreakdown.fromCSV(line.substring(4));
                     if (fee != null) {
                         currentStatement.addFee(fee);
                     }
+                } else if (line.startsWith("SNAPSHOT:") && currentStatement != null) {
+                    String[] parts = line.substring(9).split(",");
+                    try {
+                        long position = Long.parseLong(parts[0].trim());
+                        long amountPaid = Money.parse(parts[1]);
+                        snapshotPositions.put(currentStatement.getStudentID(), position);
+                        snapshotAmounts.put(currentStatement.getStudentID(), amountPaid);
+                    } catch (RuntimeException e) {
+                        System.err.println("Ignoring unreadable balance snapshot: " + line);
+                    }
                 } else if (line.startsWith("PAYMENT:") && currentStatement != null) {
+                    // Legacy format: PAYMENT:date,channel,amount,reference
                     String[] parts = line.substring(8).split(",");
                     if (parts.length >= 3) {
-                        currentStatement.processPayment(
-                                Double.parseDouble(parts[2].trim()),
-                                parts[1].trim(),
-                                parts.length > 3 ? parts[3].trim() : "Payment"
-                        );
+                        String studentID = currentStatement.getStudentID();
+                        legacyPayments.add(new PaymentEvent(
+                                "legacy-" + studentID + "-" + (++legacyCount),
+                                studentID,
+                                parseLegacyDate(parts[0].trim()),
+                                Money.parse(parts[2]),
+                                SymbolTable.intern(parts[1].trim()),
+                                parts.length > 3 ? parts[3].trim() : "Payment"));
                     }
                 }
             }
-        } catch (IOException e) {
+        } catch (IOException | NumberFormatException e) {
             System.err.println("Error loading statements: " + e.getMessage());
         }
+
+        // Only events after the lowest snapshot position are replayed; a statement without a
+        // snapshot needs every event
+        boolean allSnapshots = !statements.isEmpty() && snapshotPositions.keySet().containsAll(statements.keySet());
+        loadLedger(allSnapshots ? Collections.min(snapshotPositions.values()) : 0);
+
+        if (!legacyPayments.isEmpty()) {
+            try {
+                ledger.appendAll(legacyPayments);
+            } catch (IOException e) {
+                // Keep the file as it is and show the payments from it for this session
+                System.err.println("Error moving payments to the ledger: " + e.getMessage());
+                List<String> statusLines = new ArrayList<>();
+                for (PaymentEvent payment : legacyPayments) {
+                    AccountStatement statement = statements.get(payment.getStudentID());
+                    AccountStatement.PaymentResult result = statement.processPayment(payment);
+                    if (result.success) {
+                        statusLines.addAll(statusScheduler.track(statement, result.transaction));
+                    }
+                }
+                statusScheduler.persist(statusLines);
+                return;
+            }
+        }
+
+        // Status transitions missed while the portal was closed go to the log in one write
+        List<String> statusLines = new ArrayList<>();
+        for (AccountStatement statement : statements.values()) {
+            String studentID = statement.getStudentID();
+            statusLines.addAll(restorePayments(statement, snapshotPositions.getOrDefault(studentID, 0L),
+                    snapshotAmounts.getOrDefault(studentID, Money.ZERO)));
+        }
+        statusScheduler.persist(statusLines);
+
+        // Rewrite legacy PAYMENT lines as balance snapshots
+        if (!legacyPayments.isEmpty()) {
+            saveStatements();
+        }
     }
 
     /**
-     * Saves all statements to file
+     * Loads the payment ledger, archiving the settled events every snapshot already counts
+     * @param replayAfter Lowest ledger sequence covered by a balance snapshot (0 to read everything)
      */
-    private static void saveStatements() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(STATEMENTS_FILE))) {
-            for (AccountStatement statement : statements.values()) {
-                writer.write(String.format("STUDENT:%s,%s,%s\n",
-                        statement.getStudentID(),
-                        statement.getSemester(),
-                        statement.getAcademicYear()));
+    private static void loadLedger(long replayAfter) {
+        try {
+            ledger.load(replayAfter, PaymentTransaction.settledBefore(LocalDateTime.now()));
+        } catch (IOException e) {
+            System.err.println("Error loading payment ledger: " + e.getMessage());
+        }
+    }
 
-                for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
-                    writer.write("FEE:" + fee.toCSV() + "\n");
-                }
+    /**
+     * Applies a balance snapshot and the ledger events recorded after it to a statement
+     * Archived payments stay unread until the payment history is shown, unless the snapshot
+     * is older than the archive and still has to count them.
+     * @param snapshotSequence Ledger sequence covered by the snapshot (0 if there is none)
+     * @param snapshotPaid Amount paid as of the snapshot, in centavos
+     * @return Payment status log lines to write once the statement's lock is released
+     */
+    private static List<String> restorePayments(AccountStatement statement, long snapshotSequence, long snapshotPaid) {
+        String studentID = statement.getStudentID();
+        List<PaymentEvent> events = ledger.getEvents(studentID);
+        int settledCount = ledger.getArchivedCount(studentID);
+        if (settledCount > 0 && snapshotSequence < ledger.getArchivedThrough()) {
+            try {
+                List<PaymentEvent> archived = ledger.getArchivedEvents(studentID);
+                archived.addAll(events);
+                events = archived;
+            } catch (IOException e) {
+                System.err.println("Error reading archived payments: " + e.getMessage());
+            }
+            settledCount = 0;
+        }
+        List<PaymentTransaction> history = new ArrayList<>(events.size());
+        long totalPaid = snapshotPaid;
+        long position = snapshotSequence;
+
+        for (PaymentEvent event : events) {
+            history.add(new PaymentTransaction(event));
+            if (event.getSequence() > snapshotSequence) {
+                totalPaid += event.getAmountCentavos();
+                position = event.getSequence();
+            }
+        }
 
-                for (PaymentTransaction payment : statement.getPaymentHistory()) {
-                    writer.write(String.format("PAYMENT:%s,%s,%s,%s\n",
-                            payment.getDate(),
-                            payment.getChannel(),
-                            payment.getAmount().replace("P ", "").replace(",", ""),
-                            payment.getReference()));
-                }
+        statement.restorePayments(history, settledCount, () -> settledPayments(studentID), totalPaid);
+        ledgerPositions.put(studentID, position);
+        return statusScheduler.trackAll(statement, history);
+    }
 
-                writer.write("\n");
+    /**
+     * A student's archived payments with their final status, or null if the ledger cannot be read
+     */
+    private static List<PaymentTransaction> settledPayments(String studentID) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentTransaction> settled = new ArrayList<>();
+            for (PaymentEvent event : ledger.getArchivedEvents(studentID)) {
+                PaymentTransaction payment = new PaymentTransaction(event);
+                payment.setStatus(payment.statusAt(now));
+                settled.add(payment);
             }
+            return settled;
         } catch (IOException e) {
-            System.err.println("Error saving statements: " + e.getMessage());
+            System.err.println("Error reading archived payments: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseLegacyDate(String date) {
+        try {
+            return LocalDateTime.parse(date, PAYMENT_DATE_FORMAT);
+        } catch (RuntimeException e) {
+            return LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Saves all statements to file
+     * Payments themselves live in the ledger; each statement stores its balance snapshot.
+     * If another thread is already writing, this save is folded into its next write, so a burst
+     * of payments rewrites the file a few times instead of once per payment.
+     */
+    private static void saveStatements() {
+        saveRequested.set(true);
+        // Re-check after unlocking: a request made while we were writing is ours to write
+        while (saveRequested.get() && saveLock.tryLock()) {
+            try {
+                if (saveRequested.getAndSet(false)) {
+                    writeStatements();
+                }
+            } finally {
+                saveLock.unlock();
+            }
         }
     }
 
+    private static void writeStatements() {
+        Metrics.time("AccountStatementManager.saveStatements", () -> {
+            List<String> lines = new ArrayList<>();
+            for (AccountStatement statement : statements.values()) {
+                ReentrantLock lock = lockFor(statement.getStudentID());
+                lock.lock();
+                try {
+                    lines.add("STUDENT:" + statement.getStudentID() + "," +
+                            statement.getSemester() + "," + statement.getAcademicYear());
+
+                    for (FeeBreakdown fee : statement.getFeeBreakdowns()) {
+                        lines.add("FEE:" + fee.toCSV());
+                    }
+
+                    // Past the student's last event, so the lowest snapshot keeps moving forward
+                    long position = ledger.coveredThrough(statement.getStudentID(),
+                            ledgerPositions.getOrDefault(statement.getStudentID(), 0L));
+                    lines.add("SNAPSHOT:" + position + "," +
+                            Money.formatPlain(statement.getAmountPaidCentavos()));
+                } finally {
+                    lock.unlock();
+                }
+                lines.add("");
+            }
+            try {
+                FileIOManager.writeAllLines(new File(STATEMENTS_FILE), lines);
+            } catch (IOException e) {
+                System.err.println("Error saving statements: " + e.getMessage());
+            }
+        });
+    }
+
     /**
      * Initialize default fee schedule if file doesn't exist
      */
@@ -267,36 +614,61 @@ public class AccountStatementManager {
      * Refreshes fees for a specific student from database
      */
     public static void refreshFeesFromDatabase(String studentID) {
-        AccountStatement statement = statements.get(studentID);
-        if (statement != null) {
-            // Clear existing fees
-            statement.getFeeBreakdowns().clear();
-            
-            // Add updated fees from database
-            addDatabaseFees(statement, studentID);
-            
-            // Recalculate totals
-            statement.recalculateTotals();
-            
-            // Save updated statement
-            saveStatements();
-        }
+        refreshFeesFromDatabase(Collections.singletonList(studentID));
     }
-    
+
+    /**
+     * Refreshes fees for several students from database and saves them with one write
+     * @return The number of statements refreshed
+     */
+    public static int refreshFeesFromDatabase(Collection<String> studentIDs) {
+        return Metrics.time("AccountStatementManager.refreshFeesFromDatabase", () -> {
+            int refreshed = 0;
+            for (String studentID : studentIDs) {
+                AccountStatement statement = statements.get(studentID);
+                if (statement != null) {
+                    List<FeeBreakdown> fees = new ArrayList<>();
+                    for (FeeBreakdown fee : FeeDatabase.getAllFeesForStudent(studentID)) {
+                        fees.add(fee.copy());
+                    }
+                    ReentrantLock lock = lockFor(studentID);
+                    lock.lock();
+                    try {
+                        // Replace the fees with the database ones; the amount paid carries over
+                        statement.replaceFees(fees);
+                    } finally {
+                        lock.unlock();
+                    }
+                    refreshed++;
+                }
+            }
+
+            if (refreshed > 0) {
+                saveStatements();
+            }
+            return refreshed;
+        });
+    }
+
     /**
      * Refreshes fees for all students from database
      */
     public static void refreshAllFeesFromDatabase() {
-        for (String studentID : statements.keySet()) {
-            refreshFeesFromDatabase(studentID);
-        }
+        refreshFeesFromDatabase(new ArrayList<>(statements.keySet()));
     }
-    
+
     /**
      * Clears all cached statements (for testing)
      */
     public static void clearCache() {
-        statements.clear();
-        loadStatements();
+        saveLock.lock();
+        try {
+            statements.clear();
+            ledgerPositions.clear();
+            statusScheduler.clear();
+            loadStatements();
+        } finally {
+            saveLock.unlock();
+        }
     }
 }
\ No newline at end of file
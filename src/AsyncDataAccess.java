@@ -0,0 +1,309 @@
+import java.awt.AWTEvent;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Font;
+import java.awt.Toolkit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+
+/**
+ * AsyncDataAccess - Runs the portals' file I/O off the Swing Event Dispatch Thread
+ * Features:
+ * - Every read and write of the data files returns a CompletableFuture
+ * - Reads run on a shared executor: one virtual thread per task on Java 21+,
+ *   a small pool of daemon threads otherwise
+ * - Writes (and all AccountStatementManager calls) run one at a time, in submission order,
+ *   so a save is always on disk before a later reload from the same portal
+ * - onEdt(...) hands results back to the EDT; deferredPanel(...) shows a "Loading..."
+ *   placeholder until the data for a panel has arrived
+ * - Optional EDT stall logging: any event that keeps the EDT busy longer than
+ *   -Dislu.edt.stallMillis (default 200) is reported on System.err
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class AsyncDataAccess {
+
+    private static final boolean VIRTUAL_THREADS;
+    private static final ExecutorService READS;
+    private static final ExecutorService WRITES = Executors.newSingleThreadExecutor(
+            daemonThreads("AsyncDataAccess-writer"));
+
+    static {
+        ExecutorService virtual = newVirtualThreadExecutor();
+        VIRTUAL_THREADS = virtual != null;
+        READS = virtual != null ? virtual : Executors.newFixedThreadPool(
+                Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+                daemonThreads("AsyncDataAccess-reader"));
+    }
+
+    private static final long STALL_THRESHOLD_MS = Long.getLong("islu.edt.stallMillis", 200);
+    private static boolean stallMonitorInstalled = false;
+
+    private AsyncDataAccess() {
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() when the running JVM has it (Java 21+)
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static boolean isUsingVirtualThreads() {
+        return VIRTUAL_THREADS;
+    }
+
+    // ========== GENERIC ==========
+
+    /**
+     * Run a read off the EDT
+     */
+    public static <T> CompletableFuture<T> read(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, READS);
+    }
+
+    /**
+     * Run a write off the EDT, after every write submitted before it
+     */
+    public static <T> CompletableFuture<T> write(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, WRITES);
+    }
+
+    /**
+     * Wait for every write submitted so far (used when a portal closes)
+     */
+    public static boolean awaitWrites(long timeoutMillis) {
+        try {
+            write(() -> null).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Pending writes did not finish: " + e);
+            return false;
+        }
+    }
+
+    // ========== STUDENTS ==========
+
+    public static CompletableFuture<StudentInfo> getStudentInfo(String studentID) {
+        return read(() -> DataManager.getStudentInfo(studentID));
+    }
+
+    public static CompletableFuture<String> getStudentProfile(String studentID) {
+        return read(() -> DataManager.getStudentProfile(studentID));
+    }
+
+    public static CompletableFuture<Boolean> updateStudentPassword(String studentID, String newPassword) {
+        return write(() -> DataManager.updateStudentPassword(studentID, newPassword));
+    }
+
+    public static CompletableFuture<Boolean> updateStudentProfile(String studentID, String profileData) {
+        return write(() -> DataManager.updateStudentProfile(studentID, profileData));
+    }
+
+    // ========== MEDICAL RECORDS ==========
+
+    /**
+     * Goes through the write queue so it sees every save submitted before it
+     */
+    public static CompletableFuture<MedicalRecord> getMedicalRecord(String studentID) {
+        return write(() -> DataManager.getMedicalRecord(studentID));
+    }
+
+    /**
+     * Saves a copy taken now, so the EDT can keep editing the record while it is written
+     */
+    public static CompletableFuture<Boolean> saveMedicalRecord(MedicalRecord record) {
+        MedicalRecord snapshot = MedicalRecord.fromDatabaseFormat(record.toDatabaseFormat());
+        if (snapshot == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return write(() -> DataManager.saveMedicalRecord(snapshot));
+    }
+
+    // ========== ACCOUNTS AND PAYMENTS ==========
+
+    public static CompletableFuture<AccountStatement> getStatement(String studentID) {
+        return write(() -> AccountStatementManager.getStatement(studentID));
+    }
+
+    public static CompletableFuture<AccountStatement.PaymentResult> processPayment(String studentID, double amount,
+                                                                                   String channel, String reference) {
+        return write(() -> AccountStatementManager.processPayment(studentID, amount, channel, reference));
+    }
+
+    public static CompletableFuture<Void> refreshFeesFromDatabase(String studentID) {
+        return write(() -> {
+            AccountStatementManager.refreshFeesFromDatabase(studentID);
+            return null;
+        });
+    }
+
+    // ========== SHARED TEACHER/STUDENT DATA ==========
+
+    public static CompletableFuture<Void> initializeSharedData() {
+        return write(() -> {
+            SharedDataManager.initialize();
+            return null;
+        });
+    }
+
+    public static CompletableFuture<Boolean> saveGradeRecords(Collection<GradeRecord> records) {
+        Collection<GradeRecord> batch = new ArrayList<>(records);
+        return write(() -> SharedDataManager.saveGradeRecords(batch));
+    }
+
+    public static CompletableFuture<Boolean> recordAttendance(String studentID, String subjectCode, String date,
+                                                              String status, String remarks) {
+        return write(() -> SharedDataManager.recordAttendance(studentID, subjectCode, date, status, remarks));
+    }
+
+    public static CompletableFuture<Boolean> updateClassChecklist(String studentID, String subjectCode,
+                                                                  String requirement, String status, String remarks) {
+        return write(() -> SharedDataManager.updateClassChecklist(studentID, subjectCode, requirement, status, remarks));
+    }
+
+    public static CompletableFuture<Boolean> addAnnouncement(String title, String content, String author,
+                                                             String targetAudience, String priority) {
+        return write(() -> SharedDataManager.addAnnouncement(title, content, author, targetAudience, priority));
+    }
+
+    // ========== BACK ON THE EDT ==========
+
+    /**
+     * Run onSuccess on the EDT with the result; failures are logged
+     */
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<? super T> onSuccess) {
+        onEdt(future, onSuccess, error -> { });
+    }
+
+    /**
+     * Run onSuccess or onError on the EDT when the future completes; failures are also logged
+     */
+    public static <T> void onEdt(CompletableFuture<T> future, Consumer<? super T> onSuccess,
+                                 Consumer<Throwable> onError) {
+        future.whenComplete((value, error) -> SwingUtilities.invokeLater(() -> {
+            if (error == null) {
+                onSuccess.accept(value);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                System.err.println("Background data access failed: " + cause);
+                onError.accept(cause);
+            }
+        }));
+    }
+
+    /**
+     * Panel that shows a placeholder until the data arrives, then the component built from it
+     * The builder runs on the EDT.
+     */
+    public static <T> JPanel deferredPanel(CompletableFuture<T> data, Function<? super T, ? extends Component> builder) {
+        JPanel holder = new JPanel(new BorderLayout());
+        holder.setBackground(Color.WHITE);
+        if (data.isDone() && !data.isCompletedExceptionally() && SwingUtilities.isEventDispatchThread()) {
+            holder.add(builder.apply(data.join()), BorderLayout.CENTER); // Already loaded, no placeholder flash
+            return holder;
+        }
+        holder.add(placeholder("Loading..."), BorderLayout.CENTER);
+
+        onEdt(data, value -> replaceContent(holder, builder.apply(value)),
+                error -> replaceContent(holder, placeholder("Could not load data: " + error.getMessage())));
+        return holder;
+    }
+
+    /**
+     * Grey centered label shown while data is loading
+     */
+    public static JLabel placeholder(String text) {
+        JLabel label = new JLabel(text, SwingConstants.CENTER);
+        label.setFont(new Font("Arial", Font.ITALIC, 14));
+        label.setForeground(Color.GRAY);
+        return label;
+    }
+
+    private static void replaceContent(JPanel holder, Component content) {
+        holder.removeAll();
+        holder.add(content, BorderLayout.CENTER);
+        holder.revalidate();
+        holder.repaint();
+    }
+
+    // ========== EDT STALL MONITOR ==========
+
+    /**
+     * Log events that keep the EDT busy longer than the stall threshold (installed once)
+     */
+    public static synchronized void installEdtStallMonitor() {
+        if (stallMonitorInstalled || STALL_THRESHOLD_MS <= 0) return;
+        stallMonitorInstalled = true;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new StallLoggingEventQueue(STALL_THRESHOLD_MS));
+    }
+
+    /**
+     * Times each event dispatch. Events that open a modal dialog pump other events while they wait;
+     * those nested dispatches are timed on their own and the outer wait is not reported.
+     */
+    private static final class StallLoggingEventQueue extends EventQueue {
+        private final long thresholdNanos;
+        private long dispatchCount = 0;
+
+        StallLoggingEventQueue(long thresholdMillis) {
+            this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            long ticket = ++dispatchCount;
+            long start = System.nanoTime();
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                boolean waitedOnModal = dispatchCount != ticket;
+                if (elapsed >= thresholdNanos && !waitedOnModal) {
+                    Metrics.increment("EDT.slowEvents");
+                    System.err.println(String.format("EDT stall: %d ms handling %s from %s",
+                            TimeUnit.NANOSECONDS.toMillis(elapsed), event.getClass().getSimpleName(),
+                            describeSource(event.getSource())));
+                }
+            }
+        }
+
+        private static String describeSource(Object source) {
+            if (source instanceof Component && ((Component) source).getName() != null) {
+                return ((Component) source).getName();
+            }
+            return source == null ? "unknown" : source.getClass().getSimpleName();
+        }
+    }
+}
@@ -9,7 +9,8 @@ public class AttendanceRecord {
     private String subjectCode;
     private String subjectName;
     private LocalDate date;
-    private String status; // "Present", "Absent", "Late"
+    private AttendanceStatus status; // Present, Absent, Late, Excused
+    private String otherStatus; // Status text that is not an AttendanceStatus (kept as read)
     private String remarks;
 
     public AttendanceRecord(String studentID, String subjectCode, String subjectName, LocalDate date, String status, String remarks) {
@@ -17,7 +18,7 @@ public class AttendanceRecord {
         this.subjectCode = subjectCode;
         this.subjectName = subjectName;
         this.date = date;
-        this.status = status;
+        setStatus(status);
         this.remarks = remarks;
     }
     
@@ -27,7 +28,7 @@ public class AttendanceRecord {
         this.subjectCode = subjectCode;
         this.subjectName = ""; // Will be set later if needed
         this.date = LocalDate.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        this.status = status;
+        setStatus(status);
         this.remarks = remarks;
     }
 
@@ -37,11 +38,19 @@ public class AttendanceRecord {
     public String getSubjectName() { return subjectName; }
     public LocalDate getDate() { return date; }
     public String getDateString() { return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")); }
-    public String getStatus() { return status; }
+    public String getStatus() { return status != null ? status.getLabel() : otherStatus; }
+    public AttendanceStatus getAttendanceStatus() { return status; }
     public String getRemarks() { return remarks; }
 
     // Setters
-    public void setStatus(String status) { this.status = status; }
+    public void setStatus(String status) {
+        this.status = AttendanceStatus.fromLabel(status);
+        this.otherStatus = this.status == null ? status : null;
+    }
+    public void setStatus(AttendanceStatus status) {
+        this.status = status;
+        this.otherStatus = null;
+    }
     public void setRemarks(String remarks) { this.remarks = remarks; }
 
     /**
@@ -50,7 +59,7 @@ public class AttendanceRecord {
     public String toCsvFormat() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
         return studentID + "," + subjectCode + "," + subjectName + "," +
-                date.format(formatter) + "," + status + "," + (remarks != null ? remarks : "");
+                date.format(formatter) + "," + getStatus() + "," + (remarks != null ? remarks : "");
     }
 
     /**
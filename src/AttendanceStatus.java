@@ -0,0 +1,59 @@
+/**
+ * AttendanceStatus - The attendance statuses a teacher can record
+ * Features:
+ * - One shared constant per status instead of a String copy in every AttendanceRecord
+ * - getLabel() is the text stored in the data files and shown in the portals
+ * - fromLabel(...) maps stored text back to a constant (null for unknown text, which
+ *   AttendanceRecord keeps as-is so no data is lost)
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public enum AttendanceStatus {
+    PRESENT("Present"),
+    ABSENT("Absent"),
+    LATE("Late"),
+    EXCUSED("Excused");
+
+    private final String label;
+
+    AttendanceStatus(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Status for the stored label (exact match), or null if the label is not a known status
+     */
+    public static AttendanceStatus fromLabel(String label) {
+        if (label == null) return null;
+        for (AttendanceStatus status : values()) {
+            if (status.label.equals(label)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Status for user input, ignoring case and surrounding spaces, or null if unknown
+     */
+    public static AttendanceStatus parse(String text) {
+        if (text == null) return null;
+        String trimmed = text.trim();
+        for (AttendanceStatus status : values()) {
+            if (status.label.equalsIgnoreCase(trimmed)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,350 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * BoundedCache - Size-limited cache with LRU or TinyLFU eviction
+ * Features:
+ * - Maximum number of entries and maximum estimated bytes (per-entry weigher)
+ * - Optional time-to-live after the last write
+ * - LRU: evicts the least recently used entry
+ * - TINY_LFU: LRU order plus a frequency sketch; a new entry only displaces the LRU
+ *   victim if it has been requested more often, so one-off scans cannot flush hot entries
+ * - Read-through get(key, loader) that never stores a value loaded across a concurrent write
+ * - Hit rate, eviction count and load time in CacheStats
+ *
+ * Limits can be set per cache with system properties, e.g.
+ *   -Dislu.cache.grades.maxEntries=2000 -Dislu.cache.grades.maxBytes=4000000
+ *   -Dislu.cache.grades.ttlSeconds=600 -Dislu.cache.grades.policy=lru
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * Eviction policies
+     */
+    public enum Policy {
+        LRU, TINY_LFU
+    }
+
+    public static final String PROPERTY_PREFIX = "islu.cache.";
+
+    private final String name;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final Policy policy;
+    private final ToLongFunction<? super V> weigher;
+    private final CacheStats stats;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long weightedSize = 0;
+    private long writeGeneration = 0; // Bumped by every write, so racing loads are not stored
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+        final long writtenAt;
+
+        Entry(V value, long weight, long writtenAt) {
+            this.value = value;
+            this.weight = weight;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * @param maxEntries Maximum number of entries (> 0)
+     * @param maxBytes Maximum total weight in estimated bytes, or 0 for no byte limit
+     * @param ttlMillis Time-to-live after the last write, or 0 for none
+     * @param weigher Estimated size of a value in bytes
+     */
+    public BoundedCache(String name, int maxEntries, long maxBytes, long ttlMillis, Policy policy,
+                        ToLongFunction<? super V> weigher) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+        this.policy = policy;
+        this.weigher = weigher;
+        this.stats = new CacheStats(name);
+        this.sketch = policy == Policy.TINY_LFU ? new FrequencySketch(maxEntries) : null;
+    }
+
+    /**
+     * Create a cache whose defaults can be overridden with islu.cache.<name>.* system properties
+     */
+    public static <K, V> BoundedCache<K, V> fromProperties(String name, int maxEntries, long maxBytes, long ttlMillis,
+                                                           Policy policy, ToLongFunction<? super V> weigher) {
+        String prefix = PROPERTY_PREFIX + name + ".";
+        int entries = (int) longProperty(prefix + "maxEntries", maxEntries);
+        long bytes = longProperty(prefix + "maxBytes", maxBytes);
+        long ttl = longProperty(prefix + "ttlSeconds", ttlMillis / 1000) * 1000;
+
+        String policyValue = System.getProperty(prefix + "policy");
+        if (policyValue != null) {
+            try {
+                policy = Policy.valueOf(policyValue.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown cache policy '" + policyValue + "' for " + name + ", using " + policy);
+            }
+        }
+        return new BoundedCache<>(name, entries, bytes, ttl, policy, weigher);
+    }
+
+    private static long longProperty(String key, long defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) return defaultValue;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    // ========== READS ==========
+
+    /**
+     * Get a cached value, or null if absent or expired
+     */
+    public V get(K key) {
+        synchronized (this) {
+            Entry<V> entry = lookup(key);
+            if (entry == null) {
+                stats.recordMiss();
+                return null;
+            }
+            stats.recordHit();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Get a cached value, loading and caching it on a miss
+     * The loader runs outside the lock; a null result is returned but not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long generation;
+        synchronized (this) {
+            Entry<V> entry = lookup(key);
+            if (entry != null) {
+                stats.recordHit();
+                return entry.value;
+            }
+            stats.recordMiss();
+            generation = writeGeneration;
+        }
+
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        stats.recordLoad(System.nanoTime() - start);
+
+        if (value != null) {
+            synchronized (this) {
+                // A write that happened during the load may have made the value stale
+                if (generation == writeGeneration) {
+                    store(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    private Entry<V> lookup(K key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+            entries.remove(key);
+            weightedSize -= entry.weight;
+            stats.recordEvictions(1);
+            return null;
+        }
+        return entry;
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return ttlMillis > 0 && now - entry.writtenAt >= ttlMillis;
+    }
+
+    // ========== WRITES ==========
+
+    /**
+     * Store a value (write-through callers use this after writing the file)
+     */
+    public synchronized void put(K key, V value) {
+        writeGeneration++;
+        store(key, value);
+    }
+
+    /**
+     * Replace a cached value with a function of itself; does nothing if the key is not cached
+     */
+    public synchronized void update(K key, UnaryOperator<V> updater) {
+        writeGeneration++;
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            store(key, updater.apply(entry.value));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        writeGeneration++;
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weightedSize -= removed.weight;
+            stats.recordEvictions(1);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        writeGeneration++;
+        stats.recordEvictions(entries.size());
+        entries.clear();
+        weightedSize = 0;
+    }
+
+    private void store(K key, V value) {
+        Entry<V> previous = entries.remove(key);
+        if (previous != null) {
+            weightedSize -= previous.weight;
+        }
+
+        long weight = Math.max(0, weigher.applyAsLong(value));
+        if (maxBytes > 0 && weight > maxBytes) {
+            stats.recordEvictions(1); // Larger than the whole cache
+            return;
+        }
+
+        // TinyLFU admission: a new key must be more popular than the entry it would push out
+        if (sketch != null && previous == null && wouldOverflow(weight) && !entries.isEmpty()) {
+            K victim = entries.keySet().iterator().next();
+            if (sketch.frequency(key) <= sketch.frequency(victim)) {
+                stats.recordEvictions(1);
+                return;
+            }
+        }
+
+        entries.put(key, new Entry<>(value, weight, System.currentTimeMillis()));
+        weightedSize += weight;
+        evictOverflow();
+    }
+
+    private boolean wouldOverflow(long weight) {
+        return entries.size() + 1 > maxEntries || (maxBytes > 0 && weightedSize + weight > maxBytes);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || (maxBytes > 0 && weightedSize > maxBytes)) && eldest.hasNext()) {
+            Entry<V> evicted = eldest.next().getValue();
+            eldest.remove();
+            weightedSize -= evicted.weight;
+            stats.recordEvictions(1);
+        }
+    }
+
+    /**
+     * Rough heap size of a String for weighers: object header plus one byte per Latin-1 char
+     */
+    public static long stringBytes(String value) {
+        return value == null ? 0 : 48 + value.length();
+    }
+
+    // ========== INFO ==========
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weightedSize() {
+        return weightedSize;
+    }
+
+    public String getName() { return name; }
+    public int getMaxEntries() { return maxEntries; }
+    public long getMaxBytes() { return maxBytes; }
+    public Policy getPolicy() { return policy; }
+
+    public CacheStats stats() {
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%s, %d/%d entries, %.1f/%s KB%s]", stats, policy, size(), maxEntries,
+                weightedSize() / 1024.0, maxBytes > 0 ? String.format("%.1f", maxBytes / 1024.0) : "unbounded",
+                ttlMillis > 0 ? ", ttl " + ttlMillis / 1000 + "s" : "");
+    }
+
+    // ========== FREQUENCY SKETCH ==========
+
+    /**
+     * Count-min sketch of recent request frequencies (4 rows)
+     * Counters saturate at 15 and are halved after every 10 x width increments, so old popularity fades
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+        private static final int MAX_COUNT = 15;
+
+        private final int[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int maxEntries) {
+            int width = Integer.highestOneBit(Math.max(64, Math.min(maxEntries, 1 << 22)) - 1) << 1;
+            this.table = new int[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(Object key) {
+            int hash = key.hashCode();
+            for (int row = 0; row < SEEDS.length; row++) {
+                int i = index(hash, row);
+                if (table[row][i] < MAX_COUNT) {
+                    table[row][i]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                age();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = key.hashCode();
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < SEEDS.length; row++) {
+                min = Math.min(min, table[row][index(hash, row)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            int h = hash * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void age() {
+            for (int[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CacheStats - Counters for one cache
+ * Features:
+ * - Hits, misses and hit rate
+ * - Evictions (entries dropped because they went stale or the cache was full)
+ * - Number of loads and average load time
+ * - LongAdder counters, so recording never contends between threads
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class CacheStats {
+
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public CacheStats(String name) {
+        this.name = name;
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordEvictions(long count) {
+        if (count > 0) {
+            evictions.add(count);
+        }
+    }
+
+    public void recordLoad(long nanos) {
+        loads.increment();
+        loadNanos.add(nanos);
+    }
+
+    public String getName() { return name; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getLoads() { return loads.sum(); }
+
+    /**
+     * Fraction of lookups served from the cache (0.0 - 1.0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Average time spent loading an entry from disk, in milliseconds
+     */
+    public double getAverageLoadMillis() {
+        long loadCount = loads.sum();
+        return loadCount == 0 ? 0.0 : loadNanos.sum() / 1_000_000.0 / loadCount;
+    }
+
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        loads.reset();
+        loadNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d hits, %d misses (%.1f%% hit rate), %d evictions, %d loads (avg %.3f ms)",
+                name, getHits(), getMisses(), getHitRate() * 100, getEvictions(), getLoads(), getAverageLoadMillis());
+    }
+}
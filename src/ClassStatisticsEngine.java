@@ -0,0 +1,429 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ClassStatisticsEngine - Per-subject and per-section grade and attendance statistics
+ * Features:
+ * - One parallel fork/join pass over all grade and attendance records computes the
+ *   statistics of every subject (and of every section within it) at once
+ * - Per group: mean, median, standard deviation, min/max and histogram of final grades,
+ *   at-risk counts, attendance rate overall and by date
+ * - Results are cached per subject; invalidate(subject) drops only that subject, which is
+ *   then recomputed on its own from the subject index
+ * - Sections: the shared records have no section field, so students are grouped by a
+ *   section function of their ID (default: the first four digits, the intake cohort)
+ *
+ * At risk: final grade below PASSING_GRADE, or attendance rate below MIN_ATTENDANCE_RATE
+ * in that subject. Only "Present" counts as attended, as in getClassStatistics.
+ *
+ * Callers must keep the records from changing while a computation runs
+ * (SharedDataManager calls it while holding its lock).
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class ClassStatisticsEngine {
+
+    public static final double PASSING_GRADE = 75.0;
+    public static final double MIN_ATTENDANCE_RATE = 80.0;
+
+    // Minimum records per fork/join leaf; larger passes are cut into about 4 leaves per core,
+    // because every leaf builds its own per-student maps and merging them is not free
+    private static final int MIN_LEAF_SIZE = Integer.getInteger("islu.stats.leafSize", 16_384);
+
+    private final Supplier<? extends Iterable<GradeRecord>> allGrades;
+    private final Supplier<? extends Iterable<AttendanceRecord>> allAttendance;
+    private final Function<String, ? extends List<GradeRecord>> subjectGrades;
+    private final Function<String, ? extends List<AttendanceRecord>> subjectAttendance;
+    private volatile Function<String, String> sectionOf = ClassStatisticsEngine::cohortOf;
+
+    private final Map<String, ClassStatistics> cache = new ConcurrentHashMap<>();
+    private volatile boolean complete = false; // Every subject is in the cache
+
+    /**
+     * @param allGrades All grade records
+     * @param allAttendance All attendance records
+     * @param subjectGrades Grade records of one subject (from an index)
+     * @param subjectAttendance Attendance records of one subject (from an index)
+     */
+    public ClassStatisticsEngine(Supplier<? extends Iterable<GradeRecord>> allGrades,
+                                 Supplier<? extends Iterable<AttendanceRecord>> allAttendance,
+                                 Function<String, ? extends List<GradeRecord>> subjectGrades,
+                                 Function<String, ? extends List<AttendanceRecord>> subjectAttendance) {
+        this.allGrades = allGrades;
+        this.allAttendance = allAttendance;
+        this.subjectGrades = subjectGrades;
+        this.subjectAttendance = subjectAttendance;
+    }
+
+    /**
+     * Default section of a student: the first four digits of the ID (e.g. "2251")
+     */
+    public static String cohortOf(String studentID) {
+        return studentID == null ? "" : studentID.substring(0, Math.min(4, studentID.length()));
+    }
+
+    /**
+     * Change how students are grouped into sections (clears the cache)
+     */
+    public void setSectionFunction(Function<String, String> sectionOf) {
+        this.sectionOf = sectionOf;
+        invalidateAll();
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Statistics of one subject (computed on a cache miss)
+     */
+    public ClassStatistics getStatistics(String subjectCode) {
+        ClassStatistics cached = cache.get(subjectCode);
+        if (cached != null) {
+            Metrics.increment("ClassStatistics.cacheHits");
+            return cached;
+        }
+        Metrics.increment("ClassStatistics.cacheMisses");
+
+        ClassStatistics statistics;
+        if (!complete && cache.isEmpty()) {
+            // Cold cache: one pass computes every subject
+            statistics = computeAll().get(subjectCode);
+        } else {
+            statistics = compute(subjectGrades.apply(subjectCode), subjectAttendance.apply(subjectCode)).get(subjectCode);
+        }
+        if (statistics == null) {
+            statistics = new Group().toStatistics(subjectCode, null, Collections.emptyMap());
+        }
+        cache.put(subjectCode, statistics);
+        return statistics;
+    }
+
+    /**
+     * Statistics of every subject that has grade or attendance records
+     */
+    public Map<String, ClassStatistics> getAllStatistics() {
+        if (!complete) {
+            computeAll();
+        }
+        return Collections.unmodifiableMap(new TreeMap<>(cache));
+    }
+
+    // ========== INVALIDATION ==========
+
+    /**
+     * Drop the cached statistics of a subject whose records changed
+     */
+    public void invalidate(String subjectCode) {
+        if (subjectCode != null && cache.remove(subjectCode) != null) {
+            complete = false;
+        }
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+        complete = false;
+    }
+
+    // ========== COMPUTATION ==========
+
+    private Map<String, ClassStatistics> computeAll() {
+        Map<String, ClassStatistics> all = compute(allGrades.get(), allAttendance.get());
+        cache.clear();
+        cache.putAll(all);
+        complete = true;
+        return all;
+    }
+
+    /**
+     * One fork/join pass over the given records, grouped by subject and section
+     */
+    private Map<String, ClassStatistics> compute(Iterable<GradeRecord> grades, Iterable<AttendanceRecord> attendance) {
+        List<GradeRecord> gradeList = toList(grades);
+        List<AttendanceRecord> attendanceList = toList(attendance);
+        Function<String, String> sections = sectionOf;
+
+        int total = gradeList.size() + attendanceList.size();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int leafSize = Math.max(MIN_LEAF_SIZE, total / (pool.getParallelism() * 4) + 1);
+        Pass pass = new Pass(gradeList, attendanceList, sections, leafSize,
+                0, gradeList.size(), 0, attendanceList.size());
+        Partial partial = total <= leafSize ? pass.compute() : pool.invoke(pass);
+
+        Map<String, ClassStatistics> result = new LinkedHashMap<>();
+        partial.subjects.forEach((subject, groups) -> {
+            Map<String, ClassStatistics> bySection = new TreeMap<>();
+            groups.forEach((section, group) -> {
+                if (section != null) {
+                    bySection.put(section, group.toStatistics(subject, section, Collections.emptyMap()));
+                }
+            });
+            Group whole = groups.get(null);
+            result.put(subject, whole.toStatistics(subject, null, bySection));
+        });
+        return result;
+    }
+
+    private static <T> List<T> toList(Iterable<T> records) {
+        if (records instanceof List && records instanceof java.util.RandomAccess) {
+            return (List<T>) records;
+        }
+        List<T> list = new ArrayList<>();
+        records.forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Fork/join task over a range of the grade list and a range of the attendance list
+     */
+    private static final class Pass extends RecursiveTask<Partial> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<GradeRecord> grades;
+        private final List<AttendanceRecord> attendance;
+        private final Function<String, String> sectionOf;
+        private final int leafSize;
+        private final int gradeFrom, gradeTo, attendanceFrom, attendanceTo;
+
+        Pass(List<GradeRecord> grades, List<AttendanceRecord> attendance, Function<String, String> sectionOf,
+             int leafSize, int gradeFrom, int gradeTo, int attendanceFrom, int attendanceTo) {
+            this.grades = grades;
+            this.attendance = attendance;
+            this.sectionOf = sectionOf;
+            this.leafSize = leafSize;
+            this.gradeFrom = gradeFrom;
+            this.gradeTo = gradeTo;
+            this.attendanceFrom = attendanceFrom;
+            this.attendanceTo = attendanceTo;
+        }
+
+        @Override
+        protected Partial compute() {
+            int gradeCount = gradeTo - gradeFrom;
+            int attendanceCount = attendanceTo - attendanceFrom;
+            if (gradeCount + attendanceCount <= leafSize) {
+                Partial partial = new Partial();
+                for (int i = gradeFrom; i < gradeTo; i++) {
+                    GradeRecord record = grades.get(i);
+                    String section = sectionOf.apply(record.getStudentID());
+                    partial.group(record.getSubjectCode(), null).addGrade(record);
+                    partial.group(record.getSubjectCode(), section).addGrade(record);
+                }
+                for (int i = attendanceFrom; i < attendanceTo; i++) {
+                    AttendanceRecord record = attendance.get(i);
+                    String section = sectionOf.apply(record.getStudentID());
+                    partial.group(record.getSubjectCode(), null).addAttendance(record);
+                    partial.group(record.getSubjectCode(), section).addAttendance(record);
+                }
+                return partial;
+            }
+
+            // Split both ranges in half
+            int gradeMid = gradeFrom + gradeCount / 2;
+            int attendanceMid = attendanceFrom + attendanceCount / 2;
+            Pass left = new Pass(grades, attendance, sectionOf, leafSize, gradeFrom, gradeMid, attendanceFrom, attendanceMid);
+            Pass right = new Pass(grades, attendance, sectionOf, leafSize, gradeMid, gradeTo, attendanceMid, attendanceTo);
+            left.fork();
+            Partial result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * Partial result: subject -> section (null for the whole subject) -> group
+     */
+    private static final class Partial {
+        private final Map<String, Map<String, Group>> subjects = new HashMap<>();
+
+        Group group(String subject, String section) {
+            return subjects.computeIfAbsent(subject, s -> new HashMap<>()).computeIfAbsent(section, s -> new Group());
+        }
+
+        void merge(Partial other) {
+            other.subjects.forEach((subject, groups) ->
+                    groups.forEach((section, group) -> group(subject, section).merge(group)));
+        }
+    }
+
+    /**
+     * Accumulator for one subject or section
+     */
+    private static final class Group {
+        private int records = 0;
+        private final GradeTable.Summary finals = new GradeTable.Summary();
+        private double[] finalValues = new double[8];
+        private final Set<String> lowGradeStudents = new HashSet<>();
+
+        private int present = 0;
+        private int attendanceTotal = 0;
+        private final Map<LocalDate, int[]> byDate = new HashMap<>();     // {present, total}
+        private final Map<String, int[]> byStudent = new HashMap<>();     // {present, total}
+
+        void addGrade(GradeRecord record) {
+            records++;
+            double finalGrade = record.getGrade(GradeTable.FINAL);
+            if (Double.isNaN(finalGrade)) return;
+            if (finals.getCount() == finalValues.length) {
+                finalValues = Arrays.copyOf(finalValues, finalValues.length * 2);
+            }
+            finalValues[finals.getCount()] = finalGrade;
+            finals.add(finalGrade);
+            if (finalGrade < PASSING_GRADE) {
+                lowGradeStudents.add(record.getStudentID());
+            }
+        }
+
+        void addAttendance(AttendanceRecord record) {
+            int attended = record.getAttendanceStatus() == AttendanceStatus.PRESENT ? 1 : 0;
+            present += attended;
+            attendanceTotal++;
+            count(byDate.computeIfAbsent(record.getDate(), d -> new int[2]), attended);
+            count(byStudent.computeIfAbsent(record.getStudentID(), s -> new int[2]), attended);
+        }
+
+        private static void count(int[] counts, int attended) {
+            counts[0] += attended;
+            counts[1]++;
+        }
+
+        void merge(Group other) {
+            records += other.records;
+            int needed = finals.getCount() + other.finals.getCount();
+            if (needed > finalValues.length) {
+                finalValues = Arrays.copyOf(finalValues, Math.max(needed, finalValues.length * 2));
+            }
+            System.arraycopy(other.finalValues, 0, finalValues, finals.getCount(), other.finals.getCount());
+            finals.merge(other.finals);
+            lowGradeStudents.addAll(other.lowGradeStudents);
+
+            present += other.present;
+            attendanceTotal += other.attendanceTotal;
+            other.byDate.forEach((date, counts) -> add(byDate.computeIfAbsent(date, d -> new int[2]), counts));
+            other.byStudent.forEach((student, counts) -> add(byStudent.computeIfAbsent(student, s -> new int[2]), counts));
+        }
+
+        private static void add(int[] into, int[] counts) {
+            into[0] += counts[0];
+            into[1] += counts[1];
+        }
+
+        ClassStatistics toStatistics(String subject, String section, Map<String, ClassStatistics> sections) {
+            double[] sorted = Arrays.copyOf(finalValues, finals.getCount());
+            Arrays.sort(sorted);
+            double median = sorted.length == 0 ? 0.0 : sorted.length % 2 == 1
+                    ? sorted[sorted.length / 2]
+                    : (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2.0;
+
+            Set<String> lowAttendanceStudents = new HashSet<>();
+            byStudent.forEach((student, counts) -> {
+                if (rate(counts[0], counts[1]) < MIN_ATTENDANCE_RATE) {
+                    lowAttendanceStudents.add(student);
+                }
+            });
+            Set<String> atRisk = new HashSet<>(lowGradeStudents);
+            atRisk.addAll(lowAttendanceStudents);
+
+            SortedMap<LocalDate, Double> rateByDate = new TreeMap<>();
+            byDate.forEach((date, counts) -> rateByDate.put(date, rate(counts[0], counts[1])));
+
+            return new ClassStatistics(subject, section, records, finals, median,
+                    lowGradeStudents.size(), lowAttendanceStudents.size(), atRisk.size(),
+                    rate(present, attendanceTotal), rateByDate, sections);
+        }
+
+        private static double rate(int present, int total) {
+            return total == 0 ? 0.0 : (double) present / total * 100.0;
+        }
+    }
+
+    // ========== RESULT ==========
+
+    /**
+     * Statistics of one subject or one section of a subject (immutable)
+     */
+    public static final class ClassStatistics {
+        private final String subjectCode;
+        private final String section;
+        private final int studentCount;
+        private final int gradedCount;
+        private final double mean;
+        private final double median;
+        private final double standardDeviation;
+        private final double min;
+        private final double max;
+        private final int[] histogram;
+        private final int lowGradeCount;
+        private final int lowAttendanceCount;
+        private final int atRiskCount;
+        private final double attendanceRate;
+        private final SortedMap<LocalDate, Double> attendanceRateByDate;
+        private final Map<String, ClassStatistics> sections;
+
+        ClassStatistics(String subjectCode, String section, int studentCount, GradeTable.Summary finals,
+                        double median, int lowGradeCount, int lowAttendanceCount, int atRiskCount,
+                        double attendanceRate, SortedMap<LocalDate, Double> attendanceRateByDate,
+                        Map<String, ClassStatistics> sections) {
+            this.subjectCode = subjectCode;
+            this.section = section;
+            this.studentCount = studentCount;
+            this.gradedCount = finals.getCount();
+            this.mean = finals.getMean();
+            this.median = median;
+            this.standardDeviation = finals.getStandardDeviation();
+            this.min = finals.getCount() == 0 ? 0.0 : finals.getMin();
+            this.max = finals.getCount() == 0 ? 0.0 : finals.getMax();
+            this.histogram = finals.getHistogram();
+            this.lowGradeCount = lowGradeCount;
+            this.lowAttendanceCount = lowAttendanceCount;
+            this.atRiskCount = atRiskCount;
+            this.attendanceRate = attendanceRate;
+            this.attendanceRateByDate = Collections.unmodifiableSortedMap(attendanceRateByDate);
+            this.sections = Collections.unmodifiableMap(sections);
+        }
+
+        public String getSubjectCode() { return subjectCode; }
+        /** Section key, or null for the whole subject */
+        public String getSection() { return section; }
+        /** Number of grade records (one per student) */
+        public int getStudentCount() { return studentCount; }
+        /** Number of records with a final grade */
+        public int getGradedCount() { return gradedCount; }
+        public double getMean() { return mean; }
+        public double getMedian() { return median; }
+        public double getStandardDeviation() { return standardDeviation; }
+        public double getMin() { return min; }
+        public double getMax() { return max; }
+        /** Final grades per 10-point bucket (see GradeTable.HISTOGRAM_BUCKETS) */
+        public int[] getHistogram() { return histogram.clone(); }
+        public int getLowGradeCount() { return lowGradeCount; }
+        public int getLowAttendanceCount() { return lowAttendanceCount; }
+        /** Students with a low grade or low attendance (counted once) */
+        public int getAtRiskCount() { return atRiskCount; }
+        public double getAttendanceRate() { return attendanceRate; }
+        public SortedMap<LocalDate, Double> getAttendanceRateByDate() { return attendanceRateByDate; }
+        /** Statistics per section (empty for a section itself) */
+        public Map<String, ClassStatistics> getSections() { return sections; }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s: %d students, mean %.2f, median %.2f, sd %.2f, at risk %d, attendance %.1f%%",
+                    subjectCode, section != null ? " [" + section + "]" : "", studentCount, mean, median,
+                    standardDeviation, atRiskCount, attendanceRate);
+        }
+    }
+}
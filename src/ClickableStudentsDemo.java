@@ -49,7 +49,7 @@ public class ClickableStudentsDemo {
             // Show example data
             System.out.println("Step 4: Example Student Data:");
             System.out.println("=============================");
-            MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+            MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
             for (int i = 0; i < Math.min(5, allStudents.size()); i++) {
                 StudentInfo student = allStudents.get(i);
                 System.out.println("👤 " + student.getStudentName() + " (" + student.getStudentID() + ")");
@@ -0,0 +1,413 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * ColumnarSnapshot - Compact binary snapshot files for grades and attendance
+ * Features:
+ * - Column layout: one array per field instead of one text line per record
+ * - Dictionary encoding: student IDs, subject codes, subject names, statuses and remarks are
+ *   stored once each and referenced by int index, so a load creates one String per distinct value
+ * - Grades stored as primitive doubles (NaN for no grade) and dates as epoch-day ints, and
+ *   grades are read straight into a GradeTable: no Double or LocalDate parsing on load
+ * - Header with magic, version, row count and a CRC32 over header and data; a damaged file is
+ *   rejected and the caller falls back to the text snapshot
+ * - The header records the size and time of the text snapshot written alongside it, so a text
+ *   file changed afterwards (by hand or by a text-mode portal) wins over a stale binary one
+ * - Loaded with one sequential read of the whole file (not mmap: a mapped file cannot be
+ *   replaced on Windows until it is unmapped, and snapshots are replaced on every compaction)
+ *
+ * File layout (big-endian):
+ *   header : magic "ISLC", version (short), kind (byte), reserved (byte), row count (int),
+ *            text length (long), text modified (long), payload length (int), CRC32 (int)
+ *   payload: dictionaries (count, then length-prefixed UTF-8 strings), then columns
+ *
+ * Usage: java ColumnarSnapshot export|import grades|attendance <binary file> <text file>
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class ColumnarSnapshot {
+
+    public static final String EXTENSION = ".bin";
+
+    private static final int MAGIC = 0x49534C43; // "ISLC"
+    private static final short VERSION = 1;
+    private static final byte KIND_GRADES = 1;
+    private static final byte KIND_ATTENDANCE = 2;
+    private static final int HEADER_BYTES = 36;
+    private static final int ROWS_OFFSET = 8;
+    private static final int TEXT_LENGTH_OFFSET = 12;
+    private static final int TEXT_MODIFIED_OFFSET = 20;
+    private static final int PAYLOAD_LENGTH_OFFSET = 28;
+    private static final int CRC_OFFSET = 32;
+
+    /**
+     * Thrown when a snapshot file is truncated, damaged or of the wrong kind
+     */
+    public static class CorruptSnapshotException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public CorruptSnapshotException(String message) {
+            super(message);
+        }
+    }
+
+    private ColumnarSnapshot() {
+    }
+
+    /**
+     * Binary snapshot file that sits next to a text snapshot (shared_grades.txt -> shared_grades.bin)
+     */
+    public static File binaryFileFor(File textFile) {
+        String name = textFile.getName();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return new File(textFile.getParentFile(), base + EXTENSION);
+    }
+
+    // ========== GRADES ==========
+
+    /**
+     * Write grades atomically; textFile is the text snapshot written with it (may not exist)
+     */
+    public static void writeGrades(File file, Iterable<GradeRecord> records, File textFile) throws IOException {
+        Dictionary studentIDs = new Dictionary();
+        Dictionary subjectCodes = new Dictionary();
+        Dictionary subjectNames = new Dictionary();
+        List<GradeRecord> rows = new ArrayList<>();
+        for (GradeRecord record : records) {
+            rows.add(record);
+            studentIDs.indexOf(record.getStudentID());
+            subjectCodes.indexOf(record.getSubjectCode());
+            subjectNames.indexOf(record.getSubjectName());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + rows.size() * 36);
+        DataOutputStream out = new DataOutputStream(bytes);
+        studentIDs.writeTo(out);
+        subjectCodes.writeTo(out);
+        subjectNames.writeTo(out);
+        for (GradeRecord record : rows) out.writeInt(studentIDs.indexOf(record.getStudentID()));
+        for (GradeRecord record : rows) out.writeInt(subjectCodes.indexOf(record.getSubjectCode()));
+        for (GradeRecord record : rows) out.writeInt(subjectNames.indexOf(record.getSubjectName()));
+        for (GradeRecord record : rows) out.writeDouble(record.getGrade(GradeTable.PRELIM));
+        for (GradeRecord record : rows) out.writeDouble(record.getGrade(GradeTable.MIDTERM));
+        for (GradeRecord record : rows) out.writeDouble(record.getGrade(GradeTable.FINAL));
+        out.flush();
+
+        writeFile(file, KIND_GRADES, rows.size(), bytes.toByteArray(), textFile);
+    }
+
+    public static List<GradeRecord> readGrades(File file) throws IOException {
+        return readGrades(file, null);
+    }
+
+    /**
+     * Read grades into new rows of the given table (a new table when null)
+     */
+    public static List<GradeRecord> readGrades(File file, GradeTable table) throws IOException {
+        ByteBuffer buffer = readPayload(file, KIND_GRADES);
+        try {
+            int rows = buffer.getInt(ROWS_OFFSET);
+            String[] studentIDs = readDictionary(buffer, true);
+            String[] subjectCodes = readDictionary(buffer, true);
+            String[] subjectNames = readDictionary(buffer, true);
+            int[] student = readInts(buffer, rows);
+            int[] subject = readInts(buffer, rows);
+            int[] name = readInts(buffer, rows);
+            double[] prelim = readDoubles(buffer, rows);
+            double[] midterm = readDoubles(buffer, rows);
+            double[] finals = readDoubles(buffer, rows);
+
+            GradeTable grades = table != null ? table : new GradeTable(rows);
+            List<GradeRecord> records = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                records.add(new GradeRecord(grades, lookup(studentIDs, student[i]), lookup(subjectCodes, subject[i]),
+                        lookup(subjectNames, name[i]), prelim[i], midterm[i], finals[i]));
+            }
+            return records;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new CorruptSnapshotException(file.getName() + ": malformed grade columns");
+        }
+    }
+
+    // ========== ATTENDANCE ==========
+
+    /**
+     * Write attendance atomically; textFile is the text snapshot written with it (may not exist)
+     */
+    public static void writeAttendance(File file, Iterable<AttendanceRecord> records, File textFile) throws IOException {
+        Dictionary studentIDs = new Dictionary();
+        Dictionary subjectCodes = new Dictionary();
+        Dictionary statuses = new Dictionary();
+        Dictionary remarks = new Dictionary();
+        List<AttendanceRecord> rows = new ArrayList<>();
+        for (AttendanceRecord record : records) {
+            rows.add(record);
+            studentIDs.indexOf(record.getStudentID());
+            subjectCodes.indexOf(record.getSubjectCode());
+            statuses.indexOf(record.getStatus());
+            remarks.indexOf(record.getRemarks());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + rows.size() * 20);
+        DataOutputStream out = new DataOutputStream(bytes);
+        studentIDs.writeTo(out);
+        subjectCodes.writeTo(out);
+        statuses.writeTo(out);
+        remarks.writeTo(out);
+        for (AttendanceRecord record : rows) out.writeInt(studentIDs.indexOf(record.getStudentID()));
+        for (AttendanceRecord record : rows) out.writeInt(subjectCodes.indexOf(record.getSubjectCode()));
+        for (AttendanceRecord record : rows) out.writeInt((int) record.getDate().toEpochDay());
+        for (AttendanceRecord record : rows) out.writeInt(statuses.indexOf(record.getStatus()));
+        for (AttendanceRecord record : rows) out.writeInt(remarks.indexOf(record.getRemarks()));
+        out.flush();
+
+        writeFile(file, KIND_ATTENDANCE, rows.size(), bytes.toByteArray(), textFile);
+    }
+
+    public static List<AttendanceRecord> readAttendance(File file) throws IOException {
+        ByteBuffer buffer = readPayload(file, KIND_ATTENDANCE);
+        try {
+            int rows = buffer.getInt(ROWS_OFFSET);
+            String[] studentIDs = readDictionary(buffer, true);
+            String[] subjectCodes = readDictionary(buffer, true);
+            String[] statuses = readDictionary(buffer, true);
+            String[] remarks = readDictionary(buffer, false);
+            int[] student = readInts(buffer, rows);
+            int[] subject = readInts(buffer, rows);
+            int[] epochDay = readInts(buffer, rows);
+            int[] status = readInts(buffer, rows);
+            int[] remark = readInts(buffer, rows);
+
+            List<AttendanceRecord> records = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                records.add(new AttendanceRecord(lookup(studentIDs, student[i]), lookup(subjectCodes, subject[i]), "",
+                        LocalDate.ofEpochDay(epochDay[i]), lookup(statuses, status[i]), lookup(remarks, remark[i])));
+            }
+            return records;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new CorruptSnapshotException(file.getName() + ": malformed attendance columns");
+        }
+    }
+
+    // ========== FRESHNESS ==========
+
+    /**
+     * Check if the binary snapshot may be used instead of the text one: it must exist, and the
+     * text file must be missing or exactly the one written together with the binary file
+     */
+    public static boolean isCurrent(File file, File textFile) {
+        if (!file.isFile()) return false;
+        if (!textFile.exists()) return true;
+
+        byte[] header = new byte[HEADER_BYTES];
+        try (java.io.DataInputStream in = new java.io.DataInputStream(new java.io.FileInputStream(file))) {
+            in.readFully(header);
+        } catch (IOException e) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(header);
+        return buffer.getInt(0) == MAGIC
+                && buffer.getLong(TEXT_LENGTH_OFFSET) == textFile.length()
+                && buffer.getLong(TEXT_MODIFIED_OFFSET) == textFile.lastModified();
+    }
+
+    // ========== FILE ACCESS ==========
+
+    private static void writeFile(File file, byte kind, int rows, byte[] payload, File textFile) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.put(kind);
+        header.put((byte) 0);
+        header.putInt(rows);
+        header.putLong(textFile != null && textFile.exists() ? textFile.length() : -1);
+        header.putLong(textFile != null && textFile.exists() ? textFile.lastModified() : -1);
+        header.putInt(payload.length);
+        header.putInt(CRC_OFFSET, checksum(header.array(), payload));
+
+        File tempFile = new File(file.getPath() + ".tmp");
+        try (java.io.FileOutputStream out = new java.io.FileOutputStream(tempFile)) {
+            out.write(header.array());
+            out.write(payload);
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read the whole file, check the header and checksum, and return it positioned at the payload
+     */
+    private static ByteBuffer readPayload(File file, byte kind) throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        if (bytes.length < HEADER_BYTES) {
+            throw new CorruptSnapshotException(file.getName() + ": truncated header");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new CorruptSnapshotException(file.getName() + ": not a snapshot file");
+        }
+        if (buffer.getShort(4) != VERSION || buffer.get(6) != kind) {
+            throw new CorruptSnapshotException(file.getName() + ": unsupported version or wrong record kind");
+        }
+        if (buffer.getInt(PAYLOAD_LENGTH_OFFSET) != bytes.length - HEADER_BYTES) {
+            throw new CorruptSnapshotException(file.getName() + ": truncated data");
+        }
+
+        byte[] header = java.util.Arrays.copyOf(bytes, HEADER_BYTES);
+        ByteBuffer.wrap(header).putInt(CRC_OFFSET, 0);
+        CRC32 crc = new CRC32();
+        crc.update(header);
+        crc.update(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES);
+        if ((int) crc.getValue() != buffer.getInt(CRC_OFFSET)) {
+            throw new CorruptSnapshotException(file.getName() + ": checksum mismatch");
+        }
+
+        buffer.position(HEADER_BYTES);
+        return buffer;
+    }
+
+    /**
+     * CRC32 of the header (with the checksum field zeroed) followed by the payload
+     */
+    private static int checksum(byte[] header, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(header, 0, CRC_OFFSET);
+        crc.update(new byte[4]);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Read a dictionary; symbols (IDs, codes, names) go through the SymbolTable, free text does not
+     */
+    private static String[] readDictionary(ByteBuffer buffer, boolean symbols) {
+        String[] values = new String[buffer.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            int length = buffer.getInt();
+            if (length >= 0) {
+                String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                values[i] = symbols ? SymbolTable.intern(value) : value;
+                buffer.position(buffer.position() + length);
+            }
+        }
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private static double[] readDoubles(ByteBuffer buffer, int count) {
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        return values;
+    }
+
+    private static String lookup(String[] dictionary, int index) {
+        return dictionary[index];
+    }
+
+    /**
+     * Distinct strings in first-seen order; null is stored with length -1
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                indexes.put(value, index);
+                values.add(value);
+            }
+            return index;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                if (value == null) {
+                    out.writeInt(-1);
+                } else {
+                    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(utf8.length);
+                    out.write(utf8);
+                }
+            }
+        }
+    }
+
+    // ========== COMMAND LINE ==========
+
+    /**
+     * Convert between the binary and text snapshot formats
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4 || !(args[1].equals("grades") || args[1].equals("attendance"))) {
+            System.out.println("Usage: java ColumnarSnapshot export|import grades|attendance <binary file> <text file>");
+            return;
+        }
+        boolean grades = args[1].equals("grades");
+        File binary = new File(args[2]);
+        File text = new File(args[3]);
+
+        switch (args[0]) {
+            case "export": {
+                List<String> lines = new ArrayList<>();
+                if (grades) {
+                    readGrades(binary).forEach(record -> lines.add(SharedDataManager.formatGradeRecord(record)));
+                } else {
+                    readAttendance(binary).forEach(record -> lines.add(SharedDataManager.formatAttendanceRecord(record)));
+                }
+                Files.write(text.toPath(), lines, StandardCharsets.UTF_8);
+                System.out.println("Exported " + lines.size() + " records to " + text);
+                break;
+            }
+            case "import": {
+                List<String> lines = Files.readAllLines(text.toPath(), StandardCharsets.UTF_8);
+                int count;
+                if (grades) {
+                    List<GradeRecord> records = new ArrayList<>();
+                    for (String line : lines) {
+                        GradeRecord record = line.trim().isEmpty() ? null : SharedDataManager.parseGradeRecord(line);
+                        if (record != null) records.add(record);
+                    }
+                    writeGrades(binary, records, text);
+                    count = records.size();
+                } else {
+                    List<AttendanceRecord> records = new ArrayList<>();
+                    for (String line : lines) {
+                        AttendanceRecord record = line.trim().isEmpty() ? null : SharedDataManager.parseAttendanceRecord(line);
+                        if (record != null) records.add(record);
+                    }
+                    writeAttendance(binary, records, text);
+                    count = records.size();
+                }
+                System.out.println("Imported " + count + " records into " + binary);
+                break;
+            }
+            default:
+                System.out.println("Unknown command: " + args[0]);
+        }
+    }
+}
@@ -56,7 +56,7 @@ public class CompleteSystemDemo {
         System.out.println("All Students in Database:");
         System.out.println("========================");
         
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         for (int i = 0; i < allStudents.size(); i++) {
             StudentInfo student = allStudents.get(i);
             System.out.println(String.format("%s - %s (%s)", 
@@ -72,7 +72,7 @@ public class CompleteSystemDemo {
         System.out.println("Teacher Subject Assignments:");
         System.out.println("============================");
         
-        MyDoublyLinkedList<TeacherInfo> teachers = TeacherDataManager.getAllTeachers();
+        MyList<TeacherInfo> teachers = TeacherDataManager.getAllTeachers();
         for (int i = 0; i < teachers.size(); i++) {
             TeacherInfo teacher = teachers.get(i);
             System.out.println(String.format("%s - %s", teacher.getTeacherID(), teacher.getTeacherName()));
@@ -94,7 +94,7 @@ public class CompleteSystemDemo {
         System.out.println("Subject: 7024 - NSTP-CWTS 1");
         System.out.println("Students to manage:");
         
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         for (int i = 0; i < Math.min(5, allStudents.size()); i++) { // Show first 5 students
             StudentInfo student = allStudents.get(i);
             System.out.println(String.format("  - %s (%s)", student.getStudentID(), student.getStudentName()));
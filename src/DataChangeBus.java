@@ -0,0 +1,329 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+
+/**
+ * DataChangeBus - Central notification of changes to the portal's data files
+ * Features:
+ * - One WatchService thread for every data file (falls back to polling every 2 seconds)
+ * - Typed change events: student, grade, attendance, checklist, announcement, fee, payment, ...
+ * - Debouncing: a burst of writes (temp file + move, several appends) becomes one event per type,
+ *   delivered 150ms after the last write and never more than 1s after the first
+ * - Subscribers pick the types they care about and get events on the bus thread or on the EDT
+ *
+ * The debounce delay can be changed with -Dislu.watch.debounceMillis=...
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class DataChangeBus {
+
+    /**
+     * Kinds of data a file change can affect
+     */
+    public enum ChangeType {
+        STUDENT, GRADE, ATTENDANCE, CHECKLIST, ANNOUNCEMENT, FEE, PAYMENT, TEACHER, MEDICAL
+    }
+
+    /**
+     * One debounced change of a type of data
+     */
+    public static final class ChangeEvent {
+        private final ChangeType type;
+        private final Set<String> fileNames;
+        private final long timeMillis;
+
+        ChangeEvent(ChangeType type, Set<String> fileNames, long timeMillis) {
+            this.type = type;
+            this.fileNames = Collections.unmodifiableSet(fileNames);
+            this.timeMillis = timeMillis;
+        }
+
+        public ChangeType getType() { return type; }
+        public Set<String> getFileNames() { return fileNames; }
+        public long getTimeMillis() { return timeMillis; }
+
+        @Override
+        public String toString() {
+            return type + " " + fileNames;
+        }
+    }
+
+    /**
+     * Receives change events
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onChange(ChangeEvent event);
+    }
+
+    /**
+     * Handle returned by subscribe; close it to stop receiving events
+     */
+    public static final class Subscription implements AutoCloseable {
+        private final Set<ChangeType> types;
+        private final Listener listener;
+
+        Subscription(Set<ChangeType> types, Listener listener) {
+            this.types = types;
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+
+    private static final long DEBOUNCE_MS = Long.getLong("islu.watch.debounceMillis", 150);
+    private static final long MAX_DELAY_MS = 1000;
+    private static final long POLL_INTERVAL_MS = 2000;
+
+    // Data file name -> the kinds of data stored in it
+    private static final Map<String, Set<ChangeType>> FILE_TYPES = new LinkedHashMap<>();
+
+    static {
+        mapFile("Database.txt", ChangeType.STUDENT);
+        mapFile("UserPasswordID.txt", ChangeType.STUDENT);
+        mapFile("shared_grades.txt", ChangeType.GRADE);
+        mapFile("shared_grades.bin", ChangeType.GRADE);
+        mapFile("gradeRecords.txt", ChangeType.GRADE);
+        mapFile("shared_attendance.txt", ChangeType.ATTENDANCE);
+        mapFile("shared_attendance.bin", ChangeType.ATTENDANCE);
+        mapFile("attendanceRecords.txt", ChangeType.ATTENDANCE);
+        mapFile("shared_class_checklist.txt", ChangeType.CHECKLIST);
+        mapFile("shared_data.journal", ChangeType.GRADE, ChangeType.ATTENDANCE, ChangeType.CHECKLIST);
+        mapFile("shared_announcements.txt", ChangeType.ANNOUNCEMENT);
+        mapFile("feesDatabase.txt", ChangeType.FEE);
+        mapFile("studentFeesDatabase.txt", ChangeType.FEE);
+        mapFile("feeSchedule.txt", ChangeType.FEE);
+        mapFile("accountStatements.txt", ChangeType.FEE);
+        mapFile("paymentLedger.txt", ChangeType.PAYMENT, ChangeType.FEE);
+        mapFile("paymentStatus.txt", ChangeType.PAYMENT);
+        mapFile("paymentLogs.txt", ChangeType.PAYMENT);
+        mapFile("TeacherDatabase.txt", ChangeType.TEACHER);
+        mapFile("TeacherPasswordID.txt", ChangeType.TEACHER);
+        mapFile("MedicalRecords.txt", ChangeType.MEDICAL);
+    }
+
+    private static final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    // Changes waiting for the debounce delay to pass (guarded by the class lock)
+    private static final Map<ChangeType, Set<String>> pending = new EnumMap<>(ChangeType.class);
+    private static long firstPendingMillis = 0;
+    private static ScheduledFuture<?> pendingFlush;
+
+    private static ScheduledExecutorService dispatcher;
+    private static Thread watcherThread;
+    private static volatile boolean watching = false;
+
+    private DataChangeBus() {
+    }
+
+    private static void mapFile(String fileName, ChangeType... types) {
+        FILE_TYPES.put(fileName, EnumSet.copyOf(Arrays.asList(types)));
+    }
+
+    // ========== SUBSCRIPTIONS ==========
+
+    /**
+     * Receive events of the given types on the bus thread
+     * Listeners must return quickly; slow work belongs on another thread.
+     */
+    public static Subscription subscribe(Set<ChangeType> types, Listener listener) {
+        Subscription subscription = new Subscription(EnumSet.copyOf(types), listener);
+        subscriptions.add(subscription);
+        start();
+        return subscription;
+    }
+
+    /**
+     * Receive events of the given types on the Swing event dispatch thread
+     */
+    public static Subscription subscribeOnEdt(Set<ChangeType> types, Listener listener) {
+        return subscribe(types, event -> SwingUtilities.invokeLater(() -> listener.onChange(event)));
+    }
+
+    /**
+     * Report a change made without touching a watched file, or before the watcher would see it
+     */
+    public static void publish(ChangeType type, String source) {
+        start();
+        enqueue(EnumSet.of(type), source);
+    }
+
+    /**
+     * Check if changes are detected by the WatchService (false while polling)
+     */
+    public static boolean isWatching() {
+        return watching;
+    }
+
+    /**
+     * Stop watching and drop all subscriptions
+     */
+    public static synchronized void shutdown() {
+        subscriptions.clear();
+        pending.clear();
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+            watcherThread = null;
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+            dispatcher = null;
+        }
+        watching = false;
+    }
+
+    // ========== WATCHING ==========
+
+    /**
+     * Start the dispatcher and the watcher thread (once)
+     */
+    private static synchronized void start() {
+        if (dispatcher != null) return;
+
+        dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "DataChangeBus-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Set<Path> directories = new LinkedHashSet<>();
+        for (String fileName : FILE_TYPES.keySet()) {
+            File parent = DataManager.resolveFile(fileName).getParentFile();
+            if (parent != null) {
+                directories.add(parent.toPath().toAbsolutePath().normalize());
+            }
+        }
+
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+
+            watcherThread = new Thread(() -> watchFiles(watchService), "DataChangeBus-watcher");
+            watcherThread.setDaemon(true);
+            watching = true;
+            watcherThread.start();
+        } catch (IOException | UnsupportedOperationException e) {
+            System.err.println("File watching unavailable, polling data files instead: " + e.getMessage());
+            startPolling();
+        }
+    }
+
+    private static void watchFiles(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        enqueue(EnumSet.allOf(ChangeType.class), "*"); // Events were lost
+                        continue;
+                    }
+
+                    String fileName = ((Path) event.context()).getFileName().toString();
+                    Set<ChangeType> types = FILE_TYPES.get(fileName);
+                    if (types != null) {
+                        enqueue(types, fileName);
+                    }
+                }
+                if (!key.reset()) {
+                    break; // Directory no longer accessible
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            watching = false;
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Fallback when the platform has no WatchService: compare modification time and length
+     */
+    private static void startPolling() {
+        Map<String, long[]> stamps = new HashMap<>();
+        for (String fileName : FILE_TYPES.keySet()) {
+            stamps.put(fileName, stamp(DataManager.resolveFile(fileName)));
+        }
+
+        dispatcher.scheduleWithFixedDelay(() -> {
+            for (Map.Entry<String, long[]> entry : stamps.entrySet()) {
+                long[] current = stamp(DataManager.resolveFile(entry.getKey()));
+                if (!Arrays.equals(current, entry.getValue())) {
+                    entry.setValue(current);
+                    enqueue(FILE_TYPES.get(entry.getKey()), entry.getKey());
+                }
+            }
+        }, POLL_INTERVAL_MS, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static long[] stamp(File file) {
+        return new long[]{file.lastModified(), file.length()};
+    }
+
+    // ========== DEBOUNCING AND DELIVERY ==========
+
+    /**
+     * Add a change to the pending set and (re)arm the flush
+     */
+    private static synchronized void enqueue(Set<ChangeType> types, String fileName) {
+        if (dispatcher == null) return;
+
+        long now = System.currentTimeMillis();
+        if (pending.isEmpty()) {
+            firstPendingMillis = now;
+        }
+        for (ChangeType type : types) {
+            pending.computeIfAbsent(type, t -> new TreeSet<>()).add(fileName);
+        }
+
+        // Push the flush back while writes keep coming, but not past MAX_DELAY_MS
+        if (pendingFlush != null) {
+            if (now - firstPendingMillis >= MAX_DELAY_MS) {
+                return;
+            }
+            pendingFlush.cancel(false);
+        }
+        long delay = Math.min(DEBOUNCE_MS, Math.max(0, firstPendingMillis + MAX_DELAY_MS - now));
+        pendingFlush = dispatcher.schedule(DataChangeBus::flush, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static void flush() {
+        Map<ChangeType, Set<String>> changes;
+        synchronized (DataChangeBus.class) {
+            changes = new EnumMap<>(pending);
+            pending.clear();
+            pendingFlush = null;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<ChangeType, Set<String>> change : changes.entrySet()) {
+            ChangeEvent event = new ChangeEvent(change.getKey(), change.getValue(), now);
+            for (Subscription subscription : subscriptions) {
+                if (subscription.types.contains(event.getType())) {
+                    try {
+                        subscription.listener.onChange(event);
+                    } catch (RuntimeException e) {
+                        System.err.println("Error handling " + event + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -6,13 +6,11 @@ import java.net.URISyntaxException;
 /**
  * Centralized data management class for the Student Portal system
  * Handles all file operations and data persistence
+ * Student accounts and payment logs go through the cached StudentRepository
  */
 public class DataManager {
 
     // File paths
-    private static final String DATABASE_FILE = "Database.txt";
-    private static final String USER_PASSWORD_FILE = "UserPasswordID.txt";
-    private static final String PAYMENT_LOGS_FILE = "paymentLogs.txt";
     private static final String MEDICAL_RECORDS_FILE = "MedicalRecords.txt";
 
     /**
@@ -20,7 +18,7 @@ public class DataManager {
      * from the compiled classes location. This makes file access robust regardless
      * of where the application is launched from.
      */
-    private static File resolveFile(String filename) {
+    static File resolveFile(String filename) {
         // 1) Try working directory
         File direct = new File(filename);
         if (direct.exists()) {
@@ -47,12 +45,21 @@ public class DataManager {
         return direct.getAbsoluteFile();
     }
 
-    private static File getDatabaseFile() { return resolveFile(DATABASE_FILE); }
-    private static File getUserPasswordFile() { return resolveFile(USER_PASSWORD_FILE); }
-    private static File getPaymentLogsFile() { return resolveFile(PAYMENT_LOGS_FILE); }
-
     public static boolean databaseExists() {
-        return getDatabaseFile().exists();
+        return Metrics.time("DataManager.databaseExists", () -> {
+            return StudentRepository.databaseExists();
+        });
+    }
+
+    /**
+     * Rebuilds the student index from Database.txt
+     * Use this after Database.txt has been edited by hand
+     * @return The number of indexed students, or -1 on failure
+     */
+    public static int rebuildStudentIndex() {
+        return Metrics.time("DataManager.rebuildStudentIndex", () -> {
+            return StudentRepository.rebuildStudentIndex();
+        });
     }
 
     /**
@@ -62,40 +69,9 @@ public class DataManager {
      * @return true if credentials are valid, false otherwise
      */
     public static boolean authenticateUser(String studentID, String password) {
-        try {
-            File databaseFile = getDatabaseFile();
-            if (!databaseFile.exists()) {
-                return false;
-            }
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(databaseFile))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    // Skip empty lines
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-
-                    // Handle lines with profile data (containing | separator)
-                    String[] mainParts = line.split("\\|");
-                    String basicInfo = mainParts[0]; // Everything before the |
-
-                    String[] parts = basicInfo.split(",");
-                    if (parts.length >= 6) {
-                        String storedID = parts[0].trim();
-                        String storedPassword = parts[5].trim();
-
-                        if (studentID.equals(storedID) && password.equals(storedPassword)) {
-                            return true;
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error reading database: " + e.getMessage());
-        }
-
-        return false;
+        return Metrics.time("DataManager.authenticateUser", () -> {
+            return StudentRepository.authenticate(studentID, password);
+        });
     }
 
     /**
@@ -104,46 +80,9 @@ public class DataManager {
      * @return StudentInfo object containing student details, or null if not found
      */
     public static StudentInfo getStudentInfo(String studentID) {
-        try {
-            File databaseFile = getDatabaseFile();
-            if (!databaseFile.exists()) {
-                return null;
-            }
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(databaseFile))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    // Skip empty lines
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-
-                    // Handle lines with profile data (containing | separator)
-                    String[] mainParts = line.split("\\|");
-                    String basicInfo = mainParts[0]; // Everything before the |
-
-                    String[] parts = basicInfo.split(",");
-                    if (parts.length >= 6) {
-                        String storedID = parts[0].trim();
-
-                        if (studentID.equals(storedID)) {
-                            return new StudentInfo(
-                                    parts[0].trim(), // ID
-                                    parts[1].trim(), // Last Name
-                                    parts[2].trim(), // First Name
-                                    parts[3].trim(), // Middle Name
-                                    parts[4].trim(), // Date of Birth
-                                    parts[5].trim()  // Password
-                            );
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error reading database: " + e.getMessage());
-        }
-
-        return null;
+        return Metrics.time("DataManager.getStudentInfo", () -> {
+            return StudentRepository.getStudentInfo(studentID);
+        });
     }
 
     /**
@@ -152,30 +91,9 @@ public class DataManager {
      * @return true if successful, false otherwise
      */
     public static boolean saveStudentAccount(StudentInfo studentInfo) {
-        try {
-            // Save to Database.txt
-            File dbFile = getDatabaseFile();
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(dbFile, true))) {
-                String dbEntry = studentInfo.toDatabaseFormat();
-                writer.write(dbEntry);
-                writer.newLine();
-                writer.flush(); // Ensure data is written immediately
-            }
-
-            // Save to UserPasswordID.txt
-            File credsFile = getUserPasswordFile();
-            try (BufferedWriter logWriter = new BufferedWriter(new FileWriter(credsFile, true))) {
-                String credsEntry = "ID: " + studentInfo.getId() + " | Password: " + studentInfo.getPassword();
-                logWriter.write(credsEntry);
-                logWriter.newLine();
-                logWriter.flush(); // Ensure data is written immediately
-            }
-
-            return true;
-        } catch (IOException e) {
-            System.err.println("Error saving student account: " + e.getMessage());
-            return false;
-        }
+        return Metrics.time("DataManager.saveStudentAccount", () -> {
+            return StudentRepository.saveStudentAccount(studentInfo);
+        });
     }
 
     /**
@@ -183,33 +101,9 @@ public class DataManager {
      * @return A unique 7-digit ID starting with "225"
      */
     public static String generateUniqueStudentID() {
-        Set<String> usedIDs = new HashSet<>();
-
-        try {
-            File file = getDatabaseFile();
-            if (file.exists()) {
-                try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        String[] parts = line.split(",");
-                        if (parts.length > 0) {
-                            usedIDs.add(parts[0]);
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error reading existing IDs: " + e.getMessage());
-        }
-
-        Random rand = new Random();
-        String newID;
-        do {
-            int lastFour = rand.nextInt(10000);
-            newID = "225" + String.format("%04d", lastFour);
-        } while (usedIDs.contains(newID));
-
-        return newID;
+        return Metrics.time("DataManager.generateUniqueStudentID", () -> {
+            return StudentRepository.generateUniqueStudentID();
+        });
     }
 
     /**
@@ -219,24 +113,9 @@ public class DataManager {
      * @param studentID The student ID making the payment
      */
     public static void logPaymentTransaction(String channelName, double amount, String studentID) {
-        try {
-            File logFile = getPaymentLogsFile();
-
-            java.text.SimpleDateFormat dateFormat = new java.text.SimpleDateFormat("MM/dd/yyyy hh:mm a");
-            String currentDateTime = dateFormat.format(new java.util.Date());
-
-            String reference = "FIRST SEMESTER 2025-2026 Enrollme.";
-            String formattedAmount = String.format("P %,.2f", amount);
-
-            String logEntry = currentDateTime + "," + channelName + "," + reference + "," + formattedAmount + "," + studentID;
-
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(logFile, true))) {
-                writer.write(logEntry);
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            System.err.println("Error writing to payment log: " + e.getMessage());
-        }
+        Metrics.time("DataManager.logPaymentTransaction", () -> {
+            StudentRepository.logPaymentTransaction(channelName, amount, studentID);
+        });
     }
 
     /**
@@ -245,34 +124,9 @@ public class DataManager {
      * @return List of payment transactions
      */
     public static List<PaymentTransaction> loadPaymentTransactions(String studentID) {
-        List<PaymentTransaction> transactions = new ArrayList<>();
-
-        try {
-            File logFile = getPaymentLogsFile();
-            if (logFile.exists()) {
-                try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        String[] parts = line.split(",");
-                        if (parts.length >= 5) {
-                            String transactionStudentID = parts[4].trim();
-                            if (studentID.equals(transactionStudentID)) {
-                                transactions.add(new PaymentTransaction(
-                                        parts[0].trim(), // Date
-                                        parts[1].trim(), // Channel
-                                        parts[2].trim(), // Reference
-                                        parts[3].trim()  // Amount
-                                ));
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error reading payment logs: " + e.getMessage());
-        }
-
-        return transactions;
+        return Metrics.time("DataManager.loadPaymentTransactions", () -> {
+            return StudentRepository.getPaymentTransactions(studentID);
+        });
     }
 
     /**
@@ -280,44 +134,9 @@ public class DataManager {
      * @return List of all student information
      */
     public static List<StudentInfo> getAllStudents() {
-        List<StudentInfo> students = new ArrayList<>();
-
-        try {
-            File databaseFile = getDatabaseFile();
-            if (!databaseFile.exists()) {
-                return students;
-            }
-
-            try (BufferedReader reader = new BufferedReader(new FileReader(databaseFile))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    // Skip empty lines
-                    if (line.trim().isEmpty()) {
-                        continue;
-                    }
-
-                    // Handle lines with profile data (containing | separator)
-                    String[] mainParts = line.split("\\|");
-                    String basicInfo = mainParts[0]; // Everything before the |
-
-                    String[] parts = basicInfo.split(",");
-                    if (parts.length >= 6) {
-                        students.add(new StudentInfo(
-                                parts[0].trim(), // ID
-                                parts[1].trim(), // Last Name
-                                parts[2].trim(), // First Name
-                                parts[3].trim(), // Middle Name
-                                parts[4].trim(), // Date of Birth
-                                parts[5].trim()  // Password
-                        ));
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error reading all students: " + e.getMessage());
-        }
-
-        return students;
+        return Metrics.time("DataManager.getAllStudents", () -> {
+            return StudentRepository.getAllStudents();
+        });
     }
 
     /**
@@ -326,39 +145,15 @@ public class DataManager {
      * @return Profile data as a formatted string
      */
     public static String getStudentProfile(String studentID) {
-        try {
-            File dbFile = getDatabaseFile();
-            if (dbFile.exists()) {
-                try (BufferedReader reader = new BufferedReader(new FileReader(dbFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.trim().isEmpty()) continue;
-
-                        System.out.println("DEBUG: Checking line: " + line);
-
-                        // Handle lines with profile data (containing | separator)
-                        String[] mainParts = line.split("\\|");
-                        String basicInfo = mainParts[0]; // Everything before the |
-
-                        String[] parts = basicInfo.split(",");
-                        if (parts.length > 0 && parts[0].equals(studentID)) {
-                            System.out.println("DEBUG: Found matching student ID: " + studentID);
-                            // Check if profile data exists (after the | separator)
-                            if (line.contains("|") && mainParts.length > 1) {
-                                System.out.println("DEBUG: Returning profile data: " + mainParts[1]);
-                                return mainParts[1]; // Return the profile data part
-                            } else {
-                                System.out.println("DEBUG: No profile data found for student " + studentID);
-                            }
-                        }
-                    }
-                }
+        return Metrics.time("DataManager.getStudentProfile", () -> {
+            String profileData = StudentRepository.getStudentProfile(studentID);
+            if (profileData != null) {
+                System.out.println("DEBUG: Returning profile data: " + profileData);
+                return profileData;
             }
-        } catch (IOException e) {
-            System.err.println("Error reading student profile: " + e.getMessage());
-        }
-        System.out.println("DEBUG: No profile data found for student " + studentID);
-        return null;
+            System.out.println("DEBUG: No profile data found for student " + studentID);
+            return null;
+        });
     }
 
     /**
@@ -368,38 +163,9 @@ public class DataManager {
      * @return true if successful, false otherwise
      */
     public static boolean updateStudentProfile(String studentID, String profileData) {
-        try {
-            // Update Database.txt with profile information
-            File dbFile = getDatabaseFile();
-            if (dbFile.exists()) {
-                java.util.List<String> lines = new java.util.ArrayList<>();
-                try (BufferedReader reader = new BufferedReader(new FileReader(dbFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.trim().isEmpty()) continue;
-                        String[] parts = line.split(",");
-                        if (parts.length > 0 && parts[0].equals(studentID)) {
-                            // Append profile data to the existing line
-                            line = line + "|" + profileData;
-                        }
-                        lines.add(line);
-                    }
-                }
-
-                // Write back to file
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(dbFile))) {
-                    for (String line : lines) {
-                        writer.write(line);
-                        writer.newLine();
-                    }
-                }
-            }
-
-            return true;
-        } catch (IOException e) {
-            System.err.println("Error updating profile: " + e.getMessage());
-            return false;
-        }
+        return Metrics.time("DataManager.updateStudentProfile", () -> {
+            return StudentRepository.updateStudentProfile(studentID, profileData);
+        });
     }
 
     /**
@@ -409,72 +175,9 @@ public class DataManager {
      * @return true if successful, false otherwise
      */
     public static boolean updateStudentPassword(String studentID, String newPassword) {
-        try {
-            // Update Database.txt
-            File dbFile = getDatabaseFile();
-            if (dbFile.exists()) {
-                java.util.List<String> lines = new java.util.ArrayList<>();
-                try (BufferedReader reader = new BufferedReader(new FileReader(dbFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.trim().isEmpty()) continue;
-
-                        // Handle lines with profile data (containing | separator)
-                        String[] mainParts = line.split("\\|");
-                        String basicInfo = mainParts[0]; // Everything before the |
-                        String profileData = mainParts.length > 1 ? mainParts[1] : "";
-
-                        String[] parts = basicInfo.split(",");
-                        if (parts.length > 0 && parts[0].equals(studentID)) {
-                            // Update the password (6th field, index 5)
-                            if (parts.length >= 6) {
-                                parts[5] = newPassword;
-                                String updatedBasicInfo = String.join(",", parts);
-                                line = profileData.isEmpty() ? updatedBasicInfo : updatedBasicInfo + "|" + profileData;
-                            }
-                        }
-                        lines.add(line);
-                    }
-                }
-
-                // Write back to file
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(dbFile))) {
-                    for (String line : lines) {
-                        writer.write(line);
-                        writer.newLine();
-                    }
-                }
-            }
-
-            // Update UserPasswordID.txt
-            File credsFile = getUserPasswordFile();
-            if (credsFile.exists()) {
-                java.util.List<String> lines = new java.util.ArrayList<>();
-                try (BufferedReader reader = new BufferedReader(new FileReader(credsFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.trim().isEmpty()) continue;
-                        if (line.contains("ID: " + studentID)) {
-                            line = "ID: " + studentID + " | Password: " + newPassword;
-                        }
-                        lines.add(line);
-                    }
-                }
-
-                // Write back to file
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(credsFile))) {
-                    for (String line : lines) {
-                        writer.write(line);
-                        writer.newLine();
-                    }
-                }
-            }
-
-            return true;
-        } catch (IOException e) {
-            System.err.println("Error updating password: " + e.getMessage());
-            return false;
-        }
+        return Metrics.time("DataManager.updateStudentPassword", () -> {
+            return StudentRepository.updateStudentPassword(studentID, newPassword);
+        });
     }
 
     private static File getMedicalRecordsFile() { return resolveFile(MEDICAL_RECORDS_FILE); }
@@ -483,75 +186,79 @@ public class DataManager {
      * Get medical record for a student
      */
     public static MedicalRecord getMedicalRecord(String studentId) {
-        File file = getMedicalRecordsFile();
-        if (!file.exists()) {
-            // Return empty medical record if file doesn't exist
-            return new MedicalRecord(studentId);
-        }
+        return Metrics.time("DataManager.getMedicalRecord", () -> {
+            File file = getMedicalRecordsFile();
+            if (!file.exists()) {
+                // Return empty medical record if file doesn't exist
+                return new MedicalRecord(studentId);
+            }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) continue;
 
-                String[] parts = line.split("\\|", -1);
-                if (parts.length > 0 && parts[0].equals(studentId)) {
-                    return MedicalRecord.fromDatabaseFormat(line);
+                    String[] parts = line.split("\\|", -1);
+                    if (parts.length > 0 && parts[0].equals(studentId)) {
+                        return MedicalRecord.fromDatabaseFormat(line);
+                    }
                 }
+            } catch (IOException e) {
+                System.err.println("Error reading medical records: " + e.getMessage());
             }
-        } catch (IOException e) {
-            System.err.println("Error reading medical records: " + e.getMessage());
-        }
 
-        // Return new empty record if not found
-        return new MedicalRecord(studentId);
+            // Return new empty record if not found
+            return new MedicalRecord(studentId);
+        });
     }
 
     /**
      * Save or update medical record
      */
     public static boolean saveMedicalRecord(MedicalRecord record) {
-        File file = getMedicalRecordsFile();
-        List<String> lines = new ArrayList<>();
-        boolean recordFound = false;
+        return Metrics.time("DataManager.saveMedicalRecord", () -> {
+            File file = getMedicalRecordsFile();
+            List<String> lines = new ArrayList<>();
+            boolean recordFound = false;
 
-        // Read existing records
-        if (file.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.trim().isEmpty()) continue;
+            // Read existing records
+            if (file.exists()) {
+                try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.trim().isEmpty()) continue;
 
-                    String[] parts = line.split("\\|", -1);
-                    if (parts.length > 0 && parts[0].equals(record.getStudentId())) {
-                        // Replace existing record
-                        lines.add(record.toDatabaseFormat());
-                        recordFound = true;
-                    } else {
-                        lines.add(line);
+                        String[] parts = line.split("\\|", -1);
+                        if (parts.length > 0 && parts[0].equals(record.getStudentId())) {
+                            // Replace existing record
+                            lines.add(record.toDatabaseFormat());
+                            recordFound = true;
+                        } else {
+                            lines.add(line);
+                        }
                     }
+                } catch (IOException e) {
+                    System.err.println("Error reading medical records: " + e.getMessage());
+                    return false;
                 }
-            } catch (IOException e) {
-                System.err.println("Error reading medical records: " + e.getMessage());
-                return false;
             }
-        }
 
-        // Add new record if not found
-        if (!recordFound) {
-            lines.add(record.toDatabaseFormat());
-        }
+            // Add new record if not found
+            if (!recordFound) {
+                lines.add(record.toDatabaseFormat());
+            }
 
-        // Write back to file
-        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
-            for (String line : lines) {
-                writer.println(line);
+            // Write back to file
+            try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+                for (String line : lines) {
+                    writer.println(line);
+                }
+                return true;
+            } catch (IOException e) {
+                System.err.println("Error saving medical record: " + e.getMessage());
+                return false;
             }
-            return true;
-        } catch (IOException e) {
-            System.err.println("Error saving medical record: " + e.getMessage());
-            return false;
-        }
+        });
     }
     
     // ========== DELETE OPERATIONS (CRUD - Delete) ==========
@@ -562,71 +269,9 @@ public class DataManager {
      * @return true if successful, false otherwise
      */
     public static boolean deleteStudent(String studentID) {
-        if (studentID == null || studentID.trim().isEmpty()) {
-            return false;
-        }
-        
-        try {
-            boolean deletedFromDB = false;
-            boolean deletedFromCreds = false;
-            
-            // Delete from Database.txt
-            File dbFile = getDatabaseFile();
-            if (dbFile.exists()) {
-                java.util.List<String> lines = new java.util.ArrayList<>();
-                try (BufferedReader reader = new BufferedReader(new FileReader(dbFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.trim().isEmpty()) continue;
-                        String[] parts = line.split(",", -1);
-                        if (parts.length > 0 && !parts[0].equals(studentID)) {
-                            lines.add(line);
-                        } else if (parts.length > 0 && parts[0].equals(studentID)) {
-                            deletedFromDB = true;
-                        }
-                    }
-                }
-                
-                // Write back to file
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(dbFile))) {
-                    for (String line : lines) {
-                        writer.write(line);
-                        writer.newLine();
-                    }
-                }
-            }
-            
-            // Delete from UserPasswordID.txt
-            File credsFile = getUserPasswordFile();
-            if (credsFile.exists()) {
-                java.util.List<String> lines = new java.util.ArrayList<>();
-                try (BufferedReader reader = new BufferedReader(new FileReader(credsFile))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (line.trim().isEmpty()) continue;
-                        if (!line.contains("ID: " + studentID)) {
-                            lines.add(line);
-                        } else {
-                            deletedFromCreds = true;
-                        }
-                    }
-                }
-                
-                // Write back to file
-                try (BufferedWriter writer = new BufferedWriter(new FileWriter(credsFile))) {
-                    for (String line : lines) {
-                        writer.write(line);
-                        writer.newLine();
-                    }
-                }
-            }
-            
-            return deletedFromDB || deletedFromCreds;
-            
-        } catch (IOException e) {
-            System.err.println("Error deleting student: " + e.getMessage());
-            return false;
-        }
+        return Metrics.time("DataManager.deleteStudent", () -> {
+            return StudentRepository.deleteStudent(studentID);
+        });
     }
     
     /**
@@ -636,18 +281,20 @@ public class DataManager {
      * @return true if successful, false otherwise
      */
     public static boolean deleteMenuItem(MyDoublyLinkedList<MenuItem> menu, String menuItemName) {
-        if (menu == null || menuItemName == null || menuItemName.trim().isEmpty()) {
-            return false;
-        }
-        
-        for (int i = 0; i < menu.size(); i++) {
-            MenuItem item = menu.get(i);
-            if (item.getName().equals(menuItemName)) {
-                menu.remove(i);
-                return true;
+        return Metrics.time("DataManager.deleteMenuItem", () -> {
+            if (menu == null || menuItemName == null || menuItemName.trim().isEmpty()) {
+                return false;
             }
-        }
-        return false;
+            
+            for (int i = 0; i < menu.size(); i++) {
+                MenuItem item = menu.get(i);
+                if (item.getName().equals(menuItemName)) {
+                    menu.remove(i);
+                    return true;
+                }
+            }
+            return false;
+        });
     }
     
     /**
@@ -658,17 +305,19 @@ public class DataManager {
      * @return true if successful, false otherwise
      */
     public static boolean deleteSubMenuItem(MyDoublyLinkedList<MenuItem> menu, String menuItemName, String subItemName) {
-        if (menu == null || menuItemName == null || subItemName == null) {
-            return false;
-        }
-        
-        for (int i = 0; i < menu.size(); i++) {
-            MenuItem item = menu.get(i);
-            if (item.getName().equals(menuItemName)) {
-                return item.removeSubItem(subItemName);
+        return Metrics.time("DataManager.deleteSubMenuItem", () -> {
+            if (menu == null || menuItemName == null || subItemName == null) {
+                return false;
             }
-        }
-        return false;
+            
+            for (int i = 0; i < menu.size(); i++) {
+                MenuItem item = menu.get(i);
+                if (item.getName().equals(menuItemName)) {
+                    return item.removeSubItem(subItemName);
+                }
+            }
+            return false;
+        });
     }
     
     /**
@@ -681,23 +330,25 @@ public class DataManager {
      */
     public static boolean deleteSubSubMenuItem(MyDoublyLinkedList<MenuItem> menu, String menuItemName, 
                                              String subItemName, String subSubItemName) {
-        if (menu == null || menuItemName == null || subItemName == null || subSubItemName == null) {
-            return false;
-        }
-        
-        for (int i = 0; i < menu.size(); i++) {
-            MenuItem item = menu.get(i);
-            if (item.getName().equals(menuItemName)) {
-                MySinglyLinkedList<SubMenuItem> subItems = item.getSubItems();
-                for (int j = 0; j < subItems.size(); j++) {
-                    SubMenuItem subItem = subItems.get(j);
-                    if (subItem.getName().equals(subItemName)) {
-                        return subItem.removeSubSubItem(subSubItemName);
+        return Metrics.time("DataManager.deleteSubSubMenuItem", () -> {
+            if (menu == null || menuItemName == null || subItemName == null || subSubItemName == null) {
+                return false;
+            }
+            
+            for (int i = 0; i < menu.size(); i++) {
+                MenuItem item = menu.get(i);
+                if (item.getName().equals(menuItemName)) {
+                    MySinglyLinkedList<SubMenuItem> subItems = item.getSubItems();
+                    for (int j = 0; j < subItems.size(); j++) {
+                        SubMenuItem subItem = subItems.get(j);
+                        if (subItem.getName().equals(subItemName)) {
+                            return subItem.removeSubSubItem(subSubItemName);
+                        }
                     }
                 }
             }
-        }
-        return false;
+            return false;
+        });
     }
 }
 
@@ -408,15 +408,7 @@ public class DataValidator {
         if (status == null || status.trim().isEmpty()) {
             result.addError("Attendance status cannot be null or empty");
         } else {
-            String[] validStatuses = {"Present", "Absent", "Late", "Excused"};
-            boolean validStatus = false;
-            for (String valid : validStatuses) {
-                if (valid.equalsIgnoreCase(status.trim())) {
-                    validStatus = true;
-                    break;
-                }
-            }
-            if (!validStatus) {
+            if (AttendanceStatus.parse(status) == null) {
                 result.addError("Invalid attendance status: " + status);
             }
         }
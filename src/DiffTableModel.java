@@ -0,0 +1,242 @@
+import java.util.*;
+import java.util.function.Function;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * DiffTableModel - Read-only table model that is refreshed by diffing against the new rows
+ * Features:
+ * - setRows(...) compares the new rows with the current ones by key and fires only
+ *   fireTableRowsUpdated / Inserted / Deleted for the rows that changed, so the table
+ *   keeps its selection and scroll position and repaints only what changed
+ * - Rows are matched by their key columns or a key function (the whole row when no key
+ *   columns are given); repeated keys are matched in order of appearance
+ * - Unchanged rows cost one Arrays.equals; an unchanged table fires no events at all
+ *
+ * Must be used on the Event Dispatch Thread, like any Swing model.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class DiffTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private final String[] columnNames;
+    private final Function<Object[], ?> keyFunction;
+    private final List<Object[]> rows = new ArrayList<>();
+    private final List<RowKey> keys = new ArrayList<>();
+
+    /**
+     * Key of a row: its key value plus how many earlier rows had the same key value
+     */
+    private static final class RowKey {
+        private final Object value;
+        private final int occurrence;
+
+        RowKey(Object value, int occurrence) {
+            this.value = value;
+            this.occurrence = occurrence;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RowKey)) return false;
+            RowKey other = (RowKey) o;
+            return occurrence == other.occurrence && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value) * 31 + occurrence;
+        }
+    }
+
+    /**
+     * @param columnNames Column headers
+     * @param keyColumns Columns that identify a row across refreshes (e.g. the class code)
+     */
+    public DiffTableModel(String[] columnNames, int... keyColumns) {
+        this(columnNames, keyColumnsFunction(keyColumns.clone()));
+    }
+
+    /**
+     * @param columnNames Column headers
+     * @param keyFunction Value that identifies a row across refreshes
+     */
+    public DiffTableModel(String[] columnNames, Function<Object[], ?> keyFunction) {
+        this.columnNames = columnNames.clone();
+        this.keyFunction = keyFunction;
+    }
+
+    private static Function<Object[], ?> keyColumnsFunction(int[] keyColumns) {
+        if (keyColumns.length == 0) {
+            return row -> Arrays.asList(row.clone());
+        }
+        return row -> {
+            Object[] keyValues = new Object[keyColumns.length];
+            for (int k = 0; k < keyColumns.length; k++) {
+                keyValues[k] = keyColumns[k] < row.length ? row[keyColumns[k]] : null;
+            }
+            return Arrays.asList(keyValues);
+        };
+    }
+
+    // ========== TABLE MODEL ==========
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Object[] values = rows.get(row);
+        return column < values.length ? values[column] : null;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    public Object[] getRow(int row) {
+        return rows.get(row).clone();
+    }
+
+    // ========== UPDATES ==========
+
+    /**
+     * Append one row
+     */
+    public void addRow(Object[] row) {
+        List<RowKey> newKeys = keysOf(Collections.singletonList(row), occurrencesOf(keys));
+        rows.add(row.clone());
+        keys.add(newKeys.get(0));
+        fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+    }
+
+    /**
+     * Replace the contents with the given rows, firing events only for rows that changed
+     * @return The number of rows updated, inserted, deleted or moved
+     */
+    public int setRows(List<Object[]> newRows) {
+        List<RowKey> newKeys = keysOf(newRows, new HashMap<>());
+        Set<RowKey> wanted = new HashSet<>(newKeys);
+        int changes = 0;
+
+        // 1. Delete rows that are gone, from the bottom up so indexes stay valid
+        int end = -1;
+        for (int i = rows.size() - 1; i >= -1; i--) {
+            boolean gone = i >= 0 && !wanted.contains(keys.get(i));
+            if (gone && end < 0) {
+                end = i;
+            } else if (!gone && end >= 0) {
+                rows.subList(i + 1, end + 1).clear();
+                keys.subList(i + 1, end + 1).clear();
+                fireTableRowsDeleted(i + 1, end);
+                changes += end - i;
+                end = -1;
+            }
+        }
+
+        // 2. Walk the new rows: update in place, move, or insert
+        Set<RowKey> unsettled = new HashSet<>(keys);
+        int updateStart = -1;
+        int insertStart = -1;
+        for (int i = 0; i < newRows.size(); i++) {
+            Object[] newRow = newRows.get(i).clone();
+            RowKey key = newKeys.get(i);
+
+            if (i < keys.size() && keys.get(i).equals(key)) {
+                insertStart = flushInserts(insertStart, i);
+                unsettled.remove(key);
+                if (!Arrays.equals(rows.get(i), newRow)) {
+                    rows.set(i, newRow);
+                    changes++;
+                    if (updateStart < 0) updateStart = i;
+                } else {
+                    updateStart = flushUpdates(updateStart, i);
+                }
+                continue;
+            }
+
+            updateStart = flushUpdates(updateStart, i);
+            if (unsettled.remove(key)) {
+                // Moved: the row is further down, everything above i is settled
+                insertStart = flushInserts(insertStart, i);
+                int from = keys.indexOf(key);
+                rows.remove(from);
+                keys.remove(from);
+                fireTableRowsDeleted(from, from);
+                rows.add(i, newRow);
+                keys.add(i, key);
+                fireTableRowsInserted(i, i);
+            } else {
+                rows.add(i, newRow);
+                keys.add(i, key);
+                if (insertStart < 0) insertStart = i;
+            }
+            changes++;
+        }
+        flushUpdates(updateStart, newRows.size());
+        flushInserts(insertStart, newRows.size());
+
+        // 3. Anything left over (only possible with inconsistent keys)
+        if (rows.size() > newRows.size()) {
+            int oldSize = rows.size();
+            rows.subList(newRows.size(), oldSize).clear();
+            keys.subList(newRows.size(), oldSize).clear();
+            fireTableRowsDeleted(newRows.size(), oldSize - 1);
+            changes += oldSize - newRows.size();
+        }
+        return changes;
+    }
+
+    /**
+     * Fire one update event for the run of changed rows ending before index end
+     */
+    private int flushUpdates(int start, int end) {
+        if (start >= 0) {
+            fireTableRowsUpdated(start, end - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Fire one insert event for the run of new rows ending before index end
+     */
+    private int flushInserts(int start, int end) {
+        if (start >= 0) {
+            fireTableRowsInserted(start, end - 1);
+        }
+        return -1;
+    }
+
+    private List<RowKey> keysOf(List<Object[]> newRows, Map<Object, Integer> occurrences) {
+        List<RowKey> result = new ArrayList<>(newRows.size());
+        for (Object[] row : newRows) {
+            Object value = keyFunction.apply(row);
+            int occurrence = occurrences.merge(value, 1, Integer::sum) - 1;
+            result.add(new RowKey(value, occurrence));
+        }
+        return result;
+    }
+
+    private static Map<Object, Integer> occurrencesOf(List<RowKey> existing) {
+        Map<Object, Integer> occurrences = new HashMap<>();
+        for (RowKey key : existing) {
+            occurrences.merge(key.value, 1, Integer::sum);
+        }
+        return occurrences;
+    }
+}
@@ -0,0 +1,114 @@
+import java.awt.EventQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EdtWatchdog - Samples how responsive the Swing Event Dispatch Thread is
+ * Features:
+ * - Every sample period a tiny heartbeat task is posted to the EDT; the time until it runs
+ *   is recorded in the "EDT.latency" timer
+ * - A heartbeat that waits longer than the stall threshold counts as a stall ("EDT.stalls"
+ *   counter, "EDT.stall" timer) and the EDT's stack at that moment is written to the metrics
+ *   log, showing what was blocking it
+ * - Modal dialogs do not trigger it, because the EDT keeps running heartbeats while they are open
+ *
+ * Started and stopped by Metrics.setEnabled(...).
+ * Properties: -Dislu.edt.sampleMillis=100, -Dislu.edt.stallMillis=200
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class EdtWatchdog {
+
+    private static final long SAMPLE_MS = Long.getLong("islu.edt.sampleMillis", 100);
+    private static final long STALL_MS = Long.getLong("islu.edt.stallMillis", 200);
+    private static final int STACK_DEPTH = 25;
+
+    private static Thread sampler;
+    private static volatile Thread edt; // Captured by the first heartbeat
+
+    private EdtWatchdog() {
+    }
+
+    public static synchronized void start() {
+        if (sampler != null || SAMPLE_MS <= 0) return;
+        sampler = new Thread(EdtWatchdog::sample, "EdtWatchdog");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    public static synchronized void stop() {
+        if (sampler != null) {
+            sampler.interrupt();
+            sampler = null;
+        }
+    }
+
+    private static void sample() {
+        long stallNanos = TimeUnit.MILLISECONDS.toNanos(STALL_MS);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long posted = System.nanoTime();
+                Heartbeat heartbeat = new Heartbeat(posted);
+                EventQueue.invokeLater(heartbeat);
+
+                // Wait for the heartbeat; dump the EDT stack once if it is overdue
+                boolean reported = false;
+                synchronized (heartbeat) {
+                    while (!heartbeat.ran) {
+                        long waited = System.nanoTime() - posted;
+                        if (!reported && waited >= stallNanos) {
+                            reportStall(waited);
+                            reported = true;
+                        }
+                        long remaining = reported ? SAMPLE_MS : TimeUnit.NANOSECONDS.toMillis(stallNanos - waited) + 1;
+                        heartbeat.wait(Math.max(1, remaining));
+                    }
+                }
+
+                long latency = heartbeat.ranAt - posted;
+                Metrics.timer("EDT.latency").record(latency);
+                if (latency >= stallNanos) {
+                    Metrics.increment("EDT.stalls");
+                    Metrics.timer("EDT.stall").record(latency);
+                }
+                Thread.sleep(SAMPLE_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void reportStall(long waitedNanos) {
+        Thread dispatchThread = edt;
+        StringBuilder entry = new StringBuilder();
+        entry.append(String.format("EDT stall: heartbeat waiting %d ms", TimeUnit.NANOSECONDS.toMillis(waitedNanos)));
+        if (dispatchThread != null) {
+            StackTraceElement[] stack = dispatchThread.getStackTrace();
+            for (int i = 0; i < Math.min(STACK_DEPTH, stack.length); i++) {
+                entry.append("\n    at ").append(stack[i]);
+            }
+            if (stack.length > STACK_DEPTH) {
+                entry.append("\n    ... ").append(stack.length - STACK_DEPTH).append(" more");
+            }
+        }
+        Metrics.log(entry.toString());
+    }
+
+    private static final class Heartbeat implements Runnable {
+        private final long postedAt;
+        private boolean ran = false;
+        private long ranAt;
+
+        Heartbeat(long postedAt) {
+            this.postedAt = postedAt;
+        }
+
+        @Override
+        public synchronized void run() {
+            edt = Thread.currentThread();
+            ranAt = System.nanoTime();
+            ran = true;
+            notifyAll();
+        }
+    }
+}
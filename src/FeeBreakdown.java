@@ -3,13 +3,14 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Represents a single fee or charge in the student's account
+ * Amounts are kept in centavos (see Money); the double getters and setters convert at the edge.
  */
 public class FeeBreakdown {
     private String code;
     private String description;
-    private double amount;
-    private double amountPaid;
-    private double balance;
+    private long amount;
+    private long amountPaid;
+    private long balance;
     private FeeType type;
     private LocalDate datePosted;
     private boolean isPaid;
@@ -21,9 +22,9 @@ public class FeeBreakdown {
     public FeeBreakdown(String code, String description, double amount, FeeType type, LocalDate datePosted) {
         this.code = code;
         this.description = description;
-        this.amount = amount;
-        this.amountPaid = 0.0;
-        this.balance = amount;
+        this.amount = Money.ofPesos(amount);
+        this.amountPaid = Money.ZERO;
+        this.balance = this.amount;
         this.type = type;
         this.datePosted = datePosted;
         this.isPaid = false;
@@ -38,17 +39,23 @@ public class FeeBreakdown {
         this.remarks = remarks;
     }
 
+    /**
+     * Copy of this fee with nothing paid, for a statement to apply its own payments to
+     */
+    public FeeBreakdown copy() {
+        FeeBreakdown copy = new FeeBreakdown(code, description, 0.0, type, datePosted, remarks);
+        copy.amount = amount;
+        copy.balance = amount;
+        return copy;
+    }
+
     /**
      * Formats the fee for display in a table
      */
     public Object[] toTableRow() {
         String dateStr = datePosted != null ?
                 datePosted.format(DateTimeFormatter.ofPattern("MM/dd/yyyy")) : "";
-        String amountStr = amount >= 0 ?
-                String.format("P %,.2f", amount) :
-                String.format("(P %,.2f)", Math.abs(amount));
-
-        return new Object[]{dateStr, description, amountStr};
+        return new Object[]{dateStr, description, formatAmount()};
     }
 
     /**
@@ -71,11 +78,9 @@ public class FeeBreakdown {
         if (isPaid) {
             amountStr = "P 0.00";
         } else if (isPartiallyPaid) {
-            amountStr = String.format("P %,.2f", balance);
+            amountStr = Money.format(balance);
         } else {
-            amountStr = amount >= 0 ?
-                    String.format("P %,.2f", amount) :
-                    String.format("(P %,.2f)", Math.abs(amount));
+            amountStr = formatAmount();
         }
 
         String statusStr = "";
@@ -96,6 +101,13 @@ public class FeeBreakdown {
      * Apply payment to this fee
      */
     public void applyPayment(double paymentAmount) {
+        applyPaymentCentavos(Money.ofPesos(paymentAmount));
+    }
+
+    /**
+     * Apply payment to this fee, in centavos
+     */
+    public void applyPaymentCentavos(long paymentAmount) {
         if (paymentAmount <= 0) return;
 
         amountPaid += paymentAmount;
@@ -117,12 +129,14 @@ public class FeeBreakdown {
     public String toFormattedString() {
         String dateStr = datePosted != null ?
                 datePosted.format(DateTimeFormatter.ofPattern("MM/dd/yyyy")) : "";
-        String amountStr = amount >= 0 ?
-                String.format("P %,.2f", amount) :
-                String.format("(P %,.2f)", Math.abs(amount));
+        return code + " | " + dateStr + " | " + description + " | " + formatAmount();
+    }
 
-        return String.format("%s | %s | %s | %s",
-                code, dateStr, description, amountStr);
+    /**
+     * Amount for display: "P 1,500.00", or "(P 1,500.00)" for discounts
+     */
+    private String formatAmount() {
+        return amount >= 0 ? Money.format(amount) : "(" + Money.format(-amount) + ")";
     }
 
     /**
@@ -135,14 +149,17 @@ public class FeeBreakdown {
         }
 
         try {
-            String code = parts[0].trim();
-            String description = parts[1].trim();
-            double amount = Double.parseDouble(parts[2].trim());
+            String code = SymbolTable.intern(parts[0].trim());
+            String description = SymbolTable.intern(parts[1].trim());
+            long amount = Money.parse(parts[2]);
             FeeType type = FeeType.valueOf(parts[3].trim());
             LocalDate date = LocalDate.parse(parts[4].trim());
             String remarks = parts.length > 5 ? parts[5].trim() : "";
 
-            return new FeeBreakdown(code, description, amount, type, date, remarks);
+            FeeBreakdown fee = new FeeBreakdown(code, description, 0.0, type, date, remarks);
+            fee.amount = amount;
+            fee.balance = amount;
+            return fee;
         } catch (Exception e) {
             return null;
         }
@@ -152,9 +169,9 @@ public class FeeBreakdown {
      * Converts the fee to CSV format for storage
      */
     public String toCSV() {
-        return String.format("%s,%s,%.2f,%s,%s,%s",
-                code, description, amount, type.name(),
-                datePosted.toString(), remarks);
+        StringBuilder csv = new StringBuilder(64).append(code).append(',').append(description).append(',');
+        return Money.append(csv, amount, false).append(',').append(type.name()).append(',')
+                .append(datePosted).append(',').append(remarks).toString();
     }
 
     // Getters and Setters
@@ -164,8 +181,9 @@ public class FeeBreakdown {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
-    public double getAmount() { return amount; }
-    public void setAmount(double amount) { this.amount = amount; }
+    public double getAmount() { return Money.toPesos(amount); }
+    public void setAmount(double amount) { this.amount = Money.ofPesos(amount); }
+    public long getAmountCentavos() { return amount; }
 
     public FeeType getType() { return type; }
     public void setType(FeeType type) { this.type = type; }
@@ -179,11 +197,13 @@ public class FeeBreakdown {
     public boolean isPartiallyPaid() { return isPartiallyPaid; }
     public void setPartiallyPaid(boolean partiallyPaid) { isPartiallyPaid = partiallyPaid; }
 
-    public double getAmountPaid() { return amountPaid; }
-    public void setAmountPaid(double amountPaid) { this.amountPaid = amountPaid; }
+    public double getAmountPaid() { return Money.toPesos(amountPaid); }
+    public void setAmountPaid(double amountPaid) { this.amountPaid = Money.ofPesos(amountPaid); }
+    public long getAmountPaidCentavos() { return amountPaid; }
 
-    public double getBalance() { return balance; }
-    public void setBalance(double balance) { this.balance = balance; }
+    public double getBalance() { return Money.toPesos(balance); }
+    public void setBalance(double balance) { this.balance = Money.ofPesos(balance); }
+    public long getBalanceCentavos() { return balance; }
 
     public PaymentStatus getPaymentStatus() { return paymentStatus; }
     public void setPaymentStatus(PaymentStatus paymentStatus) { this.paymentStatus = paymentStatus; }
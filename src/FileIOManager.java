@@ -3,258 +3,305 @@ import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Optimized File I/O Manager for efficient batch operations and buffered reading/writing
  * Features:
  * - Buffered I/O operations for better performance
  * - Batch operations to reduce file system calls
- * - Thread-safe operations with read-write locks
+ * - Thread-safe operations with per-file striped locks: independent files never block each other
+ * - Optimistic (StampedLock) reads that only take the read lock if a write overlapped them
+ * - Optional inter-process FileChannel locks for writers (-Dislu.fileio.processlock=true)
  * - Atomic file operations to prevent data corruption
  * - Memory-efficient streaming for large files
+ * - Memory-mapped, zero-copy line scanning (MappedLineScanner) behind readAndProcess and searchInFile
  * - Automatic backup creation before modifications
  */
 public class FileIOManager {
 
     private static final int BUFFER_SIZE = 8192; // 8KB buffer
     private static final String BACKUP_SUFFIX = ".backup";
-    private static final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final String LOCK_SUFFIX = ".lock";
+    public static final String PROCESS_LOCK_PROPERTY = "islu.fileio.processlock";
+
+    // Lock striping: each file maps to one of LOCK_STRIPES locks by its canonical path
+    private static final int LOCK_STRIPES = 64; // Power of two
+    private static final StampedLock[] locks = new StampedLock[LOCK_STRIPES];
+    private static final Map<String, Integer> stripeIndexCache = new ConcurrentHashMap<>();
+    private static volatile boolean interProcessLocking = Boolean.getBoolean(PROCESS_LOCK_PROPERTY);
+
+    static {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new StampedLock();
+        }
+    }
 
     /**
      * Read all lines from a file with buffered I/O - Thread-safe
      */
     public static List<String> readAllLines(File file) throws IOException {
-        lock.readLock().lock();
-        try {
-            if (!file.exists()) {
-                return new ArrayList<>();
-            }
+        return Metrics.time("FileIOManager.readAllLines", () -> {
+            return optimisticRead(file, () -> readAllLinesUnlocked(file));
+        });
+    }
 
-            List<String> lines = new ArrayList<>();
-            try (BufferedReader reader = new BufferedReader(
-                    new FileReader(file, StandardCharsets.UTF_8), BUFFER_SIZE)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    lines.add(line);
-                }
+    private static List<String> readAllLinesUnlocked(File file) throws IOException {
+        if (!file.exists()) {
+            return new ArrayList<>();
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new FileReader(file, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
             }
-            return lines;
-        } finally {
-            lock.readLock().unlock();
         }
+        return lines;
     }
 
     /**
      * Read file with custom line processor to handle large files efficiently
+     * Each line is still handed over as a String; use scanAndProcess to avoid that
      */
     public static <T> List<T> readAndProcess(File file, LineProcessor<T> processor) throws IOException {
-        lock.readLock().lock();
-        try {
-            if (!file.exists()) {
-                return new ArrayList<>();
-            }
+        return Metrics.time("FileIOManager.readAndProcess", () -> {
+            return scanAndProcess(file, (line, lineNumber) -> processor.processLine(line.toString(), lineNumber));
+        });
+    }
 
-            List<T> results = new ArrayList<>();
-            try (BufferedReader reader = new BufferedReader(
-                    new FileReader(file, StandardCharsets.UTF_8), BUFFER_SIZE)) {
-                String line;
-                int lineNumber = 0;
-                while ((line = reader.readLine()) != null) {
-                    T result = processor.processLine(line, lineNumber++);
+    /**
+     * Memory-mapped scan that hands each line over in place - no String per line
+     * The processor decodes only the fields it needs (line.field / line.fieldEquals)
+     * and must not keep the line itself
+     * Runs under the read lock (not optimistically) so the processor sees every line exactly once
+     */
+    public static <T> List<T> scanAndProcess(File file, MappedLineProcessor<T> processor) throws IOException {
+        return Metrics.time("FileIOManager.scanAndProcess", () -> {
+            StampedLock lock = lockFor(file);
+            long stamp = lock.readLock();
+            try {
+                List<T> results = new ArrayList<>();
+                MappedLineScanner.scan(file, (line, lineNumber) -> {
+                    T result = processor.processLine(line, lineNumber);
                     if (result != null) {
                         results.add(result);
                     }
-                }
+                    return true;
+                });
+                return results;
+            } finally {
+                lock.unlockRead(stamp);
             }
-            return results;
-        } finally {
-            lock.readLock().unlock();
-        }
+        });
     }
 
     /**
      * Write all lines to file with atomic operation and backup
      */
     public static void writeAllLines(File file, List<String> lines) throws IOException {
-        lock.writeLock().lock();
-        try {
-            // Create backup if file exists
-            if (file.exists()) {
-                createBackup(file);
-            }
-
-            // Create parent directories if they don't exist
-            File parent = file.getParentFile();
-            if (parent != null && !parent.exists()) {
-                parent.mkdirs();
-            }
+        Metrics.time("FileIOManager.writeAllLines", () -> {
+            withWriteLock(file, () -> writeAllLinesUnlocked(file, lines));
+        });
+    }
 
-            // Write to temporary file first for atomic operation
-            File tempFile = new File(file.getAbsolutePath() + ".tmp");
+    private static Void writeAllLinesUnlocked(File file, List<String> lines) throws IOException {
+        // Create backup if file exists
+        if (file.exists()) {
+            createBackup(file);
+        }
 
-            try (BufferedWriter writer = new BufferedWriter(
-                    new FileWriter(tempFile, StandardCharsets.UTF_8), BUFFER_SIZE)) {
-                for (String line : lines) {
-                    writer.write(line);
-                    writer.newLine();
-                }
-                writer.flush();
-            }
+        // Create parent directories if they don't exist
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
 
-            // Atomic move from temp to actual file
-            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        // Write to temporary file first for atomic operation
+        File tempFile = new File(file.getAbsolutePath() + ".tmp");
 
-        } finally {
-            lock.writeLock().unlock();
+        try (BufferedWriter writer = new BufferedWriter(
+                new FileWriter(tempFile, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.flush();
         }
+
+        // Atomic move from temp to actual file
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return null;
     }
 
     /**
      * Append lines to file efficiently
      */
     public static void appendLines(File file, List<String> lines) throws IOException {
-        lock.writeLock().lock();
-        try {
-            // Create parent directories if they don't exist
-            File parent = file.getParentFile();
-            if (parent != null && !parent.exists()) {
-                parent.mkdirs();
-            }
+        Metrics.time("FileIOManager.appendLines", () -> {
+            withWriteLock(file, () -> {
+                // Create parent directories if they don't exist
+                File parent = file.getParentFile();
+                if (parent != null && !parent.exists()) {
+                    parent.mkdirs();
+                }
 
-            try (BufferedWriter writer = new BufferedWriter(
-                    new FileWriter(file, StandardCharsets.UTF_8, true), BUFFER_SIZE)) {
-                for (String line : lines) {
-                    writer.write(line);
-                    writer.newLine();
+                try (BufferedWriter writer = new BufferedWriter(
+                        new FileWriter(file, StandardCharsets.UTF_8, true), BUFFER_SIZE)) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                    writer.flush();
                 }
-                writer.flush();
-            }
-        } finally {
-            lock.writeLock().unlock();
-        }
+                return null;
+            });
+        });
     }
 
     /**
      * Append single line to file
      */
     public static void appendLine(File file, String line) throws IOException {
-        appendLines(file, Collections.singletonList(line));
+        Metrics.time("FileIOManager.appendLine", () -> {
+            appendLines(file, Collections.singletonList(line));
+        });
     }
 
     /**
      * Update specific lines in a file based on a condition
      */
     public static boolean updateLines(File file, LineUpdater updater) throws IOException {
-        lock.writeLock().lock();
-        try {
-            if (!file.exists()) {
-                return false;
-            }
+        return Metrics.time("FileIOManager.updateLines", () -> {
+            return withWriteLock(file, () -> {
+                if (!file.exists()) {
+                    return false;
+                }
 
-            List<String> lines = readAllLines(file);
-            boolean modified = false;
+                List<String> lines = readAllLinesUnlocked(file);
+                boolean modified = false;
 
-            for (int i = 0; i < lines.size(); i++) {
-                String originalLine = lines.get(i);
-                String updatedLine = updater.updateLine(originalLine, i);
-                if (!originalLine.equals(updatedLine)) {
-                    lines.set(i, updatedLine);
-                    modified = true;
+                for (int i = 0; i < lines.size(); i++) {
+                    String originalLine = lines.get(i);
+                    String updatedLine = updater.updateLine(originalLine, i);
+                    if (!originalLine.equals(updatedLine)) {
+                        lines.set(i, updatedLine);
+                        modified = true;
+                    }
                 }
-            }
 
-            if (modified) {
-                writeAllLines(file, lines);
-            }
+                if (modified) {
+                    writeAllLinesUnlocked(file, lines);
+                }
 
-            return modified;
-        } finally {
-            lock.writeLock().unlock();
-        }
+                return modified;
+            });
+        });
     }
 
     /**
      * Batch update multiple files atomically
+     * Locks every affected stripe (in index order, so two batches cannot deadlock) before writing
      */
     public static void batchUpdate(Map<File, List<String>> fileUpdates) throws IOException {
-        lock.writeLock().lock();
-        try {
-            // Create backups for all files first
+        Metrics.time("FileIOManager.batchUpdate", () -> {
+            TreeSet<Integer> stripes = new TreeSet<>();
             for (File file : fileUpdates.keySet()) {
-                if (file.exists()) {
-                    createBackup(file);
-                }
+                stripes.add(stripeIndex(file));
             }
 
-            // Perform all updates
-            for (Map.Entry<File, List<String>> entry : fileUpdates.entrySet()) {
-                writeAllLines(entry.getKey(), entry.getValue());
+            List<Integer> lockedStripes = new ArrayList<>();
+            List<Long> stamps = new ArrayList<>();
+            List<FileChannel> processLocks = new ArrayList<>();
+            try {
+                for (int stripe : stripes) {
+                    stamps.add(locks[stripe].writeLock());
+                    lockedStripes.add(stripe);
+                }
+
+                // Process locks in path order for the same reason
+                TreeMap<String, File> byPath = new TreeMap<>();
+                for (File file : fileUpdates.keySet()) {
+                    byPath.put(file.getAbsolutePath(), file);
+                }
+                for (File file : byPath.values()) {
+                    FileChannel processLock = acquireProcessLock(file);
+                    if (processLock != null) {
+                        processLocks.add(processLock);
+                    }
+                }
+
+                // Create backups for all files first
+                for (File file : fileUpdates.keySet()) {
+                    if (file.exists()) {
+                        createBackup(file);
+                    }
+                }
+
+                // Perform all updates
+                for (Map.Entry<File, List<String>> entry : fileUpdates.entrySet()) {
+                    writeAllLinesUnlocked(entry.getKey(), entry.getValue());
+                }
+            } finally {
+                for (FileChannel processLock : processLocks) {
+                    processLock.close();
+                }
+                for (int i = lockedStripes.size() - 1; i >= 0; i--) {
+                    locks[lockedStripes.get(i)].unlockWrite(stamps.get(i));
+                }
             }
-        } finally {
-            lock.writeLock().unlock();
-        }
+        });
     }
 
     /**
      * Search for lines matching a pattern
      */
     public static List<SearchResult> searchInFile(File file, String pattern, boolean caseSensitive) throws IOException {
-        lock.readLock().lock();
-        try {
-            List<SearchResult> results = new ArrayList<>();
-            if (!file.exists()) {
-                return results;
-            }
-
-            String searchPattern = caseSensitive ? pattern : pattern.toLowerCase();
-
-            try (BufferedReader reader = new BufferedReader(
-                    new FileReader(file, StandardCharsets.UTF_8), BUFFER_SIZE)) {
-                String line;
-                int lineNumber = 0;
-                while ((line = reader.readLine()) != null) {
-                    String searchLine = caseSensitive ? line : line.toLowerCase();
-                    if (searchLine.contains(searchPattern)) {
-                        results.add(new SearchResult(lineNumber, line));
+        return Metrics.time("FileIOManager.searchInFile", () -> {
+            return optimisticRead(file, () -> {
+                List<SearchResult> results = new ArrayList<>();
+
+                // Lines are matched in place; only matching lines become Strings
+                MappedLineScanner.scan(file, (line, lineNumber) -> {
+                    if (line.contains(pattern, caseSensitive)) {
+                        results.add(new SearchResult(lineNumber, line.toString()));
                     }
-                    lineNumber++;
-                }
-            }
-            return results;
-        } finally {
-            lock.readLock().unlock();
-        }
+                    return true;
+                });
+                return results;
+            });
+        });
     }
 
     /**
      * Get file statistics
      */
     public static FileStats getFileStats(File file) throws IOException {
-        lock.readLock().lock();
-        try {
-            if (!file.exists()) {
-                return new FileStats(0, 0, 0);
-            }
+        return Metrics.time("FileIOManager.getFileStats", () -> {
+            return optimisticRead(file, () -> {
+                if (!file.exists()) {
+                    return new FileStats(0, 0, 0);
+                }
 
-            long size = file.length();
-            int lineCount = 0;
-            int wordCount = 0;
+                long size = file.length();
+                int lineCount = 0;
+                int wordCount = 0;
 
-            try (BufferedReader reader = new BufferedReader(
-                    new FileReader(file, StandardCharsets.UTF_8), BUFFER_SIZE)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    lineCount++;
-                    wordCount += line.split("\\s+").length;
+                try (BufferedReader reader = new BufferedReader(
+                        new FileReader(file, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        lineCount++;
+                        wordCount += line.split("\\s+").length;
+                    }
                 }
-            }
 
-            return new FileStats(size, lineCount, wordCount);
-        } finally {
-            lock.readLock().unlock();
-        }
+                return new FileStats(size, lineCount, wordCount);
+            });
+        });
     }
 
     /**
@@ -271,26 +318,138 @@ public class FileIOManager {
      * Restore file from backup
      */
     public static boolean restoreFromBackup(File file) throws IOException {
-        lock.writeLock().lock();
-        try {
+        return Metrics.time("FileIOManager.restoreFromBackup", () -> {
+            return withWriteLock(file, () -> {
+                File backupFile = new File(file.getAbsolutePath() + BACKUP_SUFFIX);
+                if (!backupFile.exists()) {
+                    return false;
+                }
+
+                Files.copy(backupFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                return true;
+            });
+        });
+    }
+
+    /**
+     * Delete backup file
+     */
+    public static boolean deleteBackup(File file) {
+        return Metrics.time("FileIOManager.deleteBackup", () -> {
             File backupFile = new File(file.getAbsolutePath() + BACKUP_SUFFIX);
-            if (!backupFile.exists()) {
-                return false;
+            return backupFile.delete();
+        });
+    }
+
+    // ========== LOCKING ==========
+
+    /**
+     * Enable or disable inter-process locking for writes
+     * Writers then also hold an exclusive FileChannel lock on "<file>.lock", so two portal
+     * processes cannot interleave appends. Readers do not take it: every full rewrite is an
+     * atomic move, so another process always reads a complete file.
+     */
+    public static void setInterProcessLocking(boolean enabled) {
+        interProcessLocking = enabled;
+    }
+
+    public static boolean isInterProcessLocking() {
+        return interProcessLocking;
+    }
+
+    /**
+     * Stripe of a file, derived from its canonical path so different spellings of one path share a lock
+     */
+    private static int stripeIndex(File file) {
+        return stripeIndexCache.computeIfAbsent(file.getAbsolutePath(), path -> {
+            String key;
+            try {
+                key = new File(path).getCanonicalPath();
+            } catch (IOException e) {
+                key = path;
+            }
+            int hash = key.hashCode();
+            return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+        });
+    }
+
+    private static StampedLock lockFor(File file) {
+        return locks[stripeIndex(file)];
+    }
+
+    /**
+     * Run a read without locking and keep the result if no write to the stripe overlapped it;
+     * otherwise run it again under the read lock
+     */
+    private static <T> T optimisticRead(File file, FileAction<T> read) throws IOException {
+        StampedLock lock = lockFor(file);
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = read.run();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (IOException | RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e; // A real failure, not a concurrent write
+                }
             }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return read.run();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
 
-            Files.copy(backupFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
-            return true;
+    private static <T> T withWriteLock(File file, FileAction<T> write) throws IOException {
+        StampedLock lock = lockFor(file);
+        long stamp = lock.writeLock();
+        try {
+            FileChannel processLock = acquireProcessLock(file);
+            try {
+                return write.run();
+            } finally {
+                if (processLock != null) {
+                    processLock.close();
+                }
+            }
         } finally {
-            lock.writeLock().unlock();
+            lock.unlockWrite(stamp);
         }
     }
 
     /**
-     * Delete backup file
+     * Exclusive lock on the file's sidecar lock file, or null if inter-process locking is off
+     * Closing the returned channel releases the lock
      */
-    public static boolean deleteBackup(File file) {
-        File backupFile = new File(file.getAbsolutePath() + BACKUP_SUFFIX);
-        return backupFile.delete();
+    private static FileChannel acquireProcessLock(File file) throws IOException {
+        if (!interProcessLocking) {
+            return null;
+        }
+
+        File lockFile = new File(file.getAbsolutePath() + LOCK_SUFFIX);
+        File parent = lockFile.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            channel.lock();
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileAction<T> {
+        T run() throws IOException;
     }
 
     /**
@@ -312,25 +471,27 @@ public class FileIOManager {
      * Safely delete file with retry mechanism
      */
     public static boolean safeDelete(File file, int maxRetries) {
-        if (!file.exists()) {
-            return true;
-        }
-
-        for (int i = 0; i < maxRetries; i++) {
-            if (file.delete()) {
+        return Metrics.time("FileIOManager.safeDelete", () -> {
+            if (!file.exists()) {
                 return true;
             }
 
-            // Wait a bit before retry
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
+            for (int i = 0; i < maxRetries; i++) {
+                if (file.delete()) {
+                    return true;
+                }
+
+                // Wait a bit before retry
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
             }
-        }
 
-        return false;
+            return false;
+        });
     }
 
     /**
@@ -341,6 +502,14 @@ public class FileIOManager {
         T processLine(String line, int lineNumber);
     }
 
+    /**
+     * Interface for processing lines in place during a memory-mapped scan
+     */
+    @FunctionalInterface
+    public interface MappedLineProcessor<T> {
+        T processLine(MappedLineScanner.Line line, int lineNumber);
+    }
+
     /**
      * Interface for updating lines
      */
@@ -394,4 +563,4 @@ public class FileIOManager {
                     sizeInBytes, lineCount, wordCount);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -35,7 +35,7 @@ public class FullNameDemo {
             // Show example data from database
             System.out.println("Step 3: Example Student Data from Database:");
             System.out.println("===========================================");
-            MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+            MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
             
             if (allStudents.size() > 0) {
                 System.out.println("Database Format: ID,LastName,FirstName,MiddleName,DateOfBirth,Password|AdditionalInfo");
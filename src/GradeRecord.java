@@ -1,85 +1,163 @@
 /**
  * Data class to hold grade record information
+ * Records kept by SharedDataManager are views of a row of its shared GradeTable; other
+ * records keep their grades in plain fields.
  */
 public class GradeRecord {
     private String studentID;
     private String subjectCode;
     private String subjectName;
-    private Double prelimGrade;
-    private Double midtermGrade;
-    private Double tentativeFinalGrade;
-    private Double finalGrade;
+    private final GradeTable grades; // null for a standalone record
+    private final int row;
+    // Grades of a standalone record (NaN = no grade)
+    private double prelimGrade = Double.NaN;
+    private double midtermGrade = Double.NaN;
+    private double tentativeFinalGrade = Double.NaN;
+    private double finalGrade = Double.NaN;
     private String semester;
     private String status; // "Ongoing", "Completed"
 
     public GradeRecord(String studentID, String subjectCode, String subjectName,
                        Double prelimGrade, Double midtermGrade, Double tentativeFinalGrade,
                        Double finalGrade, String semester, String status) {
-        this.studentID = studentID;
-        this.subjectCode = subjectCode;
-        this.subjectName = subjectName;
-        this.prelimGrade = prelimGrade;
-        this.midtermGrade = midtermGrade;
-        this.tentativeFinalGrade = tentativeFinalGrade;
-        this.finalGrade = finalGrade;
-        this.semester = semester;
-        this.status = status;
+        this(null, studentID, subjectCode, subjectName, semester, status);
+        setPrelimGrade(prelimGrade);
+        setMidtermGrade(midtermGrade);
+        setTentativeFinalGrade(tentativeFinalGrade);
+        setFinalGrade(finalGrade);
     }
     
     // Constructor for SharedDataManager compatibility
     public GradeRecord(String studentID, String subjectCode, String subjectName,
                        double prelimGrade, double midtermGrade, double finalGrade) {
+        this(null, studentID, subjectCode, subjectName, prelimGrade, midtermGrade, finalGrade);
+    }
+
+    /**
+     * Record whose grades are stored in a new row of the given table (standalone if null)
+     */
+    GradeRecord(GradeTable grades, String studentID, String subjectCode, String subjectName,
+                double prelimGrade, double midtermGrade, double finalGrade) {
+        this(grades, studentID, subjectCode, subjectName, "FIRST SEMESTER, 2025-2026", "Ongoing");
+        store(GradeTable.PRELIM, prelimGrade);
+        store(GradeTable.MIDTERM, midtermGrade);
+        store(GradeTable.TENTATIVE_FINAL, 0.0);
+        store(GradeTable.FINAL, finalGrade);
+    }
+
+    private GradeRecord(GradeTable grades, String studentID, String subjectCode, String subjectName,
+                        String semester, String status) {
         this.studentID = studentID;
         this.subjectCode = subjectCode;
         this.subjectName = subjectName;
-        this.prelimGrade = prelimGrade;
-        this.midtermGrade = midtermGrade;
-        this.tentativeFinalGrade = 0.0;
-        this.finalGrade = finalGrade;
-        this.semester = "FIRST SEMESTER, 2025-2026";
-        this.status = "Ongoing";
+        this.grades = grades;
+        this.row = grades != null ? grades.addRow() : -1;
+        this.semester = semester;
+        this.status = status;
+    }
+
+    /**
+     * Copy of this record stored in a new row of the given table
+     */
+    GradeRecord copyInto(GradeTable table) {
+        GradeRecord copy = new GradeRecord(table, studentID, subjectCode, subjectName, semester, status);
+        copy.copyGradesFrom(this);
+        return copy;
+    }
+
+    /**
+     * Take over the names and grades of another record, keeping this record's row
+     */
+    void updateFrom(GradeRecord other) {
+        this.subjectName = other.subjectName;
+        this.semester = other.semester;
+        this.status = other.status;
+        copyGradesFrom(other);
+    }
+
+    private void copyGradesFrom(GradeRecord other) {
+        for (int column = GradeTable.PRELIM; column <= GradeTable.FINAL; column++) {
+            store(column, other.getGrade(column));
+        }
+    }
+
+    boolean isViewOf(GradeTable table) { return table != null && grades == table; }
+    int getRow() { return row; }
+
+    /**
+     * Grade in a GradeTable column (GradeTable.PRELIM etc.) without boxing; NaN if there is none
+     */
+    public double getGrade(int column) {
+        if (grades != null) {
+            return grades.get(row, column);
+        }
+        switch (column) {
+            case GradeTable.PRELIM: return prelimGrade;
+            case GradeTable.MIDTERM: return midtermGrade;
+            case GradeTable.TENTATIVE_FINAL: return tentativeFinalGrade;
+            case GradeTable.FINAL: return finalGrade;
+            default: throw new IndexOutOfBoundsException("Grade column " + column);
+        }
+    }
+
+    private void store(int column, double grade) {
+        if (grades != null) {
+            grades.set(row, column, grade);
+            return;
+        }
+        switch (column) {
+            case GradeTable.PRELIM: prelimGrade = grade; break;
+            case GradeTable.MIDTERM: midtermGrade = grade; break;
+            case GradeTable.TENTATIVE_FINAL: tentativeFinalGrade = grade; break;
+            case GradeTable.FINAL: finalGrade = grade; break;
+            default: throw new IndexOutOfBoundsException("Grade column " + column);
+        }
     }
 
     // Getters
     public String getStudentID() { return studentID; }
     public String getSubjectCode() { return subjectCode; }
     public String getSubjectName() { return subjectName; }
-    public Double getPrelimGrade() { return prelimGrade; }
-    public Double getMidtermGrade() { return midtermGrade; }
-    public Double getTentativeFinalGrade() { return tentativeFinalGrade; }
-    public Double getFinalGrade() { return finalGrade; }
+    public Double getPrelimGrade() { return boxed(GradeTable.PRELIM); }
+    public Double getMidtermGrade() { return boxed(GradeTable.MIDTERM); }
+    public Double getTentativeFinalGrade() { return boxed(GradeTable.TENTATIVE_FINAL); }
+    public Double getFinalGrade() { return boxed(GradeTable.FINAL); }
     public String getSemester() { return semester; }
     public String getStatus() { return status; }
 
     // Setters
-    public void setPrelimGrade(Double prelimGrade) { this.prelimGrade = prelimGrade; }
-    public void setMidtermGrade(Double midtermGrade) { this.midtermGrade = midtermGrade; }
-    public void setTentativeFinalGrade(Double tentativeFinalGrade) { this.tentativeFinalGrade = tentativeFinalGrade; }
-    public void setFinalGrade(Double finalGrade) { this.finalGrade = finalGrade; }
+    public void setPrelimGrade(Double prelimGrade) { setGrade(GradeTable.PRELIM, prelimGrade); }
+    public void setMidtermGrade(Double midtermGrade) { setGrade(GradeTable.MIDTERM, midtermGrade); }
+    public void setTentativeFinalGrade(Double tentativeFinalGrade) { setGrade(GradeTable.TENTATIVE_FINAL, tentativeFinalGrade); }
+    public void setFinalGrade(Double finalGrade) { setGrade(GradeTable.FINAL, finalGrade); }
     public void setStatus(String status) { this.status = status; }
 
+    private Double boxed(int column) {
+        double grade = getGrade(column);
+        return Double.isNaN(grade) ? null : grade;
+    }
+
+    private void setGrade(int column, Double grade) {
+        store(column, grade != null ? grade : Double.NaN);
+    }
+
     /**
      * Calculates the overall grade based on available grades
      */
     public Double calculateOverallGrade() {
-        if (finalGrade != null) {
+        double finalGrade = getGrade(GradeTable.FINAL);
+        if (!Double.isNaN(finalGrade)) {
             return finalGrade;
         }
 
         int count = 0;
         double total = 0.0;
-
-        if (prelimGrade != null) {
-            total += prelimGrade;
-            count++;
-        }
-        if (midtermGrade != null) {
-            total += midtermGrade;
-            count++;
-        }
-        if (tentativeFinalGrade != null) {
-            total += tentativeFinalGrade;
-            count++;
+        for (int column = GradeTable.PRELIM; column <= GradeTable.TENTATIVE_FINAL; column++) {
+            double grade = getGrade(column);
+            if (!Double.isNaN(grade)) {
+                total += grade;
+                count++;
+            }
         }
 
         return count > 0 ? total / count : null;
@@ -96,6 +174,10 @@ public class GradeRecord {
      * Converts the grade record to CSV format for file storage
      */
     public String toCsvFormat() {
+        Double prelimGrade = getPrelimGrade();
+        Double midtermGrade = getMidtermGrade();
+        Double tentativeFinalGrade = getTentativeFinalGrade();
+        Double finalGrade = getFinalGrade();
         return studentID + "," + subjectCode + "," + subjectName + "," +
                 (prelimGrade != null ? prelimGrade : "") + "," +
                 (midtermGrade != null ? midtermGrade : "") + "," +
@@ -134,11 +216,12 @@ public class GradeRecord {
      * Converts to table row format for display
      */
     public Object[] toTableRow() {
+        Double finalGrade = getFinalGrade();
         return new Object[]{
                 subjectName,
-                formatGrade(prelimGrade),
-                formatGrade(midtermGrade),
-                formatGrade(tentativeFinalGrade),
+                formatGrade(getPrelimGrade()),
+                formatGrade(getMidtermGrade()),
+                formatGrade(getTentativeFinalGrade()),
                 formatGrade(finalGrade != null ? finalGrade : calculateOverallGrade())
         };
     }
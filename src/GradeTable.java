@@ -0,0 +1,199 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GradeTable - Column storage for grades (struct of arrays)
+ * Features:
+ * - One double[] per grade column (prelim, midterm, tentative final, final) indexed by row ID,
+ *   instead of four boxed Doubles per GradeRecord
+ * - A GradeRecord is a view of one row: its getters and setters read and write the columns
+ * - "No grade" is stored as NaN and shows up as null through the GradeRecord getters
+ * - summarize(...) computes count, mean, min, max, standard deviation and a histogram in one
+ *   pass over the primitive columns, without boxing or allocating
+ * - Rows are never reused, so a view stays valid for as long as it is referenced; a table
+ *   that is replaced (e.g. on reload) is freed once its last view is gone
+ *
+ * Writes are synchronized on the table; reads are plain array reads, like the fields they replace.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class GradeTable {
+
+    public static final int PRELIM = 0;
+    public static final int MIDTERM = 1;
+    public static final int TENTATIVE_FINAL = 2;
+    public static final int FINAL = 3;
+    private static final int COLUMNS = 4;
+
+    // Histogram buckets: [0,10), [10,20), ... [90,100]
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    private volatile double[][] columns;
+    private int size = 0;
+
+    public GradeTable() {
+        this(16);
+    }
+
+    public GradeTable(int initialCapacity) {
+        double[][] initial = new double[COLUMNS][];
+        for (int c = 0; c < COLUMNS; c++) {
+            initial[c] = new double[Math.max(1, initialCapacity)];
+        }
+        columns = initial;
+    }
+
+    /**
+     * Add a row with no grades
+     * @return The new row ID
+     */
+    public synchronized int addRow() {
+        double[][] current = columns;
+        if (size == current[0].length) {
+            double[][] grown = new double[COLUMNS][];
+            for (int c = 0; c < COLUMNS; c++) {
+                grown[c] = Arrays.copyOf(current[c], current[c].length * 2);
+            }
+            columns = grown;
+            current = grown;
+        }
+        for (int c = 0; c < COLUMNS; c++) {
+            current[c][size] = Double.NaN;
+        }
+        return size++;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Grade in the given column, NaN if there is none
+     */
+    public double get(int row, int column) {
+        return columns[column][row];
+    }
+
+    /**
+     * Set a grade (NaN clears it)
+     */
+    public synchronized void set(int row, int column, double value) {
+        columns[column][row] = value;
+    }
+
+    // ========== STATISTICS ==========
+
+    /**
+     * Summary of one column over every row of the table
+     */
+    public Summary summarize(int column, Summary into) {
+        into.reset();
+        double[] values;
+        int rows;
+        synchronized (this) {
+            values = columns[column];
+            rows = size;
+        }
+        for (int row = 0; row < rows; row++) {
+            into.add(values[row]);
+        }
+        return into;
+    }
+
+    /**
+     * Summary of one column over the given records (e.g. one subject's records from the index)
+     * Records that are views of this table are read straight from the column array.
+     */
+    public Summary summarize(List<GradeRecord> records, int column, Summary into) {
+        into.reset();
+        double[] values = columns[column];
+        for (int i = 0; i < records.size(); i++) {
+            GradeRecord record = records.get(i);
+            into.add(record.isViewOf(this) && record.getRow() < values.length
+                    ? values[record.getRow()] : record.getGrade(column));
+        }
+        return into;
+    }
+
+    /**
+     * Reusable accumulator for one column: count, mean, min, max, standard deviation, histogram
+     * Rows without a grade (NaN) are skipped.
+     */
+    public static final class Summary {
+        private int count;
+        private double sum;
+        private double sumOfSquares;
+        private double min;
+        private double max;
+        private final int[] histogram = new int[HISTOGRAM_BUCKETS];
+
+        public Summary() {
+            reset();
+        }
+
+        public void reset() {
+            count = 0;
+            sum = 0.0;
+            sumOfSquares = 0.0;
+            min = Double.NaN;
+            max = Double.NaN;
+            Arrays.fill(histogram, 0);
+        }
+
+        public void add(double value) {
+            if (Double.isNaN(value)) return;
+            count++;
+            sum += value;
+            sumOfSquares += value * value;
+            min = count == 1 ? value : Math.min(min, value);
+            max = count == 1 ? value : Math.max(max, value);
+            int bucket = (int) (value / 10.0);
+            histogram[Math.max(0, Math.min(HISTOGRAM_BUCKETS - 1, bucket))]++;
+        }
+
+        /**
+         * Add everything another summary has seen (used to combine partial results)
+         */
+        public void merge(Summary other) {
+            if (other.count == 0) return;
+            min = count == 0 ? other.min : Math.min(min, other.min);
+            max = count == 0 ? other.max : Math.max(max, other.max);
+            count += other.count;
+            sum += other.sum;
+            sumOfSquares += other.sumOfSquares;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram[i] += other.histogram[i];
+            }
+        }
+
+        public int getCount() { return count; }
+        public double getSum() { return sum; }
+        public double getMin() { return min; }
+        public double getMax() { return max; }
+
+        public double getMean() {
+            return count == 0 ? 0.0 : sum / count;
+        }
+
+        /**
+         * Population standard deviation
+         */
+        public double getStandardDeviation() {
+            if (count == 0) return 0.0;
+            double mean = getMean();
+            return Math.sqrt(Math.max(0.0, sumOfSquares / count - mean * mean));
+        }
+
+        /**
+         * Count of grades in [10*i, 10*i+10), the last bucket including 100
+         */
+        public int getHistogramCount(int bucket) {
+            return histogram[bucket];
+        }
+
+        public int[] getHistogram() {
+            return histogram.clone();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HeapFootprintBenchmark - Heap held by parsed records with and without the SymbolTable
+ * - Builds a term's worth of grade, attendance and checklist lines plus fee rows, and
+ *   parses them with the real parsers (SharedDataManager, FeeBreakdown.fromCSV)
+ * - Measures the heap retained by the parsed records after a full GC, once with
+ *   interning switched off and once with it on
+ * - Attendance statuses are AttendanceStatus constants in both runs
+ *
+ * Run with: java -cp src HeapFootprintBenchmark [students] [days]
+ * Defaults are 2,000 students and 60 class days (about 930,000 records).
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class HeapFootprintBenchmark {
+
+    private static final String[] SUBJECTS = {"IT211", "IT212", "IT213", "GE101", "GE102", "PE101", "NSTP1"};
+    private static final String[] STATUS = {"Present", "Present", "Present", "Late", "Absent"};
+    private static final String[] REQUIREMENTS = {"Quiz 1", "Quiz 2", "Lab Activity", "Project", "Midterm Exam"};
+    private static final String[] FEES = {"TF001,Tuition Fee", "LF001,Computer Laboratory Fee",
+            "MF001,Miscellaneous Fee", "RF001,Registration Fee", "LB001,Library Fee"};
+
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+
+        System.out.println("=== HEAP FOOTPRINT BENCHMARK ===");
+        System.out.println("Students: " + students + ", subjects: " + SUBJECTS.length + ", days: " + days);
+
+        long plain = measure(false, students, days);
+        long interned = measure(true, students, days);
+
+        System.out.println(String.format("%n  %-22s %10.1f MB", "Without SymbolTable", plain / 1e6));
+        System.out.println(String.format("  %-22s %10.1f MB", "With SymbolTable", interned / 1e6));
+        System.out.println(String.format("  %-22s %10.1f MB (%.0f%%)", "Saved", (plain - interned) / 1e6,
+                100.0 * (plain - interned) / plain));
+        System.out.println("  Distinct symbols: " + SymbolTable.size());
+    }
+
+    /**
+     * Heap retained by the parsed records, in bytes
+     */
+    private static long measure(boolean intern, int students, int days) {
+        SymbolTable.clear();
+        SymbolTable.setEnabled(intern);
+        long before = usedHeap();
+
+        List<Object> records = parseAll(students, days);
+        long after = usedHeap();
+
+        System.out.println(String.format("  interning %-3s: %,d records, %,d bytes",
+                intern ? "on" : "off", records.size(), after - before));
+        records.clear();
+        return after - before;
+    }
+
+    private static List<Object> parseAll(int students, int days) {
+        List<Object> records = new ArrayList<>();
+        for (int s = 0; s < students; s++) {
+            String studentID = String.valueOf(2250000 + s);
+            for (int j = 0; j < SUBJECTS.length; j++) {
+                // Each line is a fresh String, as when read from a file, so the split
+                // parts are fresh copies too
+                String subject = SUBJECTS[j];
+                records.add(SharedDataManager.parseGradeRecord(
+                        studentID + "|" + subject + "|Subject " + subject + "|2.0|1.75|" + (1.0 + (s + j) % 4 * 0.25)));
+                for (int d = 0; d < days; d++) {
+                    String date = java.time.LocalDate.of(2025, 8, 11).plusDays(d).toString();
+                    records.add(SharedDataManager.parseAttendanceRecord(
+                            studentID + "|" + subject + "|" + date + "|" + STATUS[(s + d) % STATUS.length] + "|"));
+                }
+                for (String requirement : REQUIREMENTS) {
+                    records.add(SharedDataManager.parseClassChecklistItem(
+                            studentID + "|" + subject + "|" + requirement + "|Completed|"));
+                }
+            }
+            for (String fee : FEES) {
+                records.add(FeeBreakdown.fromCSV(fee + ",1500.00,TUITION,2025-08-01,"));
+            }
+        }
+        return records;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
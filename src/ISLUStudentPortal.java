@@ -14,7 +14,6 @@ import java.util.*;
 import java.io.File;
 import java.io.IOException;
 import java.awt.Desktop;
-import javax.swing.Timer;
 import java.awt.print.PrinterException;
 import java.util.List;
 
@@ -24,8 +23,13 @@ public class ISLUStudentPortal extends JFrame {
     private JPanel sidebarPanel;
     private JPanel footbarPanel;
     private JLabel userNameLabel;
-    private long lastDatabaseModified = 0; // Track database file modification time
-    private Timer databaseCheckTimer; // Timer for checking database changes
+    private DataChangeBus.Subscription dataChangeSubscription; // Data file change notifications
+    private MenuItem currentMenuItem; // Menu item whose content is showing
+    private DiffTableModel gradesTableModel; // Grades table, refreshed in place on grade changes
+    private final Map<String, DiffTableModel> attendanceSectionModels = new LinkedHashMap<>(); // Subject -> absences table
+    private final Map<String, MySinglyLinkedList<AttendanceRecord>> attendanceSectionRecords = new HashMap<>(); // Rows behind each table
+    private StatementOfAccountsPanel statementOfAccountsPanel;
+    private java.util.concurrent.CompletableFuture<Void> sharedDataReady; // Grades, attendance and announcements loaded
     private JLabel semesterLabel;
     private JTextArea announcementsArea;
     private JTextArea statusArea;
@@ -41,14 +45,13 @@ public class ISLUStudentPortal extends JFrame {
 
     public ISLUStudentPortal(String studentID) {
         this.studentID = studentID;
-        this.studentName = getStudentNameFromDatabase(studentID);
+        this.studentName = getStudentNameFromDatabase(studentID); // Cached by the login check
+        AsyncDataAccess.installEdtStallMonitor();
+        Metrics.install(); // JMX switch for timing metrics (-Dislu.metrics.enabled=true to start on)
 
-        // Initialize shared data manager
-        SharedDataManager.initialize();
-
-        // Initialize random amounts for each account
-        // Initialize account statement for the student
-        this.accountStatement = AccountStatementManager.getStatement(studentID);
+        // Load shared data and the account statement off the EDT
+        sharedDataReady = AsyncDataAccess.initializeSharedData();
+        AsyncDataAccess.onEdt(AsyncDataAccess.getStatement(studentID), statement -> accountStatement = statement);
 
         initializeComponents();
         setupLayout(convertSubMenuItemsToStrings(PortalUtils.createHomeSublist()));
@@ -62,10 +65,11 @@ public class ISLUStudentPortal extends JFrame {
             @Override
             public void windowClosing(java.awt.event.WindowEvent windowEvent) {
                 stopDatabaseMonitoring();
+                AsyncDataAccess.awaitWrites(5000); // Let queued saves reach the disk
                 System.exit(0);
             }
         });
-        loadStudentStatus();
+        AsyncDataAccess.onEdt(sharedDataReady, ready -> loadStudentStatus());
     }
 
 
@@ -378,14 +382,9 @@ public class ISLUStudentPortal extends JFrame {
         // Table with exact columns from image
         String[] columnNames = {"Class Code", "Course Number", "Units", "Prelim Grade", "Midterm Grade", "Tentative Final Grade", "Final Grade", "Weights"};
 
-        DefaultTableModel tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make all cells non-editable
-            }
-        };
+        gradesTableModel = new DiffTableModel(columnNames, 0); // Rows keyed by class code
 
-        JTable table = new JTable(tableModel);
+        JTable table = new JTable(gradesTableModel);
         table.setFont(new Font("Arial", Font.PLAIN, 12));
         table.setRowHeight(25);
         table.getTableHeader().setFont(new Font("Arial", Font.BOLD, 12));
@@ -396,7 +395,7 @@ public class ISLUStudentPortal extends JFrame {
         table.setFillsViewportHeight(false);
 
         // Load real data from SharedDataManager
-        loadStudentGradesData(tableModel);
+        gradesTableModel.setRows(buildStudentGradeRows());
 
         JScrollPane scrollPane = new JScrollPane(table);
         scrollPane.setBorder(BorderFactory.createEmptyBorder(0, 15, 0, 15));
@@ -660,6 +659,12 @@ public class ISLUStudentPortal extends JFrame {
 
     // method for showing different contents
     private void showContent(MenuItem item) {
+        currentMenuItem = item;
+        if (statementOfAccountsPanel != null) {
+            statementOfAccountsPanel.cleanup(); // Stop its fee update listener
+            statementOfAccountsPanel = null;
+        }
+        gradesTableModel = null;
 // Clear current content
         contentPanel.removeAll();
         switch (item.getName()) {
@@ -674,19 +679,24 @@ public class ISLUStudentPortal extends JFrame {
                 contentPanel.add(createJournalPeriodicalPanel(convertSubMenuItemsToStrings(item.getSubItems())));
                 break;
             case "📅 Schedule":
-                contentPanel.add(createClassChecklistPanel());
+                contentPanel.add(deferredContent(item, sharedDataReady, ready -> createClassChecklistPanel()));
                 break;
             case "📌 Attendance":
-                contentPanel.add(showAttendanceContent(convertSubMenuItemsToStrings(item.getSubItems())));
+                contentPanel.add(deferredContent(item, sharedDataReady,
+                        ready -> showAttendanceContent(convertSubMenuItemsToStrings(item.getSubItems()))));
                 break;
             case "📊 Grades":
-                contentPanel.add(createGradesPanel(convertSubMenuItemsToStrings(item.getSubItems())));
+                contentPanel.add(deferredContent(item, sharedDataReady,
+                        ready -> createGradesPanel(convertSubMenuItemsToStrings(item.getSubItems()))));
                 break;
             case "👤 Personal Details":
                 showPersonalDetailsContent(convertSubMenuItemsToStrings(item.getSubItems()));
                 break;
             case "🧮 Statement of Accounts":
-                contentPanel.add(new StatementOfAccountsPanel(studentID));
+                contentPanel.add(deferredContent(item, AsyncDataAccess.getStatement(studentID), statement -> {
+                    statementOfAccountsPanel = new StatementOfAccountsPanel(studentID, statement);
+                    return statementOfAccountsPanel;
+                }));
                 break;
             case "📋 Transcript of Records":
                 contentPanel.add(createTranscriptOfRecordsPanel(convertSubMenuItemsToStrings(item.getSubItems())));
@@ -698,7 +708,8 @@ public class ISLUStudentPortal extends JFrame {
                 contentPanel.add(createAboutISLUPanel(convertSubMenuItemsToStrings(item.getSubItems())));
                 break;
             case "🏥 Medical Record":
-                contentPanel.add(createMedicalRecordPanel(convertSubMenuItemsToStrings(item.getSubItems())));
+                contentPanel.add(deferredContent(item, AsyncDataAccess.getMedicalRecord(studentID),
+                        record -> createMedicalRecordPanel(record, convertSubMenuItemsToStrings(item.getSubItems()))));
                 break;
             default:
                 // Fallback for any other menu item with a sublist
@@ -708,6 +719,15 @@ public class ISLUStudentPortal extends JFrame {
         contentPanel.repaint();
 
     }
+
+    /**
+     * Placeholder that is replaced by the built panel once its data has loaded off the EDT,
+     * unless another menu item has been opened in the meantime
+     */
+    private <T> JPanel deferredContent(MenuItem item, java.util.concurrent.CompletableFuture<T> data,
+                                       java.util.function.Function<T, Component> builder) {
+        return AsyncDataAccess.deferredPanel(data, value -> currentMenuItem == item ? builder.apply(value) : new JPanel());
+    }
     // Journal/Periodical Panel with Enhanced Search Functionality
     private JPanel createJournalPeriodicalPanel(MySinglyLinkedList<String> subItems) {
         JPanel mainPanel = new JPanel(new BorderLayout());
@@ -2067,6 +2087,8 @@ public class ISLUStudentPortal extends JFrame {
     private Component showAttendanceContent(MySinglyLinkedList<String> subItems) {
         JPanel attendancePanel = new JPanel(new BorderLayout());
         attendancePanel.setBackground(new Color(240, 240, 240));
+        attendanceSectionModels.clear();
+        attendanceSectionRecords.clear();
 
         // Get attendance records for current student
         MySinglyLinkedList<AttendanceRecord> attendanceRecords = loadAttendanceRecords();
@@ -2253,25 +2275,12 @@ public class ISLUStudentPortal extends JFrame {
 
         // Table for absences/tardies
         String[] columnNames = {"Date of absence/tardy", "Date Dropped", "Date Claimed", "Remarks", "Type"};
-        DefaultTableModel tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        DiffTableModel tableModel = new DiffTableModel(columnNames, 0, 4); // Rows keyed by date and type
+        attendanceSectionModels.put(subjectName, tableModel);
+        attendanceSectionRecords.put(subjectName, records);
 
         // Populate table with records
-        for (int i = 0; i < records.getSize(); i++) {
-            AttendanceRecord record = records.get(i);
-            String type = record.getStatus().equals("Absent") ? "Absent" : "Tardy";
-            tableModel.addRow(new Object[]{
-                    record.getDate().format(DateTimeFormatter.ofPattern("MMM-dd-yyyy")),
-                    "", // Date Dropped - empty for now
-                    "", // Date Claimed - empty for now
-                    record.getRemarks() != null ? record.getRemarks() : "",
-                    type
-            });
-        }
+        tableModel.setRows(buildAbsenceRows(records));
 
         JTable table = new JTable(tableModel);
         table.setRowHeight(25);
@@ -2294,7 +2303,7 @@ public class ISLUStudentPortal extends JFrame {
         applyReasonButton.setForeground(Color.BLACK);
         applyReasonButton.setBorder(BorderFactory.createEmptyBorder(8, 15, 8, 15));
         applyReasonButton.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-        applyReasonButton.addActionListener(e -> showReasonDialog(table, records));
+        applyReasonButton.addActionListener(e -> showReasonDialog(table, attendanceSectionRecords.get(subjectName)));
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         buttonPanel.setBackground(Color.WHITE);
@@ -2309,6 +2318,45 @@ public class ISLUStudentPortal extends JFrame {
         return sectionPanel;
     }
 
+    private List<Object[]> buildAbsenceRows(MySinglyLinkedList<AttendanceRecord> records) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < records.getSize(); i++) {
+            AttendanceRecord record = records.get(i);
+            String type = record.getAttendanceStatus() == AttendanceStatus.ABSENT ? "Absent" : "Tardy";
+            rows.add(new Object[]{
+                    record.getDate().format(DateTimeFormatter.ofPattern("MMM-dd-yyyy")),
+                    "", // Date Dropped - empty for now
+                    "", // Date Claimed - empty for now
+                    record.getRemarks() != null ? record.getRemarks() : "",
+                    type
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Refreshes the absence tables in place; rebuilds the view only if the set of subjects changed
+     */
+    private void refreshAttendanceTables() {
+        MySinglyLinkedList<AttendanceRecord> absencesAndTardies = getAbsencesAndTardies(loadAttendanceRecords());
+        MySinglyLinkedList<String> subjects = getUniqueSubjects(absencesAndTardies);
+
+        List<String> subjectList = new ArrayList<>();
+        for (int i = 0; i < subjects.getSize(); i++) {
+            subjectList.add(subjects.get(i));
+        }
+        if (!subjectList.equals(new ArrayList<>(attendanceSectionModels.keySet()))) {
+            showContent(currentMenuItem);
+            return;
+        }
+
+        for (String subject : subjectList) {
+            MySinglyLinkedList<AttendanceRecord> subjectRecords = getRecordsBySubject(absencesAndTardies, subject);
+            attendanceSectionRecords.put(subject, subjectRecords);
+            attendanceSectionModels.get(subject).setRows(buildAbsenceRows(subjectRecords));
+        }
+    }
+
     // Show reason input dialog
     private void showReasonDialog(JTable table, MySinglyLinkedList<AttendanceRecord> records) {
         int selectedRow = table.getSelectedRow();
@@ -2499,7 +2547,8 @@ public class ISLUStudentPortal extends JFrame {
 
         for (int i = 0; i < allRecords.getSize(); i++) {
             AttendanceRecord record = allRecords.get(i);
-            if ("Absent".equals(record.getStatus()) || "Late".equals(record.getStatus())) {
+            if (record.getAttendanceStatus() == AttendanceStatus.ABSENT
+                    || record.getAttendanceStatus() == AttendanceStatus.LATE) {
                 filtered.add(record);
             }
         }
@@ -2941,13 +2990,19 @@ public class ISLUStudentPortal extends JFrame {
                 return;
             }
 
-            // Update password using DataManager
-            if (DataManager.updateStudentPassword(studentID, newPass)) {
-                JOptionPane.showMessageDialog(passwordDialog, "Password updated successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                passwordDialog.dispose();
-            } else {
-                JOptionPane.showMessageDialog(passwordDialog, "Failed to update password. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            // Update password using DataManager, off the EDT
+            saveButton.setEnabled(false);
+            java.util.function.Consumer<Boolean> updated = success -> {
+                saveButton.setEnabled(true);
+                if (success) {
+                    JOptionPane.showMessageDialog(passwordDialog, "Password updated successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+                    passwordDialog.dispose();
+                } else {
+                    JOptionPane.showMessageDialog(passwordDialog, "Failed to update password. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            };
+            AsyncDataAccess.onEdt(AsyncDataAccess.updateStudentPassword(studentID, newPass),
+                    updated, error -> updated.accept(false));
         });
 
         cancelButton.addActionListener(e -> passwordDialog.dispose());
@@ -3156,17 +3211,21 @@ public class ISLUStudentPortal extends JFrame {
                 return;
             }
 
-            // Update password in database
-            if (DataManager.updateStudentPassword(studentID, newPassword)) {
-                JOptionPane.showMessageDialog(this, "Password changed successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+            // Update password in database, off the EDT
+            java.util.function.Consumer<Boolean> updated = success -> {
+                if (success) {
+                    JOptionPane.showMessageDialog(this, "Password changed successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
 
-                // Clear the fields
-                oldPasswordField.setText("");
-                newPasswordField.setText("");
-                retypePasswordField.setText("");
-            } else {
-                JOptionPane.showMessageDialog(this, "Failed to update password. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
-            }
+                    // Clear the fields
+                    oldPasswordField.setText("");
+                    newPasswordField.setText("");
+                    retypePasswordField.setText("");
+                } else {
+                    JOptionPane.showMessageDialog(this, "Failed to update password. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            };
+            AsyncDataAccess.onEdt(AsyncDataAccess.updateStudentPassword(studentID, newPassword),
+                    updated, error -> updated.accept(false));
         });
 
         cancelButton.addActionListener(e -> {
@@ -3949,39 +4008,10 @@ public class ISLUStudentPortal extends JFrame {
         // Update payment statuses first
         accountStatement.updatePaymentStatuses();
 
-        // Table with status column
+        // Table with status column; rows keyed by description without the [status] suffix
         String[] columnNames = {"Date", "Description", "Amount", "Status"};
-
-        // Get fee breakdowns from account statement
-        List<FeeBreakdown> fees = accountStatement.getFeeBreakdowns();
-        Object[][] data = new Object[fees.size() + 3][4]; // +3 for header, total, and balance rows, 4 columns
-
-        // Add beginning balance row
-        data[0] = new Object[]{"", "ASSESSMENT DETAILS", "", ""};
-
-        // Add fee items with status
-        int row = 1;
-        for (FeeBreakdown fee : fees) {
-            data[row] = fee.toTableRowWithStatus();
-            row++;
-        }
-
-        // Add total row
-        data[row] = new Object[]{"", "TOTAL ASSESSMENT", String.format("P %,.2f", accountStatement.getTotalAmount()), ""};
-        row++;
-
-        // Add balance row with current date
-        java.time.format.DateTimeFormatter shortDateFormatter = java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy");
-        String shortDateStr = currentDate.format(shortDateFormatter);
-        String balanceStatus = accountStatement.getBalance() <= 0 ? "FULLY PAID" : "UNPAID";
-        data[row] = new Object[]{shortDateStr, "CURRENT BALANCE", String.format("P %,.2f", accountStatement.getBalance()), balanceStatus};
-
-        feeBreakdownTableModel = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        feeBreakdownTableModel = new DiffTableModel(columnNames, row -> String.valueOf(row[1]).split(" \\[")[0]);
+        feeBreakdownTableModel.setRows(buildFeeBreakdownRows());
 
         JTable table = new JTable(feeBreakdownTableModel);
         table.setRowHeight(25);
@@ -4091,23 +4121,10 @@ public class ISLUStudentPortal extends JFrame {
         // Update payment statuses
         accountStatement.updatePaymentStatuses();
 
-        // Table with status
+        // Table with status; rows keyed by payment reference
         String[] columnNames = {"Date", "Channel", "Reference", "Amount", "Status"};
-
-        // Get payment history from account statement
-        List<PaymentTransaction> payments = accountStatement.getPaymentHistory();
-        Object[][] data = new Object[payments.size()][5];
-
-        for (int i = 0; i < payments.size(); i++) {
-            data[i] = payments.get(i).toTableRow();
-        }
-
-        paymentTableModel = new DefaultTableModel(data, columnNames) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        paymentTableModel = new DiffTableModel(columnNames, 2);
+        paymentTableModel.setRows(buildPaymentHistoryRows());
 
         JTable table = new JTable(paymentTableModel);
         table.setRowHeight(25);
@@ -4330,8 +4347,8 @@ public class ISLUStudentPortal extends JFrame {
     private JLabel prelimStatusLabel; // Reference to update the PRELIM STATUS display
     private JLabel midtermStatusLabel; // Reference to update the MIDTERM STATUS display
     private JLabel finalsStatusLabel; // Reference to update the FINALS STATUS display
-    private DefaultTableModel paymentTableModel; // Reference to payment transactions table model
-    private DefaultTableModel feeBreakdownTableModel; // Reference to fee breakdown table model
+    private DiffTableModel paymentTableModel; // Reference to payment transactions table model
+    private DiffTableModel feeBreakdownTableModel; // Reference to fee breakdown table model
 
     /**
      * Shows onsite payment dialog for cashier payment
@@ -4455,9 +4472,7 @@ public class ISLUStudentPortal extends JFrame {
 
                 // Process onsite payment
                 String reference = orNumber.isEmpty() ? "ONSITE-" + System.currentTimeMillis() : orNumber;
-                if (processOnsitePayment(amount, channelName, reference)) {
-                    paymentDialog.dispose();
-                }
+                processOnsitePayment(amount, channelName, reference, paymentDialog::dispose);
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(paymentDialog, "Invalid amount format", "Invalid Input", JOptionPane.ERROR_MESSAGE);
             }
@@ -4479,14 +4494,18 @@ public class ISLUStudentPortal extends JFrame {
     }
 
     /**
-     * Process onsite payment
+     * Process onsite payment off the EDT; onSuccess runs on the EDT once it is recorded
      */
-    private boolean processOnsitePayment(double amount, String channelName, String reference) {
+    private void processOnsitePayment(double amount, String channelName, String reference, Runnable onSuccess) {
         // Process payment using AccountStatementManager
-        AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
-                studentID, amount, channelName, reference
-        );
+        AsyncDataAccess.onEdt(AsyncDataAccess.processPayment(studentID, amount, channelName, reference),
+                result -> showOnsitePaymentResult(result, amount, reference, onSuccess),
+                error -> JOptionPane.showMessageDialog(this, "Payment could not be processed: " + error.getMessage(),
+                        "Payment Failed", JOptionPane.ERROR_MESSAGE));
+    }
 
+    private void showOnsitePaymentResult(AccountStatement.PaymentResult result, double amount, String reference,
+                                         Runnable onSuccess) {
         if (result.success) {
             // Update the account statement reference
             accountStatement = AccountStatementManager.getStatement(studentID);
@@ -4508,10 +4527,9 @@ public class ISLUStudentPortal extends JFrame {
             // Refresh the display
             refreshStatementOfAccounts();
 
-            return true;
+            onSuccess.run();
         } else {
             JOptionPane.showMessageDialog(this, result.message, "Payment Failed", JOptionPane.ERROR_MESSAGE);
-            return false;
         }
     }
 
@@ -4619,13 +4637,9 @@ public class ISLUStudentPortal extends JFrame {
         submitButton.setForeground(Color.WHITE);
         submitButton.setFont(new Font("Arial", Font.BOLD, 12));
         submitButton.setPreferredSize(new Dimension(120, 35));
-        submitButton.addActionListener(e -> {
-            if (processPayment(cardNumberField.getText(), cvvField.getText(),
-                    expDateField.getText(), nameField.getText(),
-                    amountField.getText(), channelName)) {
-                paymentDialog.dispose();
-            }
-        });
+        submitButton.addActionListener(e -> processPayment(cardNumberField.getText(), cvvField.getText(),
+                expDateField.getText(), nameField.getText(),
+                amountField.getText(), channelName, paymentDialog::dispose));
 
         JButton cancelButton = new JButton("Cancel");
         cancelButton.setBackground(new Color(200, 0, 0));
@@ -4643,22 +4657,23 @@ public class ISLUStudentPortal extends JFrame {
     }
 
     /**
-     * Processes the payment and updates the balance
+     * Validates the card details, then processes the payment off the EDT and updates the balance
+     * onSuccess runs on the EDT once the payment has been recorded
      */
-    private boolean processPayment(String cardNumber, String cvv, String expDate,
-                                   String cardHolderName, String amountStr, String channelName) {
+    private void processPayment(String cardNumber, String cvv, String expDate,
+                                String cardHolderName, String amountStr, String channelName, Runnable onSuccess) {
         // Validate inputs
         if (cardNumber.replaceAll("\\s", "").length() != 16) {
             JOptionPane.showMessageDialog(this, "Card number must be 16 digits", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-            return false;
+            return;
         }
         if (cvv.length() != 3) {
             JOptionPane.showMessageDialog(this, "CVV must be 3 digits", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-            return false;
+            return;
         }
         if (!expDate.matches("\\d{2}/\\d{2}")) {
             JOptionPane.showMessageDialog(this, "Expiration date must be in MM/YY format", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-            return false;
+            return;
         }
 
         // Validate expiration date
@@ -4669,7 +4684,7 @@ public class ISLUStudentPortal extends JFrame {
 
             if (month < 1 || month > 12) {
                 JOptionPane.showMessageDialog(this, "Invalid month in expiration date", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-                return false;
+                return;
             }
 
             // Check if card is expired
@@ -4677,16 +4692,16 @@ public class ISLUStudentPortal extends JFrame {
             java.time.YearMonth current = java.time.YearMonth.now();
             if (expiration.isBefore(current)) {
                 JOptionPane.showMessageDialog(this, "Card has expired", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-                return false;
+                return;
             }
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this, "Invalid expiration date format", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-            return false;
+            return;
         }
 
         if (cardHolderName.trim().isEmpty()) {
             JOptionPane.showMessageDialog(this, "Card holder name is required", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-            return false;
+            return;
         }
 
         double amount;
@@ -4694,21 +4709,25 @@ public class ISLUStudentPortal extends JFrame {
             amount = Double.parseDouble(amountStr.replaceAll(",", ""));
             if (amount <= 0) {
                 JOptionPane.showMessageDialog(this, "Amount must be greater than 0", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-                return false;
+                return;
             }
         } catch (NumberFormatException e) {
             JOptionPane.showMessageDialog(this, "Invalid amount format", "Invalid Input", JOptionPane.ERROR_MESSAGE);
-            return false;
+            return;
         }
 
         // Generate reference number
         String reference = generatePaymentReference(channelName);
 
         // Process payment using AccountStatementManager
-        AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
-                studentID, amount, channelName, reference
-        );
+        AsyncDataAccess.onEdt(AsyncDataAccess.processPayment(studentID, amount, channelName, reference),
+                result -> showPaymentResult(result, amount, channelName, reference, onSuccess),
+                error -> JOptionPane.showMessageDialog(this, "Payment could not be processed: " + error.getMessage(),
+                        "Payment Failed", JOptionPane.ERROR_MESSAGE));
+    }
 
+    private void showPaymentResult(AccountStatement.PaymentResult result, double amount, String channelName,
+                                   String reference, Runnable onSuccess) {
         if (result.success) {
             // Update the account statement reference
             accountStatement = AccountStatementManager.getStatement(studentID);
@@ -4756,10 +4775,9 @@ public class ISLUStudentPortal extends JFrame {
             // Refresh the display
             refreshStatementOfAccounts();
 
-            return true;
+            onSuccess.run();
         } else {
             JOptionPane.showMessageDialog(this, result.message, "Payment Failed", JOptionPane.ERROR_MESSAGE);
-            return false;
         }
     }
 
@@ -4892,48 +4910,46 @@ public class ISLUStudentPortal extends JFrame {
     }
 
     /**
-     * Updates the fee breakdown table with current data
+     * Updates the fee breakdown table with current data (only changed rows are repainted)
      */
     private void updateFeeBreakdownTable() {
-        // Clear existing rows
-        while (feeBreakdownTableModel.getRowCount() > 0) {
-            feeBreakdownTableModel.removeRow(0);
-        }
+        feeBreakdownTableModel.setRows(buildFeeBreakdownRows());
+    }
+
+    /**
+     * Updates the payment history table with current data (only changed rows are repainted)
+     */
+    private void updatePaymentHistoryTable() {
+        paymentTableModel.setRows(buildPaymentHistoryRows());
+    }
+
+    private List<Object[]> buildFeeBreakdownRows() {
+        List<Object[]> rows = new ArrayList<>();
 
         // Add header row
-        feeBreakdownTableModel.addRow(new Object[]{"", "ASSESSMENT DETAILS", ""});
+        rows.add(new Object[]{"", "ASSESSMENT DETAILS", "", ""});
 
-        // Add fee items
+        // Add fee items with status
         for (FeeBreakdown fee : accountStatement.getFeeBreakdowns()) {
-            feeBreakdownTableModel.addRow(fee.toTableRow());
+            rows.add(fee.toTableRowWithStatus());
         }
 
         // Add total row
-        feeBreakdownTableModel.addRow(new Object[]{
-                "", "TOTAL ASSESSMENT",
-                String.format("P %,.2f", accountStatement.getTotalAmount())
-        });
+        rows.add(new Object[]{"", "TOTAL ASSESSMENT", String.format("P %,.2f", accountStatement.getTotalAmount()), ""});
 
-        // Add balance row
-        feeBreakdownTableModel.addRow(new Object[]{
-                "", "CURRENT BALANCE",
-                String.format("P %,.2f", accountStatement.getBalance())
-        });
+        // Add balance row with current date
+        String shortDateStr = java.time.LocalDate.now().format(java.time.format.DateTimeFormatter.ofPattern("MM/dd/yyyy"));
+        String balanceStatus = accountStatement.getBalance() <= 0 ? "FULLY PAID" : "UNPAID";
+        rows.add(new Object[]{shortDateStr, "CURRENT BALANCE", String.format("P %,.2f", accountStatement.getBalance()), balanceStatus});
+        return rows;
     }
 
-    /**
-     * Updates the payment history table with current data
-     */
-    private void updatePaymentHistoryTable() {
-        // Clear existing rows
-        while (paymentTableModel.getRowCount() > 0) {
-            paymentTableModel.removeRow(0);
-        }
-
-        // Add payment history
+    private List<Object[]> buildPaymentHistoryRows() {
+        List<Object[]> rows = new ArrayList<>();
         for (PaymentTransaction payment : accountStatement.getPaymentHistory()) {
-            paymentTableModel.addRow(payment.toTableRow());
+            rows.add(payment.toTableRow());
         }
+        return rows;
     }
 
     // Custom Document classes for input formatting
@@ -5855,62 +5871,120 @@ public class ISLUStudentPortal extends JFrame {
     }
 
     /**
-     * Starts monitoring the database file for changes
+     * Starts listening for changes to the data files
      */
     private void startDatabaseMonitoring() {
-        // Get initial database modification time
-        updateDatabaseModificationTime();
-
-        // Create timer to check for database changes every 5 seconds
-        databaseCheckTimer = new Timer(5000, e -> checkDatabaseChanges());
-        databaseCheckTimer.start();
+        dataChangeSubscription = DataChangeBus.subscribe(EnumSet.of(
+                DataChangeBus.ChangeType.STUDENT, DataChangeBus.ChangeType.GRADE,
+                DataChangeBus.ChangeType.ATTENDANCE, DataChangeBus.ChangeType.CHECKLIST,
+                DataChangeBus.ChangeType.ANNOUNCEMENT, DataChangeBus.ChangeType.FEE,
+                DataChangeBus.ChangeType.PAYMENT), this::handleDataChange);
     }
 
     /**
-     * Stops database monitoring
+     * Stops listening for data file changes
      */
     private void stopDatabaseMonitoring() {
-        if (databaseCheckTimer != null) {
-            databaseCheckTimer.stop();
-            databaseCheckTimer = null;
+        if (dataChangeSubscription != null) {
+            dataChangeSubscription.close();
+            dataChangeSubscription = null;
+        }
+    }
+
+    /**
+     * Handles a data file change (bus thread): reloads shared data, then refreshes only the affected view
+     */
+    private void handleDataChange(DataChangeBus.ChangeEvent event) {
+        switch (event.getType()) {
+            case GRADE:
+            case ATTENDANCE:
+            case CHECKLIST:
+                SharedDataManager.reload(); // Written by the teacher portal
+                break;
+            case ANNOUNCEMENT:
+                SharedDataManager.reloadAnnouncements();
+                break;
+            case FEE:
+                AsyncDataAccess.refreshFeesFromDatabase(studentID).join(); // In order with payments
+                break;
+            default:
+                break;
+        }
+        SwingUtilities.invokeLater(() -> refreshForChange(event.getType()));
+    }
+
+    private void refreshForChange(DataChangeBus.ChangeType type) {
+        String showing = currentMenuItem != null ? currentMenuItem.getName() : "";
+        switch (type) {
+            case STUDENT:
+                if (showing.equals("👤 Personal Details")) {
+                    refreshUIFromDatabase();
+                }
+                break;
+            case GRADE:
+                if (showing.equals("📊 Grades") && gradesTableModel != null) {
+                    gradesTableModel.setRows(buildStudentGradeRows());
+                }
+                break;
+            case ATTENDANCE:
+                if (showing.equals("📌 Attendance")) {
+                    refreshAttendanceTables();
+                }
+                break;
+            case ANNOUNCEMENT:
+                loadStudentStatus();
+                break;
+            case FEE:
+            case PAYMENT:
+                if (showing.equals("🧮 Statement of Accounts") && statementOfAccountsPanel != null) {
+                    statementOfAccountsPanel.updateDisplay();
+                }
+                break;
+            default:
+                break; // No student view shows checklist data
         }
     }
     
     // ========== DATA LOADING METHODS ==========
     
-    private void loadStudentGradesData(DefaultTableModel model) {
+    private List<Object[]> buildStudentGradeRows() {
+        List<Object[]> rows = new ArrayList<>();
         // Load student's grade data from SharedDataManager
         MySinglyLinkedList<GradeRecord> studentGrades = SharedDataManager.getStudentGrades(studentID);
         
         if (studentGrades.size() == 0) {
             // If no grades found, show actual subjects with "Not Yet Submitted"
-            model.addRow(new Object[]{"7024", "NSTP-CWTS 1", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9454", "GSTS", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9455", "GENVI", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9456", "CFE 103", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9457", "IT 211", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9458A", "IT 212", "2", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9458B", "IT 212L", "1", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9459A", "IT 213", "2", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9459B", "IT 213L", "1", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
-            model.addRow(new Object[]{"9547", "FIT OA", "2", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"7024", "NSTP-CWTS 1", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9454", "GSTS", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9455", "GENVI", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9456", "CFE 103", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9457", "IT 211", "3", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9458A", "IT 212", "2", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9458B", "IT 212L", "1", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9459A", "IT 213", "2", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9459B", "IT 213L", "1", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
+            rows.add(new Object[]{"9547", "FIT OA", "2", "", "", "", "Not Yet Submitted", "30% 30% 40%"});
         } else {
             // Load real grade data
             for (int i = 0; i < studentGrades.size(); i++) {
                 GradeRecord record = studentGrades.get(i);
-                double average = (record.getPrelimGrade() + record.getMidtermGrade() + record.getFinalGrade()) / 3.0;
-                model.addRow(new Object[]{
+                double prelim = record.getGrade(GradeTable.PRELIM);
+                double midterm = record.getGrade(GradeTable.MIDTERM);
+                double finalGrade = record.getGrade(GradeTable.FINAL);
+                double average = (prelim + midterm + finalGrade) / 3.0;
+                rows.add(new Object[]{
                     record.getSubjectCode(),
                     record.getSubjectName(),
                     "3", // Default units
-                    record.getPrelimGrade() > 0 ? record.getPrelimGrade() : "",
-                    record.getMidtermGrade() > 0 ? record.getMidtermGrade() : "",
-                    record.getFinalGrade() > 0 ? Math.round(average * 10.0) / 10.0 : "",
-                    record.getFinalGrade() > 0 ? Math.round(average * 10.0) / 10.0 : "Not Yet Submitted",
+                    prelim > 0 ? prelim : "",
+                    midterm > 0 ? midterm : "",
+                    finalGrade > 0 ? Math.round(average * 10.0) / 10.0 : "",
+                    finalGrade > 0 ? Math.round(average * 10.0) / 10.0 : "Not Yet Submitted",
                     "30% 30% 40%"
                 });
             }
         }
+        return rows;
     }
     
     private void loadStudentAttendanceData(DefaultTableModel model) {
@@ -5981,39 +6055,6 @@ public class ISLUStudentPortal extends JFrame {
         }
     }
 
-    /**
-     * Updates the stored database modification time
-     */
-    private void updateDatabaseModificationTime() {
-        try {
-            File dbFile = new File("Database.txt");
-            if (dbFile.exists()) {
-                lastDatabaseModified = dbFile.lastModified();
-            }
-        } catch (Exception e) {
-            System.err.println("Error checking database modification time: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Checks if the database has been modified and refreshes UI if needed
-     */
-    private void checkDatabaseChanges() {
-        try {
-            File dbFile = new File("Database.txt");
-            if (dbFile.exists()) {
-                long currentModified = dbFile.lastModified();
-                if (currentModified > lastDatabaseModified) {
-                    lastDatabaseModified = currentModified;
-                    // Database has been modified, refresh the UI
-                    SwingUtilities.invokeLater(() -> refreshUIFromDatabase());
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Error checking database changes: " + e.getMessage());
-        }
-    }
-
     /**
      * Parses profile data string from Database.txt into ProfileData object
      */
@@ -6075,9 +6116,9 @@ public class ISLUStudentPortal extends JFrame {
     private JPanel medicalContentPanel;
     private JPanel currentMedicalContentView; // Store current view to preserve state
 
-    private JPanel createMedicalRecordPanel(MySinglyLinkedList<String> subItems) {
-        // Always reload medical record from database when creating panel
-        currentMedicalRecord = DataManager.getMedicalRecord(studentID);
+    private JPanel createMedicalRecordPanel(MedicalRecord medicalRecord, MySinglyLinkedList<String> subItems) {
+        // Freshly loaded from the database (off the EDT) every time the panel is opened
+        currentMedicalRecord = medicalRecord;
 
         JPanel mainPanel = new JPanel(new BorderLayout());
         mainPanel.setBackground(new Color(240, 240, 240));
@@ -6144,20 +6185,24 @@ public class ISLUStudentPortal extends JFrame {
         updateButton.setFocusPainted(false);
         updateButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
         updateButton.addActionListener(e -> {
-            // Force save medical record to database
-            if (DataManager.saveMedicalRecord(currentMedicalRecord)) {
-                // Reload the data to ensure consistency
-                currentMedicalRecord = DataManager.getMedicalRecord(studentID);
-                JOptionPane.showMessageDialog(this,
-                        "Medical records updated successfully!",
-                        "Success",
-                        JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                JOptionPane.showMessageDialog(this,
-                        "Failed to update medical records!",
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-            }
+            // Force save medical record to database, off the EDT
+            updateButton.setEnabled(false);
+            java.util.function.Consumer<Boolean> saved = success -> {
+                updateButton.setEnabled(true);
+                if (success) {
+                    JOptionPane.showMessageDialog(this,
+                            "Medical records updated successfully!",
+                            "Success",
+                            JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this,
+                            "Failed to update medical records!",
+                            "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            };
+            AsyncDataAccess.onEdt(AsyncDataAccess.saveMedicalRecord(currentMedicalRecord),
+                    saved, error -> saved.accept(false));
         });
 
         buttonPanel.add(updateButton);
@@ -6280,53 +6325,61 @@ public class ISLUStudentPortal extends JFrame {
                 ));
                 currentSelectedMedicalButton = button;
 
-                // Reload medical record before switching panels to ensure data is current
-                currentMedicalRecord = DataManager.getMedicalRecord(studentID);
-
-                // Update content panel based on selected category
-                if (text.contains("Personal Info")) {
-                    showMedicalPersonalInfo();
-                } else if (text.contains("Allergies")) {
-                    showMedicalCategoryPanel("Allergies", currentMedicalRecord.getAllergies(),
-                            newContent -> currentMedicalRecord.setAllergies(newContent));
-                } else if (text.contains("Past Medical History")) {
-                    showMedicalCategoryPanel("Past Medical History", currentMedicalRecord.getPastMedicalHistory(),
-                            newContent -> currentMedicalRecord.setPastMedicalHistory(newContent));
-                } else if (text.contains("Childhood Diseases")) {
-                    showMedicalCategoryPanel("Childhood Diseases", currentMedicalRecord.getChildhoodDiseases(),
-                            newContent -> currentMedicalRecord.setChildhoodDiseases(newContent));
-                } else if (text.contains("Gynecologic History")) {
-                    showMedicalCategoryPanel("Gynecologic History", currentMedicalRecord.getGynecologicHistory(),
-                            newContent -> currentMedicalRecord.setGynecologicHistory(newContent));
-                } else if (text.contains("Personal/Social History")) {
-                    showMedicalCategoryPanel("Personal/Social History", currentMedicalRecord.getPersonalSocialHistory(),
-                            newContent -> currentMedicalRecord.setPersonalSocialHistory(newContent));
-                } else if (text.contains("Immunization")) {
-                    showMedicalCategoryPanel("Immunization", currentMedicalRecord.getImmunization(),
-                            newContent -> currentMedicalRecord.setImmunization(newContent));
-                } else if (text.contains("Others")) {
-                    showMedicalCategoryPanel("Others", currentMedicalRecord.getOthers(),
-                            newContent -> currentMedicalRecord.setOthers(newContent));
-                } else if (text.contains("Consultation Record")) {
-                    showMedicalCategoryPanel("Consultation Record", currentMedicalRecord.getConsultationRecord(),
-                            newContent -> currentMedicalRecord.setConsultationRecord(newContent));
-                } else {
-                    // Default: show personal info
-                    showMedicalPersonalInfo();
-                }
+                // Reload medical record (off the EDT) before switching panels to ensure data is current
+                AsyncDataAccess.onEdt(AsyncDataAccess.getMedicalRecord(studentID), record -> {
+                    currentMedicalRecord = record;
+                    showMedicalCategory(text);
+                });
             }
         });
 
         return button;
     }
 
+    /**
+     * Shows the medical content for the sidebar category with the given label
+     */
+    private void showMedicalCategory(String text) {
+        // Update content panel based on selected category
+        if (text.contains("Personal Info")) {
+            showMedicalPersonalInfo();
+        } else if (text.contains("Allergies")) {
+            showMedicalCategoryPanel("Allergies", currentMedicalRecord.getAllergies(),
+                    newContent -> currentMedicalRecord.setAllergies(newContent));
+        } else if (text.contains("Past Medical History")) {
+            showMedicalCategoryPanel("Past Medical History", currentMedicalRecord.getPastMedicalHistory(),
+                    newContent -> currentMedicalRecord.setPastMedicalHistory(newContent));
+        } else if (text.contains("Childhood Diseases")) {
+            showMedicalCategoryPanel("Childhood Diseases", currentMedicalRecord.getChildhoodDiseases(),
+                    newContent -> currentMedicalRecord.setChildhoodDiseases(newContent));
+        } else if (text.contains("Gynecologic History")) {
+            showMedicalCategoryPanel("Gynecologic History", currentMedicalRecord.getGynecologicHistory(),
+                    newContent -> currentMedicalRecord.setGynecologicHistory(newContent));
+        } else if (text.contains("Personal/Social History")) {
+            showMedicalCategoryPanel("Personal/Social History", currentMedicalRecord.getPersonalSocialHistory(),
+                    newContent -> currentMedicalRecord.setPersonalSocialHistory(newContent));
+        } else if (text.contains("Immunization")) {
+            showMedicalCategoryPanel("Immunization", currentMedicalRecord.getImmunization(),
+                    newContent -> currentMedicalRecord.setImmunization(newContent));
+        } else if (text.contains("Others")) {
+            showMedicalCategoryPanel("Others", currentMedicalRecord.getOthers(),
+                    newContent -> currentMedicalRecord.setOthers(newContent));
+        } else if (text.contains("Consultation Record")) {
+            showMedicalCategoryPanel("Consultation Record", currentMedicalRecord.getConsultationRecord(),
+                    newContent -> currentMedicalRecord.setConsultationRecord(newContent));
+        } else {
+            // Default: show personal info
+            showMedicalPersonalInfo();
+        }
+    }
+
     /**
      * Shows medical category panel in the main content area
      */
     private void showMedicalCategoryPanel(String category, String currentContent, java.util.function.Consumer<String> updateFunction) {
         // Save any pending changes before switching
         if (currentMedicalContentView != null) {
-            DataManager.saveMedicalRecord(currentMedicalRecord);
+            AsyncDataAccess.saveMedicalRecord(currentMedicalRecord);
         }
 
         medicalContentPanel.removeAll();
@@ -7263,7 +7316,7 @@ public class ISLUStudentPortal extends JFrame {
     private void showMedicalPersonalInfo() {
         // Save any pending changes before switching
         if (currentMedicalContentView != null) {
-            DataManager.saveMedicalRecord(currentMedicalRecord);
+            AsyncDataAccess.saveMedicalRecord(currentMedicalRecord);
         }
 
         medicalContentPanel.removeAll();
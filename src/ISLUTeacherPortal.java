@@ -12,8 +12,8 @@ public class ISLUTeacherPortal extends JFrame {
     private JPanel sidebarPanel;
     private JPanel footbarPanel;
     private JLabel userNameLabel;
-    private long lastDatabaseModified = 0; // Track database file modification time
-    private Timer databaseCheckTimer; // Timer for checking database changes
+    private DataChangeBus.Subscription dataChangeSubscription; // Data file change notifications
+    private JPanel announcementsCard;
     private JLabel semesterLabel;
     private JTextArea statusArea;
     private JPanel mainCardHolder;
@@ -31,9 +31,15 @@ public class ISLUTeacherPortal extends JFrame {
     // Grades table references for filtering
     private DefaultTableModel gradesTableModel;
     private JTable gradesTable;
+    
+    // Grade edits waiting to be saved as one batch
+    private final java.util.Map<String, GradeRecord> pendingGradeSaves = new java.util.LinkedHashMap<>();
+    private Timer gradeSaveTimer;
 
     public ISLUTeacherPortal(String teacherID) {
         this.teacherID = teacherID;
+        AsyncDataAccess.installEdtStallMonitor();
+        Metrics.install(); // JMX switch for timing metrics (-Dislu.metrics.enabled=true to start on)
         
         // Initialize teacher data manager
         TeacherDataManager.initialize();
@@ -50,16 +56,18 @@ public class ISLUTeacherPortal extends JFrame {
             this.subjectName = "";
         }
 
-        // Initialize shared data manager
-        SharedDataManager.initialize();
-        
-        // Initialize student data manager
-        StudentDataManager.initialize();
-
         initializeComponents();
-        buildCards();
-        setupLayout();
-        loadAnnouncements();
+        mainCardHolder.add(AsyncDataAccess.placeholder("Loading class data..."), "LOADING");
+
+        // Load shared data and the student roster off the EDT, then build the cards
+        AsyncDataAccess.onEdt(java.util.concurrent.CompletableFuture.allOf(
+                AsyncDataAccess.initializeSharedData(),
+                AsyncDataAccess.read(StudentRepository::getAllStudents)), ready -> {
+            StudentDataManager.initialize(); // Roster is cached by now
+            buildCards();
+            setupLayout();
+            loadAnnouncements();
+        });
 
         // Start database monitoring
         startDatabaseMonitoring();
@@ -69,6 +77,8 @@ public class ISLUTeacherPortal extends JFrame {
             @Override
             public void windowClosing(java.awt.event.WindowEvent windowEvent) {
                 stopDatabaseMonitoring();
+                savePendingGrades();
+                AsyncDataAccess.awaitWrites(5000);
                 System.exit(0);
             }
         });
@@ -249,7 +259,8 @@ public class ISLUTeacherPortal extends JFrame {
         createCurrentGradesPanel();
         
         // Other panels - these methods create and add panels internally
-        mainCardHolder.add(createAnnouncementsPanel(), "ANNOUNCEMENTS");
+        announcementsCard = createAnnouncementsPanel();
+        mainCardHolder.add(announcementsCard, "ANNOUNCEMENTS");
         createPersonalDetailsPanel();
         createJournalPanel();
         createAboutPanel();
@@ -591,6 +602,10 @@ public class ISLUTeacherPortal extends JFrame {
         gradesTable.getColumnModel().getColumn(4).setPreferredWidth(120); // Tentative Final
         gradesTable.getColumnModel().getColumn(5).setPreferredWidth(80);  // Average
 
+        // Edits made in quick succession are saved together in one batch
+        gradeSaveTimer = new Timer(750, e -> savePendingGrades());
+        gradeSaveTimer.setRepeats(false);
+
         // Add table change listener to save changes
         gradesTable.getModel().addTableModelListener(e -> {
             if (e.getType() == javax.swing.event.TableModelEvent.UPDATE) {
@@ -612,8 +627,9 @@ public class ISLUTeacherPortal extends JFrame {
                         gradesTableModel.setValueAt("", row, 5); // Clear average if not all grades present
                     }
                     
-                    // Save to shared data manager
-                    SharedDataManager.saveGradeRecord(studentID, subjectCode, subjectName, prelim, midterm, finalGrade);
+                    // Queue for the next batch save to shared data manager
+                    pendingGradeSaves.put(studentID, new GradeRecord(studentID, subjectCode, subjectName, prelim, midterm, finalGrade));
+                    gradeSaveTimer.restart();
                 }
             }
         });
@@ -715,9 +731,86 @@ public class ISLUTeacherPortal extends JFrame {
 
         filterPanel.add(searchButton);
 
+        // Save button - writes every row of the class in one batch
+        JButton saveButton = new JButton("Save Grades");
+        saveButton.setPreferredSize(new Dimension(110, 25));
+        saveButton.setFont(new Font("Arial", Font.PLAIN, 11));
+        saveButton.setBackground(new Color(39, 174, 96));
+        saveButton.setForeground(Color.WHITE);
+        saveButton.setBorderPainted(false);
+        saveButton.addActionListener(e -> saveAllGrades());
+        filterPanel.add(saveButton);
+
         return filterPanel;
     }
 
+    /**
+     * Save queued grade edits with a single batch write
+     */
+    private void savePendingGrades() {
+        savePendingGrades(null);
+    }
+
+    /**
+     * Save queued grade edits with a single batch write
+     * A batch that fails is queued again (except rows edited since), so the next save retries it.
+     * @param onSaved Called on the EDT with the number of records saved once the write succeeded,
+     *                or null to only report failures
+     */
+    private void savePendingGrades(java.util.function.IntConsumer onSaved) {
+        if (gradeSaveTimer != null) {
+            gradeSaveTimer.stop();
+        }
+        if (pendingGradeSaves.isEmpty()) {
+            if (onSaved != null) {
+                onSaved.accept(0);
+            }
+            return;
+        }
+
+        java.util.List<GradeRecord> batch = new java.util.ArrayList<>(pendingGradeSaves.values());
+        pendingGradeSaves.clear();
+        java.util.function.Consumer<Boolean> done = saved -> {
+            if (saved) {
+                if (onSaved != null) {
+                    onSaved.accept(batch.size());
+                }
+                return;
+            }
+            for (GradeRecord record : batch) {
+                pendingGradeSaves.putIfAbsent(record.getStudentID(), record);
+            }
+            JOptionPane.showMessageDialog(this, "Failed to save " + batch.size() + " grade record(s). "
+                    + "They will be saved again with your next change.", "Error", JOptionPane.ERROR_MESSAGE);
+        };
+        AsyncDataAccess.onEdt(AsyncDataAccess.saveGradeRecords(batch), done, error -> done.accept(false));
+    }
+
+    /**
+     * Save every row currently shown in the grades table with a single batch write
+     */
+    private void saveAllGrades() {
+        if (gradesTableModel == null) return;
+        if (gradesTable.isEditing()) {
+            gradesTable.getCellEditor().stopCellEditing();
+        }
+
+        for (int row = 0; row < gradesTableModel.getRowCount(); row++) {
+            String studentID = (String) gradesTableModel.getValueAt(row, 0);
+            double prelim = parseGradeValue(gradesTableModel.getValueAt(row, 2));
+            double midterm = parseGradeValue(gradesTableModel.getValueAt(row, 3));
+            double finalGrade = parseGradeValue(gradesTableModel.getValueAt(row, 4));
+
+            // Skip students with nothing encoded yet
+            if (prelim > 0 || midterm > 0 || finalGrade > 0) {
+                pendingGradeSaves.put(studentID, new GradeRecord(studentID, subjectCode, subjectName, prelim, midterm, finalGrade));
+            }
+        }
+
+        savePendingGrades(count -> JOptionPane.showMessageDialog(this, count + " grade record(s) saved.",
+                "Grades Saved", JOptionPane.INFORMATION_MESSAGE));
+    }
+
     private void createCompletionPanel() {
         JPanel completionPanel = new JPanel(new BorderLayout());
         completionPanel.setBackground(Color.WHITE);
@@ -1324,19 +1417,41 @@ public class ISLUTeacherPortal extends JFrame {
     }
 
     private void startDatabaseMonitoring() {
-        // Start monitoring database changes
-        databaseCheckTimer = new Timer(5000, e -> {
-            // Check for database changes every 5 seconds
-            // This is a placeholder implementation
+        // Student roster and announcement changes made outside this portal
+        dataChangeSubscription = DataChangeBus.subscribe(java.util.EnumSet.of(
+                DataChangeBus.ChangeType.STUDENT, DataChangeBus.ChangeType.ANNOUNCEMENT), event -> {
+            if (event.getType() == DataChangeBus.ChangeType.STUDENT) {
+                StudentRepository.getAllStudents(); // Reload the roster here, not on the EDT
+                SwingUtilities.invokeLater(StudentDataManager::initialize);
+            } else if (SharedDataManager.reloadAnnouncements()) { // Skips this portal's own posts
+                SwingUtilities.invokeLater(this::refreshAnnouncementsCard);
+            }
         });
-        databaseCheckTimer.start();
     }
 
     private void stopDatabaseMonitoring() {
-        if (databaseCheckTimer != null) {
-            databaseCheckTimer.stop();
+        if (dataChangeSubscription != null) {
+            dataChangeSubscription.close();
+            dataChangeSubscription = null;
         }
     }
+
+    /**
+     * Rebuild only the announcements card, keeping it on screen if it was showing
+     */
+    private void refreshAnnouncementsCard() {
+        boolean showing = announcementsCard != null && announcementsCard.isVisible();
+        if (announcementsCard != null) {
+            mainCardHolder.remove(announcementsCard);
+        }
+        announcementsCard = createAnnouncementsPanel();
+        mainCardHolder.add(announcementsCard, "ANNOUNCEMENTS");
+        if (showing) {
+            mainCardLayout.show(mainCardHolder, "ANNOUNCEMENTS");
+        }
+        mainCardHolder.revalidate();
+        mainCardHolder.repaint();
+    }
     
     // ========== DATA LOADING METHODS ==========
     
@@ -1467,7 +1582,7 @@ public class ISLUTeacherPortal extends JFrame {
     
     private void loadAttendanceData(DefaultTableModel model) {
         // Load all students from database
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         
         // Create sample dates for attendance tracking
         String[] sampleDates = {
@@ -1484,7 +1599,7 @@ public class ISLUTeacherPortal extends JFrame {
             
             for (String date : sampleDates) {
                 // Check if this student already has attendance data for this date
-                MySinglyLinkedList<AttendanceRecord> existingRecords = SharedDataManager.getStudentAttendance(student.getStudentID());
+                MySinglyLinkedList<AttendanceRecord> existingRecords = SharedDataManager.getStudentSubjectAttendance(student.getStudentID(), subjectCode);
                 String status = "Present";
                 String remarks = "";
                 
@@ -1591,7 +1706,7 @@ public class ISLUTeacherPortal extends JFrame {
                     String remarks = (String) model.getValueAt(row, 4);
                     
                     // Save to shared data manager
-                    SharedDataManager.recordAttendance(studentID, subjectCode, date, status, remarks);
+                    AsyncDataAccess.recordAttendance(studentID, subjectCode, date, status, remarks);
                 }
             }
         });
@@ -1622,7 +1737,7 @@ public class ISLUTeacherPortal extends JFrame {
 
     private void loadClassAttendanceData(DefaultTableModel model, String classCode) {
         // Load all students from database
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         
         // Create sample dates for attendance tracking
         String[] sampleDates = {
@@ -1639,7 +1754,7 @@ public class ISLUTeacherPortal extends JFrame {
             
             for (String date : sampleDates) {
                 // Check if this student already has attendance data for this date
-                MySinglyLinkedList<AttendanceRecord> existingRecords = SharedDataManager.getStudentAttendance(student.getStudentID());
+                MySinglyLinkedList<AttendanceRecord> existingRecords = SharedDataManager.getStudentSubjectAttendance(student.getStudentID(), subjectCode);
                 String status = "Present";
                 String remarks = "";
                 
@@ -1688,7 +1803,7 @@ public class ISLUTeacherPortal extends JFrame {
                 writer.println("------------------------------------------------------------------------");
                 
                 // Load all students and their attendance
-                MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+                MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
                 String[] sampleDates = {
                     "2025-01-15", "2025-01-17", "2025-01-20", "2025-01-22", "2025-01-24"
                 };
@@ -1697,7 +1812,7 @@ public class ISLUTeacherPortal extends JFrame {
                     StudentInfo student = allStudents.get(i);
                     
                     for (String date : sampleDates) {
-                        MySinglyLinkedList<AttendanceRecord> attendance = SharedDataManager.getStudentAttendance(student.getStudentID());
+                        MySinglyLinkedList<AttendanceRecord> attendance = SharedDataManager.getStudentSubjectAttendance(student.getStudentID(), subjectCode);
                         
                         String status = "Present";
                         String remarks = "";
@@ -1739,31 +1854,26 @@ public class ISLUTeacherPortal extends JFrame {
     
     private void loadGradesData(DefaultTableModel model) {
         // Load all students from database
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         
         // For each student, create grade record for this teacher's subject
         for (int i = 0; i < allStudents.size(); i++) {
             StudentInfo student = allStudents.get(i);
             
             // Check if this student already has grades for this subject
-            MySinglyLinkedList<GradeRecord> existingGrades = SharedDataManager.getStudentGrades(student.getStudentID());
+            GradeRecord existingGrade = SharedDataManager.getGradeRecord(student.getStudentID(), subjectCode);
             double prelimGrade = 0.0;
             double midtermGrade = 0.0;
             double finalGrade = 0.0;
             double average = 0.0;
             boolean hasGrades = false;
             
-            // Look for existing grades for this subject
-            for (int j = 0; j < existingGrades.size(); j++) {
-                GradeRecord existingGrade = existingGrades.get(j);
-                if (existingGrade.getSubjectCode().equals(subjectCode)) {
-                    prelimGrade = existingGrade.getPrelimGrade();
-                    midtermGrade = existingGrade.getMidtermGrade();
-                    finalGrade = existingGrade.getFinalGrade();
-                    average = (prelimGrade + midtermGrade + finalGrade) / 3.0;
-                    hasGrades = true;
-                    break;
-                }
+            if (existingGrade != null) {
+                prelimGrade = existingGrade.getGrade(GradeTable.PRELIM);
+                midtermGrade = existingGrade.getGrade(GradeTable.MIDTERM);
+                finalGrade = existingGrade.getGrade(GradeTable.FINAL);
+                average = (prelimGrade + midtermGrade + finalGrade) / 3.0;
+                hasGrades = true;
             }
             
             // Format grades to match student portal - show "Not Yet Submitted" for empty grades
@@ -1809,46 +1919,39 @@ public class ISLUTeacherPortal extends JFrame {
         gradesTableModel.setRowCount(0);
         
         // Load all students from database
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         
         // Apply filters and load data
-        for (int i = 0; i < allStudents.size(); i++) {
-            StudentInfo student = allStudents.get(i);
-            
+        allStudents.forEach(student -> {
             // Apply student ID filter
             if (!studentID.isEmpty() && !student.getStudentID().contains(studentID)) {
-                continue;
+                return;
             }
             
             // Apply class code filter (for now, all students are in the teacher's class)
             if (!selectedClassCode.equals("All Classes") && !selectedClassCode.equals(subjectCode)) {
-                continue;
+                return;
             }
             
             // Apply subject filter
             if (!selectedSubject.equals("Select subject...") && !selectedSubject.equals(subjectName)) {
-                continue;
+                return;
             }
             
             // Check if this student already has grades for this subject
-            MySinglyLinkedList<GradeRecord> existingGrades = SharedDataManager.getStudentGrades(student.getStudentID());
+            GradeRecord existingGrade = SharedDataManager.getGradeRecord(student.getStudentID(), subjectCode);
             double prelimGrade = 0.0;
             double midtermGrade = 0.0;
             double finalGrade = 0.0;
             double average = 0.0;
             boolean hasGrades = false;
             
-            // Look for existing grades for this subject
-            for (int j = 0; j < existingGrades.size(); j++) {
-                GradeRecord existingGrade = existingGrades.get(j);
-                if (existingGrade.getSubjectCode().equals(subjectCode)) {
-                    prelimGrade = existingGrade.getPrelimGrade();
-                    midtermGrade = existingGrade.getMidtermGrade();
-                    finalGrade = existingGrade.getFinalGrade();
-                    average = (prelimGrade + midtermGrade + finalGrade) / 3.0;
-                    hasGrades = true;
-                    break;
-                }
+            if (existingGrade != null) {
+                prelimGrade = existingGrade.getGrade(GradeTable.PRELIM);
+                midtermGrade = existingGrade.getGrade(GradeTable.MIDTERM);
+                finalGrade = existingGrade.getGrade(GradeTable.FINAL);
+                average = (prelimGrade + midtermGrade + finalGrade) / 3.0;
+                hasGrades = true;
             }
             
             // Format grades to match student portal - show "Not Yet Submitted" for empty grades
@@ -1865,7 +1968,7 @@ public class ISLUTeacherPortal extends JFrame {
                 finalDisplay,
                 averageDisplay
             });
-        }
+        });
     }
 
     private void showStudentsDialog() {
@@ -1896,7 +1999,7 @@ public class ISLUTeacherPortal extends JFrame {
         studentsPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
         // Load all students and create clickable student icons
-        MyDoublyLinkedList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
+        MyList<StudentInfo> allStudents = StudentDataManager.getAllStudents();
         for (int i = 0; i < allStudents.size(); i++) {
             StudentInfo student = allStudents.get(i);
             JPanel studentIcon = createStudentIcon(student);
@@ -2032,7 +2135,7 @@ public class ISLUTeacherPortal extends JFrame {
                     String requirement = (String) model.getValueAt(row, 0);
                     String status = (String) model.getValueAt(row, 1);
                     String remarks = (String) model.getValueAt(row, 2);
-                    SharedDataManager.updateClassChecklist(student.getStudentID(), subjectCode, requirement, status, remarks);
+                    AsyncDataAccess.updateClassChecklist(student.getStudentID(), subjectCode, requirement, status, remarks);
                 }
             }
         });
@@ -2210,16 +2313,20 @@ public class ISLUTeacherPortal extends JFrame {
             Announcement announcement = new Announcement(title, content, teacherName, audience, priority);
             
             // Add to shared data manager
-            boolean success = SharedDataManager.addAnnouncement(title, content, teacherName, audience, priority);
-            
-            if (success) {
-                JOptionPane.showMessageDialog(dialog, "Announcement posted successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                dialog.dispose();
-                // Refresh the announcements panel
-                refreshAnnouncementsPanel();
-            } else {
-                JOptionPane.showMessageDialog(dialog, "Failed to post announcement. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            postButton.setEnabled(false);
+            java.util.function.Consumer<Boolean> posted = success -> {
+                postButton.setEnabled(true);
+                if (success) {
+                    JOptionPane.showMessageDialog(dialog, "Announcement posted successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+                    dialog.dispose();
+                    // Refresh the announcements panel
+                    refreshAnnouncementsPanel();
+                } else {
+                    JOptionPane.showMessageDialog(dialog, "Failed to post announcement. Please try again.", "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            };
+            AsyncDataAccess.onEdt(AsyncDataAccess.addAnnouncement(title, content, teacherName, audience, priority),
+                    posted, error -> posted.accept(false));
         });
 
         buttonPanel.add(cancelButton);
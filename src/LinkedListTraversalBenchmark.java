@@ -0,0 +1,107 @@
+/**
+ * LinkedListTraversalBenchmark - Compares full scans of the custom lists
+ * - get(i) loop (re-walks a linked list for every index, O(n^2); O(n) on MyArrayList)
+ * - Iterator (for-each loop)
+ * - forEach (direct node walk, no iterator)
+ * - stream() (node-walking Spliterator)
+ *
+ * Run with: java -cp src LinkedListTraversalBenchmark [sizes...]
+ * Default sizes are 10,000 and 100,000 elements.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class LinkedListTraversalBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    // Result sink so the JIT cannot drop the traversals
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        int[] sizes = {10_000, 100_000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.println("=== LINKED LIST TRAVERSAL BENCHMARK ===");
+        for (int size : sizes) {
+            MySinglyLinkedList<Integer> singly = new MySinglyLinkedList<>();
+            MyDoublyLinkedList<Integer> doubly = new MyDoublyLinkedList<>();
+            MyArrayList<Integer> array = new MyArrayList<>();
+            for (int i = 0; i < size; i++) {
+                singly.add(i);
+                doubly.add(i);
+                array.add(i);
+            }
+
+            System.out.println("\nElements: " + size);
+            runList("MySinglyLinkedList", singly);
+            runList("MyDoublyLinkedList", doubly);
+            runList("MyArrayList", array);
+        }
+        System.out.println("\n(checksum " + sink + ")");
+    }
+
+    private static void runList(String name, MyList<Integer> list) {
+        // The quadratic loop is measured once; repeating it at 100k would take minutes
+        double indexed = time(1, () -> sumByIndex(list));
+        double iterator = time(MEASURED_ROUNDS, () -> sumByIterator(list));
+        double forEach = time(MEASURED_ROUNDS, () -> sumByForEach(list));
+        double stream = time(MEASURED_ROUNDS, () -> sumByStream(list));
+
+        System.out.println("  " + name);
+        print("get(i) loop", indexed, indexed);
+        print("iterator", iterator, indexed);
+        print("forEach", forEach, indexed);
+        print("stream()", stream, indexed);
+    }
+
+    private static void print(String label, double millis, double baseline) {
+        System.out.println(String.format("    %-12s %12.3f ms   %10.1fx", label, millis, baseline / millis));
+    }
+
+    /**
+     * Average wall time of a scan in milliseconds, after a warm-up
+     */
+    private static double time(int rounds, Runnable scan) {
+        for (int i = 0; i < Math.min(rounds, WARMUP_ROUNDS); i++) {
+            scan.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            scan.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / rounds;
+    }
+
+    private static void sumByIndex(MyList<Integer> list) {
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        sink += sum;
+    }
+
+    private static void sumByIterator(Iterable<Integer> list) {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        sink += sum;
+    }
+
+    private static void sumByForEach(Iterable<Integer> list) {
+        long[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        sink += sum[0];
+    }
+
+    private static void sumByStream(MyList<Integer> list) {
+        sink += list.stream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,420 @@
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedLineScanner - Zero-copy line scanner for large flat-file databases
+ * Features:
+ * - Maps the file with FileChannel.map (256MB windows) instead of copying it through a Reader
+ * - Hands every line to the visitor as a reusable CharSequence over the mapped bytes
+ * - Fields are decoded lazily: field() builds a String for one field only,
+ *   fieldEquals() and contains() compare in place without allocating
+ * - ASCII lines are read byte-for-char; lines with other UTF-8 text are decoded into one shared CharBuffer
+ * - Files under 64KB are read into a heap buffer, since mapping them costs more than it saves
+ * - Mapped windows are released as soon as the scan ends so the file can be replaced (Windows)
+ *
+ * Line numbering and line endings (\n or \r\n, last line without newline) match BufferedReader.readLine.
+ * The Line passed to a visitor is only valid inside the callback; call toString() to keep it.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class MappedLineScanner {
+
+    static final int MAP_WINDOW = 1 << 28;    // 256MB per mapped region
+    static final int MAP_THRESHOLD = 1 << 16; // Smaller files are read, not mapped
+
+    // Word-at-a-time newline search: a zero byte in (word ^ NEWLINES) marks a '\n'
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    // sun.misc.Unsafe.invokeCleaner, used to unmap a window without waiting for GC
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available on this JVM - mappings are released by the garbage collector
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Callback for each line of a scan
+     */
+    @FunctionalInterface
+    public interface LineVisitor {
+        /**
+         * @return true to continue, false to stop the scan
+         */
+        boolean visit(Line line, int lineNumber);
+    }
+
+    private final File file;
+    private final int windowSize;
+    private final Line line = new Line();
+    private int lineNumber = 0;
+    private boolean stopped = false;
+
+    private MappedLineScanner(File file, int windowSize) {
+        this.file = file;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Visit every line of a file in order
+     * @return number of lines visited
+     */
+    public static int scan(File file, LineVisitor visitor) throws IOException {
+        return scan(file, MAP_WINDOW, visitor);
+    }
+
+    /**
+     * Scan with a custom window size (lines must be shorter than the window)
+     */
+    static int scan(File file, int windowSize, LineVisitor visitor) throws IOException {
+        if (!file.exists()) {
+            return 0;
+        }
+        MappedLineScanner scanner = new MappedLineScanner(file, windowSize);
+        scanner.run(visitor);
+        return scanner.lineNumber;
+    }
+
+    private void run(LineVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            if (size < MAP_THRESHOLD) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Read until full or end of file
+                }
+                buffer.flip();
+                scanWindow(buffer.asReadOnlyBuffer(), true, visitor);
+                return;
+            }
+
+            long position = 0;
+            while (position < size && !stopped) {
+                long length = Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                try {
+                    int consumed = scanWindow(window, lastWindow, visitor);
+                    if (consumed == 0 && !lastWindow) {
+                        throw new IOException("Line longer than " + windowSize + " bytes at offset " + position + " in " + file);
+                    }
+                    position += consumed; // The next window starts at the first unfinished line
+                } finally {
+                    unmap(window);
+                }
+            }
+        } finally {
+            line.release();
+        }
+    }
+
+    /**
+     * Visit the complete lines of one window
+     * @return number of bytes consumed
+     */
+    private int scanWindow(ByteBuffer buffer, boolean lastWindow, LineVisitor visitor) {
+        int limit = buffer.limit();
+        int start = 0;
+        boolean ascii = true;
+        int i = 0;
+
+        while (i < limit) {
+            // Skip 8 bytes at a time while they hold neither a newline nor a non-ASCII byte
+            if (i + 8 <= limit) {
+                long word = buffer.getLong(i);
+                long newline = word ^ NEWLINES;
+                if (((newline - ONES) & ~newline & HIGH_BITS) == 0 && (word & HIGH_BITS) == 0) {
+                    i += 8;
+                    continue;
+                }
+            }
+
+            byte b = buffer.get(i++);
+            if (b == '\n') {
+                emit(buffer, start, i - 1, ascii, visitor);
+                start = i;
+                ascii = true;
+                if (stopped) {
+                    return start;
+                }
+            } else if (b < 0) {
+                ascii = false;
+            }
+        }
+
+        if (lastWindow && start < limit) {
+            emit(buffer, start, limit, ascii, visitor);
+            return limit;
+        }
+        return start;
+    }
+
+    private void emit(ByteBuffer buffer, int start, int end, boolean ascii, LineVisitor visitor) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        line.reset(buffer, start, end, ascii);
+        stopped = !visitor.visit(line, lineNumber++);
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Left to the garbage collector
+        }
+    }
+
+    /**
+     * One line of a scan, read in place from the file buffer
+     */
+    public static final class Line implements CharSequence {
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private CharBuffer decoded = CharBuffer.allocate(256);
+        private boolean decodedValid = false;
+
+        private ByteBuffer buffer;
+        private int start;
+        private int end;
+        private boolean ascii;
+
+        private Line() {
+        }
+
+        void reset(ByteBuffer buffer, int start, int end, boolean ascii) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.ascii = ascii;
+            this.decodedValid = false;
+        }
+
+        void release() {
+            this.buffer = null;
+            this.decodedValid = false;
+        }
+
+        /**
+         * Raw UTF-8 bytes of the line (no line terminator) - must not be kept after the callback
+         */
+        public ByteBuffer bytes() {
+            checkValid();
+            return buffer.slice(start, end - start);
+        }
+
+        /**
+         * True if the line only contains ASCII characters (every byte is one char)
+         */
+        public boolean isAscii() {
+            return ascii;
+        }
+
+        @Override
+        public int length() {
+            checkValid();
+            return ascii ? end - start : decodedChars().limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            checkValid();
+            if (!ascii) {
+                return decodedChars().get(index);
+            }
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + (end - start));
+            }
+            return (char) buffer.get(start + index);
+        }
+
+        @Override
+        public String subSequence(int from, int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of length " + length());
+            }
+            if (!ascii) {
+                return decodedChars().subSequence(from, to).toString();
+            }
+            byte[] copy = new byte[to - from];
+            buffer.get(start + from, copy);
+            return new String(copy, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length());
+        }
+
+        /**
+         * Index of a character at or after a position, or -1
+         */
+        public int indexOf(char c, int from) {
+            checkValid();
+            if (ascii) {
+                // Byte search straight on the buffer
+                if (c > 0x7F) return -1;
+                for (int i = start + Math.max(0, from); i < end; i++) {
+                    if (buffer.get(i) == c) {
+                        return i - start;
+                    }
+                }
+                return -1;
+            }
+
+            CharBuffer chars = decodedChars();
+            for (int i = Math.max(0, from); i < chars.limit(); i++) {
+                if (chars.get(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Check if the line starts with a prefix
+         */
+        public boolean startsWith(CharSequence prefix) {
+            return regionMatches(0, prefix, true);
+        }
+
+        /**
+         * Check if the line contains a pattern, optionally ignoring case
+         */
+        public boolean contains(CharSequence pattern, boolean caseSensitive) {
+            int last = length() - pattern.length();
+            for (int i = 0; i <= last; i++) {
+                if (regionMatches(i, pattern, caseSensitive)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Number of fields when split on a separator (a line without separators has one field)
+         */
+        public int fieldCount(char separator) {
+            int count = 1;
+            int length = length();
+            for (int i = 0; i < length; i++) {
+                if (charAt(i) == separator) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Decode one field (0-based) - only this field is turned into a String
+         * @return the field, or null if the line has fewer fields
+         */
+        public String field(int index, char separator) {
+            int from = fieldStart(index, separator);
+            if (from < 0) {
+                return null;
+            }
+            int to = indexOf(separator, from);
+            return subSequence(from, to < 0 ? length() : to);
+        }
+
+        /**
+         * Compare a field, ignoring surrounding whitespace, without decoding it
+         * Same result as field(index, separator).trim().equals(value)
+         */
+        public boolean fieldEquals(int index, char separator, CharSequence value) {
+            int from = fieldStart(index, separator);
+            if (from < 0) {
+                return false;
+            }
+            int to = indexOf(separator, from);
+            if (to < 0) {
+                to = length();
+            }
+            while (from < to && charAt(from) <= ' ') from++;
+            while (to > from && charAt(to - 1) <= ' ') to--;
+
+            return to - from == value.length() && regionMatches(from, value, true);
+        }
+
+        private int fieldStart(int index, char separator) {
+            int position = 0;
+            for (int field = 0; field < index; field++) {
+                int next = indexOf(separator, position);
+                if (next < 0) {
+                    return -1;
+                }
+                position = next + 1;
+            }
+            return position;
+        }
+
+        private boolean regionMatches(int offset, CharSequence other, boolean caseSensitive) {
+            int length = other.length();
+            if (offset < 0 || offset + length > length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char a = charAt(offset + i);
+                char b = other.charAt(i);
+                if (a != b && (caseSensitive || Character.toLowerCase(a) != Character.toLowerCase(b))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Decode a non-ASCII line into the shared CharBuffer (once per line)
+         */
+        private CharBuffer decodedChars() {
+            if (!decodedValid) {
+                ByteBuffer bytes = buffer.slice(start, end - start);
+                if (decoded.capacity() < bytes.remaining()) {
+                    decoded = CharBuffer.allocate(bytes.remaining()); // UTF-8 never yields more chars than bytes
+                }
+                decoded.clear();
+                decoder.reset();
+                decoder.decode(bytes, decoded, true);
+                decoder.flush(decoded);
+                decoded.flip();
+                decodedValid = true;
+            }
+            return decoded;
+        }
+
+        private void checkValid() {
+            if (buffer == null) {
+                throw new IllegalStateException("Line used outside of its scan callback");
+            }
+        }
+    }
+}
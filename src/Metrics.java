@@ -0,0 +1,457 @@
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics - Timers, latency histograms and counters for the data-access hot paths
+ * Features:
+ * - Timers per method (DataManager.*, SharedDataManager.*, FileIOManager.*,
+ *   AccountStatement.processPayment): count, mean, max and p50/p95/p99 from a log2 histogram
+ * - Counters for events such as EDT stalls
+ * - JMX: iSLU:type=Metrics (switch on/off, report, reset) plus one MXBean per timer and counter
+ * - Periodic report appended to a log file while enabled
+ * - EDT watchdog (see EdtWatchdog) started and stopped with the metrics
+ *
+ * Instrumented code uses:
+ *   return Metrics.time("DataManager.getStudentInfo", () -> { ... });
+ * or, around part of a method, long start = Metrics.start(); try { ... } finally { Metrics.stop(name, start); }
+ * While disabled, start() is one volatile read and stop() returns at once.
+ *
+ * Properties: -Dislu.metrics.enabled=true, -Dislu.metrics.logFile=metrics.log,
+ *             -Dislu.metrics.logSeconds=60
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class Metrics {
+
+    public static final String JMX_DOMAIN = "iSLU";
+
+    private static final String LOG_FILE = System.getProperty("islu.metrics.logFile", "metrics.log");
+    private static final long LOG_SECONDS = Long.getLong("islu.metrics.logSeconds", 60);
+
+    private static volatile boolean enabled = false;
+
+    // start() result while disabled; start() never returns it as a real time
+    private static final long NOT_TIMING = Long.MIN_VALUE;
+
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private static ScheduledExecutorService logger;
+    private static volatile boolean controlRegistered = false;
+
+    static {
+        if (Boolean.getBoolean("islu.metrics.enabled")) {
+            setEnabled(true);
+        }
+    }
+
+    private Metrics() {
+    }
+
+    // ========== RECORDING ==========
+
+    /**
+     * Start time for stop(...), or a value stop(...) ignores while metrics are disabled
+     */
+    public static long start() {
+        if (!enabled) {
+            return NOT_TIMING;
+        }
+        long now = System.nanoTime();
+        return now == NOT_TIMING ? now + 1 : now; // nanoTime can be any value; be a nanosecond off instead
+    }
+
+    /**
+     * Record the time since start() under the given timer name
+     */
+    public static void stop(String name, long start) {
+        if (start == NOT_TIMING) return;
+        timer(name).record(System.nanoTime() - start);
+    }
+
+    /**
+     * A timed block that returns a value
+     */
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * A timed block without a result
+     */
+    @FunctionalInterface
+    public interface TimedRun<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * Run a block and record its time under the given timer name
+     */
+    public static <T, E extends Exception> T time(String name, TimedCall<T, E> call) throws E {
+        long start = start();
+        try {
+            return call.call();
+        } finally {
+            stop(name, start);
+        }
+    }
+
+    public static <E extends Exception> void time(String name, TimedRun<E> run) throws E {
+        long start = start();
+        try {
+            run.run();
+        } finally {
+            stop(name, start);
+        }
+    }
+
+    /**
+     * Add one to a counter (ignored while disabled)
+     */
+    public static void increment(String name) {
+        if (enabled) {
+            counter(name).add(1);
+        }
+    }
+
+    public static Timer timer(String name) {
+        Timer timer = timers.get(name);
+        if (timer == null) {
+            Timer created = new Timer(name);
+            timer = timers.putIfAbsent(name, created);
+            if (timer == null) {
+                timer = created;
+                register("Timer", name, created);
+            }
+        }
+        return timer;
+    }
+
+    public static Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            Counter created = new Counter(name);
+            counter = counters.putIfAbsent(name, created);
+            if (counter == null) {
+                counter = created;
+                register("Counter", name, created);
+            }
+        }
+        return counter;
+    }
+
+    // ========== ON / OFF ==========
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch recording on or off; also starts/stops the log file writer and the EDT watchdog
+     */
+    public static synchronized void setEnabled(boolean on) {
+        if (on == enabled) return;
+        enabled = on;
+        if (on) {
+            registerControl();
+            startLogging();
+            EdtWatchdog.start();
+        } else {
+            EdtWatchdog.stop();
+            stopLogging();
+        }
+    }
+
+    /**
+     * Register the iSLU:type=Metrics control bean so metrics can be switched on from a JMX console
+     * (call once at application start; recording stays off until enabled)
+     */
+    public static synchronized void install() {
+        registerControl();
+    }
+
+    public static void resetAll() {
+        timers.values().forEach(Timer::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    // ========== REPORTING ==========
+
+    /**
+     * One line per timer and counter, sorted by name
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        for (Timer timer : new TreeMap<>(timers).values()) {
+            if (timer.getCount() > 0) {
+                report.append(timer).append('\n');
+            }
+        }
+        for (Counter counter : new TreeMap<>(counters).values()) {
+            report.append(counter).append('\n');
+        }
+        return report.toString();
+    }
+
+    private static void startLogging() {
+        if (LOG_SECONDS <= 0 || logger != null) return;
+        logger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Metrics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(Metrics::writeLog, LOG_SECONDS, LOG_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void stopLogging() {
+        if (logger != null) {
+            logger.shutdown();
+            logger = null;
+            writeLog(); // Keep what was measured up to now
+        }
+    }
+
+    /**
+     * Append the current report (and cache statistics) to the metrics log file
+     */
+    public static void writeLog() {
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+        try (PrintWriter out = new PrintWriter(new FileWriter(new File(LOG_FILE), true))) {
+            out.println("=== " + timestamp + " ===");
+            out.print(report());
+            out.println(StudentRepository.getStatistics());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not write metrics log " + LOG_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Append a free-form entry (e.g. a stall stack trace) to the metrics log file
+     */
+    static void log(String entry) {
+        try (PrintWriter out = new PrintWriter(new FileWriter(new File(LOG_FILE), true))) {
+            out.println(entry);
+        } catch (IOException e) {
+            System.err.println(entry);
+        }
+    }
+
+    // ========== JMX ==========
+
+    private static void registerControl() {
+        if (controlRegistered) return;
+        controlRegistered = true;
+        register("Metrics", null, new Control());
+        timers.forEach((name, timer) -> register("Timer", name, timer));
+        counters.forEach((name, counter) -> register("Counter", name, counter));
+    }
+
+    private static void register(String type, String name, Object bean) {
+        if (!controlRegistered) return; // JMX not installed; avoid starting the platform MBean server
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type
+                    + (name != null ? ",name=" + ObjectName.quote(name) : ""));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(bean, objectName);
+            }
+        } catch (JMException | RuntimeException e) {
+            System.err.println("Could not register " + type + " MBean " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * JMX view of the whole metrics module
+     */
+    public interface MetricsControlMXBean {
+        boolean isEnabled();
+        void setEnabled(boolean enabled);
+        String getReport();
+        List<String> getTimerNames();
+        void reset();
+        void writeLog();
+    }
+
+    private static final class Control implements MetricsControlMXBean {
+        @Override public boolean isEnabled() { return Metrics.isEnabled(); }
+        @Override public void setEnabled(boolean on) { Metrics.setEnabled(on); }
+        @Override public String getReport() { return Metrics.report(); }
+        @Override public List<String> getTimerNames() { return new ArrayList<>(new TreeMap<>(timers).keySet()); }
+        @Override public void reset() { Metrics.resetAll(); }
+        @Override public void writeLog() { Metrics.writeLog(); }
+    }
+
+    // ========== TIMER ==========
+
+    /**
+     * JMX view of one timer (times in milliseconds)
+     */
+    public interface TimerMXBean {
+        long getCount();
+        double getMeanMillis();
+        double getMaxMillis();
+        double getP50Millis();
+        double getP95Millis();
+        double getP99Millis();
+        long[] getBucketCounts();
+        void reset();
+    }
+
+    /**
+     * Latency timer backed by a log2 histogram of microseconds
+     * Bucket 0 holds times under 1us, bucket i times in [2^(i-1), 2^i) us; percentiles report
+     * the upper bound of their bucket, so they are at most 2x too high and never too low.
+     */
+    public static final class Timer implements TimerMXBean {
+        private static final int BUCKETS = 40;
+
+        private final String name;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        Timer(String name) {
+            this.name = name;
+        }
+
+        public void record(long nanos) {
+            long micros = Math.max(0, nanos) / 1000;
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            totalNanos.add(nanos);
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+
+        public String getName() { return name; }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+
+        @Override
+        public double getMeanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+        }
+
+        @Override
+        public double getMaxMillis() {
+            return maxNanos.get() / 1e6;
+        }
+
+        @Override public double getP50Millis() { return percentileMillis(0.50); }
+        @Override public double getP95Millis() { return percentileMillis(0.95); }
+        @Override public double getP99Millis() { return percentileMillis(0.99); }
+
+        /**
+         * Upper bound of the bucket holding the given fraction of recorded times
+         */
+        public double percentileMillis(double fraction) {
+            long[] snapshot = getBucketCounts();
+            long total = 0;
+            for (long c : snapshot) total += c;
+            if (total == 0) return 0.0;
+
+            long target = (long) Math.ceil(fraction * total);
+            long seen = 0;
+            for (int i = 0; i < snapshot.length; i++) {
+                seen += snapshot[i];
+                if (seen >= target) {
+                    return Math.min((1L << i) / 1000.0, getMaxMillis());
+                }
+            }
+            return getMaxMillis();
+        }
+
+        @Override
+        public long[] getBucketCounts() {
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = buckets.get(i);
+            }
+            return snapshot;
+        }
+
+        @Override
+        public void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("TIMER %s count=%d mean=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms",
+                    name, getCount(), getMeanMillis(), getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis());
+        }
+    }
+
+    // ========== COUNTER ==========
+
+    /**
+     * JMX view of one counter
+     */
+    public interface CounterMXBean {
+        long getCount();
+        void reset();
+    }
+
+    public static final class Counter implements CounterMXBean {
+        private final String name;
+        private final LongAdder value = new LongAdder();
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        public String getName() { return name; }
+
+        @Override
+        public long getCount() {
+            return value.sum();
+        }
+
+        @Override
+        public void reset() {
+            value.reset();
+        }
+
+        @Override
+        public String toString() {
+            return "COUNTER " + name + " " + getCount();
+        }
+    }
+}
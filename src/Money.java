@@ -0,0 +1,158 @@
+/**
+ * Money - Fixed-point peso amounts held as a long count of centavos
+ * Features:
+ * - Amounts are plain longs (P 10,000.00 is 1000000), so adding, subtracting and comparing
+ *   money allocates nothing and never drifts the way repeated double sums do
+ * - Conversion from pesos rounds to the nearest centavo once, at the boundary
+ * - parse(...) reads "10000.00", "P 10,000.00" and "(P 500.00)" digit by digit, without
+ *   String.format, replace() or Double.parseDouble
+ * - format(...) and formatPlain(...) build the display strings; they belong at the UI and
+ *   file edges, not in the arithmetic
+ *
+ * A value class would box every amount; a long with static helpers keeps the fee, statement and
+ * payment fields primitive, the same way GradeTable keeps grades in double columns.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class Money {
+
+    public static final long ZERO = 0L;
+    public static final long CENTAVOS_PER_PESO = 100L;
+
+    private Money() {
+    }
+
+    /**
+     * Centavos for an amount in pesos, rounded to the nearest centavo
+     */
+    public static long ofPesos(double pesos) {
+        return Math.round(pesos * CENTAVOS_PER_PESO);
+    }
+
+    /**
+     * Amount in pesos, for callers that still work in double
+     */
+    public static double toPesos(long centavos) {
+        return centavos / (double) CENTAVOS_PER_PESO;
+    }
+
+    /**
+     * Centavos for a fraction (e.g. a discount rate) of an amount, rounded to the nearest centavo
+     */
+    public static long percentOf(long centavos, double percentage) {
+        return Math.round(centavos * (percentage / 100.0));
+    }
+
+    // ========== PARSING ==========
+
+    /**
+     * Parse a peso amount: optional "P" prefix, thousands commas, up to two decimals, and a
+     * leading minus or surrounding parentheses for negative amounts
+     * @throws NumberFormatException if there are no digits or an unexpected character
+     */
+    public static long parse(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+
+        boolean negative = false;
+        if (start < end && text.charAt(start) == '(' && text.charAt(end - 1) == ')') {
+            negative = true;
+            start++;
+            end--;
+        }
+
+        long pesos = 0;
+        long centavos = 0;
+        int decimals = -1;
+        boolean digits = false;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (decimals < 0) {
+                    pesos = Math.addExact(Math.multiplyExact(pesos, 10), c - '0');
+                } else if (decimals < 2) {
+                    centavos = centavos * 10 + (c - '0');
+                    decimals++;
+                } else if (decimals == 2) {
+                    // Round half up on the third decimal; later digits cannot change it
+                    if (c >= '5') centavos++;
+                    decimals++;
+                }
+            } else if (c == '.' && decimals < 0) {
+                decimals = 0;
+            } else if (c == '-' && !digits && !negative) {
+                negative = true;
+            } else if (c != ',' && c != 'P' && c != ' ' && c != '\u20B1') {
+                throw new NumberFormatException("Not a peso amount: " + text);
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("Not a peso amount: " + text);
+        }
+        if (decimals == 1) {
+            centavos *= 10;
+        }
+
+        long total = Math.addExact(Math.multiplyExact(pesos, CENTAVOS_PER_PESO), centavos);
+        return negative ? -total : total;
+    }
+
+    // ========== FORMATTING ==========
+
+    /**
+     * Display form with peso sign and thousands separators, e.g. "P 10,000.00"
+     */
+    public static String format(long centavos) {
+        StringBuilder text = new StringBuilder(20).append("P ");
+        return append(text, centavos, true).toString();
+    }
+
+    /**
+     * Plain form for files and CSV columns, e.g. "10000.00"
+     */
+    public static String formatPlain(long centavos) {
+        return append(new StringBuilder(16), centavos, false).toString();
+    }
+
+    /**
+     * Append the amount to a builder without creating intermediate strings
+     * @param grouping Whether to separate thousands with commas
+     */
+    public static StringBuilder append(StringBuilder into, long centavos, boolean grouping) {
+        if (centavos < 0) {
+            into.append('-');
+            // Long.MIN_VALUE has no positive counterpart; no real amount comes near it
+            centavos = -centavos;
+        }
+
+        long pesos = centavos / CENTAVOS_PER_PESO;
+        int fraction = (int) (centavos % CENTAVOS_PER_PESO);
+
+        if (grouping && pesos >= 1000) {
+            appendGrouped(into, pesos);
+        } else {
+            into.append(pesos);
+        }
+        into.append('.');
+        if (fraction < 10) into.append('0');
+        return into.append(fraction);
+    }
+
+    private static void appendGrouped(StringBuilder into, long pesos) {
+        if (pesos >= 1000) {
+            appendGrouped(into, pesos / 1000);
+            into.append(',');
+            long group = pesos % 1000;
+            if (group < 100) into.append('0');
+            if (group < 10) into.append('0');
+            into.append(group);
+        } else {
+            into.append(pesos);
+        }
+    }
+}
@@ -0,0 +1,462 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Array-backed list with the same API as the linked lists
+ * Features:
+ * - O(1) get/set by index on a contiguous backing array
+ * - Amortized O(1) append with 1.5x capacity growth
+ * - TimSort (Arrays.sort) on the backing array for O(n log n) sorting
+ * - Iterative O(log n) binary search for sorted lists
+ * - Fail-fast iterator, forEach and sized Spliterator
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class MyArrayList<T> implements MyList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private Object[] elements;
+    private int size;
+    private int modCount = 0;
+    private boolean isSorted = false;
+    private Comparator<T> lastUsedComparator = null;
+
+    public MyArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MyArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Add element to the end of the list - amortized O(1)
+     */
+    public void add(T data) {
+        addLast(data);
+    }
+
+    /**
+     * Add element to the end of the list - amortized O(1)
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+        ensureCapacity(size + 1);
+        elements[size++] = data;
+        modCount++;
+        isSorted = false;
+    }
+
+    /**
+     * Add element to the beginning of the list - O(n)
+     */
+    public void addFirst(T data) {
+        add(0, data);
+    }
+
+    /**
+     * Insert element at specific index - O(n)
+     */
+    public void add(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = data;
+        size++;
+        modCount++;
+        isSorted = false;
+    }
+
+    /**
+     * Remove first element - O(n)
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Remove last element - O(1)
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return remove(size - 1);
+    }
+
+    /**
+     * Remove element at index - O(n - index)
+     */
+    public T remove(int index) {
+        checkIndex(index);
+
+        T removed = elementAt(index);
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, moved);
+        }
+        elements[--size] = null; // Let the removed element be collected
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Get element at index - O(1)
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return elementAt(index);
+    }
+
+    /**
+     * Set element at index - O(1)
+     */
+    @Override
+    public T set(int index, T data) {
+        checkIndex(index);
+        if (data == null) {
+            throw new IllegalArgumentException("Cannot set null element");
+        }
+
+        T oldData = elementAt(index);
+        elements[index] = data;
+        isSorted = false;
+        return oldData;
+    }
+
+    /**
+     * Find index of element - O(n)
+     */
+    public int indexOf(T data) {
+        if (data == null) return -1;
+        for (int i = 0; i < size; i++) {
+            if (data.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find last index of element - O(n)
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) return -1;
+        for (int i = size - 1; i >= 0; i--) {
+            if (data.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains element - O(n)
+     */
+    public boolean contains(T data) {
+        return indexOf(data) != -1;
+    }
+
+    /**
+     * Sort the backing array with TimSort - O(n log n), O(n) on already ordered runs
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        Arrays.sort((T[]) elements, 0, size, comparator);
+        modCount++;
+        isSorted = true;
+        lastUsedComparator = comparator;
+    }
+
+    /**
+     * Binary search for sorted list - O(log n)
+     * Only works if list is sorted with the same comparator
+     */
+    public int binarySearch(T key, Comparator<T> comparator) {
+        if (!isSorted || !comparator.equals(lastUsedComparator)) {
+            throw new IllegalStateException("List must be sorted with the same comparator before binary search");
+        }
+
+        int left = 0;
+        int right = size - 1;
+        while (left <= right) {
+            int mid = (left + right) >>> 1;
+            int comparison = comparator.compare(key, elementAt(mid));
+
+            if (comparison == 0) {
+                return mid;
+            } else if (comparison < 0) {
+                right = mid - 1;
+            } else {
+                left = mid + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reverse the list in place - O(n)
+     */
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            Object temp = elements[i];
+            elements[i] = elements[j];
+            elements[j] = temp;
+        }
+        modCount++;
+        isSorted = false;
+    }
+
+    /**
+     * Grow the backing array so it can hold at least minCapacity elements
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) return;
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required list capacity too large: " + minCapacity);
+        }
+
+        int newCapacity = elements.length + (elements.length >> 1); // 1.5x growth
+        if (newCapacity < minCapacity) {
+            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        }
+        if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+            newCapacity = MAX_CAPACITY;
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    /**
+     * Shrink the backing array to the current size
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Get size of list
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get size of list (alias for getSize)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get first element - O(1)
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return elementAt(0);
+    }
+
+    /**
+     * Get last element - O(1)
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return elementAt(size - 1);
+    }
+
+    /**
+     * Convert to array
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray(T[] array) {
+        if (array.length < size) {
+            return (T[]) Arrays.copyOf(elements, size, array.getClass());
+        }
+
+        System.arraycopy(elements, 0, array, 0, size);
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+
+    /**
+     * Check if list is sorted
+     */
+    public boolean isSorted() {
+        return isSorted;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(elements[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Visit every element in order with a plain indexed loop - O(n)
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && expectedModCount == modCount; i++) {
+            action.accept(elementAt(i));
+        }
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Scan that stops at the first element matching the predicate - O(n) worst case
+     */
+    @Override
+    public T find(Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new NullPointerException();
+        }
+        for (int i = 0; i < size; i++) {
+            T data = elementAt(i);
+            if (predicate.test(data)) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Iterator implementation with fail-fast behavior
+     */
+    private class ArrayListIterator implements Iterator<T> {
+        private int cursor = 0;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            checkForModification();
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForModification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForModification();
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            MyArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // ========== MyList Interface Implementation ==========
+
+    /**
+     * Check if the list is empty
+     * @return true if list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear all elements from the list
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+        isSorted = false;
+        lastUsedComparator = null;
+    }
+}
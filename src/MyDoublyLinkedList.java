@@ -1,6 +1,11 @@
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Enhanced Doubly Linked List with additional algorithms and optimizations
@@ -10,6 +15,7 @@ import java.util.Comparator;
  * - Merge sort implementation for O(n log n) sorting
  * - Binary search for sorted lists
  * - Iterator with bidirectional traversal
+ * - Allocation-free forEach/find traversal and a Spliterator-backed stream()
  * - Enhanced error handling and validation
  */
 public class MyDoublyLinkedList<T> implements MyList<T>, Iterable<T> {
@@ -201,6 +207,28 @@ public class MyDoublyLinkedList<T> implements MyList<T>, Iterable<T> {
         return oldData;
     }
 
+    /**
+     * Replace the first occurrence of an element in a single walk - O(n)
+     * @return true if the element was found and replaced
+     */
+    public boolean replace(T oldData, T newData) {
+        if (oldData == null) return false;
+        if (newData == null) {
+            throw new IllegalArgumentException("Cannot set null element");
+        }
+
+        DoublyLinkedNode<T> current = head;
+        while (current != null) {
+            if (current.getData() == oldData || oldData.equals(current.getData())) {
+                current.setData(newData);
+                isSorted = false;
+                return true;
+            }
+            current = current.getNext();
+        }
+        return false;
+    }
+
     /**
      * Optimized node retrieval using bidirectional search
      * Searches from head if index < size/2, otherwise from tail
@@ -606,7 +634,55 @@ public class MyDoublyLinkedList<T> implements MyList<T>, Iterable<T> {
             }
         }
     }
-    
+
+    // ========== Cursor / Bulk Traversal ==========
+
+    /**
+     * Visit every element in order by walking the nodes directly - O(n), no iterator allocated
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedSize = size;
+        for (DoublyLinkedNode<T> current = head; current != null; current = current.getNext()) {
+            action.accept(current.getData());
+            if (expectedSize != size) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Cursor scan that stops at the first element matching the predicate - O(n) worst case
+     * @return The first matching element, or null if none matches
+     */
+    public T find(Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new NullPointerException();
+        }
+        for (DoublyLinkedNode<T> current = head; current != null; current = current.getNext()) {
+            T data = current.getData();
+            if (predicate.test(data)) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(head, size, DoublyLinkedNode::getNext, DoublyLinkedNode::getData, () -> size);
+    }
+
+    /**
+     * Sequential stream over the list, backed by a node-walking spliterator
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     // ========== MyList Interface Implementation ==========
     
     /**
@@ -1,3 +1,7 @@
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * MyList Interface - Required interface for LinkedList implementations
  * This interface defines the contract that all list implementations must follow
@@ -6,7 +10,7 @@
  * AUTHOR: Group Project Implementation
  * SUBJECT: DATA STRUCTURE IT212 9458
  */
-public interface MyList<T> {
+public interface MyList<T> extends Iterable<T> {
     
     /**
      * Add element to the end of the list
@@ -77,4 +81,40 @@ public interface MyList<T> {
      * @throws IndexOutOfBoundsException if index is invalid
      */
     T set(int index, T data);
+    
+    /**
+     * Replace the first occurrence of an element
+     * @param oldData The element to replace
+     * @param newData The replacement
+     * @return true if the element was found and replaced
+     */
+    default boolean replace(T oldData, T newData) {
+        int index = indexOf(oldData);
+        if (index < 0) {
+            return false;
+        }
+        set(index, newData);
+        return true;
+    }
+    
+    /**
+     * Find the first element matching the predicate, stopping at the first match
+     * @param predicate The condition to test
+     * @return The first matching element, or null if none matches
+     */
+    default T find(Predicate<? super T> predicate) {
+        for (T data : this) {
+            if (predicate.test(data)) {
+                return data;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Sequential stream over the elements in list order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -0,0 +1,66 @@
+/**
+ * MyListFactory - Chooses the MyList implementation behind the data managers
+ * Features:
+ * - ARRAY (MyArrayList): O(1) get/set by index and O(log n) binary search, the default
+ * - DOUBLY_LINKED (MyDoublyLinkedList): O(1) insert/remove at both ends
+ * - SINGLY_LINKED (MySinglyLinkedList): smallest per-node footprint
+ * - Default read from -Dislu.list.backing=array|doubly_linked|singly_linked
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class MyListFactory {
+
+    /**
+     * Available list implementations
+     */
+    public enum Backing {
+        ARRAY, DOUBLY_LINKED, SINGLY_LINKED
+    }
+
+    public static final String BACKING_PROPERTY = "islu.list.backing";
+
+    private MyListFactory() {
+    }
+
+    /**
+     * Get the backing configured on the command line, or ARRAY if none (or an unknown one) is set
+     */
+    public static Backing getDefaultBacking() {
+        String value = System.getProperty(BACKING_PROPERTY);
+        if (value == null || value.trim().isEmpty()) {
+            return Backing.ARRAY;
+        }
+
+        try {
+            return Backing.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown list backing '" + value + "', using " + Backing.ARRAY);
+            return Backing.ARRAY;
+        }
+    }
+
+    /**
+     * Create an empty list of the given backing
+     */
+    public static <T> MyList<T> create(Backing backing) {
+        switch (backing) {
+            case DOUBLY_LINKED:
+                return new MyDoublyLinkedList<>();
+            case SINGLY_LINKED:
+                return new MySinglyLinkedList<>();
+            case ARRAY:
+            default:
+                return new MyArrayList<>();
+        }
+    }
+
+    /**
+     * Copy the elements of a list, in order, into a new list of the given backing - O(n)
+     */
+    public static <T> MyList<T> copyOf(Iterable<T> source, Backing backing) {
+        MyList<T> copy = create(backing);
+        source.forEach(copy::add);
+        return copy;
+    }
+}
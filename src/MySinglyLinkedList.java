@@ -1,6 +1,11 @@
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Enhanced Singly Linked List with improved algorithms and functionality
@@ -11,6 +16,7 @@ import java.util.Comparator;
  * - Fast cycle detection using Floyd's algorithm
  * - Enhanced error handling and validation
  * - Iterator support with fail-fast behavior
+ * - Allocation-free forEach/find traversal and a Spliterator-backed stream()
  *
  * AUTHOR: Enhanced version based on John Carlo Palipa's implementation
  * SUBJECT: DATA STRUCTURE IT212 9458
@@ -591,7 +597,55 @@ public class MySinglyLinkedList<T> implements MyList<T>, Iterable<T> {
             }
         }
     }
-    
+
+    // ========== Cursor / Bulk Traversal ==========
+
+    /**
+     * Visit every element in order by walking the nodes directly - O(n), no iterator allocated
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int expectedSize = size;
+        for (Node<T> current = head; current != null; current = current.getNext()) {
+            action.accept(current.getData());
+            if (expectedSize != size) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Cursor scan that stops at the first element matching the predicate - O(n) worst case
+     * @return The first matching element, or null if none matches
+     */
+    public T find(Predicate<? super T> predicate) {
+        if (predicate == null) {
+            throw new NullPointerException();
+        }
+        for (Node<T> current = head; current != null; current = current.getNext()) {
+            T data = current.getData();
+            if (predicate.test(data)) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(head, size, Node::getNext, Node::getData, () -> size);
+    }
+
+    /**
+     * Sequential stream over the list, backed by a node-walking spliterator
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     // ========== MyList Interface Implementation ==========
     
     /**
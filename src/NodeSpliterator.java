@@ -0,0 +1,113 @@
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * NodeSpliterator - Spliterator shared by MySinglyLinkedList and MyDoublyLinkedList
+ * Features:
+ * - Walks the nodes directly, through the node type's own next/data accessors
+ * - Splits off growing array-backed batches for parallel streams, like java.util.LinkedList,
+ *   so large lists split into a few big chunks
+ * - Fails with ConcurrentModificationException if the list changes size while it runs
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+final class NodeSpliterator<N, T> implements Spliterator<T> {
+
+    private static final int SPLIT_BATCH_UNIT = 1 << 10; // Batch growth step
+    private static final int SPLIT_MAX_BATCH = 1 << 25;
+
+    private final UnaryOperator<N> next;
+    private final Function<N, T> data;
+    private final IntSupplier listSize;
+    private final int expectedSize;
+    private N current;
+    private int remaining;
+    private int batch = 0;
+
+    /**
+     * @param head First node of the list (null if empty)
+     * @param size Number of elements in the list
+     * @param next The node after a node
+     * @param data The element held by a node
+     * @param listSize The list's current size, to detect modification
+     */
+    NodeSpliterator(N head, int size, UnaryOperator<N> next, Function<N, T> data, IntSupplier listSize) {
+        this.current = head;
+        this.remaining = size;
+        this.expectedSize = size;
+        this.next = next;
+        this.data = data;
+        this.listSize = listSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (current == null || remaining <= 0) {
+            return false;
+        }
+        T value = data.apply(current);
+        current = next.apply(current);
+        remaining--;
+        action.accept(value);
+        checkForModification();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        N node = current;
+        int count = remaining;
+        current = null;
+        remaining = 0;
+        while (node != null && count-- > 0) {
+            action.accept(data.apply(node));
+            node = next.apply(node);
+        }
+        checkForModification();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (current == null || remaining <= 1) {
+            return null;
+        }
+        int count = Math.min(remaining, Math.min(batch + SPLIT_BATCH_UNIT, SPLIT_MAX_BATCH));
+        Object[] array = new Object[count];
+        int filled = 0;
+        while (filled < count && current != null) {
+            array[filled++] = data.apply(current);
+            current = next.apply(current);
+        }
+        remaining -= filled;
+        batch = filled;
+        return Spliterators.spliterator(array, 0, filled, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+
+    private void checkForModification() {
+        if (expectedSize != listSize.getAsInt()) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
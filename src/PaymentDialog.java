@@ -18,6 +18,8 @@ public class PaymentDialog extends JDialog {
     
     private String paymentMethod;
     private String studentID;
+    // One key per dialog: pressing Proceed twice records the payment only once
+    private final String paymentKey = PaymentLedger.newKey();
     private double amountToPay;
     private JTextField amountField;
     private JComboBox<String> paymentOptionCombo;
@@ -312,7 +314,7 @@ public class PaymentDialog extends JDialog {
             
             // Process payment through AccountStatementManager
             AccountStatement.PaymentResult result = AccountStatementManager.processPayment(
-                studentID, amount, paymentChannel, reference
+                studentID, amount, paymentChannel, reference, paymentKey
             );
             
             if (result.success) {
@@ -0,0 +1,71 @@
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * PaymentEvent - Immutable record of one payment in the payment ledger
+ * Features:
+ * - Keeps the original time of the payment, so a reload shows when it was really made
+ * - Carries an idempotency key: the same key is only ever recorded once
+ * - The ledger sequence number orders events and tells balance snapshots where they stop
+ * - The amount is in centavos, so ledger sums are exact
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class PaymentEvent {
+
+    private final long sequence;
+    private final String idempotencyKey;
+    private final String studentID;
+    private final LocalDateTime timestamp;
+    private final long amount;
+    private final String channel;
+    private final String reference;
+
+    /**
+     * An event that has not been recorded yet (the ledger assigns its sequence number)
+     */
+    public PaymentEvent(String idempotencyKey, String studentID, LocalDateTime timestamp,
+                        long amount, String channel, String reference) {
+        this(0, idempotencyKey, studentID, timestamp, amount, channel, reference);
+    }
+
+    PaymentEvent(long sequence, String idempotencyKey, String studentID, LocalDateTime timestamp,
+                 long amount, String channel, String reference) {
+        this.sequence = sequence;
+        this.idempotencyKey = Objects.requireNonNull(idempotencyKey, "idempotencyKey");
+        this.studentID = Objects.requireNonNull(studentID, "studentID");
+        this.timestamp = Objects.requireNonNull(timestamp, "timestamp");
+        this.amount = amount;
+        this.channel = channel == null ? "" : channel;
+        this.reference = reference == null ? "" : reference;
+    }
+
+    /**
+     * Copy of this event with the given ledger sequence number
+     */
+    PaymentEvent withSequence(long sequence) {
+        return new PaymentEvent(sequence, idempotencyKey, studentID, timestamp, amount, channel, reference);
+    }
+
+    public long getSequence() { return sequence; }
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public String getStudentID() { return studentID; }
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public long getAmountCentavos() { return amount; } // centavos, see Money
+    public String getChannel() { return channel; }
+    public String getReference() { return reference; }
+
+    /**
+     * True for cashier and onsite payments, which need posting by the cashier
+     */
+    public boolean isOnsite() {
+        String lower = channel.toLowerCase();
+        return lower.contains("cashier") || lower.contains("onsite");
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentEvent#" + sequence + "[" + studentID + ", " + Money.format(amount) + ", " + channel + ", " + reference + "]";
+    }
+}
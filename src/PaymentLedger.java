@@ -0,0 +1,561 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * PaymentLedger - Append-only ledger of payment events
+ * Features:
+ * - One line per payment, forced to disk before the payment is acknowledged
+ * - Events are never rewritten: a statement's payment history and balance are derived from them
+ * - Idempotency keys: appending a key that is already in the ledger returns the recorded
+ *   event instead of recording the payment twice
+ * - Events are indexed by student and by key when the ledger is loaded
+ * - Torn (unterminated) trailing records are ignored on load and never glued onto
+ * - Group commit: payments appended by several threads at once share one write and one sync,
+ *   so payments for different students are not serialized behind each other's disk syncs
+ * - Sequence numbers are taken while holding a lock on the ledger file, after indexing the
+ *   records other portal processes appended, so two processes never write the same number
+ * - Settled payments covered by every balance snapshot are archived on load: only their keys
+ *   are read, and the events themselves are parsed the first time they are needed
+ *
+ * Ledger line format: sequence|idempotencyKey|studentID|timestamp|amount|channel|reference
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class PaymentLedger {
+
+    private final File ledgerFile;
+    // Events read in full, oldest first (archived events are kept apart)
+    private final Map<String, List<PaymentEvent>> eventsByStudent = new HashMap<>();
+    private final Map<String, PaymentEvent> eventsByKey = new HashMap<>();
+    private long lastSequence = 0;
+    // Bytes at the start of the file already indexed (complete lines only)
+    private long indexedBytes = 0;
+
+    // Archive: events up to archivedThrough, in the first archiveEnd bytes, not parsed by load()
+    private final Set<String> archivedKeys = new HashSet<>();
+    private final Map<String, Integer> archivedCounts = new HashMap<>();
+    private final Map<String, List<PaymentEvent>> archivedEvents = new HashMap<>();
+    private long archivedThrough = 0;
+    private long archiveEnd = 0;
+
+    // Group commit: events are queued under this monitor, then sequenced and written by whichever
+    // appender holds writeLock first; the others find their events already durable
+    private final Object writeLock = new Object();
+    private final List<PaymentEvent> pendingEvents = new ArrayList<>();
+    private final Set<String> pendingKeys = new HashSet<>();
+    private long writesStarted = 0;
+    private long writesDone = 0;
+
+    public PaymentLedger(File ledgerFile) {
+        this.ledgerFile = ledgerFile;
+    }
+
+    /**
+     * A fresh idempotency key for a payment that has none of its own
+     */
+    public static String newKey() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Read every complete event in the ledger file
+     * @return The number of events loaded
+     */
+    public int load() throws IOException {
+        return load(0, null);
+    }
+
+    /**
+     * Read the ledger file, archiving the events no statement needs at startup
+     * An event is archived when its sequence is at most replayAfter (every balance snapshot
+     * already counts it) and it was made before settledBefore (its status is final).
+     * @return The number of events read in full
+     */
+    public int load(long replayAfter, LocalDateTime settledBefore) throws IOException {
+        synchronized (writeLock) {
+            synchronized (this) {
+                eventsByStudent.clear();
+                eventsByKey.clear();
+                archivedKeys.clear();
+                archivedCounts.clear();
+                archivedEvents.clear();
+                lastSequence = 0;
+                indexedBytes = 0;
+                archivedThrough = 0;
+                archiveEnd = 0;
+
+                if (!ledgerFile.exists()) {
+                    return 0;
+                }
+
+                byte[] content;
+                try (RandomAccessFile file = new RandomAccessFile(ledgerFile, "r")) {
+                    FileChannel channel = file.getChannel();
+                    FileLock lock = channel.lock(0, Long.MAX_VALUE, true);
+                    try {
+                        content = read(channel, 0, channel.size());
+                    } finally {
+                        lock.release();
+                    }
+                }
+                return indexLoaded(content, settledBefore == null ? 0 : replayAfter, settledBefore);
+            }
+        }
+    }
+
+    /**
+     * Record one payment and force it to disk
+     * @return The recorded event, or the event already recorded under the same key
+     */
+    public PaymentEvent append(PaymentEvent event) throws IOException {
+        return appendAll(Collections.singletonList(event)).get(0);
+    }
+
+    /**
+     * Record several payments with a single forced write
+     * Returns once the events are on disk, possibly written together with other threads' events.
+     * @return The recorded events in the given order (already recorded keys are not written again)
+     */
+    public List<PaymentEvent> appendAll(List<PaymentEvent> events) throws IOException {
+        long needed = 0;
+
+        synchronized (this) {
+            for (PaymentEvent event : events) {
+                String key = event.getIdempotencyKey();
+                if (archivedKeys.contains(key)) {
+                    loadArchive();
+                }
+                if (eventsByKey.containsKey(key)) {
+                    continue;
+                }
+                if (pendingKeys.add(key)) {
+                    pendingEvents.add(event);
+                }
+                // The next write to start takes every queued event
+                needed = writesStarted + 1;
+            }
+        }
+
+        if (needed > 0) {
+            flush(needed);
+        }
+
+        synchronized (this) {
+            List<PaymentEvent> recorded = new ArrayList<>(events.size());
+            for (PaymentEvent event : events) {
+                PaymentEvent written = eventsByKey.get(event.getIdempotencyKey());
+                if (written == null) {
+                    throw new IOException("Payment ledger write failed");
+                }
+                recorded.add(written);
+            }
+            return recorded;
+        }
+    }
+
+    /**
+     * Make sure the given write has happened
+     * The first caller writes everything queued so far; callers whose events went out in
+     * that write return without writing again.
+     */
+    private void flush(long needed) throws IOException {
+        synchronized (writeLock) {
+            if (writesDone >= needed) {
+                return;
+            }
+
+            List<PaymentEvent> batch;
+            synchronized (this) {
+                batch = new ArrayList<>(pendingEvents);
+                pendingEvents.clear();
+                writesStarted++;
+            }
+
+            long start = Metrics.start();
+            try {
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } finally {
+                // A failed batch is dropped: none of it was acknowledged, and its appenders fail
+                synchronized (this) {
+                    for (PaymentEvent event : batch) {
+                        pendingKeys.remove(event.getIdempotencyKey());
+                    }
+                    writesDone++;
+                }
+                Metrics.stop("PaymentLedger.flush", start);
+            }
+        }
+    }
+
+    /**
+     * Sequence and write a batch under the ledger file lock (caller holds writeLock)
+     */
+    private void write(List<PaymentEvent> batch) throws IOException {
+        try (FileChannel channel = FileChannel.open(ledgerFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                catchUp(channel);
+
+                // Number the batch after the last record actually in the file
+                List<PaymentEvent> sequenced = new ArrayList<>(batch.size());
+                StringBuilder lines = new StringBuilder();
+                synchronized (this) {
+                    long next = lastSequence;
+                    for (PaymentEvent event : batch) {
+                        if (eventsByKey.containsKey(event.getIdempotencyKey())) {
+                            continue; // Another process recorded the same key first
+                        }
+                        PaymentEvent numbered = event.withSequence(++next);
+                        sequenced.add(numbered);
+                        lines.append(formatEvent(numbered)).append(System.lineSeparator());
+                    }
+                }
+
+                if (!sequenced.isEmpty()) {
+                    long end = channel.size();
+                    if (end > 0 && lastByte(channel, end) != '\n') {
+                        // Never glue a record onto a torn line left by a crash
+                        lines.insert(0, System.lineSeparator());
+                    }
+                    try {
+                        writeFully(channel, lines.toString().getBytes(StandardCharsets.UTF_8), end);
+                        channel.force(true);
+                    } catch (IOException e) {
+                        channel.truncate(end);
+                        throw e;
+                    }
+                }
+
+                synchronized (this) {
+                    for (PaymentEvent event : sequenced) {
+                        index(event);
+                    }
+                    indexedBytes = channel.size();
+                }
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Index the records other processes appended since this one last read the file
+     * (caller holds writeLock and the file lock)
+     */
+    private void catchUp(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long from;
+        synchronized (this) {
+            from = size < indexedBytes ? 0 : indexedBytes; // Shorter: the file was replaced
+        }
+        if (size == from) {
+            return;
+        }
+
+        byte[] content = read(channel, from, size);
+        synchronized (this) {
+            int consumed = 0;
+            int lineEnd;
+            while ((lineEnd = indexOf(content, (byte) '\n', consumed)) != -1) {
+                indexLine(decode(content, consumed, lineEnd));
+                consumed = lineEnd + 1;
+            }
+            indexedBytes = from + consumed;
+        }
+    }
+
+    /**
+     * The event recorded under an idempotency key, or null
+     */
+    public synchronized PaymentEvent find(String idempotencyKey) throws IOException {
+        if (archivedKeys.contains(idempotencyKey)) {
+            loadArchive();
+        }
+        return eventsByKey.get(idempotencyKey);
+    }
+
+    /**
+     * Every event for a student that is not archived, oldest first
+     */
+    public synchronized List<PaymentEvent> getEvents(String studentID) {
+        List<PaymentEvent> events = eventsByStudent.get(studentID);
+        return events == null ? new ArrayList<>() : new ArrayList<>(events);
+    }
+
+    /**
+     * A student's archived events, oldest first (the archive is read on first use)
+     */
+    public synchronized List<PaymentEvent> getArchivedEvents(String studentID) throws IOException {
+        if (!archivedCounts.containsKey(studentID)) {
+            return new ArrayList<>();
+        }
+        loadArchive();
+        List<PaymentEvent> events = archivedEvents.get(studentID);
+        return events == null ? new ArrayList<>() : new ArrayList<>(events);
+    }
+
+    /**
+     * Number of archived events for a student, without reading them
+     */
+    public synchronized int getArchivedCount(String studentID) {
+        return archivedCounts.getOrDefault(studentID, 0);
+    }
+
+    /**
+     * Highest sequence an archived event can have (0 if nothing is archived)
+     */
+    public synchronized long getArchivedThrough() {
+        return archivedThrough;
+    }
+
+    /**
+     * Ledger position a student's balance snapshot can record
+     * @param applied Every event for the student up to this sequence is in the balance
+     * @return The last sequence in the ledger if the student has no event after applied, else applied
+     */
+    public synchronized long coveredThrough(String studentID, long applied) {
+        List<PaymentEvent> events = eventsByStudent.get(studentID);
+        if (events != null && !events.isEmpty() && events.get(events.size() - 1).getSequence() > applied) {
+            return applied;
+        }
+        return Math.max(applied, lastSequence);
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public synchronized int size() {
+        return eventsByKey.size() + archivedKeys.size();
+    }
+
+    public File getLedgerFile() {
+        return ledgerFile;
+    }
+
+    // ========== INDEXING (caller holds the monitor) ==========
+
+    /**
+     * Index a freshly loaded file, leaving settled events covered by every snapshot unparsed
+     * @return The number of events read in full
+     */
+    private int indexLoaded(byte[] content, long replayAfter, LocalDateTime settledBefore) {
+        // Line boundaries first, so the newest archive candidates can be checked before indexing
+        List<int[]> lines = new ArrayList<>();
+        int lineStart = 0;
+        int lineEnd;
+        // Only terminated lines are complete; anything after the last newline is a torn write
+        while ((lineEnd = indexOf(content, (byte) '\n', lineStart)) != -1) {
+            lines.add(new int[]{lineStart, lineEnd});
+            lineStart = lineEnd + 1;
+        }
+        indexedBytes = lineStart;
+
+        // Archive candidates from the end that may still be in progress are read in full
+        boolean[] archived = new boolean[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            long sequence = sequenceOf(content, lines.get(i)[0], lines.get(i)[1]);
+            archived[i] = sequence > 0 && sequence <= replayAfter;
+        }
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            if (!archived[i]) continue;
+            PaymentEvent event = parseOrNull(decode(content, lines.get(i)[0], lines.get(i)[1]));
+            if (event != null && event.getTimestamp().isBefore(settledBefore)) break;
+            archived[i] = false;
+        }
+
+        int loaded = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            int[] line = lines.get(i);
+            if (archived[i]) {
+                archiveLine(content, line[0], line[1], replayAfter);
+            } else if (indexLine(decode(content, line[0], line[1]))) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Remember an archived line by its key and student only
+     */
+    private void archiveLine(byte[] content, int start, int end, long replayAfter) {
+        String[] parts = decode(content, start, prefixEnd(content, start, end, 3)).split("\\|", 4);
+        if (parts.length < 3 || eventsByKey.containsKey(parts[1]) || !archivedKeys.add(parts[1])) {
+            return;
+        }
+        archivedCounts.merge(SymbolTable.intern(parts[2].trim()), 1, Integer::sum);
+        archivedThrough = replayAfter;
+        archiveEnd = end + 1;
+        lastSequence = Math.max(lastSequence, sequenceOf(content, start, end));
+    }
+
+    /**
+     * Parse the archived events (once) and index them by key
+     */
+    private void loadArchive() throws IOException {
+        if (archivedKeys.isEmpty()) {
+            return;
+        }
+
+        // Lines before archiveEnd are complete and never rewritten, so no file lock is needed
+        byte[] content = new byte[(int) archiveEnd];
+        try (RandomAccessFile file = new RandomAccessFile(ledgerFile, "r")) {
+            file.readFully(content);
+        }
+
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = indexOf(content, (byte) '\n', lineStart)) != -1) {
+            long sequence = sequenceOf(content, lineStart, lineEnd);
+            String line = decode(content, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            if (sequence <= 0 || sequence > archivedThrough) continue;
+
+            PaymentEvent event = parseOrNull(line);
+            if (event != null && archivedKeys.remove(event.getIdempotencyKey())) {
+                eventsByKey.put(event.getIdempotencyKey(), event);
+                archivedEvents.computeIfAbsent(event.getStudentID(), k -> new ArrayList<>()).add(event);
+            }
+        }
+        archivedKeys.clear();
+    }
+
+    /**
+     * Index one ledger line unless it is blank, unreadable or an already known key
+     * @return Whether an event was indexed
+     */
+    private boolean indexLine(String line) {
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
+        }
+        if (line.trim().isEmpty()) return false;
+
+        PaymentEvent event = parseOrNull(line);
+        if (event == null) {
+            System.err.println("Skipping unreadable ledger record: " + line);
+            return false;
+        }
+        if (eventsByKey.containsKey(event.getIdempotencyKey()) || archivedKeys.contains(event.getIdempotencyKey())) {
+            return false;
+        }
+        index(event);
+        return true;
+    }
+
+    private void index(PaymentEvent event) {
+        eventsByKey.put(event.getIdempotencyKey(), event);
+        eventsByStudent.computeIfAbsent(event.getStudentID(), k -> new ArrayList<>()).add(event);
+        lastSequence = Math.max(lastSequence, event.getSequence());
+    }
+
+    // ========== FILE ACCESS ==========
+
+    private static byte[] read(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) < 0) break;
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static int lastByte(FileChannel channel, long size) throws IOException {
+        ByteBuffer one = ByteBuffer.allocate(1);
+        channel.read(one, size - 1);
+        return one.get(0);
+    }
+
+    private static int indexOf(byte[] content, byte value, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * End of the first fields of a line (before the given field separator), or the line end
+     */
+    private static int prefixEnd(byte[] content, int start, int end, int fields) {
+        for (int i = start; i < end; i++) {
+            if (content[i] == '|' && --fields == 0) return i;
+        }
+        return end;
+    }
+
+    /**
+     * The sequence number at the start of a line, or -1 if there is none
+     */
+    private static long sequenceOf(byte[] content, int start, int end) {
+        long sequence = 0;
+        int i = start;
+        while (i < end && content[i] == ' ') i++;
+        int digits = i;
+        for (; i < end && content[i] >= '0' && content[i] <= '9'; i++) {
+            sequence = sequence * 10 + (content[i] - '0');
+        }
+        return i > digits && i < end && content[i] == '|' ? sequence : -1;
+    }
+
+    private static String decode(byte[] content, int start, int end) {
+        return new String(content, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    // ========== LINE FORMAT ==========
+
+    static String formatEvent(PaymentEvent event) {
+        return event.getSequence() + "|" +
+                clean(event.getIdempotencyKey()) + "|" +
+                clean(event.getStudentID()) + "|" +
+                event.getTimestamp() + "|" +
+                Money.formatPlain(event.getAmountCentavos()) + "|" +
+                clean(event.getChannel()) + "|" +
+                event.getReference().replace('\r', ' ').replace('\n', ' ');
+    }
+
+    static PaymentEvent parseEvent(String line) {
+        String[] parts = line.split("\\|", 7);
+        if (parts.length < 7) {
+            throw new IllegalArgumentException("Expected 7 fields");
+        }
+        return new PaymentEvent(
+                Long.parseLong(parts[0].trim()),
+                parts[1],
+                SymbolTable.intern(parts[2].trim()),
+                LocalDateTime.parse(parts[3].trim()),
+                Money.parse(parts[4]),
+                SymbolTable.intern(parts[5]),
+                parts[6]);
+    }
+
+    private static PaymentEvent parseOrNull(String line) {
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
+        }
+        try {
+            return parseEvent(line);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String clean(String field) {
+        return field.replace('|', '/').replace('\r', ' ').replace('\n', ' ');
+    }
+}
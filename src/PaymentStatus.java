@@ -45,4 +45,20 @@ public enum PaymentStatus {
     public boolean isInProgress() {
         return this == PENDING || this == PROCESSING || this == FOR_POSTING;
     }
+
+    /**
+     * Position in the processing order; a payment only ever moves to a later stage
+     */
+    public int getStage() {
+        switch (this) {
+            case PENDING:
+                return 0;
+            case PROCESSING:
+                return 1;
+            case FOR_POSTING:
+                return 2;
+            default:
+                return 3; // Settled: posted, completed, failed, cancelled or refunded
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,250 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaymentStatusScheduler - Moves payments through their statuses when each one falls due
+ * Features:
+ * - One DelayQueue entry per payment for its next status, taken by a single daemon thread at
+ *   the due time, so reading a statement never walks its payment history to recheck statuses
+ * - Due times are counted from when the payment was made (its ledger time), not from when a
+ *   screen looks at it, so every portal instance moves a payment at the same moment
+ * - Each transition happens once: payments only move forward, and a status already in the
+ *   status log is neither applied twice nor recorded again
+ * - Transitions are appended to the status log and announced on DataChangeBus as PAYMENT
+ *   changes; other portal instances see the log file change
+ * - Transitions missed while the portal was closed are applied when the payment is tracked;
+ *   tracking returns their log lines so the caller writes them after releasing the
+ *   statement's lock, in one write
+ *
+ * Status log line format: idempotencyKey|STATUS|changedAt
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class PaymentStatusScheduler {
+
+    private final File statusFile;
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+    // Latest status recorded in the log for each payment's idempotency key
+    private final Map<String, PaymentStatus> recorded = new ConcurrentHashMap<>();
+    private Thread worker;
+
+    public PaymentStatusScheduler(File statusFile) {
+        this.statusFile = statusFile;
+    }
+
+    /**
+     * Read the statuses recorded in the status log
+     * @return The number of transitions read
+     */
+    public int load() throws IOException {
+        recorded.clear();
+        if (!statusFile.exists()) {
+            return 0;
+        }
+
+        String content = new String(Files.readAllBytes(statusFile.toPath()), StandardCharsets.UTF_8);
+        int loaded = 0;
+        int lineStart = 0;
+        int lineEnd;
+
+        // Only terminated lines are complete; anything after the last newline is a torn write
+        while ((lineEnd = content.indexOf('\n', lineStart)) != -1) {
+            String line = content.substring(lineStart, lineEnd).trim();
+            lineStart = lineEnd + 1;
+            if (line.isEmpty()) continue;
+
+            String[] parts = line.split("\\|");
+            try {
+                markRecorded(parts[0], PaymentStatus.valueOf(parts[1].trim()));
+                loaded++;
+            } catch (RuntimeException e) {
+                System.err.println("Skipping unreadable payment status record: " + line);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Track one payment on a statement
+     * @return Status log lines to write with persist(...)
+     */
+    public List<String> track(AccountStatement statement, PaymentTransaction payment) {
+        return trackAll(statement, Collections.singletonList(payment));
+    }
+
+    /**
+     * Track a statement's payments: apply the status recorded in the log, or the status already
+     * due, then queue each payment's next transition
+     * Nothing is written here, so this can run under the statement's lock.
+     * @return Status log lines for the transitions applied, to write with persist(...)
+     */
+    public List<String> trackAll(AccountStatement statement, List<PaymentTransaction> payments) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> lines = new ArrayList<>();
+
+        for (PaymentTransaction payment : payments) {
+            String key = payment.getIdempotencyKey();
+            PaymentStatus saved = key == null ? null : recorded.get(key);
+            if (saved != null) {
+                statement.advancePaymentStatus(payment, saved);
+            }
+
+            // Overdue transitions go straight to the status due now
+            LocalDateTime due = payment.nextTransitionTime();
+            if (due != null && !due.isAfter(now)) {
+                PaymentStatus next = payment.statusAt(now);
+                if (statement.advancePaymentStatus(payment, next)) {
+                    String line = record(payment, next, now);
+                    if (line != null) {
+                        lines.add(line);
+                    }
+                }
+            }
+            schedule(statement, payment);
+        }
+        return lines;
+    }
+
+    /**
+     * Drop every queued transition (the statements they belong to are being reloaded)
+     */
+    public void clear() {
+        queue.clear();
+    }
+
+    /**
+     * Number of transitions waiting for their due time
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void schedule(AccountStatement statement, PaymentTransaction payment) {
+        LocalDateTime due = payment.nextTransitionTime();
+        if (due != null) {
+            queue.add(new Transition(statement, payment, due));
+            startWorker();
+        }
+    }
+
+    /**
+     * Mark a payment's new status as recorded
+     * @return The log line for the transition, or null if there is nothing to log
+     */
+    private String record(PaymentTransaction payment, PaymentStatus next, LocalDateTime at) {
+        Metrics.increment("PaymentStatusScheduler.transitions");
+
+        String key = payment.getIdempotencyKey();
+        if (key == null || !markRecorded(key, next)) {
+            return null; // Not in the ledger, or already in the status log
+        }
+        return key + "|" + next.name() + "|" + at;
+    }
+
+    /**
+     * Remember a recorded status unless a later one is already known
+     * @return Whether the status was new
+     */
+    private boolean markRecorded(String key, PaymentStatus status) {
+        boolean[] changed = new boolean[1];
+        recorded.compute(key, (k, current) -> {
+            if (current != null && current.getStage() >= status.getStage()) {
+                return current;
+            }
+            changed[0] = true;
+            return status;
+        });
+        return changed[0];
+    }
+
+    /**
+     * Append transition lines to the status log and announce the change
+     * Call without holding a statement's lock; does nothing for an empty list.
+     */
+    public void persist(List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            FileIOManager.appendLines(statusFile, lines);
+        } catch (IOException e) {
+            // The statement already shows the new status; it follows from the ledger time anyway
+            System.err.println("Error recording payment status: " + e.getMessage());
+        }
+        DataChangeBus.publish(DataChangeBus.ChangeType.PAYMENT, statusFile.getName());
+    }
+
+    private synchronized void startWorker() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::runTransitions, "PaymentStatusScheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void runTransitions() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Transition transition = queue.take();
+                PaymentTransaction payment = transition.payment;
+                PaymentStatus next = payment.statusAt(transition.due);
+
+                long start = Metrics.start();
+                try {
+                    // False if the payment already moved (e.g. the same payment tracked twice)
+                    if (transition.statement.advancePaymentStatus(payment, next)) {
+                        String line = record(payment, next, transition.due);
+                        if (line != null) {
+                            persist(Collections.singletonList(line));
+                        }
+                        schedule(transition.statement, payment);
+                    }
+                } finally {
+                    Metrics.stop("PaymentStatusScheduler.transition", start);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("Error updating payment status: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A payment's next status change, due at a fixed time
+     */
+    private static final class Transition implements Delayed {
+        final AccountStatement statement;
+        final PaymentTransaction payment;
+        final LocalDateTime due;
+
+        Transition(AccountStatement statement, PaymentTransaction payment, LocalDateTime due) {
+            this.statement = statement;
+            this.payment = payment;
+            this.due = due;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), due).toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Transition) {
+                return due.compareTo(((Transition) other).due);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -1,54 +1,85 @@
 /**
  * Data class to hold payment transaction information
+ * The amount is kept in centavos (see Money) and only formatted when displayed.
+ * The status is moved along by PaymentStatusScheduler at the times given by nextTransitionTime().
  */
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 public class PaymentTransaction {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
+    // Online: PROCESSING, FOR_POSTING after 2 minutes, COMPLETED after 5
+    // Onsite: FOR_POSTING, POSTED after 5 minutes
+    private static final long ONLINE_POSTING_MINUTES = 2;
+    private static final long SETTLED_MINUTES = 5;
+
     private String date;
     private String channel;
     private String reference;
-    private String amount;
+    private long amount;
     private LocalDateTime timestamp;
-    private PaymentStatus status;
+    private volatile PaymentStatus status;
     private String paymentType; // ONLINE or ONSITE
     private String remarks;
+    private String idempotencyKey;
 
     public PaymentTransaction(String date, String channel, String reference, String amount) {
+        this(date, channel, reference, Money.parse(amount), PaymentStatus.PROCESSING, "ONLINE");
+    }
+
+    // Constructor with status
+    public PaymentTransaction(String date, String channel, String reference, String amount, PaymentStatus status) {
+        this(date, channel, reference, Money.parse(amount), status, "ONLINE");
+    }
+
+    // Constructor with the amount in centavos
+    public PaymentTransaction(String date, String channel, String reference, long amount, PaymentStatus status) {
+        this(date, channel, reference, amount, status, isOnsiteChannel(channel) ? "ONSITE" : "ONLINE");
+    }
+
+    private PaymentTransaction(String date, String channel, String reference, long amount,
+                               PaymentStatus status, String paymentType) {
         this.date = date;
         this.channel = channel;
         this.reference = reference;
         this.amount = amount;
         this.timestamp = LocalDateTime.now();
-        this.status = PaymentStatus.PROCESSING;
-        this.paymentType = "ONLINE";
-        this.remarks = "";
-    }
-
-    // Constructor with status
-    public PaymentTransaction(String date, String channel, String reference, String amount, PaymentStatus status) {
-        this(date, channel, reference, amount);
         this.status = status;
+        this.paymentType = paymentType;
+        this.remarks = "";
     }
 
     // Constructor that uses current date/time
     public PaymentTransaction(String channel, String reference, String amount) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm a");
-        this.date = LocalDateTime.now().format(formatter);
+        this.date = LocalDateTime.now().format(DATE_FORMAT);
         this.channel = channel;
         this.reference = reference;
-        this.amount = amount;
+        this.amount = Money.parse(amount);
         this.timestamp = LocalDateTime.now();
         this.status = PaymentStatus.PROCESSING;
-        this.paymentType = channel.toLowerCase().contains("cashier") || channel.toLowerCase().contains("onsite") ? "ONSITE" : "ONLINE";
+        this.paymentType = isOnsiteChannel(channel) ? "ONSITE" : "ONLINE";
+        this.remarks = "";
+    }
+
+    // Constructor for a payment recorded in the payment ledger, keeping its original time
+    public PaymentTransaction(PaymentEvent event) {
+        this.date = event.getTimestamp().format(DATE_FORMAT);
+        this.channel = event.getChannel();
+        this.reference = event.getReference();
+        this.amount = event.getAmountCentavos();
+        this.timestamp = event.getTimestamp();
         this.remarks = "";
+        this.paymentType = event.isOnsite() ? "ONSITE" : "ONLINE";
+        this.status = event.isOnsite() ? PaymentStatus.FOR_POSTING : PaymentStatus.PROCESSING;
+        this.idempotencyKey = event.getIdempotencyKey();
     }
 
     // Getters
     public String getDate() { return date; }
     public String getChannel() { return channel; }
     public String getReference() { return reference; }
-    public String getAmount() { return amount; }
+    public String getAmount() { return Money.format(amount); }
+    public long getAmountCentavos() { return amount; }
 
     public LocalDateTime getTimestamp() { return timestamp; }
     public PaymentStatus getStatus() { return status; }
@@ -57,37 +88,73 @@ public class PaymentTransaction {
     public void setPaymentType(String paymentType) { this.paymentType = paymentType; }
     public String getRemarks() { return remarks; }
     public void setRemarks(String remarks) { this.remarks = remarks; }
+    public String getIdempotencyKey() { return idempotencyKey; }
 
     public Object[] toTableRow() {
-        return new Object[]{date, channel, reference, amount, status.getDisplayName()};
+        return new Object[]{date, channel, reference, getAmount(), status.getDisplayName()};
     }
 
     public Object[] toTableRowWithoutStatus() {
-        return new Object[]{date, channel, reference, amount};
+        return new Object[]{date, channel, reference, getAmount()};
     }
 
     /**
      * Updates status based on time elapsed (simulating processing)
+     * Statements held by AccountStatementManager do not need this: PaymentStatusScheduler
+     * moves their payments when each status falls due.
      */
     public void updateStatusBasedOnTime() {
-        long minutesElapsed = java.time.Duration.between(timestamp, LocalDateTime.now()).toMinutes();
+        status = statusAt(LocalDateTime.now());
+    }
+
+    /**
+     * The status this payment has at the given time, counted from when it was made
+     */
+    public PaymentStatus statusAt(LocalDateTime time) {
+        long minutesElapsed = java.time.Duration.between(timestamp, time).toMinutes();
 
         if (paymentType.equals("ONSITE")) {
             // Onsite payments need cashier posting
-            if (minutesElapsed < 5) {
-                status = PaymentStatus.FOR_POSTING;
+            if (minutesElapsed < SETTLED_MINUTES) {
+                return PaymentStatus.FOR_POSTING;
             } else {
-                status = PaymentStatus.POSTED;
+                return PaymentStatus.POSTED;
             }
         } else {
             // Online payments process automatically
-            if (minutesElapsed < 2) {
-                status = PaymentStatus.PROCESSING;
-            } else if (minutesElapsed < 5) {
-                status = PaymentStatus.FOR_POSTING;
+            if (minutesElapsed < ONLINE_POSTING_MINUTES) {
+                return PaymentStatus.PROCESSING;
+            } else if (minutesElapsed < SETTLED_MINUTES) {
+                return PaymentStatus.FOR_POSTING;
             } else {
-                status = PaymentStatus.COMPLETED;
+                return PaymentStatus.COMPLETED;
             }
         }
     }
+
+    /**
+     * Payments made before this cutoff have their final status at the given time
+     */
+    public static LocalDateTime settledBefore(LocalDateTime time) {
+        return time.minusMinutes(SETTLED_MINUTES);
+    }
+
+    /**
+     * When the status next changes, or null once the payment is settled
+     */
+    public LocalDateTime nextTransitionTime() {
+        PaymentStatus current = status;
+        if (current == null || !current.isInProgress()) {
+            return null;
+        }
+        if (paymentType.equals("ONSITE") || current == PaymentStatus.FOR_POSTING) {
+            return timestamp.plusMinutes(SETTLED_MINUTES);
+        }
+        return timestamp.plusMinutes(ONLINE_POSTING_MINUTES);
+    }
+
+    private static boolean isOnsiteChannel(String channel) {
+        String lower = channel.toLowerCase();
+        return lower.contains("cashier") || lower.contains("onsite");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,391 @@
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PortalLoadDriver - Headless load generator for the portal data layer
+ * Features:
+ * - N concurrent students and M concurrent teachers, one thread each
+ * - Configurable operation mix per role (weights)
+ * - Optional think time between operations and a warm-up period excluded from the results
+ * - Throughput and p50/p95/p99/max latency per operation
+ *
+ * Students: login (DataManager.authenticateUser), grades (SharedDataManager.getStudentGrades),
+ *           statement (AccountStatementManager.getStatement), payment (AccountStatementManager.processPayment)
+ * Teachers: grade (SharedDataManager.saveGradeRecord), attendance (SharedDataManager.recordAttendance),
+ *           announcement (SharedDataManager.addAnnouncement)
+ *
+ * Run from a directory created by SyntheticDataGenerator, e.g.
+ *   java SyntheticDataGenerator 10k load-10k
+ *   cd load-10k
+ *   java -cp ../src PortalLoadDriver --students 200 --teachers 10 --duration 60
+ *        --student-mix login=30,grades=40,statement=20,payment=10
+ *        --teacher-mix grade=60,attendance=35,announcement=5
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class PortalLoadDriver {
+
+    /**
+     * Operations the simulated users perform
+     */
+    public enum Operation {
+        LOGIN("login", true), GRADES("grades", true), STATEMENT("statement", true), PAYMENT("payment", true),
+        SAVE_GRADE("grade", false), ATTENDANCE("attendance", false), ANNOUNCEMENT("announcement", false);
+
+        private final String key;
+        private final boolean studentOperation;
+
+        Operation(String key, boolean studentOperation) {
+            this.key = key;
+            this.studentOperation = studentOperation;
+        }
+
+        public String getKey() { return key; }
+        public boolean isStudentOperation() { return studentOperation; }
+
+        static Operation fromKey(String key, boolean studentOperation) {
+            for (Operation operation : values()) {
+                if (operation.key.equalsIgnoreCase(key) && operation.studentOperation == studentOperation) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown " + (studentOperation ? "student" : "teacher") + " operation: " + key);
+        }
+    }
+
+    private static final String DEFAULT_STUDENT_MIX = "login=30,grades=40,statement=20,payment=10";
+    private static final String DEFAULT_TEACHER_MIX = "grade=60,attendance=35,announcement=5";
+    private static final String[] ATTENDANCE_STATUS = {"Present", "Present", "Present", "Late", "Absent"};
+
+    // Configuration
+    private int students = 50;
+    private int teachers = 5;
+    private int durationSeconds = 30;
+    private int warmupSeconds = 5;
+    private int thinkMillis = 0;
+    private String studentMix = DEFAULT_STUDENT_MIX;
+    private String teacherMix = DEFAULT_TEACHER_MIX;
+
+    private int studentPopulation;
+    private volatile boolean recording = false;
+    private volatile boolean running = true;
+
+    // ========== LATENCY RECORDING ==========
+
+    /**
+     * Per-thread latency samples; merged once at the end so recording never contends
+     */
+    private static class Recorder {
+        private final EnumMap<Operation, long[]> samples = new EnumMap<>(Operation.class);
+        private final EnumMap<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final EnumMap<Operation, Integer> errors = new EnumMap<>(Operation.class);
+        private final EnumMap<Operation, String> firstFailure = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, long nanos, boolean ok, String failure) {
+            long[] values = samples.computeIfAbsent(operation, k -> new long[1024]);
+            int count = counts.getOrDefault(operation, 0);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                samples.put(operation, values);
+            }
+            values[count] = nanos;
+            counts.put(operation, count + 1);
+            if (!ok) {
+                errors.merge(operation, 1, Integer::sum);
+                if (failure != null) {
+                    firstFailure.putIfAbsent(operation, failure);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merged results of one operation
+     */
+    private static class Summary {
+        long[] values = new long[0];
+        int count = 0;
+        int errors = 0;
+        String firstFailure;
+
+        void merge(long[] other, int otherCount, int otherErrors, String otherFailure) {
+            if (other != null) {
+                values = Arrays.copyOf(values, count + otherCount);
+                System.arraycopy(other, 0, values, count, otherCount);
+                count += otherCount;
+            }
+            errors += otherErrors;
+            if (firstFailure == null) {
+                firstFailure = otherFailure;
+            }
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) return 0.0;
+            int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return values[Math.max(0, Math.min(rank, count - 1))] / 1_000_000.0;
+        }
+    }
+
+    // ========== SIMULATED USERS ==========
+
+    private class User implements Runnable {
+        private final boolean student;
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+        private final Recorder recorder = new Recorder();
+        private final CountDownLatch start;
+
+        User(boolean student, Map<Operation, Integer> mix, CountDownLatch start) {
+            this.student = student;
+            this.operations = mix.keySet().toArray(new Operation[0]);
+            this.cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += mix.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running) {
+                Operation operation = pick(random);
+                boolean ok;
+                String failure = null;
+                long begin = System.nanoTime();
+                try {
+                    ok = student ? runStudentOperation(operation, random) : runTeacherOperation(operation, random);
+                } catch (RuntimeException e) {
+                    ok = false;
+                    failure = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+                }
+                long elapsed = System.nanoTime() - begin;
+
+                if (recording) {
+                    recorder.record(operation, elapsed, ok, failure);
+                }
+                if (thinkMillis > 0) {
+                    try {
+                        Thread.sleep(random.nextInt(thinkMillis * 2 + 1)); // Mean think time = thinkMillis
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private Operation pick(ThreadLocalRandom random) {
+            int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+
+    private boolean runStudentOperation(Operation operation, ThreadLocalRandom random) {
+        String studentID = SyntheticDataGenerator.studentID(random.nextInt(studentPopulation));
+        switch (operation) {
+            case LOGIN:
+                return DataManager.authenticateUser(studentID, SyntheticDataGenerator.PASSWORD);
+            case GRADES:
+                return SharedDataManager.getStudentGrades(studentID) != null;
+            case STATEMENT:
+                return AccountStatementManager.getStatement(studentID) != null;
+            case PAYMENT:
+                double amount = (1 + random.nextInt(10)) * 100.0;
+                return AccountStatementManager.processPayment(studentID, amount, "GCash", "LOAD TEST").success;
+            default:
+                return false;
+        }
+    }
+
+    private boolean runTeacherOperation(Operation operation, ThreadLocalRandom random) {
+        String[] subject = SyntheticDataGenerator.SUBJECTS[random.nextInt(SyntheticDataGenerator.SUBJECTS.length)];
+        String studentID = SyntheticDataGenerator.studentID(random.nextInt(studentPopulation));
+        switch (operation) {
+            case SAVE_GRADE:
+                return SharedDataManager.saveGradeRecord(studentID, subject[0], subject[1],
+                        65 + random.nextInt(36), 65 + random.nextInt(36), 65 + random.nextInt(36));
+            case ATTENDANCE:
+                String date = String.format("2025-02-%02d", 1 + random.nextInt(28));
+                return SharedDataManager.recordAttendance(studentID, subject[0], date,
+                        ATTENDANCE_STATUS[random.nextInt(ATTENDANCE_STATUS.length)], "");
+            case ANNOUNCEMENT:
+                return SharedDataManager.addAnnouncement("Load test " + random.nextInt(1000),
+                        "Synthetic announcement for " + subject[1], "Load Driver", "Students");
+            default:
+                return false;
+        }
+    }
+
+    // ========== DRIVER ==========
+
+    /**
+     * Parse a mix such as "login=30,grades=40" into operation weights
+     */
+    static Map<Operation, Integer> parseMix(String mix, boolean studentOperations) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            if (entry.trim().isEmpty()) continue;
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim(), studentOperations), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no operations: " + mix);
+        }
+        return weights;
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--students": students = Integer.parseInt(value); i++; break;
+                case "--teachers": teachers = Integer.parseInt(value); i++; break;
+                case "--duration": durationSeconds = Integer.parseInt(value); i++; break;
+                case "--warmup": warmupSeconds = Integer.parseInt(value); i++; break;
+                case "--think-ms": thinkMillis = Integer.parseInt(value); i++; break;
+                case "--student-mix": studentMix = value; i++; break;
+                case "--teacher-mix": teacherMix = value; i++; break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Run the load test and print the report
+     * @throws IllegalStateException if a user is still running 10 s after the test ends
+     */
+    public void run() throws InterruptedException {
+        Map<Operation, Integer> studentWeights = parseMix(studentMix, true);
+        Map<Operation, Integer> teacherWeights = parseMix(teacherMix, false);
+
+        System.out.println("Initializing data managers...");
+        SharedDataManager.initialize();
+        AccountStatementManager.getStatement(SyntheticDataGenerator.studentID(0));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<User> users = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < students + teachers; i++) {
+            boolean student = i < students;
+            User user = new User(student, student ? studentWeights : teacherWeights, start);
+            Thread thread = new Thread(user, (student ? "student-" : "teacher-") + i);
+            thread.setDaemon(true);
+            users.add(user);
+            threads.add(thread);
+            thread.start();
+        }
+
+        System.out.println("Running " + students + " students and " + teachers + " teachers: " +
+                           warmupSeconds + " s warm-up, " + durationSeconds + " s measured");
+        start.countDown();
+        Thread.sleep(warmupSeconds * 1000L);
+
+        recording = true;
+        long measuredStart = System.nanoTime();
+        Thread.sleep(durationSeconds * 1000L);
+        recording = false;
+        double measuredSeconds = (System.nanoTime() - measuredStart) / 1_000_000_000.0;
+
+        running = false;
+        // The recorders are only read once every user has stopped writing to them
+        List<String> stuck = new ArrayList<>();
+        for (Thread thread : threads) {
+            thread.join(10_000);
+            if (thread.isAlive()) {
+                stuck.add(thread.getName());
+            }
+        }
+        if (!stuck.isEmpty()) {
+            throw new IllegalStateException("users still running after the test ended: " + stuck);
+        }
+
+        printReport(users, measuredSeconds);
+    }
+
+    private void printReport(List<User> users, double measuredSeconds) {
+        EnumMap<Operation, Summary> summaries = new EnumMap<>(Operation.class);
+        for (User user : users) {
+            for (Map.Entry<Operation, Integer> entry : user.recorder.counts.entrySet()) {
+                Operation operation = entry.getKey();
+                summaries.computeIfAbsent(operation, k -> new Summary())
+                         .merge(user.recorder.samples.get(operation), entry.getValue(),
+                                user.recorder.errors.getOrDefault(operation, 0),
+                                user.recorder.firstFailure.get(operation));
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== LOAD TEST RESULTS (" + String.format("%.1f", measuredSeconds) + " s) ===");
+        System.out.println(String.format("%-14s %10s %8s %10s %10s %10s %10s %10s",
+                "Operation", "Count", "Errors", "Ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Summary> entry : summaries.entrySet()) {
+            Summary summary = entry.getValue();
+            Arrays.sort(summary.values, 0, summary.count);
+            totalCount += summary.count;
+            totalErrors += summary.errors;
+            System.out.println(String.format("%-14s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f",
+                    entry.getKey().getKey(), summary.count, summary.errors, summary.count / measuredSeconds,
+                    summary.percentileMillis(50), summary.percentileMillis(95),
+                    summary.percentileMillis(99), summary.percentileMillis(100)));
+        }
+        System.out.println(String.format("%-14s %10d %8d %10.1f", "TOTAL", totalCount, totalErrors, totalCount / measuredSeconds));
+
+        // Errors without an exception are rejected operations (e.g. a payment on a settled account)
+        for (Map.Entry<Operation, Summary> entry : summaries.entrySet()) {
+            if (entry.getValue().firstFailure != null) {
+                System.out.println("First " + entry.getKey().getKey() + " exception: " + entry.getValue().firstFailure);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        int population = SyntheticDataGenerator.readStudentCount(new File("."));
+        if (population <= 0) {
+            System.err.println("No synthetic data in " + new File("").getAbsolutePath());
+            System.err.println("Create a data set first (java SyntheticDataGenerator 10k <dir>) and run from that directory.");
+            System.exit(1);
+        }
+
+        PortalLoadDriver driver = new PortalLoadDriver();
+        try {
+            driver.parseArguments(args);
+            driver.studentPopulation = population;
+            driver.run();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("Load test failed: " + e.getMessage());
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,155 @@
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * RecordIndex - Secondary hash indexes over shared portal records
+ * Features:
+ * - O(1) lookup of records by studentID, by subjectCode, or by (studentID, subjectCode)
+ * - Kept up to date on every add, replace and remove
+ * - Records keep their insertion order inside each bucket
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class RecordIndex<T> {
+
+    private final Function<T, String> studentKey;
+    private final Function<T, String> subjectKey;
+
+    private final Map<String, List<T>> byStudent = new HashMap<>();
+    private final Map<String, List<T>> bySubject = new HashMap<>();
+    private final Map<String, List<T>> byStudentSubject = new HashMap<>();
+
+    /**
+     * @param studentKey Extracts the studentID of a record
+     * @param subjectKey Extracts the subjectCode of a record
+     */
+    public RecordIndex(Function<T, String> studentKey, Function<T, String> subjectKey) {
+        this.studentKey = studentKey;
+        this.subjectKey = subjectKey;
+    }
+
+    /**
+     * Composite key for (studentID, subjectCode) - '|' never appears inside a field
+     */
+    public static String compositeKey(String studentID, String subjectCode) {
+        return studentID + "|" + subjectCode;
+    }
+
+    /**
+     * Index a new record - O(1)
+     */
+    public void add(T record) {
+        String student = studentKey.apply(record);
+        String subject = subjectKey.apply(record);
+        byStudent.computeIfAbsent(student, k -> new ArrayList<>()).add(record);
+        bySubject.computeIfAbsent(subject, k -> new ArrayList<>()).add(record);
+        byStudentSubject.computeIfAbsent(compositeKey(student, subject), k -> new ArrayList<>()).add(record);
+    }
+
+    /**
+     * Swap a record for its replacement, keeping its position in every bucket
+     */
+    public void replace(T oldRecord, T newRecord) {
+        String student = studentKey.apply(oldRecord);
+        String subject = subjectKey.apply(oldRecord);
+
+        if (!student.equals(studentKey.apply(newRecord)) || !subject.equals(subjectKey.apply(newRecord))) {
+            remove(oldRecord);
+            add(newRecord);
+            return;
+        }
+
+        replaceInBucket(byStudent, student, oldRecord, newRecord);
+        replaceInBucket(bySubject, subject, oldRecord, newRecord);
+        replaceInBucket(byStudentSubject, compositeKey(student, subject), oldRecord, newRecord);
+    }
+
+    /**
+     * Remove a record from every bucket
+     */
+    public void remove(T record) {
+        String student = studentKey.apply(record);
+        String subject = subjectKey.apply(record);
+        removeFromBucket(byStudent, student, record);
+        removeFromBucket(bySubject, subject, record);
+        removeFromBucket(byStudentSubject, compositeKey(student, subject), record);
+    }
+
+    /**
+     * Drop every indexed record
+     */
+    public void clear() {
+        byStudent.clear();
+        bySubject.clear();
+        byStudentSubject.clear();
+    }
+
+    /**
+     * Re-index all records from scratch - O(n)
+     */
+    public void rebuild(Iterable<T> records) {
+        clear();
+        for (T record : records) {
+            add(record);
+        }
+    }
+
+    /**
+     * Get all records of a student - O(1)
+     */
+    public List<T> getByStudent(String studentID) {
+        return view(byStudent.get(studentID));
+    }
+
+    /**
+     * Get all records of a subject - O(1)
+     */
+    public List<T> getBySubject(String subjectCode) {
+        return view(bySubject.get(subjectCode));
+    }
+
+    /**
+     * Get all records of a student in a subject - O(1)
+     */
+    public List<T> getByStudentAndSubject(String studentID, String subjectCode) {
+        return view(byStudentSubject.get(compositeKey(studentID, subjectCode)));
+    }
+
+    /**
+     * Get the first record of a student in a subject, or null - O(1)
+     */
+    public T getFirst(String studentID, String subjectCode) {
+        List<T> bucket = byStudentSubject.get(compositeKey(studentID, subjectCode));
+        return bucket == null || bucket.isEmpty() ? null : bucket.get(0);
+    }
+
+    private static <T> List<T> view(List<T> bucket) {
+        return bucket == null ? Collections.emptyList() : Collections.unmodifiableList(bucket);
+    }
+
+    private static <T> void replaceInBucket(Map<String, List<T>> index, String key, T oldRecord, T newRecord) {
+        List<T> bucket = index.get(key);
+        if (bucket == null) return;
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == oldRecord) {
+                bucket.set(i, newRecord);
+                return;
+            }
+        }
+    }
+
+    private static <T> void removeFromBucket(Map<String, List<T>> index, String key, T record) {
+        List<T> bucket = index.get(key);
+        if (bucket == null) return;
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == record) {
+                bucket.remove(i);
+                break;
+            }
+        }
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
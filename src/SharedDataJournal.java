@@ -0,0 +1,442 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SharedDataJournal - Append-only write-ahead log for SharedDataManager mutations
+ * Features:
+ * - One journal line per mutation instead of a full snapshot rewrite
+ * - Each append is forced to disk before the mutation is acknowledged
+ * - Replay on startup so no acknowledged change is lost after a crash
+ * - Background compactor folds the journal into the snapshot files on a size or time threshold
+ * - Torn (unterminated) trailing records are ignored on replay
+ * - Several portal processes can share the journal: appends and compaction hold an exclusive
+ *   FileChannel lock, and an append first applies the records other processes wrote since
+ * - Only a process that appended compacts; replaying (e.g. in the student portal) never does
+ * - Each compaction starts a new generation, named in the first line of the journal, and a
+ *   snapshot can record the generation and offset it already holds, so records in a journal
+ *   left behind by a crash between the snapshot write and the truncate are not applied twice
+ *
+ * Journal line format: TYPE|payload, where payload is the snapshot line of that record type.
+ * First line: #GENERATION id previousId (previousId is "-" for a journal started from scratch)
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class SharedDataJournal {
+
+    private static final String GENERATION_PREFIX = "#GENERATION ";
+    // Journals written before generations were introduced
+    private static final String LEGACY_GENERATION = "legacy";
+    private static final String NO_GENERATION = "-";
+
+    /**
+     * Kinds of records kept in the journal, one per snapshot file
+     */
+    public enum RecordType {
+        GRADE, ATTENDANCE, CHECKLIST
+    }
+
+    /**
+     * Callback used to apply journal records during replay
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        void apply(RecordType type, String payload);
+    }
+
+    /**
+     * The snapshot files the journal is folded into
+     */
+    public interface Snapshots {
+        /**
+         * Load every snapshot file again (another process folded the journal into them)
+         */
+        void reload();
+
+        /**
+         * The journal position the loaded snapshot of a type already holds, or null
+         */
+        Position covered(RecordType type);
+
+        /**
+         * Write the snapshots of the given types, each holding the journal up to the position
+         * @return false if a snapshot could not be written
+         */
+        boolean write(Set<RecordType> types, Position upTo);
+    }
+
+    /**
+     * A byte offset in one generation of the journal
+     */
+    public static final class Position {
+        private final String generation;
+        private final long offset;
+
+        public Position(String generation, long offset) {
+            this.generation = generation;
+            this.offset = offset;
+        }
+
+        /**
+         * Parse the form written by toString(), or return null
+         */
+        public static Position parse(String text) {
+            String[] parts = text.trim().split(" ");
+            if (parts.length != 2) return null;
+            try {
+                return new Position(parts[0], Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean covers(String generation, long offset) {
+            return this.generation.equals(generation) && offset < this.offset;
+        }
+
+        @Override
+        public String toString() {
+            return generation + " " + offset;
+        }
+    }
+
+    private final File journalFile;
+    private final long maxBytes;
+    private final long maxAgeMillis;
+    private final RecordHandler handler;
+    private final Snapshots snapshots;
+
+    // Types this process appended since the last compaction; only they make it compact
+    private final EnumSet<RecordType> pendingTypes = EnumSet.noneOf(RecordType.class);
+    // Types with records in the current generation, whoever wrote them
+    private final EnumSet<RecordType> journalTypes = EnumSet.noneOf(RecordType.class);
+    private long oldestPendingMillis = 0;
+    // Generation and end of the records already applied to memory (complete lines only)
+    private String generation = null;
+    private long appliedOffset = 0;
+
+    private ScheduledExecutorService compactor;
+    private Runnable compaction;
+
+    /**
+     * @param journalFile The journal file
+     * @param maxBytes Journal size that triggers a compaction
+     * @param maxAgeMillis Age of the oldest pending record that triggers a compaction
+     * @param handler Applies records to memory during replay and catch-up
+     * @param snapshots The snapshot files the journal is folded into
+     */
+    public SharedDataJournal(File journalFile, long maxBytes, long maxAgeMillis,
+                             RecordHandler handler, Snapshots snapshots) {
+        this.journalFile = journalFile;
+        this.maxBytes = maxBytes;
+        this.maxAgeMillis = maxAgeMillis;
+        this.handler = handler;
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Append one mutation and force it to disk - O(1)
+     */
+    public void append(RecordType type, String payload) throws IOException {
+        appendAll(type, Collections.singletonList(payload));
+    }
+
+    /**
+     * Append several mutations of the same type with a single forced write
+     * Records other processes appended since this one last looked are applied first, so
+     * callers apply their own mutation to memory after this returns.
+     */
+    public synchronized void appendAll(RecordType type, List<String> payloads) throws IOException {
+        if (payloads.isEmpty()) return;
+
+        StringBuilder records = new StringBuilder();
+        for (String payload : payloads) {
+            records.append(type.name()).append('|').append(payload).append(System.lineSeparator());
+        }
+
+        long size = withFileLock(false, channel -> {
+            catchUp(channel);
+
+            StringBuilder prefix = new StringBuilder();
+            long end = channel.size();
+            if (end == 0) {
+                generation = newGeneration();
+                prefix.append(header(generation, NO_GENERATION));
+            } else if (lastByte(channel, end) != '\n') {
+                // Never glue a record onto a torn line left by a crash
+                prefix.append(System.lineSeparator());
+            }
+
+            write(channel, (prefix.toString() + records).getBytes(StandardCharsets.UTF_8), end);
+            channel.force(false);
+            appliedOffset = channel.size();
+            return appliedOffset;
+        });
+
+        if (pendingTypes.isEmpty()) {
+            oldestPendingMillis = System.currentTimeMillis();
+        }
+        pendingTypes.add(type);
+        journalTypes.add(type);
+
+        if (compactor != null && size >= maxBytes) {
+            compactor.execute(compaction);
+        }
+    }
+
+    /**
+     * Replay every complete record in the journal (after the snapshots were loaded)
+     * Replaying does not make this process compact; records it appended itself stay pending.
+     * @return The number of records applied
+     */
+    public synchronized int replay() throws IOException {
+        generation = null;
+        appliedOffset = 0;
+        journalTypes.clear();
+        if (!journalFile.exists()) {
+            return 0;
+        }
+        return withFileLock(true, this::applyTail);
+    }
+
+    /**
+     * Fold the journal into the snapshot files and truncate it, holding the journal lock so
+     * no process appends in between
+     * Does nothing unless this process appended since the last compaction.
+     * @return false if the snapshots could not be written (the journal is kept)
+     */
+    public synchronized boolean compact() throws IOException {
+        if (pendingTypes.isEmpty()) {
+            return true;
+        }
+
+        return withFileLock(false, channel -> {
+            catchUp(channel);
+            if (pendingTypes.isEmpty()) {
+                return true; // Another process folded our records in
+            }
+
+            if (!snapshots.write(EnumSet.copyOf(journalTypes), new Position(generation, appliedOffset))) {
+                return false;
+            }
+
+            String previous = generation;
+            generation = newGeneration();
+            byte[] header = header(generation, previous).getBytes(StandardCharsets.UTF_8);
+            channel.truncate(0);
+            write(channel, header, 0);
+            channel.force(true);
+
+            appliedOffset = header.length;
+            pendingTypes.clear();
+            journalTypes.clear();
+            oldestPendingMillis = 0;
+            return true;
+        });
+    }
+
+    /**
+     * Check if the journal has reached its size or time threshold
+     */
+    public synchronized boolean needsCompaction() {
+        if (pendingTypes.isEmpty()) {
+            return false;
+        }
+        return journalFile.length() >= maxBytes ||
+               System.currentTimeMillis() - oldestPendingMillis >= maxAgeMillis;
+    }
+
+    /**
+     * Get the record types this process appended that are not yet folded into their snapshot
+     */
+    public synchronized Set<RecordType> getPendingTypes() {
+        return pendingTypes.isEmpty() ? EnumSet.noneOf(RecordType.class) : EnumSet.copyOf(pendingTypes);
+    }
+
+    /**
+     * Start the background compactor
+     * @param compaction Task that folds the journal into the snapshots (see compact())
+     * @param checkIntervalMillis How often the thresholds are checked
+     */
+    public synchronized void startCompactor(Runnable compaction, long checkIntervalMillis) {
+        if (compactor != null) return;
+
+        this.compaction = compaction;
+        this.compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "SharedDataJournal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        compactor.scheduleWithFixedDelay(() -> {
+            try {
+                if (needsCompaction()) {
+                    compaction.run();
+                }
+            } catch (Exception e) {
+                System.err.println("Error compacting journal: " + e.getMessage());
+            }
+        }, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+
+        // Fold whatever is left when the portal exits normally
+        Runtime.getRuntime().addShutdownHook(new Thread(compaction, "SharedDataJournal-shutdown"));
+    }
+
+    /**
+     * Stop the background compactor
+     */
+    public synchronized void stopCompactor() {
+        if (compactor != null) {
+            compactor.shutdown();
+            compactor = null;
+        }
+    }
+
+    public File getJournalFile() {
+        return journalFile;
+    }
+
+    // ========== FILE ACCESS (caller holds the monitor) ==========
+
+    @FunctionalInterface
+    private interface LockedAction<T> {
+        T run(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Run an action holding a lock on the whole journal file
+     * @param shared Shared (read) lock instead of an exclusive one
+     */
+    private <T> T withFileLock(boolean shared, LockedAction<T> action) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, shared ? "r" : "rw")) {
+            FileChannel channel = file.getChannel();
+            FileLock lock = channel.lock(0, Long.MAX_VALUE, shared);
+            try {
+                return action.run(channel);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Bring memory up to date with the journal on disk
+     * If another process compacted since, its snapshots already hold everything this process
+     * had applied or appended, so they are loaded again and the new generation is replayed.
+     */
+    private void catchUp(FileChannel channel) throws IOException {
+        long size = channel.size();
+        String[] current = size == 0 ? null : readHeader(channel);
+        boolean compacted = current != null && !current[0].equals(generation)
+                // No journal when this process loaded: only one started from scratch is new to it
+                && !(generation == null && NO_GENERATION.equals(current[1]));
+        if (size < appliedOffset || compacted) {
+            snapshots.reload();
+            generation = null;
+            appliedOffset = 0;
+            journalTypes.clear();
+            pendingTypes.clear();
+            oldestPendingMillis = 0;
+        }
+        applyTail(channel);
+    }
+
+    /**
+     * Apply the complete records after appliedOffset
+     * @return The number of records applied
+     */
+    private int applyTail(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size <= appliedOffset) {
+            return 0;
+        }
+        if (appliedOffset == 0) {
+            generation = readHeader(channel)[0];
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) (size - appliedOffset));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, appliedOffset + buffer.position()) < 0) break;
+        }
+        byte[] bytes = buffer.array();
+
+        int applied = 0;
+        int lineStart = 0;
+        // Only terminated lines are complete; anything after the last newline is a torn write
+        for (int i = 0; i < buffer.position(); i++) {
+            if (bytes[i] != '\n') continue;
+
+            long lineOffset = appliedOffset + lineStart;
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            lineStart = i + 1;
+
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            if (line.trim().isEmpty() || line.startsWith(GENERATION_PREFIX)) continue;
+
+            String[] parts = line.split("\\|", 2);
+            if (parts.length < 2) continue;
+
+            try {
+                RecordType type = RecordType.valueOf(parts[0]);
+                journalTypes.add(type);
+                Position covered = snapshots.covered(type);
+                if (covered != null && covered.covers(generation, lineOffset)) {
+                    continue; // Already in the snapshot
+                }
+                handler.apply(type, parts[1]);
+                applied++;
+            } catch (Exception e) {
+                System.err.println("Skipping unreadable journal record: " + line);
+            }
+        }
+
+        appliedOffset += lineStart;
+        return applied;
+    }
+
+    private static String header(String generation, String previous) {
+        return GENERATION_PREFIX + generation + " " + previous + System.lineSeparator();
+    }
+
+    /**
+     * The generation and previous generation named in the first line
+     * ({LEGACY_GENERATION, null} if there is no header)
+     */
+    private static String[] readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        channel.read(buffer, 0);
+        String head = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        int end = head.indexOf('\n');
+        if (!head.startsWith(GENERATION_PREFIX) || end < 0) {
+            return new String[]{LEGACY_GENERATION, null};
+        }
+        String[] parts = head.substring(GENERATION_PREFIX.length(), end).trim().split(" ");
+        return new String[]{parts[0], parts.length > 1 ? parts[1] : null};
+    }
+
+    private static int lastByte(FileChannel channel, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        channel.read(buffer, size - 1);
+        return buffer.get(0);
+    }
+
+    private static void write(FileChannel channel, byte[] bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static String newGeneration() {
+        return Long.toString(System.currentTimeMillis(), 36) + "-" + Long.toString(System.nanoTime() & 0xFFFFFFL, 36);
+    }
+}
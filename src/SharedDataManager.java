@@ -1,4 +1,6 @@
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 
 /**
@@ -15,26 +17,96 @@ public class SharedDataManager {
     private static final String ATTENDANCE_FILE = "shared_attendance.txt";
     private static final String CLASS_CHECKLIST_FILE = "shared_class_checklist.txt";
     private static final String ANNOUNCEMENTS_FILE = "shared_announcements.txt";
+    private static final String JOURNAL_FILE = "shared_data.journal";
+    
+    // Snapshot format: "text" (default) or "binary" (override with -Dislu.snapshot.format=binary)
+    // In binary mode grades and attendance are also written as .bin column files (see ColumnarSnapshot)
+    // and loaded from them while they match the text files; the text files are always written too
+    private static final boolean BINARY_SNAPSHOTS = "binary".equalsIgnoreCase(System.getProperty("islu.snapshot.format", "text"));
+    
+    // Write-ahead log settings (override with -Dislu.wal.enabled=false etc.)
+    private static final boolean WAL_ENABLED = Boolean.parseBoolean(System.getProperty("islu.wal.enabled", "true"));
+    private static final long WAL_MAX_BYTES = Long.getLong("islu.wal.maxBytes", 256 * 1024);
+    private static final long WAL_MAX_AGE_MILLIS = Long.getLong("islu.wal.maxAgeSeconds", 30) * 1000;
+    private static final long WAL_CHECK_INTERVAL_MILLIS = 1000;
+    
+    // Data structures using our custom list implementations (override with -Dislu.list.backing=...)
+    private static MyListFactory.Backing listBacking = MyListFactory.getDefaultBacking();
+    private static MyList<GradeRecord> gradeRecords = MyListFactory.create(listBacking);
+    // Column storage behind gradeRecords: every stored GradeRecord is a view of one row
+    private static GradeTable gradeTable = new GradeTable();
+    private static MyList<AttendanceRecord> attendanceRecords = MyListFactory.create(listBacking);
+    private static MyList<ClassChecklistItem> classChecklistItems = MyListFactory.create(listBacking);
+    private static MyList<Announcement> announcements = MyListFactory.create(listBacking);
+    // Modification time and length of the announcements file as last read or written here
+    private static long[] announcementsStamp = new long[2];
+    
+    // Hash indexes by studentID, subjectCode and (studentID, subjectCode), kept in step with the lists
+    private static final RecordIndex<GradeRecord> gradeIndex =
+        new RecordIndex<>(GradeRecord::getStudentID, GradeRecord::getSubjectCode);
+    private static final RecordIndex<AttendanceRecord> attendanceIndex =
+        new RecordIndex<>(AttendanceRecord::getStudentID, AttendanceRecord::getSubjectCode);
+    private static final RecordIndex<ClassChecklistItem> checklistIndex =
+        new RecordIndex<>(ClassChecklistItem::getStudentID, ClassChecklistItem::getSubjectCode);
+    
+    // Cached per-subject statistics, invalidated per subject when its grades or attendance change
+    private static final ClassStatisticsEngine statistics = new ClassStatisticsEngine(
+        () -> gradeRecords, () -> attendanceRecords, gradeIndex::getBySubject, attendanceIndex::getBySubject);
+    
+    // Journal of grade/attendance/checklist mutations not yet folded into the snapshot files
+    private static SharedDataJournal journal;
+    // Journal position the loaded attendance snapshot already holds (first line "#JOURNAL generation offset")
+    private static final String JOURNAL_MARKER = "#JOURNAL ";
+    private static SharedDataJournal.Position attendanceCovered;
     
-    // Data structures using our custom LinkedList implementations
-    private static MyDoublyLinkedList<GradeRecord> gradeRecords = new MyDoublyLinkedList<>();
-    private static MyDoublyLinkedList<AttendanceRecord> attendanceRecords = new MyDoublyLinkedList<>();
-    private static MyDoublyLinkedList<ClassChecklistItem> classChecklistItems = new MyDoublyLinkedList<>();
-    private static MyDoublyLinkedList<Announcement> announcements = new MyDoublyLinkedList<>();
+    /**
+     * Initialize the shared data manager and load existing data
+     */
+    public static synchronized void initialize() {
+        Metrics.time("SharedDataManager.initialize", () -> {
+            loadAllData();
+            if (WAL_ENABLED) {
+                openJournal();
+            }
+            System.out.println("SharedDataManager initialized with " + gradeRecords.size() + " grade records, " + 
+                              attendanceRecords.size() + " attendance records, " + 
+                              classChecklistItems.size() + " checklist items, " + 
+                              announcements.size() + " announcements");
+        });
+    }
     
-    // Cache for fast lookups
-    private static Map<String, MySinglyLinkedList<GradeRecord>> studentGradesCache = new HashMap<>();
-    private static Map<String, MySinglyLinkedList<AttendanceRecord>> studentAttendanceCache = new HashMap<>();
+    /**
+     * Reload all records from the snapshot files and the journal
+     * Used when another portal process has changed the shared data files
+     */
+    public static synchronized void reload() {
+        Metrics.time("SharedDataManager.reload", () -> {
+            loadAllData();
+            if (journal != null) {
+                try {
+                    journal.replay();
+                } catch (IOException e) {
+                    System.err.println("Error replaying journal: " + e.getMessage());
+                }
+            }
+        });
+    }
     
     /**
-     * Initialize the shared data manager and load existing data
+     * Switch the list implementation behind the shared records, keeping their contents and order
      */
-    public static void initialize() {
-        loadAllData();
-        System.out.println("SharedDataManager initialized with " + gradeRecords.size() + " grade records, " + 
-                          attendanceRecords.size() + " attendance records, " + 
-                          classChecklistItems.size() + " checklist items, " + 
-                          announcements.size() + " announcements");
+    public static synchronized void setListBacking(MyListFactory.Backing backing) {
+        if (backing == null || backing == listBacking) return;
+        
+        gradeRecords = MyListFactory.copyOf(gradeRecords, backing);
+        attendanceRecords = MyListFactory.copyOf(attendanceRecords, backing);
+        classChecklistItems = MyListFactory.copyOf(classChecklistItems, backing);
+        announcements = MyListFactory.copyOf(announcements, backing);
+        listBacking = backing;
+    }
+    
+    public static synchronized MyListFactory.Backing getListBacking() {
+        return listBacking;
     }
     
     // ========== GRADE MANAGEMENT ==========
@@ -42,76 +114,103 @@ public class SharedDataManager {
     /**
      * Add or update a grade record (called by teacher)
      */
-    public static boolean saveGradeRecord(String studentID, String subjectCode, String subjectName, 
+    public static synchronized boolean saveGradeRecord(String studentID, String subjectCode, String subjectName, 
                                         double prelimGrade, double midtermGrade, double finalGrade) {
-        try {
-            // Create or update grade record
-            GradeRecord gradeRecord = new GradeRecord(studentID, subjectCode, subjectName, 
-                                                    prelimGrade, midtermGrade, finalGrade);
-            
-            // Check if record already exists
-            boolean updated = false;
-            for (int i = 0; i < gradeRecords.size(); i++) {
-                GradeRecord existing = gradeRecords.get(i);
-                if (existing.getStudentID().equals(studentID) && 
-                    existing.getSubjectCode().equals(subjectCode)) {
-                    gradeRecords.set(i, gradeRecord);
-                    updated = true;
-                    break;
+        return Metrics.time("SharedDataManager.saveGradeRecord", () -> {
+            try {
+                // Create or update grade record
+                GradeRecord gradeRecord = new GradeRecord(studentID, subjectCode, subjectName, 
+                                                        prelimGrade, midtermGrade, finalGrade);
+                
+                // Journal first, then memory (the file is written from memory when the journal is disabled)
+                if (journal != null) {
+                    journal.append(SharedDataJournal.RecordType.GRADE, formatGradeRecord(gradeRecord));
                 }
+                upsertGradeRecord(gradeRecord);
+                if (journal == null) {
+                    saveGradesToFile();
+                }
+                
+                System.out.println("Grade record saved for student " + studentID + " in " + subjectCode);
+                return true;
+                
+            } catch (Exception e) {
+                System.err.println("Error saving grade record: " + e.getMessage());
+                return false;
             }
-            
-            if (!updated) {
-                gradeRecords.add(gradeRecord);
+        });
+    }
+    
+    /**
+     * Add or update a batch of grade records with a single durable write (called by teacher)
+     * Existing records are found through the (studentID, subjectCode) index and
+     * updated in place; when the batch itself repeats a key, the last record wins.
+     */
+    public static synchronized boolean saveGradeRecords(Collection<GradeRecord> records) {
+        return Metrics.time("SharedDataManager.saveGradeRecords", () -> {
+            if (records == null || records.isEmpty()) {
+                return true;
             }
             
-            // Update cache
-            updateStudentGradesCache(studentID);
-            
-            // Save to file
-            saveGradesToFile();
-            
-            System.out.println("Grade record saved for student " + studentID + " in " + subjectCode);
-            return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error saving grade record: " + e.getMessage());
-            return false;
-        }
+            try {
+                // Index the batch by (studentID, subjectCode)
+                Map<String, GradeRecord> batch = new LinkedHashMap<>();
+                for (GradeRecord record : records) {
+                    batch.put(RecordIndex.compositeKey(record.getStudentID(), record.getSubjectCode()), record);
+                }
+                
+                // One journal append for the whole batch, before memory changes
+                if (journal != null) {
+                    List<String> lines = new ArrayList<>(batch.size());
+                    for (GradeRecord record : batch.values()) {
+                        lines.add(formatGradeRecord(record));
+                    }
+                    journal.appendAll(SharedDataJournal.RecordType.GRADE, lines);
+                }
+                
+                // Update existing rows in place and add the new records
+                for (GradeRecord record : batch.values()) {
+                    upsertGradeRecord(record);
+                }
+                if (journal == null && !saveGradesToFile()) {
+                    return false;
+                }
+                
+                System.out.println("Grade records saved: " + batch.size());
+                return true;
+                
+            } catch (Exception e) {
+                System.err.println("Error saving grade records: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
     /**
      * Get grade records for a specific student (called by student)
      */
-    public static MySinglyLinkedList<GradeRecord> getStudentGrades(String studentID) {
-        if (studentGradesCache.containsKey(studentID)) {
-            return studentGradesCache.get(studentID);
-        }
-        
-        MySinglyLinkedList<GradeRecord> studentGrades = new MySinglyLinkedList<>();
-        for (int i = 0; i < gradeRecords.size(); i++) {
-            GradeRecord record = gradeRecords.get(i);
-            if (record.getStudentID().equals(studentID)) {
-                studentGrades.add(record);
-            }
-        }
-        
-        studentGradesCache.put(studentID, studentGrades);
-        return studentGrades;
+    public static synchronized MySinglyLinkedList<GradeRecord> getStudentGrades(String studentID) {
+        return Metrics.time("SharedDataManager.getStudentGrades", () -> {
+            return toLinkedList(gradeIndex.getByStudent(studentID));
+        });
     }
     
     /**
      * Get all grade records for a specific subject (called by teacher)
      */
-    public static MySinglyLinkedList<GradeRecord> getSubjectGrades(String subjectCode) {
-        MySinglyLinkedList<GradeRecord> subjectGrades = new MySinglyLinkedList<>();
-        for (int i = 0; i < gradeRecords.size(); i++) {
-            GradeRecord record = gradeRecords.get(i);
-            if (record.getSubjectCode().equals(subjectCode)) {
-                subjectGrades.add(record);
-            }
-        }
-        return subjectGrades;
+    public static synchronized MySinglyLinkedList<GradeRecord> getSubjectGrades(String subjectCode) {
+        return Metrics.time("SharedDataManager.getSubjectGrades", () -> {
+            return toLinkedList(gradeIndex.getBySubject(subjectCode));
+        });
+    }
+    
+    /**
+     * Get the grade record of a student in a subject, or null if none was encoded
+     */
+    public static synchronized GradeRecord getGradeRecord(String studentID, String subjectCode) {
+        return Metrics.time("SharedDataManager.getGradeRecord", () -> {
+            return gradeIndex.getFirst(studentID, subjectCode);
+        });
     }
     
     // ========== ATTENDANCE MANAGEMENT ==========
@@ -119,59 +218,56 @@ public class SharedDataManager {
     /**
      * Record attendance (called by teacher)
      */
-    public static boolean recordAttendance(String studentID, String subjectCode, String date, 
+    public static synchronized boolean recordAttendance(String studentID, String subjectCode, String date, 
                                          String status, String remarks) {
-        try {
-            AttendanceRecord attendanceRecord = new AttendanceRecord(studentID, subjectCode, date, status, remarks);
-            attendanceRecords.add(attendanceRecord);
-            
-            // Update cache
-            updateStudentAttendanceCache(studentID);
-            
-            // Save to file
-            saveAttendanceToFile();
-            
-            System.out.println("Attendance recorded for student " + studentID + " in " + subjectCode + " on " + date);
-            return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error recording attendance: " + e.getMessage());
-            return false;
-        }
+        return Metrics.time("SharedDataManager.recordAttendance", () -> {
+            try {
+                AttendanceRecord attendanceRecord = new AttendanceRecord(studentID, subjectCode, date, status, remarks);
+                
+                // Journal first, then memory (the file is written from memory when the journal is disabled)
+                if (journal != null) {
+                    journal.append(SharedDataJournal.RecordType.ATTENDANCE, formatAttendanceRecord(attendanceRecord));
+                }
+                addAttendanceRecord(attendanceRecord);
+                if (journal == null) {
+                    saveAttendanceToFile(null);
+                }
+                
+                System.out.println("Attendance recorded for student " + studentID + " in " + subjectCode + " on " + date);
+                return true;
+                
+            } catch (Exception e) {
+                System.err.println("Error recording attendance: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
     /**
      * Get attendance records for a specific student (called by student)
      */
-    public static MySinglyLinkedList<AttendanceRecord> getStudentAttendance(String studentID) {
-        if (studentAttendanceCache.containsKey(studentID)) {
-            return studentAttendanceCache.get(studentID);
-        }
-        
-        MySinglyLinkedList<AttendanceRecord> studentAttendance = new MySinglyLinkedList<>();
-        for (int i = 0; i < attendanceRecords.size(); i++) {
-            AttendanceRecord record = attendanceRecords.get(i);
-            if (record.getStudentID().equals(studentID)) {
-                studentAttendance.add(record);
-            }
-        }
-        
-        studentAttendanceCache.put(studentID, studentAttendance);
-        return studentAttendance;
+    public static synchronized MySinglyLinkedList<AttendanceRecord> getStudentAttendance(String studentID) {
+        return Metrics.time("SharedDataManager.getStudentAttendance", () -> {
+            return toLinkedList(attendanceIndex.getByStudent(studentID));
+        });
     }
     
     /**
      * Get attendance records for a specific subject (called by teacher)
      */
-    public static MySinglyLinkedList<AttendanceRecord> getSubjectAttendance(String subjectCode) {
-        MySinglyLinkedList<AttendanceRecord> subjectAttendance = new MySinglyLinkedList<>();
-        for (int i = 0; i < attendanceRecords.size(); i++) {
-            AttendanceRecord record = attendanceRecords.get(i);
-            if (record.getSubjectCode().equals(subjectCode)) {
-                subjectAttendance.add(record);
-            }
-        }
-        return subjectAttendance;
+    public static synchronized MySinglyLinkedList<AttendanceRecord> getSubjectAttendance(String subjectCode) {
+        return Metrics.time("SharedDataManager.getSubjectAttendance", () -> {
+            return toLinkedList(attendanceIndex.getBySubject(subjectCode));
+        });
+    }
+    
+    /**
+     * Get attendance records of a student in a subject
+     */
+    public static synchronized MySinglyLinkedList<AttendanceRecord> getStudentSubjectAttendance(String studentID, String subjectCode) {
+        return Metrics.time("SharedDataManager.getStudentSubjectAttendance", () -> {
+            return toLinkedList(attendanceIndex.getByStudentAndSubject(studentID, subjectCode));
+        });
     }
     
     // ========== CLASS CHECKLIST MANAGEMENT ==========
@@ -179,66 +275,47 @@ public class SharedDataManager {
     /**
      * Update class checklist item (called by teacher)
      */
-    public static boolean updateClassChecklist(String studentID, String subjectCode, String requirement, 
+    public static synchronized boolean updateClassChecklist(String studentID, String subjectCode, String requirement, 
                                              String status, String remarks) {
-        try {
-            ClassChecklistItem checklistItem = new ClassChecklistItem(studentID, subjectCode, requirement, status, remarks);
-            
-            // Check if item already exists
-            boolean updated = false;
-            for (int i = 0; i < classChecklistItems.size(); i++) {
-                ClassChecklistItem existing = classChecklistItems.get(i);
-                if (existing.getStudentID().equals(studentID) && 
-                    existing.getSubjectCode().equals(subjectCode) && 
-                    existing.getRequirement().equals(requirement)) {
-                    classChecklistItems.set(i, checklistItem);
-                    updated = true;
-                    break;
+        return Metrics.time("SharedDataManager.updateClassChecklist", () -> {
+            try {
+                ClassChecklistItem checklistItem = new ClassChecklistItem(studentID, subjectCode, requirement, status, remarks);
+                
+                // Journal first, then memory (the file is written from memory when the journal is disabled)
+                if (journal != null) {
+                    journal.append(SharedDataJournal.RecordType.CHECKLIST, formatClassChecklistItem(checklistItem));
                 }
+                upsertClassChecklistItem(checklistItem);
+                if (journal == null) {
+                    saveClassChecklistToFile();
+                }
+                
+                System.out.println("Class checklist updated for student " + studentID + " in " + subjectCode);
+                return true;
+                
+            } catch (Exception e) {
+                System.err.println("Error updating class checklist: " + e.getMessage());
+                return false;
             }
-            
-            if (!updated) {
-                classChecklistItems.add(checklistItem);
-            }
-            
-            // Save to file
-            saveClassChecklistToFile();
-            
-            System.out.println("Class checklist updated for student " + studentID + " in " + subjectCode);
-            return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error updating class checklist: " + e.getMessage());
-            return false;
-        }
+        });
     }
     
     /**
      * Get class checklist for a specific student (called by student)
      */
-    public static MySinglyLinkedList<ClassChecklistItem> getStudentClassChecklist(String studentID) {
-        MySinglyLinkedList<ClassChecklistItem> studentChecklist = new MySinglyLinkedList<>();
-        for (int i = 0; i < classChecklistItems.size(); i++) {
-            ClassChecklistItem item = classChecklistItems.get(i);
-            if (item.getStudentID().equals(studentID)) {
-                studentChecklist.add(item);
-            }
-        }
-        return studentChecklist;
+    public static synchronized MySinglyLinkedList<ClassChecklistItem> getStudentClassChecklist(String studentID) {
+        return Metrics.time("SharedDataManager.getStudentClassChecklist", () -> {
+            return toLinkedList(checklistIndex.getByStudent(studentID));
+        });
     }
     
     /**
      * Get class checklist for a specific subject (called by teacher)
      */
-    public static MySinglyLinkedList<ClassChecklistItem> getSubjectClassChecklist(String subjectCode) {
-        MySinglyLinkedList<ClassChecklistItem> subjectChecklist = new MySinglyLinkedList<>();
-        for (int i = 0; i < classChecklistItems.size(); i++) {
-            ClassChecklistItem item = classChecklistItems.get(i);
-            if (item.getSubjectCode().equals(subjectCode)) {
-                subjectChecklist.add(item);
-            }
-        }
-        return subjectChecklist;
+    public static synchronized MySinglyLinkedList<ClassChecklistItem> getSubjectClassChecklist(String subjectCode) {
+        return Metrics.time("SharedDataManager.getSubjectClassChecklist", () -> {
+            return toLinkedList(checklistIndex.getBySubject(subjectCode));
+        });
     }
     
     // ========== ANNOUNCEMENT MANAGEMENT ==========
@@ -246,110 +323,135 @@ public class SharedDataManager {
     /**
      * Add announcement (called by teacher)
      */
-    public static boolean addAnnouncement(String title, String content, String author, String targetAudience) {
-        try {
-            Announcement announcement = new Announcement(title, content, author, targetAudience, "Medium");
-            announcements.add(announcement);
-            
-            // Save to file
-            saveAnnouncementsToFile();
-            
-            System.out.println("Announcement added: " + title);
-            return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error adding announcement: " + e.getMessage());
-            return false;
-        }
+    public static synchronized boolean addAnnouncement(String title, String content, String author, String targetAudience) {
+        return Metrics.time("SharedDataManager.addAnnouncement", () -> {
+            try {
+                Announcement announcement = new Announcement(title, content, author, targetAudience, "Medium");
+                announcements.add(announcement);
+                
+                // Save to file
+                saveAnnouncementsToFile();
+                
+                System.out.println("Announcement added: " + title);
+                return true;
+                
+            } catch (Exception e) {
+                System.err.println("Error adding announcement: " + e.getMessage());
+                return false;
+            }
+        });
+    }
+    
+    public static synchronized boolean addAnnouncement(String title, String content, String author, String targetAudience, String priority) {
+        return Metrics.time("SharedDataManager.addAnnouncement", () -> {
+            try {
+                Announcement announcement = new Announcement(title, content, author, targetAudience, priority);
+                announcements.add(announcement);
+                
+                // Save to file
+                saveAnnouncementsToFile();
+                
+                System.out.println("Announcement added: " + title);
+                return true;
+                
+            } catch (Exception e) {
+                System.err.println("Error adding announcement: " + e.getMessage());
+                return false;
+            }
+        });
     }
     
-    public static boolean addAnnouncement(String title, String content, String author, String targetAudience, String priority) {
-        try {
-            Announcement announcement = new Announcement(title, content, author, targetAudience, priority);
-            announcements.add(announcement);
-            
-            // Save to file
-            saveAnnouncementsToFile();
-            
-            System.out.println("Announcement added: " + title);
+    /**
+     * Reload announcements after the announcements file changed
+     * Nothing is read when the file is still the one this process last read or wrote.
+     * @return Whether the announcements were reloaded
+     */
+    public static synchronized boolean reloadAnnouncements() {
+        return Metrics.time("SharedDataManager.reloadAnnouncements", () -> {
+            if (Arrays.equals(fileStamp(new File(ANNOUNCEMENTS_FILE)), announcementsStamp)) {
+                return false; // Our own write
+            }
+            loadAnnouncementsFromFile();
             return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error adding announcement: " + e.getMessage());
-            return false;
-        }
+        });
     }
     
     /**
      * Get announcements for students
      */
-    public static MySinglyLinkedList<Announcement> getStudentAnnouncements() {
-        MySinglyLinkedList<Announcement> studentAnnouncements = new MySinglyLinkedList<>();
-        for (int i = 0; i < announcements.size(); i++) {
-            Announcement announcement = announcements.get(i);
-            if (announcement.getTargetAudience().equals("Students") || 
-                announcement.getTargetAudience().equals("All")) {
-                studentAnnouncements.add(announcement);
-            }
-        }
-        return studentAnnouncements;
+    public static synchronized MySinglyLinkedList<Announcement> getStudentAnnouncements() {
+        return Metrics.time("SharedDataManager.getStudentAnnouncements", () -> {
+            MySinglyLinkedList<Announcement> studentAnnouncements = new MySinglyLinkedList<>();
+            announcements.forEach(announcement -> {
+                if (announcement.getTargetAudience().equals("Students") || 
+                    announcement.getTargetAudience().equals("All")) {
+                    studentAnnouncements.add(announcement);
+                }
+            });
+            return studentAnnouncements;
+        });
     }
     
     /**
      * Get announcements for teachers
      */
-    public static MySinglyLinkedList<Announcement> getTeacherAnnouncements() {
-        MySinglyLinkedList<Announcement> teacherAnnouncements = new MySinglyLinkedList<>();
-        for (int i = 0; i < announcements.size(); i++) {
-            Announcement announcement = announcements.get(i);
-            if (announcement.getTargetAudience().equals("Teachers") || 
-                announcement.getTargetAudience().equals("All")) {
-                teacherAnnouncements.add(announcement);
-            }
-        }
-        return teacherAnnouncements;
+    public static synchronized MySinglyLinkedList<Announcement> getTeacherAnnouncements() {
+        return Metrics.time("SharedDataManager.getTeacherAnnouncements", () -> {
+            MySinglyLinkedList<Announcement> teacherAnnouncements = new MySinglyLinkedList<>();
+            announcements.forEach(announcement -> {
+                if (announcement.getTargetAudience().equals("Teachers") || 
+                    announcement.getTargetAudience().equals("All")) {
+                    teacherAnnouncements.add(announcement);
+                }
+            });
+            return teacherAnnouncements;
+        });
     }
     
     /**
      * Get all announcements (for teacher portal management)
      */
-    public static MySinglyLinkedList<Announcement> getAllAnnouncements() {
-        MySinglyLinkedList<Announcement> allAnnouncements = new MySinglyLinkedList<>();
-        for (int i = 0; i < announcements.size(); i++) {
-            allAnnouncements.add(announcements.get(i));
-        }
-        return allAnnouncements;
+    public static synchronized MySinglyLinkedList<Announcement> getAllAnnouncements() {
+        return Metrics.time("SharedDataManager.getAllAnnouncements", () -> {
+            MySinglyLinkedList<Announcement> allAnnouncements = new MySinglyLinkedList<>();
+            announcements.forEach(allAnnouncements::add);
+            return allAnnouncements;
+        });
     }
     
     // ========== FILE OPERATIONS ==========
     
     private static void loadAllData() {
+        statistics.invalidateAll();
         loadGradesFromFile();
         loadAttendanceFromFile();
         loadClassChecklistFromFile();
         loadAnnouncementsFromFile();
+        rebuildIndexes();
     }
     
     private static void loadGradesFromFile() {
         try {
             File file = new File(GRADES_FILE);
-            if (!file.exists()) {
+            if (!file.exists() && !(BINARY_SNAPSHOTS && ColumnarSnapshot.binaryFileFor(file).exists())) {
                 // Create sample data
                 createSampleGradeData();
                 return;
             }
             
             gradeRecords.clear();
+            gradeTable = new GradeTable();
+            List<GradeRecord> binaryRecords = BINARY_SNAPSHOTS ? readBinaryGrades(file, gradeTable) : null;
+            if (binaryRecords != null) {
+                binaryRecords.forEach(gradeRecords::add);
+                return;
+            }
             try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     if (line.trim().isEmpty()) continue;
-                    String[] parts = line.split("\\|");
-                    if (parts.length >= 6) {
-                        GradeRecord record = new GradeRecord(parts[0], parts[1], parts[2], 
-                                                           Double.parseDouble(parts[3]), 
-                                                           Double.parseDouble(parts[4]), 
-                                                           Double.parseDouble(parts[5]));
+                    GradeRecord record = parseGradeRecord(line, gradeTable);
+                    if (record != null) {
                         gradeRecords.add(record);
                     }
                 }
@@ -359,36 +461,67 @@ public class SharedDataManager {
         }
     }
     
-    private static void saveGradesToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(GRADES_FILE))) {
-            for (int i = 0; i < gradeRecords.size(); i++) {
-                GradeRecord record = gradeRecords.get(i);
-                writer.write(record.getStudentID() + "|" + record.getSubjectCode() + "|" + 
-                           record.getSubjectName() + "|" + record.getPrelimGrade() + "|" + 
-                           record.getMidtermGrade() + "|" + record.getFinalGrade());
-                writer.newLine();
+    private static boolean saveGradesToFile() {
+        List<String> lines = new ArrayList<>(gradeRecords.size());
+        gradeRecords.forEach(record -> lines.add(formatGradeRecord(record)));
+        try {
+            writeSnapshot(GRADES_FILE, lines);
+            if (BINARY_SNAPSHOTS) {
+                File file = new File(GRADES_FILE);
+                ColumnarSnapshot.writeGrades(ColumnarSnapshot.binaryFileFor(file), gradeRecords, file);
             }
+            return true;
         } catch (Exception e) {
             System.err.println("Error saving grades: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    static GradeRecord parseGradeRecord(String line) {
+        return parseGradeRecord(line, null);
+    }
+    
+    /**
+     * Parse a grade line into a new row of the given table (a standalone record if null)
+     */
+    private static GradeRecord parseGradeRecord(String line, GradeTable table) {
+        String[] parts = line.split("\\|");
+        if (parts.length >= 6) {
+            return new GradeRecord(table, SymbolTable.intern(parts[0]), SymbolTable.intern(parts[1]), SymbolTable.intern(parts[2]), 
+                                   Double.parseDouble(parts[3]), 
+                                   Double.parseDouble(parts[4]), 
+                                   Double.parseDouble(parts[5]));
         }
+        return null;
+    }
+    
+    static String formatGradeRecord(GradeRecord record) {
+        return record.getStudentID() + "|" + record.getSubjectCode() + "|" + 
+               record.getSubjectName() + "|" + record.getPrelimGrade() + "|" + 
+               record.getMidtermGrade() + "|" + record.getFinalGrade();
     }
     
     private static void loadAttendanceFromFile() {
         try {
             File file = new File(ATTENDANCE_FILE);
-            if (!file.exists()) {
+            if (!file.exists() && !(BINARY_SNAPSHOTS && ColumnarSnapshot.binaryFileFor(file).exists())) {
                 createSampleAttendanceData();
                 return;
             }
             
             attendanceRecords.clear();
+            attendanceCovered = readJournalMarker(file);
+            List<AttendanceRecord> binaryRecords = BINARY_SNAPSHOTS ? readBinaryAttendance(file) : null;
+            if (binaryRecords != null) {
+                binaryRecords.forEach(attendanceRecords::add);
+                return;
+            }
             try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
-                    if (line.trim().isEmpty()) continue;
-                    String[] parts = line.split("\\|");
-                    if (parts.length >= 5) {
-                        AttendanceRecord record = new AttendanceRecord(parts[0], parts[1], parts[2], parts[3], parts[4]);
+                    if (line.trim().isEmpty() || line.startsWith(JOURNAL_MARKER)) continue;
+                    AttendanceRecord record = parseAttendanceRecord(line);
+                    if (record != null) {
                         attendanceRecords.add(record);
                     }
                 }
@@ -398,17 +531,41 @@ public class SharedDataManager {
         }
     }
     
-    private static void saveAttendanceToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(ATTENDANCE_FILE))) {
-            for (int i = 0; i < attendanceRecords.size(); i++) {
-                AttendanceRecord record = attendanceRecords.get(i);
-                writer.write(record.getStudentID() + "|" + record.getSubjectCode() + "|" + 
-                           record.getDateString() + "|" + record.getStatus() + "|" + record.getRemarks());
-                writer.newLine();
+    /**
+     * Write the attendance snapshot
+     * @param covered Journal position the snapshot holds (written as its first line), or null
+     */
+    private static boolean saveAttendanceToFile(SharedDataJournal.Position covered) {
+        List<String> lines = new ArrayList<>(attendanceRecords.size() + 1);
+        if (covered != null) {
+            lines.add(JOURNAL_MARKER + covered);
+        }
+        attendanceRecords.forEach(record -> lines.add(formatAttendanceRecord(record)));
+        try {
+            writeSnapshot(ATTENDANCE_FILE, lines);
+            attendanceCovered = covered;
+            if (BINARY_SNAPSHOTS) {
+                File file = new File(ATTENDANCE_FILE);
+                ColumnarSnapshot.writeAttendance(ColumnarSnapshot.binaryFileFor(file), attendanceRecords, file);
             }
+            return true;
         } catch (Exception e) {
             System.err.println("Error saving attendance: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    static AttendanceRecord parseAttendanceRecord(String line) {
+        String[] parts = line.split("\\|", -1); // Keep empty trailing fields such as blank remarks
+        if (parts.length >= 5) {
+            return new AttendanceRecord(SymbolTable.intern(parts[0]), SymbolTable.intern(parts[1]), parts[2], parts[3], parts[4]);
         }
+        return null;
+    }
+    
+    static String formatAttendanceRecord(AttendanceRecord record) {
+        return record.getStudentID() + "|" + record.getSubjectCode() + "|" + 
+               record.getDateString() + "|" + record.getStatus() + "|" + record.getRemarks();
     }
     
     private static void loadClassChecklistFromFile() {
@@ -424,9 +581,8 @@ public class SharedDataManager {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     if (line.trim().isEmpty()) continue;
-                    String[] parts = line.split("\\|");
-                    if (parts.length >= 5) {
-                        ClassChecklistItem item = new ClassChecklistItem(parts[0], parts[1], parts[2], parts[3], parts[4]);
+                    ClassChecklistItem item = parseClassChecklistItem(line);
+                    if (item != null) {
                         classChecklistItems.add(item);
                     }
                 }
@@ -436,17 +592,30 @@ public class SharedDataManager {
         }
     }
     
-    private static void saveClassChecklistToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(CLASS_CHECKLIST_FILE))) {
-            for (int i = 0; i < classChecklistItems.size(); i++) {
-                ClassChecklistItem item = classChecklistItems.get(i);
-                writer.write(item.getStudentID() + "|" + item.getSubjectCode() + "|" + 
-                           item.getRequirement() + "|" + item.getStatus() + "|" + item.getRemarks());
-                writer.newLine();
-            }
+    private static boolean saveClassChecklistToFile() {
+        List<String> lines = new ArrayList<>(classChecklistItems.size());
+        classChecklistItems.forEach(item -> lines.add(formatClassChecklistItem(item)));
+        try {
+            writeSnapshot(CLASS_CHECKLIST_FILE, lines);
+            return true;
         } catch (Exception e) {
             System.err.println("Error saving class checklist: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    static ClassChecklistItem parseClassChecklistItem(String line) {
+        String[] parts = line.split("\\|", -1); // Keep empty trailing fields such as blank remarks
+        if (parts.length >= 5) {
+            return new ClassChecklistItem(SymbolTable.intern(parts[0]), SymbolTable.intern(parts[1]),
+                                          SymbolTable.intern(parts[2]), SymbolTable.intern(parts[3]), parts[4]);
         }
+        return null;
+    }
+    
+    private static String formatClassChecklistItem(ClassChecklistItem item) {
+        return item.getStudentID() + "|" + item.getSubjectCode() + "|" + 
+               item.getRequirement() + "|" + item.getStatus() + "|" + item.getRemarks();
     }
     
     private static void loadAnnouncementsFromFile() {
@@ -458,6 +627,7 @@ public class SharedDataManager {
             }
             
             announcements.clear();
+            announcementsStamp = fileStamp(file);
             try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
@@ -509,8 +679,7 @@ public class SharedDataManager {
     
     private static void saveAnnouncementsToFile() {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(ANNOUNCEMENTS_FILE))) {
-            for (int i = 0; i < announcements.size(); i++) {
-                Announcement announcement = announcements.get(i);
+            for (Announcement announcement : announcements) {
                 writer.write(announcement.getTitle() + "|" + announcement.getContent() + "|" + 
                            announcement.getAuthor() + "|" + announcement.getTargetAudience() + "|" + 
                            announcement.getPriority() + "|" + announcement.getDateCreated());
@@ -519,6 +688,206 @@ public class SharedDataManager {
         } catch (Exception e) {
             System.err.println("Error saving announcements: " + e.getMessage());
         }
+        announcementsStamp = fileStamp(new File(ANNOUNCEMENTS_FILE));
+    }
+    
+    private static long[] fileStamp(File file) {
+        return new long[]{file.lastModified(), file.length()};
+    }
+    
+    /**
+     * Grades from the binary snapshot next to textFile, or null if it is missing, stale or damaged
+     */
+    private static List<GradeRecord> readBinaryGrades(File textFile, GradeTable table) {
+        File binaryFile = ColumnarSnapshot.binaryFileFor(textFile);
+        if (!ColumnarSnapshot.isCurrent(binaryFile, textFile)) return null;
+        try {
+            return ColumnarSnapshot.readGrades(binaryFile, table);
+        } catch (IOException e) {
+            System.err.println("Ignoring binary grades snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Attendance from the binary snapshot next to textFile, or null if it is missing, stale or damaged
+     */
+    private static List<AttendanceRecord> readBinaryAttendance(File textFile) {
+        File binaryFile = ColumnarSnapshot.binaryFileFor(textFile);
+        if (!ColumnarSnapshot.isCurrent(binaryFile, textFile)) return null;
+        try {
+            return ColumnarSnapshot.readAttendance(binaryFile);
+        } catch (IOException e) {
+            System.err.println("Ignoring binary attendance snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * The journal position recorded in the first line of a snapshot file, or null
+     */
+    private static SharedDataJournal.Position readJournalMarker(File file) {
+        if (!file.exists()) return null;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String first = reader.readLine();
+            if (first != null && first.startsWith(JOURNAL_MARKER)) {
+                return SharedDataJournal.Position.parse(first.substring(JOURNAL_MARKER.length()));
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading journal marker: " + e.getMessage());
+        }
+        return null;
+    }
+    
+    /**
+     * Write a snapshot file atomically so a crash never leaves it half written
+     */
+    private static void writeSnapshot(String fileName, List<String> lines) throws IOException {
+        File file = new File(fileName);
+        File tempFile = new File(fileName + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile))) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    // ========== WRITE-AHEAD LOG ==========
+    
+    /**
+     * Open the journal, replay records not yet in the snapshot files and start the compactor
+     * Replaying never compacts: only a process that appended records folds them into the snapshots
+     */
+    private static void openJournal() {
+        if (journal == null) {
+            journal = new SharedDataJournal(new File(JOURNAL_FILE), WAL_MAX_BYTES, WAL_MAX_AGE_MILLIS,
+                                            SharedDataManager::applyJournalRecord, new JournalSnapshots());
+        }
+        
+        try {
+            int replayed = journal.replay();
+            if (replayed > 0) {
+                System.out.println("Replayed " + replayed + " journal records");
+            }
+        } catch (IOException e) {
+            System.err.println("Error replaying journal: " + e.getMessage());
+        }
+        
+        journal.startCompactor(SharedDataManager::compactJournal, WAL_CHECK_INTERVAL_MILLIS);
+    }
+    
+    /**
+     * The snapshot files the journal is folded into
+     */
+    private static final class JournalSnapshots implements SharedDataJournal.Snapshots {
+        @Override
+        public void reload() {
+            loadAllData();
+        }
+        
+        @Override
+        public SharedDataJournal.Position covered(SharedDataJournal.RecordType type) {
+            // Grades and checklist replay as upserts, so replaying them twice is harmless
+            return type == SharedDataJournal.RecordType.ATTENDANCE ? attendanceCovered : null;
+        }
+        
+        @Override
+        public boolean write(Set<SharedDataJournal.RecordType> types, SharedDataJournal.Position upTo) {
+            boolean saved = true;
+            if (types.contains(SharedDataJournal.RecordType.GRADE)) {
+                saved &= saveGradesToFile();
+            }
+            if (types.contains(SharedDataJournal.RecordType.CHECKLIST)) {
+                saved &= saveClassChecklistToFile();
+            }
+            // Attendance replays as appends: its snapshot records the journal position it holds
+            if (saved && types.contains(SharedDataJournal.RecordType.ATTENDANCE)) {
+                saved = saveAttendanceToFile(upTo);
+            }
+            return saved;
+        }
+    }
+    
+    /**
+     * Apply one journal record to the in-memory lists during replay
+     */
+    private static void applyJournalRecord(SharedDataJournal.RecordType type, String payload) {
+        switch (type) {
+            case GRADE:
+                GradeRecord gradeRecord = parseGradeRecord(payload);
+                if (gradeRecord != null) {
+                    upsertGradeRecord(gradeRecord);
+                }
+                break;
+            case ATTENDANCE:
+                AttendanceRecord attendanceRecord = parseAttendanceRecord(payload);
+                if (attendanceRecord != null) {
+                    addAttendanceRecord(attendanceRecord);
+                }
+                break;
+            case CHECKLIST:
+                ClassChecklistItem item = parseClassChecklistItem(payload);
+                if (item != null) {
+                    upsertClassChecklistItem(item);
+                }
+                break;
+        }
+    }
+    
+    /**
+     * Fold the journal into the snapshot files and truncate it
+     * Called by the background compactor on a size or time threshold; does nothing in a
+     * process that has not appended to the journal
+     */
+    public static synchronized void compactJournal() {
+        Metrics.time("SharedDataManager.compactJournal", () -> {
+            if (journal == null) return;
+            
+            try {
+                if (!journal.compact()) {
+                    System.err.println("Journal kept: snapshot files could not be written");
+                }
+            } catch (IOException e) {
+                System.err.println("Error compacting journal: " + e.getMessage());
+            }
+        });
+    }
+    
+    private static void upsertGradeRecord(GradeRecord gradeRecord) {
+        statistics.invalidate(gradeRecord.getSubjectCode());
+        
+        // Check if record already exists
+        // Existing records are updated in their table row, so views held elsewhere see the new grades
+        GradeRecord existing = gradeIndex.getFirst(gradeRecord.getStudentID(), gradeRecord.getSubjectCode());
+        if (existing != null) {
+            existing.updateFrom(gradeRecord);
+            return;
+        }
+        GradeRecord stored = gradeRecord.isViewOf(gradeTable) ? gradeRecord : gradeRecord.copyInto(gradeTable);
+        gradeRecords.add(stored);
+        gradeIndex.add(stored);
+    }
+    
+    private static void addAttendanceRecord(AttendanceRecord attendanceRecord) {
+        statistics.invalidate(attendanceRecord.getSubjectCode());
+        attendanceRecords.add(attendanceRecord);
+        attendanceIndex.add(attendanceRecord);
+    }
+    
+    private static void upsertClassChecklistItem(ClassChecklistItem checklistItem) {
+        // Check if item already exists among the student's items in that subject
+        for (ClassChecklistItem existing : checklistIndex.getByStudentAndSubject(
+                checklistItem.getStudentID(), checklistItem.getSubjectCode())) {
+            if (existing.equals(checklistItem)) {
+                classChecklistItems.replace(existing, checklistItem);
+                checklistIndex.replace(existing, checklistItem);
+                return;
+            }
+        }
+        classChecklistItems.add(checklistItem);
+        checklistIndex.add(checklistItem);
     }
     
     // ========== SAMPLE DATA CREATION ==========
@@ -545,69 +914,66 @@ public class SharedDataManager {
         addAnnouncement("Faculty Meeting", "Monthly faculty meeting on March 30, 2025.", "Dean's Office", "Teachers");
     }
     
-    // ========== CACHE MANAGEMENT ==========
+    // ========== INDEX MANAGEMENT ==========
     
-    private static void updateStudentGradesCache(String studentID) {
-        MySinglyLinkedList<GradeRecord> studentGrades = new MySinglyLinkedList<>();
-        for (int i = 0; i < gradeRecords.size(); i++) {
-            GradeRecord record = gradeRecords.get(i);
-            if (record.getStudentID().equals(studentID)) {
-                studentGrades.add(record);
-            }
-        }
-        studentGradesCache.put(studentID, studentGrades);
+    /**
+     * Re-index every list after a full load - O(n)
+     */
+    private static void rebuildIndexes() {
+        gradeIndex.rebuild(gradeRecords);
+        attendanceIndex.rebuild(attendanceRecords);
+        checklistIndex.rebuild(classChecklistItems);
     }
     
-    private static void updateStudentAttendanceCache(String studentID) {
-        MySinglyLinkedList<AttendanceRecord> studentAttendance = new MySinglyLinkedList<>();
-        for (int i = 0; i < attendanceRecords.size(); i++) {
-            AttendanceRecord record = attendanceRecords.get(i);
-            if (record.getStudentID().equals(studentID)) {
-                studentAttendance.add(record);
-            }
+    private static <T> MySinglyLinkedList<T> toLinkedList(List<T> records) {
+        MySinglyLinkedList<T> list = new MySinglyLinkedList<>();
+        for (T record : records) {
+            list.add(record);
         }
-        studentAttendanceCache.put(studentID, studentAttendance);
+        return list;
     }
     
     // ========== UTILITY METHODS ==========
     
     /**
      * Get statistics for a teacher's class
+     * Keys: totalStudents, averageGrade, medianGrade, gradeStdDev, gradeDistribution (int[]),
+     * atRiskStudents, attendanceRate, attendanceByDate (SortedMap), sections (Map)
      */
-    public static Map<String, Object> getClassStatistics(String subjectCode) {
-        Map<String, Object> stats = new HashMap<>();
-        
-        MySinglyLinkedList<GradeRecord> subjectGrades = getSubjectGrades(subjectCode);
-        MySinglyLinkedList<AttendanceRecord> subjectAttendance = getSubjectAttendance(subjectCode);
-        
-        stats.put("totalStudents", subjectGrades.size());
-        stats.put("averageGrade", calculateAverageGrade(subjectGrades));
-        stats.put("attendanceRate", calculateAttendanceRate(subjectAttendance));
-        
-        return stats;
+    public static synchronized Map<String, Object> getClassStatistics(String subjectCode) {
+        return Metrics.time("SharedDataManager.getClassStatistics", () -> {
+            Map<String, Object> stats = new HashMap<>();
+            ClassStatisticsEngine.ClassStatistics subject = statistics.getStatistics(subjectCode);
+            
+            stats.put("totalStudents", subject.getStudentCount());
+            stats.put("averageGrade", subject.getMean());
+            stats.put("medianGrade", subject.getMedian());
+            stats.put("gradeStdDev", subject.getStandardDeviation());
+            stats.put("gradeDistribution", subject.getHistogram());
+            stats.put("atRiskStudents", subject.getAtRiskCount());
+            stats.put("attendanceRate", subject.getAttendanceRate());
+            stats.put("attendanceByDate", subject.getAttendanceRateByDate());
+            stats.put("sections", subject.getSections());
+            
+            return stats;
+        });
     }
     
-    private static double calculateAverageGrade(MySinglyLinkedList<GradeRecord> grades) {
-        if (grades.size() == 0) return 0.0;
-        
-        double total = 0.0;
-        for (int i = 0; i < grades.size(); i++) {
-            GradeRecord record = grades.get(i);
-            total += record.getFinalGrade();
-        }
-        return total / grades.size();
+    /**
+     * Full statistics of one subject, including its sections (cached)
+     */
+    public static synchronized ClassStatisticsEngine.ClassStatistics getSubjectStatistics(String subjectCode) {
+        return Metrics.time("SharedDataManager.getSubjectStatistics", () -> {
+            return statistics.getStatistics(subjectCode);
+        });
     }
     
-    private static double calculateAttendanceRate(MySinglyLinkedList<AttendanceRecord> attendance) {
-        if (attendance.size() == 0) return 0.0;
-        
-        int present = 0;
-        for (int i = 0; i < attendance.size(); i++) {
-            AttendanceRecord record = attendance.get(i);
-            if (record.getStatus().equals("Present")) {
-                present++;
-            }
-        }
-        return (double) present / attendance.size() * 100.0;
+    /**
+     * Statistics of every subject, computed in one parallel pass when not cached
+     */
+    public static synchronized Map<String, ClassStatisticsEngine.ClassStatistics> getAllSubjectStatistics() {
+        return Metrics.time("SharedDataManager.getAllSubjectStatistics", () -> {
+            return statistics.getAllStatistics();
+        });
     }
 }
@@ -31,15 +31,22 @@ public class StatementOfAccountsPanel extends JPanel implements FeeDatabase.FeeU
     private JLabel remainingBalanceLabel;
     private JLabel prelimStatusLabel;
     private JTable feeBreakdownTable;
-    private DefaultTableModel feeTableModel;
+    private DiffTableModel feeTableModel;
     private JDialog paymentDialog;
     
     // Payment channel buttons
     private JButton upayButton, dragonpayButton, bpiButton, bdoButton, bdoBillsButton, bukasButton;
     
     public StatementOfAccountsPanel(String studentID) {
+        this(studentID, AccountStatementManager.getStatement(studentID));
+    }
+    
+    /**
+     * Build the panel from a statement already loaded off the EDT (see AsyncDataAccess)
+     */
+    public StatementOfAccountsPanel(String studentID, AccountStatement accountStatement) {
         this.studentID = studentID;
-        this.accountStatement = AccountStatementManager.getStatement(studentID);
+        this.accountStatement = accountStatement;
         
         // Register as fee update listener
         FeeDatabase.addFeeUpdateListener(this);
@@ -318,18 +325,9 @@ public class StatementOfAccountsPanel extends JPanel implements FeeDatabase.FeeU
         // Create table data
         List<Object[]> tableData = createTableData();
         
-        // Create table model
-        feeTableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        
-        // Add data to model
-        for (Object[] row : tableData) {
-            feeTableModel.addRow(row);
-        }
+        // Create table model; rows are keyed by description so refreshes only touch changed rows
+        feeTableModel = new DiffTableModel(columnNames, 1);
+        feeTableModel.setRows(tableData);
         
         // Create table
         feeBreakdownTable = new JTable(feeTableModel);
@@ -370,7 +368,7 @@ public class StatementOfAccountsPanel extends JPanel implements FeeDatabase.FeeU
         for (PaymentTransaction payment : accountStatement.getPaymentHistory()) {
             String date = payment.getDate().split(" ")[0]; // Get date part only
             String description = "PAYMENT RECEIVED (" + payment.getReference() + ")";
-            String amount = payment.getAmount().replace("P ", "").replace(",", "");
+            String amount = Money.formatPlain(payment.getAmountCentavos());
             data.add(new Object[]{date, description, "(" + amount + ")"});
         }
         
@@ -378,7 +376,7 @@ public class StatementOfAccountsPanel extends JPanel implements FeeDatabase.FeeU
         for (FeeBreakdown fee : accountStatement.getFeeBreakdowns()) {
             String date = fee.getDatePosted().format(DateTimeFormatter.ofPattern("MM/dd/yyyy"));
             String description = fee.getDescription();
-            String amount = String.format("%.2f", fee.getAmount());
+            String amount = Money.formatPlain(fee.getAmountCentavos());
             data.add(new Object[]{date, description, amount});
         }
         
@@ -574,26 +572,21 @@ public class StatementOfAccountsPanel extends JPanel implements FeeDatabase.FeeU
     }
     
     private void updateTableData() {
-        // Clear existing data
-        feeTableModel.setRowCount(0);
-        
-        // Add new data
-        List<Object[]> tableData = createTableData();
-        for (Object[] row : tableData) {
-            feeTableModel.addRow(row);
-        }
+        // Fires row events only for fees and payments that changed
+        feeTableModel.setRows(createTableData());
     }
     
     // Public method to process payments
     public void processPayment(double amount, String channel, String reference) {
-        AccountStatement.PaymentResult result = AccountStatementManager.processPayment(studentID, amount, channel, reference);
-        
-        if (result.success) {
-            updateDisplay();
-            JOptionPane.showMessageDialog(this, result.message, "Payment Successful", JOptionPane.INFORMATION_MESSAGE);
-        } else {
-            JOptionPane.showMessageDialog(this, result.message, "Payment Failed", JOptionPane.ERROR_MESSAGE);
-        }
+        AsyncDataAccess.onEdt(AsyncDataAccess.processPayment(studentID, amount, channel, reference), result -> {
+            if (result.success) {
+                updateDisplay();
+                JOptionPane.showMessageDialog(this, result.message, "Payment Successful", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this, result.message, "Payment Failed", JOptionPane.ERROR_MESSAGE);
+            }
+        }, error -> JOptionPane.showMessageDialog(this, "Payment could not be processed: " + error.getMessage(),
+                "Payment Failed", JOptionPane.ERROR_MESSAGE));
     }
     
     // Fee update listener implementation
@@ -601,13 +594,8 @@ public class StatementOfAccountsPanel extends JPanel implements FeeDatabase.FeeU
     public void onFeesUpdated(String updatedStudentID) {
         // Update if this is for our student or for all students
         if (updatedStudentID.equals(studentID) || updatedStudentID.equals("ALL")) {
-            // Refresh fees from database
-            AccountStatementManager.refreshFeesFromDatabase(studentID);
-            
-            // Update the display on the EDT (Event Dispatch Thread)
-            SwingUtilities.invokeLater(() -> {
-                updateDisplay();
-            });
+            // Refresh fees from database off the EDT, then update the display on the EDT
+            AsyncDataAccess.onEdt(AsyncDataAccess.refreshFeesFromDatabase(studentID), refreshed -> updateDisplay());
         }
     }
     
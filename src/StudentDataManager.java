@@ -1,16 +1,16 @@
-import java.io.*;
-
 /**
  * StudentDataManager - Manages student data loading and retrieval
  * This class loads all students from the database for teacher management
+ * Students are read through StudentRepository, the same cache the student portal uses
  * 
  * AUTHOR: Group Project Implementation
  * SUBJECT: DATA STRUCTURE IT212 9458
  */
 public class StudentDataManager {
     
-    private static final String STUDENT_DB_FILE = "Database.txt";
-    private static MyDoublyLinkedList<StudentInfo> allStudents = new MyDoublyLinkedList<>();
+    // List implementation can be overridden with -Dislu.list.backing=...
+    private static MyListFactory.Backing listBacking = MyListFactory.getDefaultBacking();
+    private static MyList<StudentInfo> allStudents = MyListFactory.create(listBacking);
     
     /**
      * Initialize and load all students from database
@@ -20,10 +20,24 @@ public class StudentDataManager {
         System.out.println("StudentDataManager initialized with " + allStudents.size() + " students");
     }
     
+    /**
+     * Switch the list implementation behind the student list, keeping its contents and order
+     * Lists previously returned by getAllStudents() are not affected.
+     */
+    public static void setListBacking(MyListFactory.Backing backing) {
+        if (backing == null || backing == listBacking) return;
+        allStudents = MyListFactory.copyOf(allStudents, backing);
+        listBacking = backing;
+    }
+    
+    public static MyListFactory.Backing getListBacking() {
+        return listBacking;
+    }
+    
     /**
      * Get all students
      */
-    public static MyDoublyLinkedList<StudentInfo> getAllStudents() {
+    public static MyList<StudentInfo> getAllStudents() {
         return allStudents;
     }
     
@@ -31,13 +45,7 @@ public class StudentDataManager {
      * Get student by ID
      */
     public static StudentInfo getStudentById(String studentID) {
-        for (int i = 0; i < allStudents.size(); i++) {
-            StudentInfo student = allStudents.get(i);
-            if (student.getStudentID().equals(studentID)) {
-                return student;
-            }
-        }
-        return null;
+        return allStudents.find(student -> student.getStudentID().equals(studentID));
     }
     
     /**
@@ -50,39 +58,18 @@ public class StudentDataManager {
     
     
     /**
-     * Load all students from database file
+     * Load all students through the shared StudentRepository cache
      */
     private static void loadAllStudents() {
         allStudents.clear();
         
-        try {
-            File file = new File(STUDENT_DB_FILE);
-            if (!file.exists()) {
-                System.err.println("Student database file not found: " + STUDENT_DB_FILE);
-                return;
-            }
-            
-            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.trim().isEmpty()) continue;
-                    
-                    String[] parts = line.split(",");
-                    if (parts.length >= 3) {
-                        String studentID = parts[0].trim();
-                        String lastName = parts[1].trim();
-                        String firstName = parts.length > 2 ? parts[2].trim() : "";
-                        String middleName = parts.length > 3 ? parts[3].trim() : "";
-                        String dateOfBirth = parts.length > 4 ? parts[4].trim() : "";
-                        String password = parts.length > 5 ? parts[5].split("\\|")[0].trim() : "";
-                        
-                        StudentInfo student = new StudentInfo(studentID, lastName, firstName, middleName, dateOfBirth, password);
-                        allStudents.add(student);
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading student data: " + e.getMessage());
+        if (!StudentRepository.databaseExists()) {
+            System.err.println("Student database file not found: Database.txt");
+            return;
+        }
+        
+        for (StudentInfo student : StudentRepository.getAllStudents()) {
+            allStudents.add(student);
         }
     }
     
@@ -91,9 +78,6 @@ public class StudentDataManager {
      */
     public static void printAllStudents() {
         System.out.println("=== ALL STUDENTS ===");
-        for (int i = 0; i < allStudents.size(); i++) {
-            StudentInfo student = allStudents.get(i);
-            System.out.println(student.toString());
-        }
+        allStudents.forEach(student -> System.out.println(student.toString()));
     }
 }
@@ -0,0 +1,427 @@
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Persistent hash index over Database.txt
+ * Features:
+ * - Maps each student ID to the byte offset and length of its record
+ * - Stored next to the database as Database.txt.idx so it survives restarts
+ * - Validated against the database length and modification time before use, and each
+ *   record read through it is checked to start with the requested student ID
+ * - Maintained incrementally on append, replace and rewrite
+ * - Rebuilt automatically (or on demand) when the database is edited by hand
+ *
+ * Run "java StudentIndex" to force a rebuild of the index.
+ */
+public class StudentIndex {
+
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String HEADER_PREFIX = "#STUDENT-INDEX ";
+    private static final int BUFFER_SIZE = 8192; // 8KB buffer
+    private static final Charset CHARSET = Charset.defaultCharset(); // Same charset as FileReader/FileWriter
+
+    private static final Map<String, StudentIndex> indexes = new HashMap<>();
+
+    private final File databaseFile;
+    private final File indexFile;
+    private final Map<String, long[]> entries = new HashMap<>(); // studentID -> {offset, length}
+    private long indexedLength = -1;
+    private long indexedModified = -1;
+
+    private StudentIndex(File databaseFile) {
+        this.databaseFile = databaseFile.getAbsoluteFile();
+        this.indexFile = new File(this.databaseFile.getPath() + INDEX_SUFFIX);
+    }
+
+    /**
+     * Get the shared index for a database file
+     */
+    public static synchronized StudentIndex forDatabase(File databaseFile) {
+        return indexes.computeIfAbsent(databaseFile.getAbsolutePath(), k -> new StudentIndex(databaseFile));
+    }
+
+    /**
+     * Read the raw database line for a student - O(1) seek after the index is loaded
+     * @return The record line, or null if the student is not indexed
+     */
+    public synchronized String readRecord(String studentID) throws IOException {
+        if (studentID == null) return null;
+        ensureCurrent();
+
+        String line = readIndexedLine(studentID);
+        if (line == null && entries.containsKey(studentID)) {
+            // Edited without changing the length or the timestamp (e.g. within its resolution)
+            rebuild();
+            line = readIndexedLine(studentID);
+        }
+        return line;
+    }
+
+    /**
+     * Check if a student ID is present in the database
+     */
+    public synchronized boolean contains(String studentID) throws IOException {
+        ensureCurrent();
+        return entries.containsKey(studentID);
+    }
+
+    /**
+     * Get all indexed student IDs
+     */
+    public synchronized Set<String> getStudentIDs() throws IOException {
+        ensureCurrent();
+        return new HashSet<>(entries.keySet());
+    }
+
+    /**
+     * Append a record to the database and index it - O(1)
+     */
+    public synchronized void append(String studentID, String line) throws IOException {
+        ensureCurrent();
+
+        byte[] separator = System.lineSeparator().getBytes(CHARSET);
+        byte[] data = line.getBytes(CHARSET);
+        long offset;
+
+        try (RandomAccessFile raf = new RandomAccessFile(databaseFile, "rw")) {
+            offset = raf.length();
+            // Never glue the new record onto an unterminated last line
+            if (offset > 0) {
+                raf.seek(offset - 1);
+                if (raf.read() != '\n') {
+                    raf.write(separator);
+                    offset += separator.length;
+                }
+            }
+            raf.seek(offset);
+            raf.write(data);
+            raf.write(separator);
+        }
+
+        boolean added = entries.putIfAbsent(studentID, new long[]{offset, data.length}) == null;
+        indexedLength = databaseFile.length();
+        indexedModified = databaseFile.lastModified();
+
+        if (added && indexFile.exists()) {
+            appendIndexEntry(studentID, offset, data.length);
+        } else {
+            saveIndex();
+        }
+    }
+
+    /**
+     * Replace the record of a student in place, keeping every other byte untouched
+     * @param newLine The new record line, or null to delete the record
+     * @return true if the student was found
+     */
+    public synchronized boolean replaceRecord(String studentID, String newLine) throws IOException {
+        ensureCurrent();
+        if (entries.containsKey(studentID) && readIndexedLine(studentID) == null) {
+            rebuild();
+        }
+
+        long[] entry = entries.get(studentID);
+        if (entry == null) return false;
+
+        long offset = entry[0];
+        long oldLength = entry[1];
+        long skip = oldLength;
+        byte[] data = newLine != null ? newLine.getBytes(CHARSET) : new byte[0];
+
+        File tempFile = new File(databaseFile.getPath() + ".tmp");
+        try (RandomAccessFile in = new RandomAccessFile(databaseFile, "r");
+             OutputStream out = new BufferedOutputStream(new FileOutputStream(tempFile), BUFFER_SIZE)) {
+            copyRange(in, out, 0, offset);
+            out.write(data);
+
+            if (newLine == null) {
+                // Drop the line terminator together with the record
+                in.seek(offset + oldLength);
+                int b = in.read();
+                if (b == '\r') {
+                    skip++;
+                    b = in.read();
+                }
+                if (b == '\n') {
+                    skip++;
+                }
+            }
+            copyRange(in, out, offset + skip, in.length());
+        }
+        Files.move(tempFile.toPath(), databaseFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        long delta = data.length - skip;
+        if (newLine == null) {
+            entries.remove(studentID);
+        } else {
+            entry[1] = data.length;
+        }
+        for (long[] other : entries.values()) {
+            if (other[0] > offset) {
+                other[0] += delta;
+            }
+        }
+
+        indexedLength = databaseFile.length();
+        indexedModified = databaseFile.lastModified();
+        saveIndex();
+        return true;
+    }
+
+    /**
+     * Rewrite the whole database and rebuild the index from the written lines in the same pass
+     */
+    public synchronized void rewrite(List<String> lines) throws IOException {
+        byte[] separator = System.lineSeparator().getBytes(CHARSET);
+        entries.clear();
+
+        long offset = 0;
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(databaseFile), BUFFER_SIZE)) {
+            for (String line : lines) {
+                byte[] data = line.getBytes(CHARSET);
+                String studentID = extractStudentID(line);
+                if (!studentID.isEmpty()) {
+                    entries.putIfAbsent(studentID, new long[]{offset, data.length});
+                }
+                out.write(data);
+                out.write(separator);
+                offset += data.length + separator.length;
+            }
+        }
+
+        indexedLength = databaseFile.length();
+        indexedModified = databaseFile.lastModified();
+        saveIndex();
+    }
+
+    /**
+     * Rebuild the index by scanning the database once
+     * @return The number of indexed students
+     */
+    public synchronized int rebuild() throws IOException {
+        entries.clear();
+        indexedLength = -1;
+        indexedModified = -1;
+
+        if (!databaseFile.exists()) {
+            indexFile.delete();
+            return 0;
+        }
+
+        long length = databaseFile.length();
+        long modified = databaseFile.lastModified();
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(databaseFile), BUFFER_SIZE)) {
+            ByteArrayOutputStream idBytes = new ByteArrayOutputStream();
+            boolean inID = true;
+            long lineStart = 0;
+            long position = 0;
+            int previous = -1;
+            int b;
+
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    long lineLength = position - lineStart - (previous == '\r' ? 1 : 0);
+                    indexLine(idBytes, lineStart, lineLength);
+                    idBytes.reset();
+                    inID = true;
+                    lineStart = position + 1;
+                } else if (inID) {
+                    if (b == ',' || b == '|') {
+                        inID = false;
+                    } else if (b != '\r') {
+                        idBytes.write(b);
+                    }
+                }
+                previous = b;
+                position++;
+            }
+
+            // Last line without a terminator
+            if (position > lineStart) {
+                indexLine(idBytes, lineStart, position - lineStart - (previous == '\r' ? 1 : 0));
+            }
+        }
+
+        indexedLength = length;
+        indexedModified = modified;
+        saveIndex();
+        return entries.size();
+    }
+
+    /**
+     * Make sure the in-memory index matches the database on disk
+     */
+    private void ensureCurrent() throws IOException {
+        if (!databaseFile.exists()) {
+            entries.clear();
+            indexedLength = -1;
+            indexedModified = -1;
+            return;
+        }
+
+        if (isCurrent()) return;
+
+        if (!loadIndex()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * The whole line at a student's indexed offset
+     * @return The line, or null if the student is not indexed or the bytes there are not
+     *         a complete line starting with that student's ID
+     */
+    private String readIndexedLine(String studentID) throws IOException {
+        long[] entry = entries.get(studentID);
+        if (entry == null) return null;
+
+        long offset = entry[0];
+        byte[] data = new byte[(int) entry[1]];
+        try (RandomAccessFile raf = new RandomAccessFile(databaseFile, "r")) {
+            if (offset + data.length > raf.length()) return null;
+
+            // The record must start a line and end at a line terminator (or the end of the file)
+            if (offset > 0) {
+                raf.seek(offset - 1);
+                if (raf.read() != '\n') return null;
+            }
+            raf.seek(offset);
+            raf.readFully(data);
+            int next = raf.read();
+            if (next != -1 && next != '\r' && next != '\n') return null;
+        }
+
+        String line = new String(data, CHARSET);
+        return extractStudentID(line).equals(studentID) ? line : null;
+    }
+
+    private boolean isCurrent() {
+        return indexedLength == databaseFile.length() && indexedModified == databaseFile.lastModified();
+    }
+
+    private void indexLine(ByteArrayOutputStream idBytes, long offset, long length) {
+        String studentID = new String(idBytes.toByteArray(), CHARSET).trim();
+        if (!studentID.isEmpty()) {
+            entries.putIfAbsent(studentID, new long[]{offset, length});
+        }
+    }
+
+    private static String extractStudentID(String line) {
+        return line.split("\\|", 2)[0].split(",", 2)[0].trim();
+    }
+
+    private static void copyRange(RandomAccessFile in, OutputStream out, long from, long to) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        in.seek(from);
+        long remaining = to - from;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) break;
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    // ========== INDEX FILE ==========
+
+    /**
+     * Fixed-width header so it can be updated in place on append
+     */
+    private String header() {
+        return HEADER_PREFIX + String.format("%019d %019d", indexedLength, indexedModified);
+    }
+
+    /**
+     * Load the persisted index if it still describes the current database
+     */
+    private boolean loadIndex() {
+        if (!indexFile.exists()) return false;
+
+        Map<String, long[]> loaded = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(indexFile), BUFFER_SIZE)) {
+            String header = reader.readLine();
+            if (header == null || !header.startsWith(HEADER_PREFIX)) return false;
+
+            String[] stamp = header.substring(HEADER_PREFIX.length()).trim().split(" ");
+            if (stamp.length < 2) return false;
+            long length = Long.parseLong(stamp[0]);
+            long modified = Long.parseLong(stamp[1]);
+            if (length != databaseFile.length() || modified != databaseFile.lastModified()) {
+                return false; // Database was changed outside of the index
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                String[] parts = line.split(",");
+                if (parts.length >= 3) {
+                    loaded.putIfAbsent(parts[0], new long[]{Long.parseLong(parts[1]), Long.parseLong(parts[2])});
+                }
+            }
+
+            entries.clear();
+            entries.putAll(loaded);
+            indexedLength = length;
+            indexedModified = modified;
+            return true;
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Error loading student index: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Write the complete index file atomically
+     */
+    private void saveIndex() {
+        File tempFile = new File(indexFile.getPath() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile), BUFFER_SIZE)) {
+            writer.write(header());
+            writer.newLine();
+            for (Map.Entry<String, long[]> entry : entries.entrySet()) {
+                writer.write(entry.getKey() + "," + entry.getValue()[0] + "," + entry.getValue()[1]);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving student index: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Error saving student index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Append one entry and refresh the header without rewriting the index
+     */
+    private void appendIndexEntry(String studentID, long offset, long length) {
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+            raf.seek(0);
+            raf.write(header().getBytes(CHARSET));
+            raf.seek(raf.length());
+            raf.write((studentID + "," + offset + "," + length + System.lineSeparator()).getBytes(CHARSET));
+        } catch (IOException e) {
+            System.err.println("Error updating student index: " + e.getMessage());
+            saveIndex();
+        }
+    }
+
+    /**
+     * Rebuild-index command for when Database.txt was edited by hand
+     */
+    public static void main(String[] args) {
+        int count = DataManager.rebuildStudentIndex();
+        if (count < 0) {
+            System.err.println("Student index rebuild failed");
+            System.exit(1);
+        }
+        System.out.println("Student index rebuilt: " + count + " students indexed");
+    }
+}
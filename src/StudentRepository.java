@@ -0,0 +1,612 @@
+import java.io.*;
+import java.util.*;
+
+/**
+ * StudentRepository - Single cached access path for student accounts and payment logs
+ * Features:
+ * - Read-through caches for student records by ID, payment transactions by student and the full student list
+ * - Student and payment caches are bounded (BoundedCache: LRU, entry and byte limits, islu.cache.* properties)
+ * - Write-through persistence: every write goes to the data files first and then updates the cache
+ * - Invalidation when Database.txt or paymentLogs.txt is edited outside the portal: DataChangeBus
+ *   events plus a modification time / length check (every 250ms, every 5s while the bus is watching)
+ * - Hit, miss, eviction and load-time statistics per cache
+ *
+ * DataManager, OptimizedDataManager and StudentDataManager all delegate here, so they
+ * always agree on a student's data.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class StudentRepository {
+
+    private static final String DATABASE_FILE = "Database.txt";
+    private static final String USER_PASSWORD_FILE = "UserPasswordID.txt";
+    private static final String PAYMENT_LOGS_FILE = "paymentLogs.txt";
+
+    private static final long CHECK_INTERVAL_MS = 250;
+    private static final long WATCHED_CHECK_INTERVAL_MS = 5000;
+
+    private static final long PAYMENT_BYTES = 300; // Rough heap size of one PaymentTransaction
+
+    // Caches
+    private static final BoundedCache<String, CachedStudent> students = BoundedCache.fromProperties(
+            "students", 10_000, 8L << 20, 0, BoundedCache.Policy.LRU, CachedStudent::estimateBytes);
+    private static final BoundedCache<String, List<PaymentTransaction>> payments = BoundedCache.fromProperties(
+            "payments", 5_000, 8L << 20, 0, BoundedCache.Policy.LRU, list -> 64 + list.size() * PAYMENT_BYTES);
+    private static volatile List<StudentInfo> allStudents = null;
+
+    private static final CacheStats studentStats = students.stats();
+    private static final CacheStats paymentStats = payments.stats();
+
+    // Files the caches are built from
+    private static final TrackedFile database = new TrackedFile(DATABASE_FILE);
+    private static final TrackedFile paymentLog = new TrackedFile(PAYMENT_LOGS_FILE);
+    private static volatile boolean subscribed = false;
+
+    private StudentRepository() {
+    }
+
+    /**
+     * Cached student record
+     */
+    private static final class CachedStudent {
+        final StudentInfo info;
+        final String profileData; // Text after the first "|", or null
+
+        CachedStudent(StudentInfo info, String profileData) {
+            this.info = info;
+            this.profileData = profileData;
+        }
+
+        /**
+         * Parse a Database.txt line: ID,Last,First,Middle,DOB,Password|ProfileData
+         */
+        static CachedStudent parse(String line) {
+            // Handle lines with profile data (containing | separator)
+            String[] mainParts = line.split("\\|");
+            String basicInfo = mainParts[0]; // Everything before the |
+
+            String[] parts = basicInfo.split(",");
+            if (parts.length < 6) {
+                return null;
+            }
+
+            StudentInfo info = new StudentInfo(
+                    parts[0].trim(), // ID
+                    parts[1].trim(), // Last Name
+                    parts[2].trim(), // First Name
+                    parts[3].trim(), // Middle Name
+                    parts[4].trim(), // Date of Birth
+                    parts[5].trim()  // Password
+            );
+            String profileData = line.contains("|") && mainParts.length > 1 ? mainParts[1] : null;
+            return new CachedStudent(info, profileData);
+        }
+
+        long estimateBytes() {
+            return 64 + BoundedCache.stringBytes(info.getId()) + BoundedCache.stringBytes(info.getLastName()) +
+                   BoundedCache.stringBytes(info.getFirstName()) + BoundedCache.stringBytes(info.getMiddleName()) +
+                   BoundedCache.stringBytes(info.getDateOfBirth()) + BoundedCache.stringBytes(info.getPassword()) +
+                   BoundedCache.stringBytes(profileData);
+        }
+    }
+
+    // ========== READS ==========
+
+    public static boolean databaseExists() {
+        return database.file().exists();
+    }
+
+    /**
+     * Authenticate a student against the cached record
+     */
+    public static boolean authenticate(String studentID, String password) {
+        CachedStudent student = lookupStudent(studentID);
+        return student != null && password != null && password.equals(student.info.getPassword());
+    }
+
+    /**
+     * Get a student's information, or null if the student does not exist
+     */
+    public static StudentInfo getStudentInfo(String studentID) {
+        CachedStudent student = lookupStudent(studentID);
+        return student != null ? student.info : null;
+    }
+
+    /**
+     * Get a student's raw profile data (the text after "|" in Database.txt), or null
+     */
+    public static String getStudentProfile(String studentID) {
+        CachedStudent student = lookupStudent(studentID);
+        return student != null ? student.profileData : null;
+    }
+
+    /**
+     * Get every student in database order
+     */
+    public static List<StudentInfo> getAllStudents() {
+        checkStudents();
+
+        List<StudentInfo> snapshot = allStudents;
+        if (snapshot != null) {
+            studentStats.recordHit();
+            return new ArrayList<>(snapshot);
+        }
+
+        studentStats.recordMiss();
+        long start = System.nanoTime();
+        snapshot = loadAllStudents();
+        studentStats.recordLoad(System.nanoTime() - start);
+        allStudents = Collections.unmodifiableList(snapshot);
+        return new ArrayList<>(snapshot);
+    }
+
+    /**
+     * Get a student's payment transactions in log order
+     */
+    public static List<PaymentTransaction> getPaymentTransactions(String studentID) {
+        if (studentID == null) {
+            return new ArrayList<>();
+        }
+        if (paymentLog.changed()) {
+            payments.invalidateAll();
+        }
+        return new ArrayList<>(payments.get(studentID, StudentRepository::loadPayments));
+    }
+
+    /**
+     * Generate a unique 7-digit student ID starting with "225"
+     */
+    public static String generateUniqueStudentID() {
+        Set<String> usedIDs = new HashSet<>();
+
+        try {
+            if (database.file().exists()) {
+                usedIDs = studentIndex().getStudentIDs();
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading existing IDs: " + e.getMessage());
+        }
+
+        Random rand = new Random();
+        String newID;
+        do {
+            int lastFour = rand.nextInt(10000);
+            newID = "225" + String.format("%04d", lastFour);
+        } while (usedIDs.contains(newID));
+
+        return newID;
+    }
+
+    // ========== WRITES (write-through) ==========
+
+    /**
+     * Save a new student account to Database.txt and UserPasswordID.txt
+     */
+    public static synchronized boolean saveStudentAccount(StudentInfo studentInfo) {
+        try {
+            // Save to Database.txt and index the new record
+            String line = studentInfo.toDatabaseFormat();
+            studentIndex().append(studentInfo.getId(), line);
+
+            // Save to UserPasswordID.txt
+            File credsFile = DataManager.resolveFile(USER_PASSWORD_FILE);
+            try (BufferedWriter logWriter = new BufferedWriter(new FileWriter(credsFile, true))) {
+                String credsEntry = "ID: " + studentInfo.getId() + " | Password: " + studentInfo.getPassword();
+                logWriter.write(credsEntry);
+                logWriter.newLine();
+                logWriter.flush(); // Ensure data is written immediately
+            }
+
+            students.invalidate(studentInfo.getId()); // Reloaded through the index, where the first record of an ID wins
+            allStudents = null;
+            database.restamp();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error saving student account: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Append profile data to a student's Database.txt record
+     */
+    public static synchronized boolean updateStudentProfile(String studentID, String profileData) {
+        try {
+            if (database.file().exists()) {
+                StudentIndex index = studentIndex();
+                String line = index.readRecord(studentID);
+                if (line != null) {
+                    // Append profile data to the existing line
+                    writeRecord(index, studentID, line + "|" + profileData);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error updating profile: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Update a student's password in both Database.txt and UserPasswordID.txt
+     */
+    public static synchronized boolean updateStudentPassword(String studentID, String newPassword) {
+        try {
+            // Update Database.txt
+            if (database.file().exists()) {
+                StudentIndex index = studentIndex();
+                String line = index.readRecord(studentID);
+                if (line != null) {
+                    // Handle lines with profile data (containing | separator)
+                    String[] mainParts = line.split("\\|");
+                    String basicInfo = mainParts[0]; // Everything before the |
+                    String profileData = mainParts.length > 1 ? mainParts[1] : "";
+
+                    String[] parts = basicInfo.split(",");
+                    // Update the password (6th field, index 5)
+                    if (parts.length >= 6) {
+                        parts[5] = newPassword;
+                        String updatedBasicInfo = String.join(",", parts);
+                        writeRecord(index, studentID, profileData.isEmpty() ? updatedBasicInfo : updatedBasicInfo + "|" + profileData);
+                    }
+                }
+            }
+
+            // Update UserPasswordID.txt
+            File credsFile = DataManager.resolveFile(USER_PASSWORD_FILE);
+            if (credsFile.exists()) {
+                List<String> lines = new ArrayList<>();
+                try (BufferedReader reader = new BufferedReader(new FileReader(credsFile))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.trim().isEmpty()) continue;
+                        if (line.contains("ID: " + studentID)) {
+                            line = "ID: " + studentID + " | Password: " + newPassword;
+                        }
+                        lines.add(line);
+                    }
+                }
+
+                // Write back to file
+                try (BufferedWriter writer = new BufferedWriter(new FileWriter(credsFile))) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            }
+
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error updating password: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Delete a student account from both Database.txt and UserPasswordID.txt
+     */
+    public static synchronized boolean deleteStudent(String studentID) {
+        if (studentID == null || studentID.trim().isEmpty()) {
+            return false;
+        }
+
+        try {
+            boolean deletedFromDB = false;
+            boolean deletedFromCreds = false;
+
+            // Delete from Database.txt
+            File dbFile = database.file();
+            if (dbFile.exists()) {
+                List<String> lines = new ArrayList<>();
+                try (BufferedReader reader = new BufferedReader(new FileReader(dbFile))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.trim().isEmpty()) continue;
+                        String[] parts = line.split(",", -1);
+                        if (parts.length > 0 && !parts[0].equals(studentID)) {
+                            lines.add(line);
+                        } else if (parts.length > 0 && parts[0].equals(studentID)) {
+                            deletedFromDB = true;
+                        }
+                    }
+                }
+
+                // Write back to file and re-index the remaining records
+                studentIndex().rewrite(lines);
+                students.invalidate(studentID);
+                allStudents = null;
+                database.restamp();
+            }
+
+            // Delete from UserPasswordID.txt
+            File credsFile = DataManager.resolveFile(USER_PASSWORD_FILE);
+            if (credsFile.exists()) {
+                List<String> lines = new ArrayList<>();
+                try (BufferedReader reader = new BufferedReader(new FileReader(credsFile))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.trim().isEmpty()) continue;
+                        if (!line.contains("ID: " + studentID)) {
+                            lines.add(line);
+                        } else {
+                            deletedFromCreds = true;
+                        }
+                    }
+                }
+
+                // Write back to file
+                try (BufferedWriter writer = new BufferedWriter(new FileWriter(credsFile))) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            }
+
+            return deletedFromDB || deletedFromCreds;
+
+        } catch (IOException e) {
+            System.err.println("Error deleting student: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Append a payment to paymentLogs.txt and to the student's cached transactions
+     */
+    public static synchronized void logPaymentTransaction(String channelName, double amount, String studentID) {
+        try {
+            java.text.SimpleDateFormat dateFormat = new java.text.SimpleDateFormat("MM/dd/yyyy hh:mm a");
+            String currentDateTime = dateFormat.format(new java.util.Date());
+
+            String reference = "FIRST SEMESTER 2025-2026 Enrollme.";
+            String formattedAmount = String.format("P %,.2f", amount);
+
+            String logEntry = currentDateTime + "," + channelName + "," + reference + "," + formattedAmount + "," + studentID;
+            FileIOManager.appendLine(paymentLog.file(), logEntry);
+
+            // Copy-on-write so readers copying a cached list never see it change
+            PaymentTransaction transaction = new PaymentTransaction(currentDateTime, channelName, reference, formattedAmount);
+            payments.update(studentID, list -> {
+                List<PaymentTransaction> updated = new ArrayList<>(list);
+                updated.add(transaction);
+                return Collections.unmodifiableList(updated);
+            });
+            paymentLog.restamp();
+        } catch (IOException e) {
+            System.err.println("Error writing to payment log: " + e.getMessage());
+        }
+    }
+
+    // ========== CACHE MANAGEMENT ==========
+
+    /**
+     * Rebuild the Database.txt index and drop the cached students
+     * @return The number of indexed students, or -1 on failure
+     */
+    public static synchronized int rebuildStudentIndex() {
+        students.invalidateAll();
+        allStudents = null;
+        try {
+            return studentIndex().rebuild();
+        } catch (IOException e) {
+            System.err.println("Error rebuilding student index: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Drop every cached entry; the next reads go back to the files
+     */
+    public static synchronized void invalidateAll() {
+        students.invalidateAll();
+        payments.invalidateAll();
+        allStudents = null;
+    }
+
+    public static CacheStats getStudentStats() {
+        return studentStats;
+    }
+
+    public static CacheStats getPaymentStats() {
+        return paymentStats;
+    }
+
+    /**
+     * Get cache statistics for monitoring
+     */
+    public static String getStatistics() {
+        return "StudentRepository" + (DataChangeBus.isWatching() ? " (watching files)" : "") + "\n" +
+               students + "\n" +
+               payments;
+    }
+
+    // ========== INTERNALS ==========
+
+    private static StudentIndex studentIndex() {
+        return StudentIndex.forDatabase(database.file());
+    }
+
+    private static CachedStudent lookupStudent(String studentID) {
+        if (studentID == null) {
+            return null;
+        }
+        checkStudents();
+        return students.get(studentID, StudentRepository::loadStudent); // Not stored if null
+    }
+
+    private static void checkStudents() {
+        if (database.changed()) {
+            students.invalidateAll();
+            allStudents = null;
+        }
+    }
+
+    /**
+     * Replace a record on disk and in the cache
+     */
+    private static void writeRecord(StudentIndex index, String studentID, String newLine) throws IOException {
+        index.replaceRecord(studentID, newLine);
+        CachedStudent cached = CachedStudent.parse(newLine);
+        if (cached != null) {
+            students.put(studentID, cached);
+        } else {
+            students.invalidate(studentID);
+        }
+        allStudents = null;
+        database.restamp();
+    }
+
+    private static CachedStudent loadStudent(String studentID) {
+        try {
+            if (!database.file().exists()) {
+                return null;
+            }
+            // Go straight to the record through the student index
+            String line = studentIndex().readRecord(studentID);
+            return line != null ? CachedStudent.parse(line) : null;
+        } catch (IOException e) {
+            System.err.println("Error reading database: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<StudentInfo> loadAllStudents() {
+        List<StudentInfo> result = new ArrayList<>();
+
+        File databaseFile = database.file();
+        if (!databaseFile.exists()) {
+            return result;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(databaseFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Skip empty lines and header lines
+                if (line.trim().isEmpty() || line.startsWith("===") || line.startsWith("Format:") || line.startsWith("ProfileData")) {
+                    continue;
+                }
+
+                CachedStudent student = CachedStudent.parse(line);
+                if (student != null) {
+                    result.add(student.info);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading all students: " + e.getMessage());
+        }
+        return result;
+    }
+
+    private static List<PaymentTransaction> loadPayments(String studentID) {
+        try {
+            // Memory-mapped scan: other students' lines are compared in place, never split into Strings
+            List<PaymentTransaction> transactions = FileIOManager.scanAndProcess(paymentLog.file(), (line, lineNumber) -> {
+                if (!line.fieldEquals(4, ',', studentID)) {
+                    return null;
+                }
+                String[] parts = line.toString().split(",");
+                return new PaymentTransaction(
+                        parts[0].trim(), // Date
+                        parts[1].trim(), // Channel
+                        parts[2].trim(), // Reference
+                        parts[3].trim()  // Amount
+                );
+            });
+            return Collections.unmodifiableList(transactions);
+        } catch (IOException e) {
+            System.err.println("Error reading payment logs: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    // ========== FILE CHANGE DETECTION ==========
+
+    /**
+     * A data file whose modification time and length are compared against the last known state
+     */
+    private static final class TrackedFile {
+        private final String name;
+        private volatile File file;
+        private volatile long nextCheck = 0;
+        private long knownModified = -1;
+        private long knownLength = -1;
+
+        TrackedFile(String name) {
+            this.name = name;
+        }
+
+        File file() {
+            File current = file;
+            if (current == null) {
+                current = DataManager.resolveFile(name);
+                file = current;
+            }
+            return current;
+        }
+
+        /**
+         * Check whether the file changed since the last check or own write - rate limited
+         */
+        boolean changed() {
+            long now = System.currentTimeMillis();
+            if (now < nextCheck) {
+                return false;
+            }
+            subscribe();
+
+            synchronized (this) {
+                if (now < nextCheck) {
+                    return false;
+                }
+                nextCheck = now + (DataChangeBus.isWatching() ? WATCHED_CHECK_INTERVAL_MS : CHECK_INTERVAL_MS);
+
+                File current = DataManager.resolveFile(name); // The file may have been created since
+                file = current;
+                long modified = current.lastModified();
+                long length = current.length();
+                boolean changed = modified != knownModified || length != knownLength;
+                knownModified = modified;
+                knownLength = length;
+                return changed;
+            }
+        }
+
+        /**
+         * Record the state after one of our own writes so it is not taken for an external edit
+         */
+        synchronized void restamp() {
+            File current = file();
+            knownModified = current.lastModified();
+            knownLength = current.length();
+        }
+
+        /**
+         * Make the next changed() call look at the file right away
+         */
+        void requestCheck() {
+            nextCheck = 0;
+        }
+    }
+
+    /**
+     * Subscribe to student and payment file changes (once)
+     */
+    private static void subscribe() {
+        if (subscribed) return;
+        synchronized (StudentRepository.class) {
+            if (subscribed) return;
+            subscribed = true;
+        }
+
+        DataChangeBus.subscribe(EnumSet.of(DataChangeBus.ChangeType.STUDENT, DataChangeBus.ChangeType.PAYMENT), event -> {
+            if (event.getType() == DataChangeBus.ChangeType.STUDENT) {
+                database.requestCheck();
+            } else {
+                paymentLog.requestCheck();
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SymbolTable - Shared canonical copies of strings that repeat across many records
+ * Features:
+ * - intern(s) returns one shared String instance per distinct value, so the thousands of
+ *   records that mention the same student ID, subject code, subject name, status or fee
+ *   code all point at a single String
+ * - Used by the file parsers (SharedDataManager, FeeBreakdown.fromCSV for FeeDatabase and
+ *   AccountStatementManager, ColumnarSnapshot), so interning happens once per value read
+ * - Only for low-cardinality fields; free text such as remarks is not interned, because
+ *   the table never forgets a value
+ * - Thread-safe and lock-free for values already in the table
+ * - Can be switched off (-Dislu.intern.enabled=false) to compare heap use
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public final class SymbolTable {
+
+    private static final Map<String, String> symbols = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty("islu.intern.enabled", "true"));
+
+    private SymbolTable() {
+    }
+
+    /**
+     * Canonical instance equal to value (null stays null)
+     */
+    public static String intern(String value) {
+        if (value == null || !enabled) return value;
+        String existing = symbols.get(value);
+        if (existing != null) return existing;
+        existing = symbols.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    public static int size() {
+        return symbols.size();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch interning on or off; already interned strings stay shared
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Forget all symbols (records keep the instances they already hold)
+     */
+    public static void clear() {
+        symbols.clear();
+    }
+}
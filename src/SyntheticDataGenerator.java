@@ -0,0 +1,196 @@
+import java.io.*;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+/**
+ * SyntheticDataGenerator - Writes a synthetic data set for benchmarks and load tests
+ * Features:
+ * - Database.txt and UserPasswordID.txt with N students
+ * - shared_grades.txt with one grade record per student per subject
+ * - shared_attendance.txt with a few attendance days per student
+ * - paymentLogs.txt with 1-3 payments per student
+ * - Same line formats the data managers write, seeded so every run is identical
+ *
+ * Usage: java SyntheticDataGenerator <students|1k|10k|100k> [outputDir] [seed]
+ *
+ * Student IDs start at 2250000; OptimizedDataManager only accepts 225xxxx IDs,
+ * so only the first 10,000 students of a larger set are valid there.
+ *
+ * AUTHOR: Group Project Implementation
+ * SUBJECT: DATA STRUCTURE IT212 9458
+ */
+public class SyntheticDataGenerator {
+
+    /**
+     * Marker written into every generated directory so benchmarks never run against real data
+     */
+    public static final String MARKER_FILE = ".islu-synthetic";
+    public static final int FIRST_STUDENT_ID = 2250000;
+    public static final String PASSWORD = "pass123";
+
+    // Subject codes and names from TeacherDatabase.txt
+    public static final String[][] SUBJECTS = {
+        {"7024", "NSTP-CWTS 1"}, {"9454", "GSTS"}, {"9455", "GENVI"}, {"9456", "CFE 103"},
+        {"9457", "IT 211"}, {"9458A", "IT 212"}, {"9458B", "IT 212L"}, {"9459A", "IT 213"},
+        {"9459B", "IT 213L"}, {"9547", "FIT OA"}
+    };
+
+    private static final String[] LAST_NAMES = {
+        "santos", "reyes", "cruz", "bautista", "ocampo", "garcia", "mendoza", "torres", "tomas", "andrada"
+    };
+    private static final String[] FIRST_NAMES = {
+        "juan", "maria", "jose", "ana", "mark", "angel", "john", "grace", "paul", "joy"
+    };
+    private static final String[] ATTENDANCE_STATUS = {"Present", "Present", "Present", "Late", "Absent"};
+    private static final String[] CHANNELS = {"GCash", "BPI", "BDO", "Maya", "Cashier"};
+    private static final String[] ATTENDANCE_DATES = {"2025-01-15", "2025-01-17"};
+
+    private final int students;
+    private final Random random;
+
+    public SyntheticDataGenerator(int students, long seed) {
+        this.students = students;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Parse a student count such as 1000, 10k or 100k
+     */
+    public static int parseScale(String scale) {
+        String value = scale.trim().toLowerCase();
+        if (value.endsWith("k")) {
+            return Integer.parseInt(value.substring(0, value.length() - 1)) * 1000;
+        }
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Number of students recorded in a generated directory, or -1 if it holds no synthetic data
+     */
+    public static int readStudentCount(File directory) {
+        File marker = new File(directory, MARKER_FILE);
+        if (!marker.exists()) return -1;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(marker))) {
+            String line = reader.readLine();
+            return line == null ? -1 : Integer.parseInt(line.substring(line.indexOf('=') + 1).trim());
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Error reading " + MARKER_FILE + ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    public static String studentID(int index) {
+        return String.valueOf(FIRST_STUDENT_ID + index);
+    }
+
+    /**
+     * Write every data file into a directory
+     */
+    public void generate(File directory) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+
+        writeStudents(directory);
+        writeGrades(directory);
+        writeAttendance(directory);
+        writePayments(directory);
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(directory, MARKER_FILE)))) {
+            writer.write("students=" + students);
+            writer.newLine();
+        }
+    }
+
+    private void writeStudents(File directory) throws IOException {
+        try (BufferedWriter database = new BufferedWriter(new FileWriter(new File(directory, "Database.txt")));
+             BufferedWriter passwords = new BufferedWriter(new FileWriter(new File(directory, "UserPasswordID.txt")))) {
+            for (int i = 0; i < students; i++) {
+                String id = studentID(i);
+                String dateOfBirth = String.format("%02d/%02d/%d", 1 + random.nextInt(12), 1 + random.nextInt(28), 2000 + random.nextInt(7));
+                database.write(id + "," + pick(LAST_NAMES) + "," + pick(FIRST_NAMES) + "," + pick(LAST_NAMES) + "," +
+                               dateOfBirth + "," + PASSWORD + "|Gender=" + (random.nextBoolean() ? "Male" : "Female") +
+                               ";Citizenship=Filipino;Religion=Roman Catholic;CivilStatus=Single;");
+                database.newLine();
+                passwords.write("ID: " + id + " | Password: " + PASSWORD);
+                passwords.newLine();
+            }
+        }
+    }
+
+    private void writeGrades(File directory) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(directory, "shared_grades.txt")))) {
+            for (int i = 0; i < students; i++) {
+                String id = studentID(i);
+                for (String[] subject : SUBJECTS) {
+                    writer.write(id + "|" + subject[0] + "|" + subject[1] + "|" + grade() + "|" + grade() + "|" + grade());
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private void writeAttendance(File directory) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(directory, "shared_attendance.txt")))) {
+            for (int i = 0; i < students; i++) {
+                String id = studentID(i);
+                String subjectCode = SUBJECTS[i % SUBJECTS.length][0];
+                for (String date : ATTENDANCE_DATES) {
+                    String status = pick(ATTENDANCE_STATUS);
+                    writer.write(id + "|" + subjectCode + "|" + date + "|" + status + "|" + (status.equals("Present") ? "" : "Excused"));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private void writePayments(File directory) throws IOException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy hh:mm a");
+        long start = new GregorianCalendar(2025, Calendar.AUGUST, 1).getTimeInMillis();
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(new File(directory, "paymentLogs.txt")))) {
+            for (int i = 0; i < students; i++) {
+                String id = studentID(i);
+                int payments = 1 + random.nextInt(3);
+                for (int p = 0; p < payments; p++) {
+                    String date = dateFormat.format(new Date(start + random.nextInt(60 * 24 * 60) * 60_000L));
+                    double amount = (1 + random.nextInt(20)) * 500.0;
+                    // Same line format as DataManager.logPaymentTransaction
+                    writer.write(date + "," + pick(CHANNELS) + ",FIRST SEMESTER 2025-2026 Enrollme.," +
+                                 String.format("P %,.2f", amount) + "," + id);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private double grade() {
+        return 65 + random.nextInt(71) * 0.5; // 65.0 - 100.0
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: java SyntheticDataGenerator <students|1k|10k|100k> [outputDir] [seed]");
+            System.exit(1);
+        }
+
+        int students = parseScale(args[0]);
+        File directory = new File(args.length > 1 ? args[1] : "synthetic-" + args[0]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        try {
+            long start = System.currentTimeMillis();
+            new SyntheticDataGenerator(students, seed).generate(directory);
+            System.out.println("Generated " + students + " students in " + directory.getAbsolutePath() +
+                               " (" + (System.currentTimeMillis() - start) + " ms)");
+        } catch (IOException e) {
+            System.err.println("Error generating data: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
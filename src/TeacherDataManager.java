@@ -13,8 +13,9 @@ public class TeacherDataManager {
     private static final String TEACHER_DB_FILE = "TeacherDatabase.txt";
     private static final String TEACHER_PASSWORD_FILE = "TeacherPasswordID.txt";
     
-    // Cache for teacher data
-    private static MyDoublyLinkedList<TeacherInfo> teacherCache = new MyDoublyLinkedList<>();
+    // Cache for teacher data (list implementation can be overridden with -Dislu.list.backing=...)
+    private static MyListFactory.Backing listBacking = MyListFactory.getDefaultBacking();
+    private static MyList<TeacherInfo> teacherCache = MyListFactory.create(listBacking);
     private static Map<String, String> teacherPasswords = new HashMap<>();
     
     /**
@@ -26,6 +27,20 @@ public class TeacherDataManager {
         System.out.println("TeacherDataManager initialized with " + teacherCache.size() + " teachers");
     }
     
+    /**
+     * Switch the list implementation behind the teacher cache, keeping its contents and order
+     * Lists previously returned by getAllTeachers() are not affected.
+     */
+    public static void setListBacking(MyListFactory.Backing backing) {
+        if (backing == null || backing == listBacking) return;
+        teacherCache = MyListFactory.copyOf(teacherCache, backing);
+        listBacking = backing;
+    }
+    
+    public static MyListFactory.Backing getListBacking() {
+        return listBacking;
+    }
+    
     /**
      * Authenticate teacher login
      */
@@ -47,13 +62,7 @@ public class TeacherDataManager {
      * Get teacher information by ID
      */
     public static TeacherInfo getTeacherInfo(String teacherID) {
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo teacher = teacherCache.get(i);
-            if (teacher.getTeacherID().equals(teacherID)) {
-                return teacher;
-            }
-        }
-        return null;
+        return teacherCache.find(teacher -> teacher.getTeacherID().equals(teacherID));
     }
     
     /**
@@ -85,19 +94,18 @@ public class TeacherDataManager {
      */
     public static MySinglyLinkedList<TeacherInfo> getTeachersBySubject(String subjectCode) {
         MySinglyLinkedList<TeacherInfo> teachers = new MySinglyLinkedList<>();
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo teacher = teacherCache.get(i);
+        teacherCache.forEach(teacher -> {
             if (teacher.getSubjectCode().equals(subjectCode)) {
                 teachers.add(teacher);
             }
-        }
+        });
         return teachers;
     }
     
     /**
      * Get all teachers
      */
-    public static MyDoublyLinkedList<TeacherInfo> getAllTeachers() {
+    public static MyList<TeacherInfo> getAllTeachers() {
         return teacherCache;
     }
     
@@ -216,12 +224,10 @@ public class TeacherDataManager {
             return false;
         }
         
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo existing = teacherCache.get(i);
-            if (existing.getTeacherID().equals(teacher.getTeacherID())) {
-                teacherCache.set(i, teacher);
-                return saveTeacherData();
-            }
+        TeacherInfo existing = getTeacherInfo(teacher.getTeacherID());
+        if (existing != null) {
+            teacherCache.replace(existing, teacher);
+            return saveTeacherData();
         }
         
         return false;
@@ -231,13 +237,11 @@ public class TeacherDataManager {
      * Delete a teacher
      */
     public static boolean deleteTeacher(String teacherID) {
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo teacher = teacherCache.get(i);
-            if (teacher.getTeacherID().equals(teacherID)) {
-                teacherCache.remove(i);
-                teacherPasswords.remove(teacherID);
-                return saveTeacherData() && saveTeacherPasswords();
-            }
+        TeacherInfo teacher = getTeacherInfo(teacherID);
+        if (teacher != null) {
+            teacherCache.remove(teacherCache.indexOf(teacher));
+            teacherPasswords.remove(teacherID);
+            return saveTeacherData() && saveTeacherPasswords();
         }
         
         return false;
@@ -248,8 +252,7 @@ public class TeacherDataManager {
      */
     private static boolean saveTeacherData() {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(TEACHER_DB_FILE))) {
-            for (int i = 0; i < teacherCache.size(); i++) {
-                TeacherInfo teacher = teacherCache.get(i);
+            for (TeacherInfo teacher : teacherCache) {
                 StringBuilder line = new StringBuilder();
                 line.append(teacher.getTeacherID()).append(",");
                 line.append(teacher.getTeacherName()).append(",");
@@ -259,10 +262,7 @@ public class TeacherDataManager {
                 line.append(teacher.getSubjectName());
                 
                 // Add assigned classes
-                MySinglyLinkedList<String> classes = teacher.getAssignedClasses();
-                for (int j = 0; j < classes.size(); j++) {
-                    line.append(",").append(classes.get(j));
-                }
+                teacher.getAssignedClasses().forEach(assignedClass -> line.append(",").append(assignedClass));
                 
                 writer.write(line.toString());
                 writer.newLine();
@@ -279,8 +279,7 @@ public class TeacherDataManager {
      */
     private static boolean saveTeacherPasswords() {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(TEACHER_PASSWORD_FILE))) {
-            for (int i = 0; i < teacherCache.size(); i++) {
-                TeacherInfo teacher = teacherCache.get(i);
+            for (TeacherInfo teacher : teacherCache) {
                 String password = teacherPasswords.get(teacher.getTeacherID());
                 if (password != null) {
                     writer.write("ID: " + teacher.getTeacherID() + 
@@ -302,13 +301,13 @@ public class TeacherDataManager {
      */
     public static MySinglyLinkedList<String> getAllSubjectCodes() {
         MySinglyLinkedList<String> subjectCodes = new MySinglyLinkedList<>();
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo teacher = teacherCache.get(i);
+        Set<String> seen = new HashSet<>();
+        teacherCache.forEach(teacher -> {
             String subjectCode = teacher.getSubjectCode();
-            if (!subjectCodes.contains(subjectCode)) {
+            if (seen.add(subjectCode)) {
                 subjectCodes.add(subjectCode);
             }
-        }
+        });
         return subjectCodes;
     }
     
@@ -316,13 +315,8 @@ public class TeacherDataManager {
      * Get subject name by code
      */
     public static String getSubjectName(String subjectCode) {
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo teacher = teacherCache.get(i);
-            if (teacher.getSubjectCode().equals(subjectCode)) {
-                return teacher.getSubjectName();
-            }
-        }
-        return "";
+        TeacherInfo teacher = teacherCache.find(t -> t.getSubjectCode().equals(subjectCode));
+        return teacher != null ? teacher.getSubjectName() : "";
     }
     
     /**
@@ -330,9 +324,7 @@ public class TeacherDataManager {
      */
     public static void printAllTeachers() {
         System.out.println("=== ALL TEACHERS ===");
-        for (int i = 0; i < teacherCache.size(); i++) {
-            TeacherInfo teacher = teacherCache.get(i);
-            System.out.println(teacher.toString() + " - " + teacher.getSubjectCode() + " " + teacher.getSubjectName());
-        }
+        teacherCache.forEach(teacher ->
+            System.out.println(teacher.toString() + " - " + teacher.getSubjectCode() + " " + teacher.getSubjectName()));
     }
 }
@@ -54,7 +54,7 @@ public class TeacherDatabaseDemo {
         System.out.println("All Teachers and Their Subjects:");
         System.out.println("===============================");
         
-        MyDoublyLinkedList<TeacherInfo> teachers = TeacherDataManager.getAllTeachers();
+        MyList<TeacherInfo> teachers = TeacherDataManager.getAllTeachers();
         for (int i = 0; i < teachers.size(); i++) {
             TeacherInfo teacher = teachers.get(i);
             System.out.println(String.format("%s - %s", teacher.getTeacherID(), teacher.getTeacherName()));